@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pinpoint.test.classloading;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.net.URLConnection;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Loads, without initialization, every class found on the given class path in a fresh class loader.
+ * Each defined class goes through the ClassFileTransformers of the agent, so the elapsed time
+ * with the agent minus the elapsed time without it is the agent-attributable class loading time.
+ */
+public class ClassLoadingBenchmark {
+
+    private static final String CLASS_SUFFIX = ".class";
+
+    private final URL[] classPath;
+    private final List<String> classNames;
+
+    public ClassLoadingBenchmark(URL[] classPath) throws IOException {
+        this.classPath = Objects.requireNonNull(classPath, "classPath");
+        this.classNames = findClassNames(classPath);
+    }
+
+    public Result run() throws IOException {
+        final ClassLoader parent = ClassLoader.getSystemClassLoader().getParent();
+        int loaded = 0;
+        int failed = 0;
+        final long startTime = System.nanoTime();
+        try (URLClassLoader classLoader = new URLClassLoader(classPath, parent)) {
+            for (String className : classNames) {
+                try {
+                    Class.forName(className, false, classLoader);
+                    loaded++;
+                } catch (ClassNotFoundException | LinkageError e) {
+                    // optional dependencies missing from the class path
+                    failed++;
+                }
+            }
+        }
+        final long elapsedTime = System.nanoTime() - startTime;
+        return new Result(loaded, failed, TimeUnit.NANOSECONDS.toMillis(elapsedTime));
+    }
+
+    public int getClassCount() {
+        return classNames.size();
+    }
+
+    private static List<String> findClassNames(URL[] classPath) throws IOException {
+        final List<String> classNames = new ArrayList<>();
+        for (URL url : classPath) {
+            if ("file".equals(url.getProtocol())) {
+                final File file = toFile(url);
+                if (file.isDirectory()) {
+                    addDirectory(classNames, file, "");
+                } else if (file.getName().endsWith(".jar")) {
+                    try (JarFile jarFile = new JarFile(file)) {
+                        addJar(classNames, jarFile);
+                    }
+                }
+            } else {
+                // nested jar of an executable spring boot jar
+                final URLConnection connection = url.openConnection();
+                if (connection instanceof JarURLConnection) {
+                    addJar(classNames, ((JarURLConnection) connection).getJarFile());
+                }
+            }
+        }
+        return classNames;
+    }
+
+    private static File toFile(URL url) throws IOException {
+        try {
+            return new File(url.toURI());
+        } catch (URISyntaxException e) {
+            throw new IOException("invalid class path url:" + url, e);
+        }
+    }
+
+    private static void addDirectory(List<String> classNames, File directory, String packagePrefix) {
+        final File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            if (file.isDirectory()) {
+                addDirectory(classNames, file, packagePrefix + file.getName() + '/');
+            } else {
+                addClassName(classNames, packagePrefix + file.getName());
+            }
+        }
+    }
+
+    private static void addJar(List<String> classNames, JarFile jarFile) {
+        final Enumeration<JarEntry> entries = jarFile.entries();
+        while (entries.hasMoreElements()) {
+            final JarEntry entry = entries.nextElement();
+            if (!entry.isDirectory() && !entry.getName().startsWith("META-INF/")) {
+                addClassName(classNames, entry.getName());
+            }
+        }
+    }
+
+    private static void addClassName(List<String> classNames, String path) {
+        if (!path.endsWith(CLASS_SUFFIX) || path.endsWith("module-info.class") || path.endsWith("package-info.class")) {
+            return;
+        }
+        final String internalName = path.substring(0, path.length() - CLASS_SUFFIX.length());
+        classNames.add(internalName.replace('/', '.'));
+    }
+
+    public static class Result {
+        private final int loaded;
+        private final int failed;
+        private final long elapsedMillis;
+
+        public Result(int loaded, int failed, long elapsedMillis) {
+            this.loaded = loaded;
+            this.failed = failed;
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        public int getLoaded() {
+            return loaded;
+        }
+
+        public int getFailed() {
+            return failed;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pinpoint.test.classloading;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+public class ClassLoadingBenchmarkController {
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    @GetMapping(value = "/classloading/benchmark")
+    public Map<String, Object> benchmark(@RequestParam(value = "repeat", defaultValue = "3") int repeat) throws IOException {
+        final ClassLoadingBenchmark benchmark = new ClassLoadingBenchmark(getClassPath());
+
+        final List<Long> elapsedMillis = new ArrayList<>();
+        ClassLoadingBenchmark.Result result = null;
+        for (int i = 0; i < Math.max(1, repeat); i++) {
+            result = benchmark.run();
+            elapsedMillis.add(result.getElapsedMillis());
+            logger.info("run:{} loaded:{} failed:{} elapsed:{}ms", i, result.getLoaded(), result.getFailed(), result.getElapsedMillis());
+        }
+
+        final Map<String, Object> response = new LinkedHashMap<>();
+        response.put("agent", isAgentAttached());
+        response.put("classCount", benchmark.getClassCount());
+        response.put("loaded", result.getLoaded());
+        response.put("failed", result.getFailed());
+        response.put("elapsedMillis", elapsedMillis);
+        response.put("minElapsedMillis", elapsedMillis.stream().mapToLong(Long::longValue).min().orElse(0));
+        return response;
+    }
+
+    private URL[] getClassPath() throws IOException {
+        final ClassLoader classLoader = this.getClass().getClassLoader();
+        if (classLoader instanceof URLClassLoader) {
+            return ((URLClassLoader) classLoader).getURLs();
+        }
+        final String[] paths = System.getProperty("java.class.path").split(File.pathSeparator);
+        final URL[] urls = new URL[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            urls[i] = new File(paths[i]).toURI().toURL();
+        }
+        return urls;
+    }
+
+    private boolean isAgentAttached() {
+        for (String argument : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+            if (argument.startsWith("-javaagent:")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
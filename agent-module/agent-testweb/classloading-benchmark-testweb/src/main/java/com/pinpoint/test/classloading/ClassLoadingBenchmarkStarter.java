@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pinpoint.test.classloading;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+
+@SpringBootApplication
+public class ClassLoadingBenchmarkStarter {
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    public static void main(String[] args) {
+        SpringApplication.run(ClassLoadingBenchmarkStarter.class, args);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startup() {
+        final ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+        final long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+        logger.info("Startup uptime={}ms loadedClassCount={} totalLoadedClassCount={}",
+                uptime, classLoading.getLoadedClassCount(), classLoading.getTotalLoadedClassCount());
+    }
+}
@@ -7,5 +7,11 @@ public interface BindVariableService {
     String formatBindVariable(Object value);
 
     String bindVariableToString(Map<Integer, String> bindValueMap, int limit);
+
+    /**
+     * @return binary encoded bind values, or {@code null} if the binary format is disabled
+     */
+    byte[] bindVariableToBytes(Map<Integer, String> bindValueMap, int limit);
+
     String bindNameVariableToString(Map<String, String> bindValueMap, int limit);
 }
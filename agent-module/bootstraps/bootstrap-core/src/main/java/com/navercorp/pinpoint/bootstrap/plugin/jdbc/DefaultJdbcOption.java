@@ -9,6 +9,8 @@ public class DefaultJdbcOption implements JdbcOption {
     private int maxSqlCacheLength = 2048;
     @Value("${profiler.jdbc.sqlcacheexpirehours}")
     private long sqlCacheExpireHours = 168; // 7d
+    @Value("${profiler.jdbc.rawsqlcachesize}")
+    private int rawSqlCacheSize = 1024;
 
     @Value("${profiler.jdbc.tracesqlbindvalue}")
     private boolean traceSqlBindValue = false;
@@ -55,6 +57,11 @@ public class DefaultJdbcOption implements JdbcOption {
         return sqlCacheExpireHours;
     }
 
+    @Override
+    public int getRawSqlCacheSize() {
+        return rawSqlCacheSize;
+    }
+
     @Override
     public boolean isTraceSqlBindValue() {
         return traceSqlBindValue;
@@ -81,6 +88,7 @@ public class DefaultJdbcOption implements JdbcOption {
                 "jdbcSqlCacheSize=" + jdbcSqlCacheSize +
                 ", maxSqlCacheLength=" + maxSqlCacheLength +
                 ", sqlCacheExpireHours=" + sqlCacheExpireHours +
+                ", rawSqlCacheSize=" + rawSqlCacheSize +
                 ", traceSqlBindValue=" + traceSqlBindValue +
                 ", maxSqlBindValueSize=" + maxSqlBindValueSize +
                 ", maxSqlLength=" + maxSqlLength +
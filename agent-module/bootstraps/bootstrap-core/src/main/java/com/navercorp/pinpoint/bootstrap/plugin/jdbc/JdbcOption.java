@@ -12,6 +12,8 @@ public interface JdbcOption {
 
     long getSqlCacheExpireHours();
 
+    int getRawSqlCacheSize();
+
     boolean isTraceSqlBindValue();
 
     int getMaxSqlBindValueSize();
@@ -23,9 +23,11 @@ import com.navercorp.pinpoint.bootstrap.context.SpanEventRecorder;
 import com.navercorp.pinpoint.bootstrap.context.TraceContext;
 import com.navercorp.pinpoint.bootstrap.interceptor.SpanEventSimpleAroundInterceptorForPlugin;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.BindValueAccessor;
+import com.navercorp.pinpoint.bootstrap.plugin.jdbc.BindVariableService;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.DatabaseInfoAccessor;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.ParsingResultAccessor;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.UnKnownDatabaseInfo;
+import com.navercorp.pinpoint.common.trace.AnnotationKey;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -74,8 +76,15 @@ public class PreparedStatementExecuteQueryInterceptor extends SpanEventSimpleAro
             bindValue = ((BindValueAccessor)target)._$PINPOINT$_getBindValue();
         }
         if (bindValue != null) {
-            String bindString = toBindVariable(bindValue);
-            recorder.recordSqlParsingResult(parsingResult, bindString);
+            final BindVariableService bindVariableService = traceContext.getJdbcContext().getBindVariableService();
+            final byte[] binaryBindValue = bindVariableService.bindVariableToBytes(bindValue, maxSqlBindValueLength);
+            if (binaryBindValue != null) {
+                recorder.recordSqlParsingResult(parsingResult);
+                recorder.recordAttribute(AnnotationKey.SQL_BINDVALUE_BINARY, binaryBindValue);
+            } else {
+                String bindString = bindVariableService.bindVariableToString(bindValue, maxSqlBindValueLength);
+                recorder.recordSqlParsingResult(parsingResult, bindString);
+            }
         } else {
             recorder.recordSqlParsingResult(parsingResult);
         }
@@ -95,10 +104,6 @@ public class PreparedStatementExecuteQueryInterceptor extends SpanEventSimpleAro
         }
     }
 
-    private String toBindVariable(Map<Integer, String> bindValue) {
-        return traceContext.getJdbcContext().getBindVariableService().bindVariableToString(bindValue, maxSqlBindValueLength);
-    }
-
     @Override
     protected void doInAfterTrace(SpanEventRecorder recorder, Object target, Object[] args, Object result, Throwable throwable) {
         // TODO Test if it's success. if failed terminate. else calculate resultset fetch too. we'd better make resultset fetch optional.
@@ -32,6 +32,11 @@ public interface CallStack<T> {
 
     T[] copyStackFrame();
 
+    /**
+     * Hands a pooled stack array back once the trace is closed. The call stack must not be used afterwards.
+     */
+    void close();
+
     int getMaxDepth();
 
     int getMaxSequence();
@@ -22,4 +22,10 @@ package com.navercorp.pinpoint.profiler.context;
  */
 public interface CallStackFactory<T> {
     CallStack<T> newCallStack();
+
+    /**
+     * Call stack of a trace that is closed on the thread that created it.
+     * The stack array may be reused by the next trace of the same thread once {@link CallStack#close()} is called.
+     */
+    CallStack<T> newThreadBoundCallStack();
 }
@@ -25,8 +25,13 @@ public class CallStackFactoryV1 implements CallStackFactory<SpanEvent> {
     private final int maxDepth;
     private final int maxSequence;
     private final CallStackOverflowListener overflowListener;
+    private final ThreadLocalCallStackPool<SpanEvent> pool;
 
     public CallStackFactoryV1(int maxDepth, int maxSequence, long overflowLogIntervalMillis) {
+        this(maxDepth, maxSequence, overflowLogIntervalMillis, false);
+    }
+
+    public CallStackFactoryV1(int maxDepth, int maxSequence, long overflowLogIntervalMillis, boolean poolEnable) {
         this.maxDepth = maxDepth;
         this.maxSequence = maxSequence;
         if (overflowLogIntervalMillis > 0) {
@@ -34,6 +39,7 @@ public class CallStackFactoryV1 implements CallStackFactory<SpanEvent> {
         } else {
             this.overflowListener = new DefaultCallStackOverflowListener(maxDepth, maxSequence);
         }
+        this.pool = poolEnable ? new ThreadLocalCallStackPool<>(factory.getType()) : null;
     }
 
     @Override
@@ -42,4 +48,14 @@ public class CallStackFactoryV1 implements CallStackFactory<SpanEvent> {
         callStack.setOverflowListener(overflowListener);
         return callStack;
     }
+
+    @Override
+    public CallStack<SpanEvent> newThreadBoundCallStack() {
+        if (pool == null) {
+            return newCallStack();
+        }
+        final CallStack<SpanEvent> callStack = new DepthCompressCallStack<>(factory, maxDepth, maxSequence, pool);
+        callStack.setOverflowListener(overflowListener);
+        return callStack;
+    }
 }
\ No newline at end of file
@@ -192,7 +192,7 @@ public class DefaultBaseTraceFactory implements BaseTraceFactory {
         final Span span = spanFactory.newSpan(traceRoot);
         final SpanChunkFactory spanChunkFactory = new DefaultSpanChunkFactory(traceRoot);
         final Storage storage = storageFactory.createStorage(spanChunkFactory);
-        final CallStack<SpanEvent> callStack = callStackFactory.newCallStack();
+        final CallStack<SpanEvent> callStack = callStackFactory.newThreadBoundCallStack();
 
         final SpanRecorder spanRecorder = recorderFactory.newSpanRecorder(span);
         final WrappedSpanEventRecorder wrappedSpanEventRecorder = recorderFactory.newWrappedSpanEventRecorder(traceRoot);
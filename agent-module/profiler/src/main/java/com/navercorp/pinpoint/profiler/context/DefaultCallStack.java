@@ -33,6 +33,8 @@ public class DefaultCallStack<T> implements CallStack<T> {
 
     protected final Factory<T> factory;
     protected T[] stack;
+    private final ThreadLocalCallStackPool<T> pool;
+    private int highWater;
 
     protected final int maxDepth;
     protected int index = DEFAULT_INDEX;
@@ -50,12 +52,25 @@ public class DefaultCallStack<T> implements CallStack<T> {
         this(factory, maxDepth, -1);
     }
 
-    @SuppressWarnings("unchecked")
     public DefaultCallStack(Factory<T> factory, int maxDepth, int maxSequence) {
+        this(factory, maxDepth, maxSequence, null);
+    }
+
+    /**
+     * @param pool the array is borrowed from the pool and handed back on {@link #close()}, nullable
+     */
+    public DefaultCallStack(Factory<T> factory, int maxDepth, int maxSequence, ThreadLocalCallStackPool<T> pool) {
         this.factory = factory;
         this.maxDepth = maxDepth;
         this.maxSequence = maxSequence;
-        this.stack = newStack(factory.getType(), STACK_SIZE);
+        final T[] pooledStack = pool != null ? pool.acquire() : null;
+        if (pooledStack != null) {
+            this.stack = pooledStack;
+            this.pool = pool;
+        } else {
+            this.stack = newStack(factory.getType(), STACK_SIZE);
+            this.pool = null;
+        }
     }
 
     public void setOverflowListener(CallStackOverflowListener overflowListener) {
@@ -98,6 +113,9 @@ public class DefaultCallStack<T> implements CallStack<T> {
         checkExtend(index + 1);
         factory.setSequence(element, sequence++);
         stack[index++] = element;
+        if (index > highWater) {
+            highWater = index;
+        }
         markDepth(element, index);
         return index;
     }
@@ -109,7 +127,7 @@ public class DefaultCallStack<T> implements CallStack<T> {
     private void checkExtend(final int size) {
         final T[] originalStack = this.stack;
         if (size >= originalStack.length) {
-            final int copyStackSize = originalStack.length << 1;
+            final int copyStackSize = Math.max(originalStack.length << 1, STACK_SIZE);
             final T[] copyStack = newStack(factory.getType(), copyStackSize);
             System.arraycopy(originalStack, 0, copyStack, 0, originalStack.length);
             this.stack = copyStack;
@@ -157,6 +175,21 @@ public class DefaultCallStack<T> implements CallStack<T> {
         return copyStack;
     }
 
+    @Override
+    public void close() {
+        final ThreadLocalCallStackPool<T> pool = this.pool;
+        if (pool == null) {
+            return;
+        }
+        final T[] pooledStack = this.stack;
+        if (pooledStack == pool.emptyStack()) {
+            return;
+        }
+        this.stack = pool.emptyStack();
+        this.index = DEFAULT_INDEX;
+        pool.release(pooledStack, highWater);
+    }
+
     @Override
     public int getMaxDepth() {
         return maxDepth;
@@ -198,6 +198,7 @@ public class DefaultTrace implements Trace {
             logSpan();
         }
 
+        this.callStack.close();
         this.wrappedSpanEventRecorder.close();
         this.storage.close();
         this.closeListener.close(afterTime);
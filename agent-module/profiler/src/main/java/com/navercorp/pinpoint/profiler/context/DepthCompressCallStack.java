@@ -35,6 +35,10 @@ public class DepthCompressCallStack<T> extends DefaultCallStack<T> {
         super(factory, maxDepth, maxSequence);
     }
 
+    public DepthCompressCallStack(Factory<T> factory, int maxDepth, int maxSequence, ThreadLocalCallStackPool<T> pool) {
+        super(factory, maxDepth, maxSequence, pool);
+    }
+
     @Override
     protected void markDepth(T element, int depth) {
         // compact same depth
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context;
+
+import com.navercorp.pinpoint.common.annotations.VisibleForTesting;
+import com.navercorp.pinpoint.profiler.util.NamedThreadLocal;
+import com.navercorp.pinpoint.profiler.util.VirtualThreadUtils;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Keeps one call stack array per thread so that thread-bound traces can reuse it across traces.
+ * <p>
+ * The array is owned by a single {@link DefaultCallStack} between {@link #acquire()} and {@link #release(Object[], int)}.
+ * A thread that starts a nested trace while the array is taken, or a virtual thread, gets a fresh array instead.
+ * The size of a newly allocated array follows a decaying high-water mark of the recent call stack depths,
+ * and an array that grew far beyond the recent depths is dropped instead of pooled.
+ */
+public class ThreadLocalCallStackPool<T> {
+
+    static final int MIN_STACK_SIZE = 8;
+
+    private final Class<T> type;
+    private final T[] emptyStack;
+    private final ThreadLocal<Holder<T>> threadLocal = new NamedThreadLocal<Holder<T>>("CallStackPool") {
+        @Override
+        protected Holder<T> initialValue() {
+            return new Holder<>();
+        }
+    };
+
+    public ThreadLocalCallStackPool(Class<T> type) {
+        this.type = Objects.requireNonNull(type, "type");
+        this.emptyStack = newStack(0);
+    }
+
+    /**
+     * @return a cleared array, or {@code null} if the current thread does not pool
+     */
+    public T[] acquire() {
+        if (VirtualThreadUtils.isCurrentThreadVirtual()) {
+            return null;
+        }
+        final Holder<T> holder = this.threadLocal.get();
+        final T[] stack = holder.stack;
+        if (stack != null) {
+            holder.stack = null;
+            return stack;
+        }
+        return newStack(stackSize(holder.highWater));
+    }
+
+    /**
+     * @param stack     an array returned by {@link #acquire()}
+     * @param highWater the deepest index the array was filled to
+     */
+    public void release(T[] stack, int highWater) {
+        if (stack == null || stack.length == 0) {
+            return;
+        }
+        Arrays.fill(stack, 0, Math.min(highWater, stack.length), null);
+
+        final Holder<T> holder = this.threadLocal.get();
+        // decay by a quarter per trace so that a single deep trace does not pin a large array
+        holder.highWater = Math.max(highWater, holder.highWater - (holder.highWater >> 2));
+        if (stack.length > stackSize(holder.highWater) << 1) {
+            return;
+        }
+        holder.stack = stack;
+    }
+
+    /**
+     * Replaces the array of a released call stack so that a stale trace cannot write into a pooled array.
+     */
+    T[] emptyStack() {
+        return emptyStack;
+    }
+
+    @VisibleForTesting
+    int getHighWater() {
+        return threadLocal.get().highWater;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T[] newStack(int size) {
+        return (T[]) Array.newInstance(type, size);
+    }
+
+    static int stackSize(int depth) {
+        // push() extends the array once index + 1 reaches its length
+        final int required = depth + 1;
+        if (required <= MIN_STACK_SIZE) {
+            return MIN_STACK_SIZE;
+        }
+        return Integer.highestOneBit(required - 1) << 1;
+    }
+
+    private static final class Holder<T> {
+        private T[] stack;
+        private int highWater;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context;
+
+import com.navercorp.pinpoint.profiler.util.NamedThreadLocal;
+import com.navercorp.pinpoint.profiler.util.VirtualThreadUtils;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link Binder} that does not allocate per thread state for a virtual thread until a value is bound.
+ * <p>
+ * {@link ThreadLocalBinder} creates a reference the first time any interceptor looks up the current trace,
+ * and keeps it for the lifetime of the thread. Even a lookup that finds nothing makes {@link ThreadLocal#get()} create
+ * the thread's map and an entry. That is free for pooled platform threads but adds up for short-lived virtual threads,
+ * most of which never start a trace.
+ * <p>
+ * Virtual threads therefore do not use a {@link ThreadLocal} here. A bound reference is kept in a map keyed by the thread,
+ * an unbound virtual thread sees a shared empty reference without allocating, and clear removes the entry,
+ * so a finished trace is not retained by a thread that lives on. Entries of traces that are never cleared are expunged
+ * once their thread has terminated.
+ * Platform threads keep a thread local reference for reuse, as with {@link ThreadLocalBinder}.
+ * <p>
+ * The returned reference must be used on the calling thread, as with {@link ThreadLocalBinder}.
+ */
+public class VirtualThreadAwareBinder<T> implements Binder<T> {
+
+    private static final int EXPUNGE_THRESHOLD = 1024;
+
+    private final Reference<T> unbound = new UnboundReference();
+
+    private final ThreadLocal<Reference<T>> threadLocal = new NamedThreadLocal<Reference<T>>("VirtualThreadAwareBinder") {
+        @Override
+        protected Reference<T> initialValue() {
+            return unbound;
+        }
+    };
+
+    private final ConcurrentMap<Thread, Reference<T>> virtualThreadReferences = new ConcurrentHashMap<>();
+    private final AtomicInteger expungeThreshold = new AtomicInteger(EXPUNGE_THRESHOLD);
+
+    public VirtualThreadAwareBinder() {
+    }
+
+    @Override
+    public Reference<T> get() {
+        final Thread thread = Thread.currentThread();
+        if (VirtualThreadUtils.isVirtual(thread)) {
+            final Reference<T> reference = virtualThreadReferences.get(thread);
+            if (reference == null) {
+                return unbound;
+            }
+            return reference;
+        }
+        return threadLocal.get();
+    }
+
+    @Override
+    public void remove() {
+        final Thread thread = Thread.currentThread();
+        if (VirtualThreadUtils.isVirtual(thread)) {
+            this.virtualThreadReferences.remove(thread);
+            return;
+        }
+        this.threadLocal.remove();
+    }
+
+    private Reference<T> bind(T value) {
+        final Thread thread = Thread.currentThread();
+        if (VirtualThreadUtils.isVirtual(thread)) {
+            final Reference<T> reference = new VirtualThreadReference(thread);
+            reference.set(value);
+            expungeTerminatedThreads();
+            return reference;
+        }
+        final Reference<T> reference = new DefaultReference<>();
+        reference.set(value);
+        threadLocal.set(reference);
+        return reference;
+    }
+
+    private void expungeTerminatedThreads() {
+        final int threshold = expungeThreshold.get();
+        if (virtualThreadReferences.size() < threshold) {
+            return;
+        }
+        // one thread expunges, the others skip
+        if (!expungeThreshold.compareAndSet(threshold, Integer.MAX_VALUE)) {
+            return;
+        }
+        virtualThreadReferences.keySet().removeIf(thread -> !thread.isAlive());
+        expungeThreshold.set(Math.max(EXPUNGE_THRESHOLD, virtualThreadReferences.size() * 2));
+    }
+
+    private class UnboundReference implements Reference<T> {
+        @Override
+        public T get() {
+            return null;
+        }
+
+        @Override
+        public void set(T value) {
+            if (value == null) {
+                return;
+            }
+            bind(value);
+        }
+
+        @Override
+        public T clear() {
+            return null;
+        }
+    }
+
+    private class VirtualThreadReference extends DefaultReference<T> {
+        private final Thread thread;
+
+        VirtualThreadReference(Thread thread) {
+            this.thread = thread;
+        }
+
+        @Override
+        public void set(T value) {
+            super.set(value);
+            if (value == null) {
+                virtualThreadReferences.remove(thread, this);
+            } else {
+                // also rebinds a reference that was held across clear
+                virtualThreadReferences.put(thread, this);
+            }
+        }
+
+        @Override
+        public T clear() {
+            final T value = super.clear();
+            virtualThreadReferences.remove(thread, this);
+            return value;
+        }
+    }
+}
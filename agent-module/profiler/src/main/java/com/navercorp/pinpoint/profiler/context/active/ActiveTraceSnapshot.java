@@ -31,4 +31,6 @@ public interface ActiveTraceSnapshot {
     String getTransactionId();
 
     String getEntryPoint();
+
+    String getUriTemplate();
 }
@@ -16,25 +16,32 @@
 
 package com.navercorp.pinpoint.profiler.context.active;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
 import com.navercorp.pinpoint.common.trace.HistogramSchema;
 import com.navercorp.pinpoint.common.trace.HistogramSchemas;
 import com.navercorp.pinpoint.common.trace.HistogramSlot;
-import com.navercorp.pinpoint.profiler.cache.CaffeineBuilder;
 import com.navercorp.pinpoint.profiler.context.id.LocalTraceRoot;
 import com.navercorp.pinpoint.profiler.monitor.metric.response.ResponseTimeCollector;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
+ * Active traces are kept in a fixed size slot array.
+ * <p>
+ * A free slot is claimed from a lock-free free-list on register and returned on purge, so the per-request cost is
+ * one allocation and two CAS operations. Handles that leak are never purged, so when every slot is in use the oldest
+ * traces by start time are evicted to make room, as the size bound of the former Caffeine map did.
+ *
  * @author Taejin Koo
  */
 public class DefaultActiveTraceRepository implements ActiveTraceRepository {
@@ -42,11 +49,20 @@ public class DefaultActiveTraceRepository implements ActiveTraceRepository {
     // memory leak defense threshold
     private static final int DEFAULT_MAX_ACTIVE_TRACE_SIZE = 1024 * 10;
 
+    private static final int NO_SLOT = -1;
+    // a full repository evicts 1/16 of its slots at once, so the sweep runs rarely even if handles keep leaking
+    private static final int EVICTION_RATIO = 16;
+
     private final Logger logger = LogManager.getLogger(this.getClass());
     private final boolean isDebug = logger.isDebugEnabled();
 
-    // oom safe cache
-    private final ConcurrentMap<ActiveTraceHandle, ActiveTrace> activeTraceInfoMap;
+    private final AtomicReferenceArray<SlotActiveTrace> slots;
+    // free-list: next free slot of each slot, head is (version << 32 | slot) to avoid ABA
+    private final AtomicIntegerArray nextFreeSlot;
+    private final AtomicLong freeListHead;
+    // slots after this index have never been used
+    private final AtomicInteger slotHighWater = new AtomicInteger();
+    private final AtomicBoolean evicting = new AtomicBoolean();
 
     private final ResponseTimeCollector responseTimeCollector;
 
@@ -59,58 +75,134 @@ public class DefaultActiveTraceRepository implements ActiveTraceRepository {
 
     public DefaultActiveTraceRepository(ResponseTimeCollector responseTimeCollector, int maxActiveTraceSize) {
         this.responseTimeCollector = Objects.requireNonNull(responseTimeCollector, "responseTimeCollector");
-        this.activeTraceInfoMap = createCache(maxActiveTraceSize);
+        if (maxActiveTraceSize <= 0) {
+            throw new IllegalArgumentException("maxActiveTraceSize must be positive. maxActiveTraceSize:" + maxActiveTraceSize);
+        }
+        this.slots = new AtomicReferenceArray<>(maxActiveTraceSize);
+        this.nextFreeSlot = new AtomicIntegerArray(maxActiveTraceSize);
+        for (int i = 0; i < maxActiveTraceSize; i++) {
+            nextFreeSlot.set(i, i + 1 < maxActiveTraceSize ? i + 1 : NO_SLOT);
+        }
+        this.freeListHead = new AtomicLong(0);
     }
 
-    private ConcurrentMap<ActiveTraceHandle, ActiveTrace> createCache(int maxActiveTraceSize) {
-        final Caffeine<Object, Object> cacheBuilder = CaffeineBuilder.newBuilder();
-        cacheBuilder.initialCapacity(maxActiveTraceSize);
-        cacheBuilder.maximumSize(maxActiveTraceSize);
+    private int claimSlot() {
+        while (true) {
+            final long head = freeListHead.get();
+            final int slot = (int) head;
+            if (slot == NO_SLOT) {
+                return NO_SLOT;
+            }
+            final int next = nextFreeSlot.get(slot);
+            if (freeListHead.compareAndSet(head, freeListHead(head, next))) {
+                return slot;
+            }
+        }
+    }
 
-        final Cache<ActiveTraceHandle, ActiveTrace> localCache = cacheBuilder.build();
-        return localCache.asMap();
+    private void releaseSlot(int slot) {
+        while (true) {
+            final long head = freeListHead.get();
+            nextFreeSlot.set(slot, (int) head);
+            if (freeListHead.compareAndSet(head, freeListHead(head, slot))) {
+                return;
+            }
+        }
     }
 
+    private static long freeListHead(long head, int slot) {
+        final long version = (head >>> 32) + 1;
+        return (version << 32) | (slot & 0xFFFFFFFFL);
+    }
 
-    private void remove(ActiveTraceHandle key, long purgeTime) {
+    private void remove(SlotActiveTrace activeTrace, long purgeTime) {
         if (isDebug) {
-            logger.debug("remove ActiveTrace key:{}", key);
+            logger.debug("remove ActiveTrace key:{}", activeTrace);
         }
-        final ActiveTrace activeTrace = this.activeTraceInfoMap.remove(key);
-        if (activeTrace != null) {
+        if (slots.compareAndSet(activeTrace.slot, activeTrace, null)) {
+            releaseSlot(activeTrace.slot);
             final long responseTime = purgeTime - activeTrace.getStartTime();
             responseTimeCollector.add(responseTime);
         }
     }
 
-
-
     @Override
     public ActiveTraceHandle register(LocalTraceRoot localTraceRoot) {
         if (isDebug) {
             logger.debug("register ActiveTrace key:{}", localTraceRoot);
         }
 
-        final long id = localTraceRoot.getLocalTransactionId();
+        int slot = claimSlot();
+        if (slot == NO_SLOT) {
+            evictOldest();
+            slot = claimSlot();
+        }
+        if (slot == NO_SLOT) {
+            if (isDebug) {
+                logger.debug("ActiveTrace slot is full. key:{}", localTraceRoot);
+            }
+            return ActiveTraceHandle.EMPTY_HANDLE;
+        }
+        if (slot >= slotHighWater.get()) {
+            slotHighWater.accumulateAndGet(slot + 1, Math::max);
+        }
 
-        final ActiveTraceHandle handle = new DefaultActiveTraceHandle(id);
+        final SlotActiveTrace activeTrace = new SlotActiveTrace(localTraceRoot, slot);
+        this.slots.set(slot, activeTrace);
+        return activeTrace;
+    }
 
-        this.activeTraceInfoMap.computeIfAbsent(handle, activeTraceHandle -> new DefaultActiveTrace(localTraceRoot));
 
-        return handle;
+    private void evictOldest() {
+        // one thread sweeps, the others do not track their trace meanwhile
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            final int highWater = slotHighWater.get();
+            if (highWater == 0) {
+                return;
+            }
+            final long[] startTimes = new long[highWater];
+            for (int i = 0; i < highWater; i++) {
+                final ActiveTrace trace = slots.get(i);
+                startTimes[i] = trace == null ? Long.MAX_VALUE : trace.getStartTime();
+            }
+            Arrays.sort(startTimes);
+            final int evictCount = Math.max(1, highWater / EVICTION_RATIO);
+            final long oldestStartTime = startTimes[Math.min(evictCount, highWater) - 1];
+
+            int evicted = 0;
+            for (int i = 0; i < highWater && evicted < evictCount; i++) {
+                final SlotActiveTrace trace = slots.get(i);
+                if (trace == null || trace.getStartTime() > oldestStartTime) {
+                    continue;
+                }
+                // a purge of the evicted handle fails its CAS and is ignored
+                if (slots.compareAndSet(i, trace, null)) {
+                    releaseSlot(i);
+                    evicted++;
+                }
+            }
+            logger.info("ActiveTrace slot is full, evicted {} oldest traces. maxActiveTraceSize:{}", evicted, slots.length());
+        } finally {
+            evicting.set(false);
+        }
     }
 
-
     // @ThreadSafe
     @Override
     public List<ActiveTraceSnapshot> snapshot() {
-        if (this.activeTraceInfoMap.isEmpty()) {
+        final int highWater = slotHighWater.get();
+        if (highWater == 0) {
             return Collections.emptyList();
         }
-        final Collection<ActiveTrace> activeTraceCollection = this.activeTraceInfoMap.values();
-        final List<ActiveTraceSnapshot> collectData = new ArrayList<>(activeTraceCollection.size());
-
-        for (ActiveTrace trace : activeTraceCollection) {
+        final List<ActiveTraceSnapshot> collectData = new ArrayList<>();
+        for (int i = 0; i < highWater; i++) {
+            final ActiveTrace trace = slots.get(i);
+            if (trace == null) {
+                continue;
+            }
             final long startTime = trace.getStartTime();
             // not started
             if (!isStarted(startTime)) {
@@ -129,13 +221,16 @@ public class DefaultActiveTraceRepository implements ActiveTraceRepository {
     // @ThreadSafe
     @Override
     public List<Long> getThreadIdList() {
-        if (this.activeTraceInfoMap.isEmpty()) {
+        final int highWater = slotHighWater.get();
+        if (highWater == 0) {
             return Collections.emptyList();
         }
-        final Collection<ActiveTrace> activeTraceCollection = this.activeTraceInfoMap.values();
-        final List<Long> collectData = new ArrayList<>(activeTraceCollection.size());
-
-        for (ActiveTrace trace : activeTraceCollection) {
+        final List<Long> collectData = new ArrayList<>();
+        for (int i = 0; i < highWater; i++) {
+            final ActiveTrace trace = slots.get(i);
+            if (trace == null) {
+                continue;
+            }
             final long startTime = trace.getStartTime();
             // not started
             if (!isStarted(startTime)) {
@@ -153,14 +248,17 @@ public class DefaultActiveTraceRepository implements ActiveTraceRepository {
     // @ThreadSafe
     @Override
     public ActiveTraceHistogram getActiveTraceHistogram(long currentTime) {
-        if (this.activeTraceInfoMap.isEmpty()) {
+        final int highWater = slotHighWater.get();
+        if (highWater == 0) {
             return emptyActiveTraceHistogram;
         }
-        final Collection<ActiveTrace> activeTraceCollection = this.activeTraceInfoMap.values();
-
 
         final DefaultActiveTraceHistogram histogram = new DefaultActiveTraceHistogram(histogramSchema);
-        for (ActiveTrace activeTraceInfo : activeTraceCollection) {
+        for (int i = 0; i < highWater; i++) {
+            final ActiveTrace activeTraceInfo = slots.get(i);
+            if (activeTraceInfo == null) {
+                continue;
+            }
             final long startTime = activeTraceInfo.getStartTime();
             if (!isStarted(startTime)) {
                 continue;
@@ -178,11 +276,12 @@ public class DefaultActiveTraceRepository implements ActiveTraceRepository {
     }
 
 
-    private class DefaultActiveTraceHandle implements ActiveTraceHandle {
-        private final long id;
+    private class SlotActiveTrace extends DefaultActiveTrace implements ActiveTraceHandle {
+        private final int slot;
 
-        DefaultActiveTraceHandle(long id) {
-            this.id = id;
+        SlotActiveTrace(LocalTraceRoot traceRoot, int slot) {
+            super(traceRoot);
+            this.slot = slot;
         }
 
         @Override
@@ -190,25 +289,11 @@ public class DefaultActiveTraceRepository implements ActiveTraceRepository {
             remove(this, purgeTime);
         }
 
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (o == null || getClass() != o.getClass()) return false;
-
-            DefaultActiveTraceHandle that = (DefaultActiveTraceHandle) o;
-
-            return id == that.id;
-        }
-
-        @Override
-        public int hashCode() {
-            return Long.hashCode(id);
-        }
-
         @Override
         public String toString() {
-            return "DefaultActiveTraceHandle{" +
-                    "id=" + id +
+            return "SlotActiveTrace{" +
+                    "slot=" + slot +
+                    ", id=" + getId() +
                     '}';
         }
     }
@@ -75,6 +75,11 @@ public class DefaultActiveTraceSnapshot implements ActiveTraceSnapshot {
         return null;
     }
 
+    @Override
+    public String getUriTemplate() {
+        return traceRoot.getShared().getUriTemplate();
+    }
+
     private boolean isRemote() {
         return traceRoot instanceof TraceRoot;
     }
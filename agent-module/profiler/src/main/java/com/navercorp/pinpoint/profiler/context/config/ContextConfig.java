@@ -43,4 +43,6 @@ public interface ContextConfig {
     long getAgentInfoSendRetryInterval();
 
     boolean isProxyHttpHeaderEnable();
+
+    boolean isVirtualThreadBinderEnable();
 }
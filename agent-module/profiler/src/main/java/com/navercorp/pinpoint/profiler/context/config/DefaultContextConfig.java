@@ -63,6 +63,9 @@ public class DefaultContextConfig implements ContextConfig {
     @Value("${profiler.proxy.http.header.enable}")
     private boolean proxyHttpHeaderEnable = true;
 
+    @Value("${profiler.context.binder.virtualthread.enable}")
+    private boolean virtualThreadBinderEnable = false;
+
     public DefaultContextConfig() {
     }
 
@@ -131,6 +134,11 @@ public class DefaultContextConfig implements ContextConfig {
         return proxyHttpHeaderEnable;
     }
 
+    @Override
+    public boolean isVirtualThreadBinderEnable() {
+        return virtualThreadBinderEnable;
+    }
+
     @Override
     public String toString() {
         return "DefaultContextConfig{" +
@@ -148,6 +156,7 @@ public class DefaultContextConfig implements ContextConfig {
                 ", DEFAULT_AGENT_INFO_SEND_RETRY_INTERVAL=" + DEFAULT_AGENT_INFO_SEND_RETRY_INTERVAL +
                 ", agentInfoSendRetryInterval=" + agentInfoSendRetryInterval +
                 ", proxyHttpHeaderEnable=" + proxyHttpHeaderEnable +
+                ", virtualThreadBinderEnable=" + virtualThreadBinderEnable +
                 '}';
     }
 }
@@ -53,6 +53,15 @@ public class ExceptionWrapper {
             Throwable throwable,
             long startTime, long exceptionId, int exceptionDepth,
             int maxErrorMessageLength
+    ) {
+        return newException(throwable, startTime, exceptionId, exceptionDepth, maxErrorMessageLength, EmptyStackTraceFingerprintCache.INSTANCE);
+    }
+
+    public static ExceptionWrapper newException(
+            Throwable throwable,
+            long startTime, long exceptionId, int exceptionDepth,
+            int maxErrorMessageLength,
+            StackTraceFingerprintCache fingerprintCache
     ) {
         if (throwable == null) {
             return null;
@@ -60,7 +69,7 @@ public class ExceptionWrapper {
         return new ExceptionWrapper(
                 StringUtils.defaultIfEmpty(throwable.getClass().getName(), EMPTY_STRING),
                 StringUtils.abbreviate(throwable.getMessage(), maxErrorMessageLength),
-                throwable.getStackTrace(),
+                fingerprintCache.compact(throwable.getStackTrace()),
                 startTime,
                 exceptionId,
                 exceptionDepth
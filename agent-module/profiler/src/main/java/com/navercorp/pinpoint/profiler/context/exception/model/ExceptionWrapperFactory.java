@@ -18,6 +18,7 @@ package com.navercorp.pinpoint.profiler.context.exception.model;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * @author intr3p1d
@@ -25,10 +26,16 @@ import java.util.List;
 public class ExceptionWrapperFactory {
     private final int maxDepth;
     private final int maxErrorMessageLength;
+    private final StackTraceFingerprintCache fingerprintCache;
 
     public ExceptionWrapperFactory(int maxDepth, int maxErrorMessageLength) {
+        this(maxDepth, maxErrorMessageLength, EmptyStackTraceFingerprintCache.INSTANCE);
+    }
+
+    public ExceptionWrapperFactory(int maxDepth, int maxErrorMessageLength, StackTraceFingerprintCache fingerprintCache) {
         this.maxDepth = maxDepth;
         this.maxErrorMessageLength = maxErrorMessageLength;
+        this.fingerprintCache = Objects.requireNonNull(fingerprintCache, "fingerprintCache");
     }
 
     public List<ExceptionWrapper> newExceptionWrappers(ExceptionContext context) {
@@ -76,7 +83,7 @@ public class ExceptionWrapperFactory {
         ) {
             exceptionWrappers.add(
                     ExceptionWrapper.newException(
-                            curr, startTime, exceptionId, depth, maxErrorMessageLength
+                            curr, startTime, exceptionId, depth, maxErrorMessageLength, fingerprintCache
                     )
             );
             curr = curr.getCause();
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.exception.model;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded LRU of the stack traces shipped recently.
+ * <p>
+ * The full frames are sent the first time a stack trace is seen and again once its entry expires,
+ * so that the collector always has a recent row to resolve the fingerprint from.
+ * The hash must stay identical to the collector's {@code StackTraceElementWrapper} funnel.
+ */
+public class LruStackTraceFingerprintCache implements StackTraceFingerprintCache {
+
+    private static final HashFunction HASH = Hashing.murmur3_128();
+    private static final String EMPTY_STRING = "";
+
+    private final long expireMillis;
+    private final LongSupplier clock;
+
+    private final Map<String, Long> shipped;
+
+    public LruStackTraceFingerprintCache(int maxSize, long expireMillis) {
+        this(maxSize, expireMillis, System::currentTimeMillis);
+    }
+
+    LruStackTraceFingerprintCache(final int maxSize, long expireMillis, LongSupplier clock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive:" + maxSize);
+        }
+        if (expireMillis <= 0) {
+            throw new IllegalArgumentException("expireMillis must be positive:" + expireMillis);
+        }
+        this.expireMillis = expireMillis;
+        this.clock = clock;
+        this.shipped = new LinkedHashMap<String, Long>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Override
+    public StackTraceElement[] compact(StackTraceElement[] stackTraceElements) {
+        if (stackTraceElements == null || stackTraceElements.length == 0) {
+            return stackTraceElements;
+        }
+        final String hash = hash(stackTraceElements);
+        final long currentTime = clock.getAsLong();
+        synchronized (shipped) {
+            final Long shippedTime = shipped.get(hash);
+            if (shippedTime == null || currentTime - shippedTime >= expireMillis) {
+                shipped.put(hash, currentTime);
+                return stackTraceElements;
+            }
+        }
+        return new StackTraceElement[]{
+                new StackTraceElement(FINGERPRINT_CLASS_NAME, hash, null, 0)
+        };
+    }
+
+    static String hash(StackTraceElement[] stackTraceElements) {
+        final Hasher hasher = HASH.newHasher();
+        for (StackTraceElement element : stackTraceElements) {
+            hasher.putString(defaultString(element.getClassName()), StandardCharsets.UTF_8)
+                    .putString(defaultString(element.getFileName()), StandardCharsets.UTF_8)
+                    .putInt(element.getLineNumber())
+                    .putString(defaultString(element.getMethodName()), StandardCharsets.UTF_8);
+        }
+        return hasher.hash().toString();
+    }
+
+    private static String defaultString(String str) {
+        return str == null ? EMPTY_STRING : str;
+    }
+
+    int size() {
+        synchronized (shipped) {
+            return shipped.size();
+        }
+    }
+}
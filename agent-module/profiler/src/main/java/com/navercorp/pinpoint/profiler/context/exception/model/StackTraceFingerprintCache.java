@@ -0,0 +1,32 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.exception.model;
+
+/**
+ * Replaces stack traces that were already shipped with a single fingerprint frame.
+ */
+public interface StackTraceFingerprintCache {
+
+    /**
+     * Class name of the frame that stands in for an already shipped stack trace.
+     * The method name of that frame holds the stack trace hash computed by the collector.
+     */
+    String FINGERPRINT_CLASS_NAME = "$PinpointStackTraceHash";
+
+    StackTraceElement[] compact(StackTraceElement[] stackTraceElements);
+
+}
@@ -46,6 +46,8 @@ import com.navercorp.pinpoint.profiler.instrument.lambda.LambdaTransformBootload
 import com.navercorp.pinpoint.profiler.micrometer.MicrometerMonitor;
 import com.navercorp.pinpoint.profiler.monitor.AgentStatMonitor;
 import com.navercorp.pinpoint.profiler.monitor.DeadlockMonitor;
+import com.navercorp.pinpoint.profiler.monitor.sampling.StackSamplingMonitor;
+import com.navercorp.pinpoint.profiler.transformer.UntransformedClassCache;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -64,6 +66,7 @@ public class DefaultApplicationContext implements ApplicationContext {
     private final ProfilerConfig profilerConfig;
 
     private final DeadlockMonitor deadlockMonitor;
+    private final StackSamplingMonitor stackSamplingMonitor;
     private final AgentInfoSender agentInfoSender;
     private final AgentStatMonitor agentStatMonitor;
     private final MicrometerMonitor micrometerMonitor;
@@ -76,6 +79,7 @@ public class DefaultApplicationContext implements ApplicationContext {
     private final ServerMetaDataRegistryService serverMetaDataRegistryService;
 
     private final ClassFileTransformer classFileTransformer;
+    private final UntransformedClassCache untransformedClassCache;
 
     private final InstrumentEngine instrumentEngine;
     private final DynamicTransformTrigger dynamicTransformTrigger;
@@ -103,6 +107,7 @@ public class DefaultApplicationContext implements ApplicationContext {
         this.instrumentEngine = injector.getInstance(InstrumentEngine.class);
 
         this.classFileTransformer = injector.getInstance(ClassFileTransformer.class);
+        this.untransformedClassCache = injector.getInstance(UntransformedClassCache.class);
         this.dynamicTransformTrigger = injector.getInstance(DynamicTransformTrigger.class);
 
         ClassFileTransformer classFileTransformer = wrap(this.classFileTransformer);
@@ -131,6 +136,7 @@ public class DefaultApplicationContext implements ApplicationContext {
         this.serverMetaDataRegistryService = injector.getInstance(ServerMetaDataRegistryService.class);
 
         this.deadlockMonitor = injector.getInstance(DeadlockMonitor.class);
+        this.stackSamplingMonitor = injector.getInstance(StackSamplingMonitor.class);
         this.agentInfoSender = injector.getInstance(AgentInfoSender.class);
         this.agentStatMonitor = injector.getInstance(AgentStatMonitor.class);
         this.micrometerMonitor = injector.getInstance(MicrometerMonitor.class);
@@ -222,6 +228,7 @@ public class DefaultApplicationContext implements ApplicationContext {
     @Override
     public void start() {
         this.deadlockMonitor.start();
+        this.stackSamplingMonitor.start();
         this.agentInfoSender.start();
         this.agentStatMonitor.start();
         this.micrometerMonitor.start();
@@ -233,6 +240,9 @@ public class DefaultApplicationContext implements ApplicationContext {
         this.micrometerMonitor.stop();
         this.agentStatMonitor.stop();
         this.deadlockMonitor.stop();
+        this.stackSamplingMonitor.stop();
+
+        this.untransformedClassCache.save();
 
         // Need to process stop
         if (rpcModuleLifeCycle != null) {
@@ -37,7 +37,9 @@ import com.navercorp.pinpoint.profiler.context.module.Container;
 import com.navercorp.pinpoint.profiler.context.module.PluginJarPaths;
 import com.navercorp.pinpoint.profiler.context.module.PluginJars;
 import com.navercorp.pinpoint.profiler.context.monitor.config.DefaultMonitorConfig;
+import com.navercorp.pinpoint.profiler.context.monitor.config.DefaultStackSamplingConfig;
 import com.navercorp.pinpoint.profiler.context.monitor.config.MonitorConfig;
+import com.navercorp.pinpoint.profiler.context.monitor.config.StackSamplingConfig;
 import com.navercorp.pinpoint.profiler.context.provider.AgentStartTimeProvider;
 import com.navercorp.pinpoint.profiler.context.provider.ConfiguredApplicationTypeProvider;
 import com.navercorp.pinpoint.profiler.context.provider.ShutdownHookRegisterProvider;
@@ -46,8 +48,10 @@ import com.navercorp.pinpoint.profiler.context.provider.plugin.PluginJarsProvide
 import com.navercorp.pinpoint.profiler.instrument.classloading.BootstrapCore;
 import com.navercorp.pinpoint.profiler.instrument.config.DefaultInstrumentConfig;
 import com.navercorp.pinpoint.profiler.instrument.config.DefaultInstrumentMatcherCacheConfig;
+import com.navercorp.pinpoint.profiler.instrument.config.DefaultTransformCacheConfig;
 import com.navercorp.pinpoint.profiler.instrument.config.InstrumentConfig;
 import com.navercorp.pinpoint.profiler.instrument.config.InstrumentMatcherCacheConfig;
+import com.navercorp.pinpoint.profiler.instrument.config.TransformCacheConfig;
 import com.navercorp.pinpoint.profiler.instrument.interceptor.InterceptorHolderIdGenerator;
 import com.navercorp.pinpoint.profiler.name.ObjectName;
 import com.navercorp.pinpoint.profiler.plugin.PluginJar;
@@ -111,12 +115,22 @@ public class ConfigModule extends AbstractModule {
         logger.info("{}", instrumentMatcherCacheConfig);
         bind(InstrumentMatcherCacheConfig.class).toInstance(instrumentMatcherCacheConfig);
 
+        TransformCacheConfig transformCacheConfig = new DefaultTransformCacheConfig();
+        configurationLoader.load(transformCacheConfig);
+        logger.info("{}", transformCacheConfig);
+        bind(TransformCacheConfig.class).toInstance(transformCacheConfig);
+
 
         MonitorConfig monitorConfig = new DefaultMonitorConfig();
         configurationLoader.load(monitorConfig);
         logger.info("{}", monitorConfig);
         bind(MonitorConfig.class).toInstance(monitorConfig);
 
+        StackSamplingConfig stackSamplingConfig = new DefaultStackSamplingConfig();
+        configurationLoader.load(stackSamplingConfig);
+        logger.info("{}", stackSamplingConfig);
+        bind(StackSamplingConfig.class).toInstance(stackSamplingConfig);
+
         bind(Instrumentation.class).toInstance(agentOption.getInstrumentation());
 
         bind(InterceptorHolderIdGenerator.class).toInstance(new InterceptorHolderIdGenerator());
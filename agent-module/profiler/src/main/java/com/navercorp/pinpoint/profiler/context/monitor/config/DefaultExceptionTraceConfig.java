@@ -13,6 +13,12 @@ public class DefaultExceptionTraceConfig implements ExceptionTraceConfig {
     private int exceptionTraceMaxDepth = 0;
     @Value("${profiler.exceptiontrace.io.buffering.buffersize}")
     private int ioBufferingBufferSize = 20;
+    @Value("${profiler.exceptiontrace.stacktrace.dedup.enable}")
+    private boolean stackTraceDedupEnable = false;
+    @Value("${profiler.exceptiontrace.stacktrace.dedup.max.size}")
+    private int stackTraceDedupMaxSize = 1024;
+    @Value("${profiler.exceptiontrace.stacktrace.dedup.expire}")
+    private long stackTraceDedupExpireMillis = 600000;
 
     @Override
     public boolean isExceptionTraceEnable() {
@@ -39,6 +45,21 @@ public class DefaultExceptionTraceConfig implements ExceptionTraceConfig {
         return ioBufferingBufferSize;
     }
 
+    @Override
+    public boolean isStackTraceDedupEnable() {
+        return stackTraceDedupEnable;
+    }
+
+    @Override
+    public int getStackTraceDedupMaxSize() {
+        return stackTraceDedupMaxSize;
+    }
+
+    @Override
+    public long getStackTraceDedupExpireMillis() {
+        return stackTraceDedupExpireMillis;
+    }
+
     @Override
     public String toString() {
         return "DefaultExceptionTraceConfig{" +
@@ -47,6 +68,9 @@ public class DefaultExceptionTraceConfig implements ExceptionTraceConfig {
                 ", errorMessageMaxLength=" + errorMessageMaxLength +
                 ", exceptionTraceMaxDepth=" + exceptionTraceMaxDepth +
                 ", ioBufferingBufferSize=" + ioBufferingBufferSize +
+                ", stackTraceDedupEnable=" + stackTraceDedupEnable +
+                ", stackTraceDedupMaxSize=" + stackTraceDedupMaxSize +
+                ", stackTraceDedupExpireMillis=" + stackTraceDedupExpireMillis +
                 '}';
     }
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.context.monitor.config;
+
+import com.navercorp.pinpoint.common.config.Value;
+
+public class DefaultStackSamplingConfig implements StackSamplingConfig {
+
+    @Value("${profiler.monitor.stack.sampling.enable}")
+    private boolean stackSamplingEnable = false;
+    @Value("${profiler.monitor.stack.sampling.interval}")
+    private long stackSamplingIntervalMillis = 100;
+    @Value("${profiler.monitor.stack.sampling.threshold}")
+    private long stackSamplingThresholdMillis = 1000;
+    @Value("${profiler.monitor.stack.sampling.max.depth}")
+    private int stackSamplingMaxDepth = 64;
+    @Value("${profiler.monitor.stack.sampling.budget}")
+    private double stackSamplingBudgetPercent = 1.0;
+    @Value("${profiler.monitor.stack.sampling.flush.interval}")
+    private long stackSamplingFlushIntervalMillis = 60000;
+    @Value("${profiler.monitor.stack.sampling.max.stacks}")
+    private int stackSamplingMaxStacks = 1000;
+
+    @Override
+    public boolean isStackSamplingEnable() {
+        return stackSamplingEnable;
+    }
+
+    @Override
+    public long getStackSamplingIntervalMillis() {
+        return stackSamplingIntervalMillis;
+    }
+
+    @Override
+    public long getStackSamplingThresholdMillis() {
+        return stackSamplingThresholdMillis;
+    }
+
+    @Override
+    public int getStackSamplingMaxDepth() {
+        return stackSamplingMaxDepth;
+    }
+
+    @Override
+    public double getStackSamplingBudgetPercent() {
+        return stackSamplingBudgetPercent;
+    }
+
+    @Override
+    public long getStackSamplingFlushIntervalMillis() {
+        return stackSamplingFlushIntervalMillis;
+    }
+
+    @Override
+    public int getStackSamplingMaxStacks() {
+        return stackSamplingMaxStacks;
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultStackSamplingConfig{" +
+                "stackSamplingEnable=" + stackSamplingEnable +
+                ", stackSamplingIntervalMillis=" + stackSamplingIntervalMillis +
+                ", stackSamplingThresholdMillis=" + stackSamplingThresholdMillis +
+                ", stackSamplingMaxDepth=" + stackSamplingMaxDepth +
+                ", stackSamplingBudgetPercent=" + stackSamplingBudgetPercent +
+                ", stackSamplingFlushIntervalMillis=" + stackSamplingFlushIntervalMillis +
+                ", stackSamplingMaxStacks=" + stackSamplingMaxStacks +
+                '}';
+    }
+}
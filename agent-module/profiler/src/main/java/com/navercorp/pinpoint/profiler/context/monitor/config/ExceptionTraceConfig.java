@@ -10,4 +10,10 @@ public interface ExceptionTraceConfig {
     int getExceptionTraceMaxDepth();
 
     int getIoBufferingBufferSize();
+
+    boolean isStackTraceDedupEnable();
+
+    int getStackTraceDedupMaxSize();
+
+    long getStackTraceDedupExpireMillis();
 }
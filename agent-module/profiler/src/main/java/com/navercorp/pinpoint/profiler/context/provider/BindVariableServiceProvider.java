@@ -30,7 +30,7 @@ public class BindVariableServiceProvider implements Provider<BindVariableService
             bindVariable.setRawBytesConverter();
         }
 
-        return new DefaultBindVariableService(bindVariable);
+        return new DefaultBindVariableService(bindVariable, jdbcContextConfig.isBinaryBindValue());
     }
 
 }
@@ -36,6 +36,7 @@ public class CallStackFactoryProvider implements Provider<CallStackFactory<SpanE
     private final int callStackMaxDepth;
     private final int callStackMaxSequence;
     private final long callStackOverflowLogIntervalMillis;
+    private final boolean callStackPoolEnable;
 
     @Inject
     public CallStackFactoryProvider(InstrumentConfig instrumentConfig,
@@ -44,15 +45,16 @@ public class CallStackFactoryProvider implements Provider<CallStackFactory<SpanE
         this.callStackMaxDepth = instrumentConfig.getCallStackMaxDepth();
         this.callStackMaxSequence = instrumentConfig.getCallStackMaxSequence();
         this.callStackOverflowLogIntervalMillis = instrumentConfig.getCallStackOverflowLogIntervalMillis();
+        this.callStackPoolEnable = instrumentConfig.isCallStackPoolEnable();
     }
 
     @Override
     public CallStackFactory<SpanEvent> get() {
         if (version == TraceDataFormatVersion.V2) {
-            return new CallStackFactoryV2(callStackMaxDepth, callStackMaxSequence, callStackOverflowLogIntervalMillis);
+            return new CallStackFactoryV2(callStackMaxDepth, callStackMaxSequence, callStackOverflowLogIntervalMillis, callStackPoolEnable);
         }
         if (version == TraceDataFormatVersion.V1) {
-            return new CallStackFactoryV1(callStackMaxDepth, callStackMaxSequence, callStackOverflowLogIntervalMillis);
+            return new CallStackFactoryV1(callStackMaxDepth, callStackMaxSequence, callStackOverflowLogIntervalMillis, callStackPoolEnable);
         }
         throw new UnsupportedOperationException("unknown version :" + version);
     }
@@ -45,6 +45,7 @@ import com.navercorp.pinpoint.profiler.transformer.DefaultClassFileTransformerDi
 import com.navercorp.pinpoint.profiler.transformer.DelegateTransformerRegistry;
 import com.navercorp.pinpoint.profiler.transformer.DynamicTransformerRegistry;
 import com.navercorp.pinpoint.profiler.transformer.PinpointClassFilter;
+import com.navercorp.pinpoint.profiler.transformer.UntransformedClassCache;
 import com.navercorp.pinpoint.profiler.transformer.UnmodifiableClassFilter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -68,13 +69,15 @@ public class ClassFileTransformerProvider implements Provider<ClassFileTransform
     private final InstrumentEngine instrumentEngine;
     private final DynamicTransformTrigger dynamicTransformTrigger;
     private final DynamicTransformerRegistry dynamicTransformerRegistry;
+    private final UntransformedClassCache untransformedClassCache;
 
     @Inject
     public ClassFileTransformerProvider(ProfilerConfig profilerConfig,
                                         InstrumentConfig instrumentConfig,
                                         InstrumentMatcherCacheConfig instrumentMatcherCacheConfig,
                                         InstrumentEngine instrumentEngine, PluginContextLoadResult pluginContextLoadResult,
-                                        DynamicTransformTrigger dynamicTransformTrigger, DynamicTransformerRegistry dynamicTransformerRegistry) {
+                                        DynamicTransformTrigger dynamicTransformTrigger, DynamicTransformerRegistry dynamicTransformerRegistry,
+                                        UntransformedClassCache untransformedClassCache) {
         this.profilerConfig = Objects.requireNonNull(profilerConfig, "profilerConfig");
         this.instrumentConfig = Objects.requireNonNull(instrumentConfig, "instrumentConfig");
         this.instrumentMatcherCacheConfig = Objects.requireNonNull(instrumentMatcherCacheConfig, "instrumentMatcherCacheConfig");
@@ -83,6 +86,7 @@ public class ClassFileTransformerProvider implements Provider<ClassFileTransform
         this.pluginContextLoadResult = Objects.requireNonNull(pluginContextLoadResult, "pluginContextLoadResult");
         this.dynamicTransformTrigger = Objects.requireNonNull(dynamicTransformTrigger, "dynamicTransformTrigger");
         this.dynamicTransformerRegistry = Objects.requireNonNull(dynamicTransformerRegistry, "dynamicTransformerRegistry");
+        this.untransformedClassCache = Objects.requireNonNull(untransformedClassCache, "untransformedClassCache");
     }
 
     @Override
@@ -103,7 +107,7 @@ public class ClassFileTransformerProvider implements Provider<ClassFileTransform
         final List<String> allowJdkClassName = instrumentConfig.getAllowJdkClassName();
         final ClassFileFilter unmodifiableFilter = new UnmodifiableClassFilter(allowJdkClassName);
         return new DefaultClassFileTransformerDispatcher(pinpointClassFilter, unmodifiableFilter, transformerRegistry,
-                dynamicTransformerRegistry, lambdaClassFileResolver);
+                dynamicTransformerRegistry, lambdaClassFileResolver, untransformedClassCache);
     }
 
     private TransformerRegistry newTransformerRegistry() {
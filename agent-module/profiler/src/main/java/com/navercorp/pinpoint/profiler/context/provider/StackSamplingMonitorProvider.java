@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.context.provider;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.navercorp.pinpoint.profiler.context.active.ActiveTraceRepository;
+import com.navercorp.pinpoint.profiler.context.monitor.config.StackSamplingConfig;
+import com.navercorp.pinpoint.profiler.monitor.sampling.DefaultStackSamplingMonitor;
+import com.navercorp.pinpoint.profiler.monitor.sampling.DisabledStackSamplingMonitor;
+import com.navercorp.pinpoint.profiler.monitor.sampling.FoldedStackAggregator;
+import com.navercorp.pinpoint.profiler.monitor.sampling.LoggingFoldedStackSink;
+import com.navercorp.pinpoint.profiler.monitor.sampling.StackSamplingMonitor;
+import com.navercorp.pinpoint.profiler.monitor.sampling.StackSamplingTask;
+
+import java.util.Objects;
+
+public class StackSamplingMonitorProvider implements Provider<StackSamplingMonitor> {
+
+    private final StackSamplingConfig stackSamplingConfig;
+    private final ActiveTraceRepository activeTraceRepository;
+
+    @Inject
+    public StackSamplingMonitorProvider(StackSamplingConfig stackSamplingConfig, ActiveTraceRepository activeTraceRepository) {
+        this.stackSamplingConfig = Objects.requireNonNull(stackSamplingConfig, "stackSamplingConfig");
+        this.activeTraceRepository = Objects.requireNonNull(activeTraceRepository, "activeTraceRepository");
+    }
+
+    @Override
+    public StackSamplingMonitor get() {
+        if (!stackSamplingConfig.isStackSamplingEnable()) {
+            return new DisabledStackSamplingMonitor();
+        }
+        final FoldedStackAggregator aggregator = new FoldedStackAggregator(stackSamplingConfig.getStackSamplingMaxStacks());
+        final StackSamplingTask task = new StackSamplingTask(activeTraceRepository, aggregator, new LoggingFoldedStackSink(),
+                stackSamplingConfig.getStackSamplingIntervalMillis(),
+                stackSamplingConfig.getStackSamplingThresholdMillis(),
+                stackSamplingConfig.getStackSamplingMaxDepth(),
+                stackSamplingConfig.getStackSamplingBudgetPercent(),
+                stackSamplingConfig.getStackSamplingFlushIntervalMillis());
+        return new DefaultStackSamplingMonitor(task);
+    }
+}
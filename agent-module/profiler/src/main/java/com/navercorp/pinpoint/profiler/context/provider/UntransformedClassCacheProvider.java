@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.context.provider;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
+import com.navercorp.pinpoint.common.util.StringUtils;
+import com.navercorp.pinpoint.profiler.Version;
+import com.navercorp.pinpoint.profiler.context.module.PluginJarPaths;
+import com.navercorp.pinpoint.profiler.instrument.config.TransformCacheConfig;
+import com.navercorp.pinpoint.profiler.transformer.EmptyUntransformedClassCache;
+import com.navercorp.pinpoint.profiler.transformer.MappedUntransformedClassCache;
+import com.navercorp.pinpoint.profiler.transformer.UntransformedClassCache;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.TreeMap;
+
+public class UntransformedClassCacheProvider implements Provider<UntransformedClassCache> {
+
+    private static final String CACHE_DIR = "cache";
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final ProfilerConfig profilerConfig;
+    private final TransformCacheConfig transformCacheConfig;
+    private final List<Path> pluginJarPaths;
+
+    @Inject
+    public UntransformedClassCacheProvider(ProfilerConfig profilerConfig,
+                                           TransformCacheConfig transformCacheConfig,
+                                           @PluginJarPaths List<Path> pluginJarPaths) {
+        this.profilerConfig = Objects.requireNonNull(profilerConfig, "profilerConfig");
+        this.transformCacheConfig = Objects.requireNonNull(transformCacheConfig, "transformCacheConfig");
+        this.pluginJarPaths = Objects.requireNonNull(pluginJarPaths, "pluginJarPaths");
+    }
+
+    @Override
+    public UntransformedClassCache get() {
+        if (!transformCacheConfig.isTransformCacheEnable()) {
+            return EmptyUntransformedClassCache.INSTANCE;
+        }
+        final Path directory = getCacheDirectory();
+        if (directory == null) {
+            logger.warn("transform cache directory not found, transform cache disabled");
+            return EmptyUntransformedClassCache.INSTANCE;
+        }
+        final long fingerprint = fingerprint();
+        // agents sharing a profiler setup share the file, agents with a different setup never overwrite it
+        final Path file = directory.resolve("untransformed-class-" + Long.toHexString(fingerprint) + ".cache");
+        logger.info("untransformed class cache file:{} fingerprint:{}", file, Long.toHexString(fingerprint));
+        return new MappedUntransformedClassCache(file, fingerprint, transformCacheConfig.getTransformCacheMaxEntries());
+    }
+
+    private Path getCacheDirectory() {
+        final String directory = transformCacheConfig.getTransformCacheDirectory();
+        if (StringUtils.hasText(directory)) {
+            return Paths.get(directory);
+        }
+        // next to the agent logs directory, so that the log dir cleaner does not remove it
+        final String logPath = System.getProperty("pinpoint.log");
+        if (logPath == null) {
+            return null;
+        }
+        return Paths.get(logPath).toAbsolutePath().resolveSibling(CACHE_DIR);
+    }
+
+    /**
+     * Anything that can change the transform decision: agent version, jvm, plugin jars and the profiler configuration.
+     */
+    private long fingerprint() {
+        final Fingerprint fingerprint = new Fingerprint();
+        fingerprint.update(Version.VERSION);
+        fingerprint.update(System.getProperty("java.version"));
+        for (Path pluginJarPath : pluginJarPaths) {
+            fingerprint.update(pluginJarPath.toString());
+            try {
+                fingerprint.update(Long.toString(Files.size(pluginJarPath)));
+                fingerprint.update(Long.toString(Files.getLastModifiedTime(pluginJarPath).toMillis()));
+            } catch (IOException ignore) {
+                // plugin path only
+            }
+        }
+        final Properties properties = profilerConfig.getProperties();
+        final Map<String, String> sorted = new TreeMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            sorted.put(name, properties.getProperty(name));
+        }
+        for (Map.Entry<String, String> entry : sorted.entrySet()) {
+            fingerprint.update(entry.getKey());
+            fingerprint.update(entry.getValue());
+        }
+        return fingerprint.value;
+    }
+
+    // FNV-1a 64
+    private static class Fingerprint {
+        private long value = 0xcbf29ce484222325L;
+
+        void update(String text) {
+            if (text == null) {
+                text = "";
+            }
+            for (byte b : text.getBytes(StandardCharsets.UTF_8)) {
+                value ^= (b & 0xff);
+                value *= 0x100000001b3L;
+            }
+            // separator
+            value *= 0x100000001b3L;
+        }
+    }
+}
@@ -17,7 +17,10 @@ package com.navercorp.pinpoint.profiler.context.provider.exception;
 
 import com.google.inject.Inject;
 import com.google.inject.Provider;
+import com.navercorp.pinpoint.profiler.context.exception.model.EmptyStackTraceFingerprintCache;
 import com.navercorp.pinpoint.profiler.context.exception.model.ExceptionWrapperFactory;
+import com.navercorp.pinpoint.profiler.context.exception.model.LruStackTraceFingerprintCache;
+import com.navercorp.pinpoint.profiler.context.exception.model.StackTraceFingerprintCache;
 import com.navercorp.pinpoint.profiler.context.monitor.config.ExceptionTraceConfig;
 
 import java.util.Objects;
@@ -37,7 +40,18 @@ public class ExceptionWrapperFactoryProvider implements Provider<ExceptionWrappe
     public ExceptionWrapperFactory get() {
         return new ExceptionWrapperFactory(
                 exceptionTraceConfig.getExceptionTraceMaxDepth(),
-                exceptionTraceConfig.getErrorMessageMaxLength()
+                exceptionTraceConfig.getErrorMessageMaxLength(),
+                newFingerprintCache()
+        );
+    }
+
+    private StackTraceFingerprintCache newFingerprintCache() {
+        if (!exceptionTraceConfig.isStackTraceDedupEnable()) {
+            return EmptyStackTraceFingerprintCache.INSTANCE;
+        }
+        return new LruStackTraceFingerprintCache(
+                exceptionTraceConfig.getStackTraceDedupMaxSize(),
+                exceptionTraceConfig.getStackTraceDedupExpireMillis()
         );
     }
 }
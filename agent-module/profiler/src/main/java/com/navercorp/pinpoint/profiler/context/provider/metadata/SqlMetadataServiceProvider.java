@@ -19,10 +19,12 @@ package com.navercorp.pinpoint.profiler.context.provider.metadata;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
 import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
+import com.navercorp.pinpoint.bootstrap.plugin.jdbc.JdbcOption;
 import com.navercorp.pinpoint.common.profiler.message.DataSender;
 import com.navercorp.pinpoint.profiler.cache.SimpleCache;
 import com.navercorp.pinpoint.profiler.context.module.MetadataDataSender;
 import com.navercorp.pinpoint.profiler.context.monitor.config.MonitorConfig;
+import com.navercorp.pinpoint.profiler.metadata.DefaultCachingSqlNormalizer;
 import com.navercorp.pinpoint.profiler.metadata.DefaultSqlMetaDataService;
 import com.navercorp.pinpoint.profiler.metadata.MetaDataType;
 import com.navercorp.pinpoint.profiler.metadata.SqlCacheService;
@@ -53,17 +55,22 @@ public class SqlMetadataServiceProvider implements Provider<SqlMetaDataService>
 
     @Override
     public SqlMetaDataService get() {
-        final int maxSqlLength = profilerConfig.getJdbcOption().getMaxSqlLength();
-        boolean removeComments = profilerConfig.getJdbcOption().isRemoveComments();
+        final JdbcOption jdbcOption = profilerConfig.getJdbcOption();
+        final int maxSqlLength = jdbcOption.getMaxSqlLength();
 
         if (monitorConfig.isSqlStatEnable()) {
             SimpleCache<String, byte[]> sqlCache = simpleCacheFactory.newSqlUidCache();
-            SqlCacheService<byte[]> sqlCacheService = new SqlCacheService<>(sqlCache, maxSqlLength, removeComments);
+            SqlCacheService<byte[]> sqlCacheService = new SqlCacheService<>(newCachingSqlNormalizer(sqlCache, jdbcOption), maxSqlLength);
             return new SqlUidMetaDataService(dataSender, sqlCacheService);
         } else {
             SimpleCache<String, Integer> sqlCache = simpleCacheFactory.newSqlCache();
-            SqlCacheService<Integer> sqlCacheService = new SqlCacheService<>(sqlCache, maxSqlLength, removeComments);
+            SqlCacheService<Integer> sqlCacheService = new SqlCacheService<>(newCachingSqlNormalizer(sqlCache, jdbcOption), maxSqlLength);
             return new DefaultSqlMetaDataService(dataSender, sqlCacheService);
         }
     }
+
+    private <ID> DefaultCachingSqlNormalizer<ID> newCachingSqlNormalizer(SimpleCache<String, ID> sqlCache, JdbcOption jdbcOption) {
+        return new DefaultCachingSqlNormalizer<>(sqlCache, jdbcOption.isRemoveComments(),
+                jdbcOption.getRawSqlCacheSize(), jdbcOption.getMaxSqlCacheLength());
+    }
 }
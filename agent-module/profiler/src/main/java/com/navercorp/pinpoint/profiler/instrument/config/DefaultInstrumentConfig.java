@@ -46,6 +46,8 @@ public class DefaultInstrumentConfig implements InstrumentConfig {
     private int callStackMaxDepth = 64;
     private int callStackMaxSequence = 5000;
     private long callStackOverflowLogIntervalMillis = 3000;
+    @Value("${profiler.callstack.pool.enable}")
+    private boolean callStackPoolEnable = false;
 
     private Filter<String> profilableClassFilter = new SkipFilter<>();
 
@@ -120,6 +122,11 @@ public class DefaultInstrumentConfig implements InstrumentConfig {
         return callStackOverflowLogIntervalMillis;
     }
 
+    @Override
+    public boolean isCallStackPoolEnable() {
+        return callStackPoolEnable;
+    }
+
     @Value("${profiler.callstack.max.depth}")
     public void setCallStackMaxDepth(int callStackMaxDepth) {
         // CallStack
@@ -176,6 +183,7 @@ public class DefaultInstrumentConfig implements InstrumentConfig {
                 ", callStackMaxDepth=" + callStackMaxDepth +
                 ", callStackMaxSequence=" + callStackMaxSequence +
                 ", callStackOverflowLogIntervalMillis=" + callStackOverflowLogIntervalMillis +
+                ", callStackPoolEnable=" + callStackPoolEnable +
                 ", profilableClassFilter=" + profilableClassFilter +
                 ", applicationServerType='" + applicationServerType + '\'' +
                 ", propagateInterceptorException=" + propagateInterceptorException +
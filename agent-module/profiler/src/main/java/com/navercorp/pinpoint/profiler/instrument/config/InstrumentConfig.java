@@ -34,6 +34,7 @@ public interface InstrumentConfig {
     int getCallStackMaxDepth();
     int getCallStackMaxSequence();
     long getCallStackOverflowLogIntervalMillis();
+    boolean isCallStackPoolEnable();
     boolean isPropagateInterceptorException();
     String getProfileInstrumentEngine();
     boolean isSupportLambdaExpressions();
@@ -50,4 +50,9 @@ public class DebugTransformerRegistry implements TransformerRegistry {
         }
         return null;
     }
+
+    @Override
+    public boolean isHierarchyDependent(String classInternalName) {
+        return false;
+    }
 }
\ No newline at end of file
@@ -73,6 +73,11 @@ public class DefaultTransformerRegistry implements TransformerRegistry {
         return registry.get(classInternalName);
     }
 
+    @Override
+    public boolean isHierarchyDependent(String classInternalName) {
+        return false;
+    }
+
     private void addTransformer(Map<String, ClassFileTransformer> registry, Matcher matcher, ClassFileTransformer transformer) {
         // TODO extract matcher process
         if (matcher instanceof ClassNameMatcher) {
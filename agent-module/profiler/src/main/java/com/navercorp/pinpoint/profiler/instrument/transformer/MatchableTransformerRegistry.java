@@ -18,9 +18,13 @@ package com.navercorp.pinpoint.profiler.instrument.transformer;
 import com.navercorp.pinpoint.bootstrap.instrument.matcher.BasedMatcher;
 import com.navercorp.pinpoint.bootstrap.instrument.matcher.Matcher;
 import com.navercorp.pinpoint.bootstrap.instrument.matcher.MatcherType;
+import com.navercorp.pinpoint.bootstrap.instrument.matcher.operand.AnnotationInternalNameMatcherOperand;
 import com.navercorp.pinpoint.bootstrap.instrument.matcher.operand.ClassInternalNameMatcherOperand;
+import com.navercorp.pinpoint.bootstrap.instrument.matcher.operand.InterfaceInternalNameMatcherOperand;
 import com.navercorp.pinpoint.bootstrap.instrument.matcher.operand.MatcherOperand;
 import com.navercorp.pinpoint.bootstrap.instrument.matcher.operand.PackageInternalNameMatcherOperand;
+import com.navercorp.pinpoint.bootstrap.instrument.matcher.operand.SuperClassInternalNameMatcherOperand;
+import com.navercorp.pinpoint.bootstrap.instrument.matcher.operator.MatcherOperator;
 import com.navercorp.pinpoint.profiler.instrument.classreading.InternalClassMetadata;
 import com.navercorp.pinpoint.profiler.instrument.classreading.InternalClassMetadataReader;
 import com.navercorp.pinpoint.profiler.instrument.config.InstrumentMatcherCacheConfig;
@@ -31,12 +35,9 @@ import org.apache.logging.log4j.Logger;
 import java.lang.instrument.ClassFileTransformer;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
-import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -52,7 +53,7 @@ public class MatchableTransformerRegistry implements TransformerRegistry {
     // class matcher operand.
     private final Map<String, IndexValue> classNameBasedIndex = new HashMap<>(64);
     // package matcher operand.
-    private final Map<String, Set<IndexValue>> packageNameBasedIndex;
+    private final PackageNameTrie<IndexValue> packageNameBasedIndex = new PackageNameTrie<>();
 
     private final TransformerMatcherExecutionPlanner executionPlanner = new TransformerMatcherExecutionPlanner();
     private final TransformerMatcher transformerMatcher;
@@ -64,9 +65,6 @@ public class MatchableTransformerRegistry implements TransformerRegistry {
         final List<MatchableClassFileTransformer> defaultTransfomerList = filterDefaultMatcher(matchableClassFileTransformerList);
         this.defaultTransformerRegistry = new DefaultTransformerRegistry(defaultTransfomerList);
 
-        // sorted by package name length.
-        this.packageNameBasedIndex = new TreeMap<>();
-
         final List<MatchableClassFileTransformer> baseTransformer = filterBaseMatcher(matchableClassFileTransformerList);
         for (MatchableClassFileTransformer transformer : baseTransformer) {
             try {
@@ -116,6 +114,36 @@ public class MatchableTransformerRegistry implements TransformerRegistry {
         return null;
     }
 
+    @Override
+    public boolean isHierarchyDependent(String classInternalName) {
+        final IndexValue indexValue = this.classNameBasedIndex.get(classInternalName);
+        if (indexValue != null && indexValue.hierarchyDependent) {
+            return true;
+        }
+        final Boolean dependent = this.packageNameBasedIndex.find(classInternalName, value -> value.hierarchyDependent ? Boolean.TRUE : null);
+        return dependent != null;
+    }
+
+    static boolean isHierarchyDependent(final MatcherOperand operand) {
+        if (operand == null) {
+            return false;
+        }
+        if (operand instanceof MatcherOperator) {
+            final MatcherOperator operator = (MatcherOperator) operand;
+            return isHierarchyDependent(operator.getLeftOperand()) || isHierarchyDependent(operator.getRightOperand());
+        }
+        if (operand instanceof InterfaceInternalNameMatcherOperand) {
+            return ((InterfaceInternalNameMatcherOperand) operand).isConsiderHierarchy();
+        }
+        if (operand instanceof SuperClassInternalNameMatcherOperand) {
+            return ((SuperClassInternalNameMatcherOperand) operand).isConsiderHierarchy();
+        }
+        if (operand instanceof AnnotationInternalNameMatcherOperand) {
+            return ((AnnotationInternalNameMatcherOperand) operand).isConsiderMetaAnnotation();
+        }
+        return false;
+    }
+
     private ClassFileTransformer findClassBasedTransformer(final ClassLoader classLoader, final String classInternalName, final ClassMetadataWrapper classMetadataWrapper) {
         IndexValue indexValue = this.classNameBasedIndex.get(classInternalName);
         if (indexValue != null) {
@@ -134,19 +162,8 @@ public class MatchableTransformerRegistry implements TransformerRegistry {
     }
 
     private ClassFileTransformer findPackageBasedTransformer(final ClassLoader classLoader, final String classInternalName, final ClassMetadataWrapper classMetadataWrapper) {
-        for (Map.Entry<String, Set<IndexValue>> entry : this.packageNameBasedIndex.entrySet()) {
-            final String packageInternalName = entry.getKey();
-            if (classInternalName.startsWith(packageInternalName)) {
-                for (IndexValue value : entry.getValue()) {
-                    ClassFileTransformer transformer = match(classLoader, value, classMetadataWrapper);
-                    if (transformer != null) {
-                        return transformer;
-                    }
-                }
-            }
-        }
-
-        return null;
+        // shortest package name first.
+        return this.packageNameBasedIndex.find(classInternalName, value -> match(classLoader, value, classMetadataWrapper));
     }
 
     private ClassFileTransformer match(final ClassLoader classLoader, final IndexValue indexValue, final ClassMetadataWrapper classMetadataWrapper) {
@@ -214,7 +231,7 @@ public class MatchableTransformerRegistry implements TransformerRegistry {
                 indexed = true;
             } else if (operand instanceof PackageInternalNameMatcherOperand) {
                 PackageInternalNameMatcherOperand packageInternalNameMatcherOperand = (PackageInternalNameMatcherOperand) operand;
-                addIndexData(packageInternalNameMatcherOperand.getPackageInternalName(), indexValue, this.packageNameBasedIndex);
+                this.packageNameBasedIndex.put(packageInternalNameMatcherOperand.getPackageInternalName(), indexValue);
                 indexed = true;
             } else {
                 throw new IllegalArgumentException("invalid matcher or execution planner - unknown operand. condition=" + condition + ", unknown operand=" + operand);
@@ -226,23 +243,17 @@ public class MatchableTransformerRegistry implements TransformerRegistry {
         }
     }
 
-    private void addIndexData(final String key, final IndexValue indexValue, final Map<String, Set<IndexValue>> index) {
-        Set<IndexValue> indexValueSet = index.get(key);
-        if (indexValueSet == null) {
-            indexValueSet = new LinkedHashSet<>();
-            index.put(key, indexValueSet);
-        }
-        indexValueSet.add(indexValue);
-    }
-
     static class IndexValue {
         private final MatcherOperand operand;
         private final ClassFileTransformer transformer;
+        // reads super types or annotations from the class loader while matching
+        private final boolean hierarchyDependent;
         private final AtomicLong accumulatorTimeMillis = new AtomicLong(0);
 
         public IndexValue(final MatcherOperand operand, final ClassFileTransformer transformer) {
             this.operand = operand;
             this.transformer = transformer;
+            this.hierarchyDependent = isHierarchyDependent(operand);
         }
 
         public long accumulatorTime(final long startTimeMillis) {
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.instrument.transformer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Package internal name index keyed by '/' separated path segments.
+ * <p>
+ * A key matches every name that starts with it, the same as {@code name.startsWith(key)}, and matching keys
+ * are visited from the shortest to the longest. A lookup stops at the first segment without a child node,
+ * so names under packages without any key (e.g. {@code java/}) cost a single hash lookup.
+ * Not thread safe for writes, the index is built once and then only read.
+ */
+class PackageNameTrie<V> {
+
+    private static final char SEPARATOR = '/';
+
+    private static final Comparator<Node<?>> NAME_LENGTH_ORDER = new Comparator<Node<?>>() {
+        @Override
+        public int compare(Node<?> o1, Node<?> o2) {
+            return Integer.compare(o1.name.length(), o2.name.length());
+        }
+    };
+
+    private final Node<V> root = new Node<>("");
+    private int size;
+
+    public void put(final String packageInternalName, final V value) {
+        Objects.requireNonNull(packageInternalName, "packageInternalName");
+        Objects.requireNonNull(value, "value");
+
+        Node<V> node = root;
+        int start = 0;
+        int end;
+        while ((end = packageInternalName.indexOf(SEPARATOR, start)) != -1) {
+            node = node.getOrCreateChild(packageInternalName.substring(start, end));
+            start = end + 1;
+        }
+        // the last segment may be a partial name, e.g. "com/foo/Bar" also matches "com/foo/BarImpl"
+        final Node<V> terminal = node.getOrCreateChild(packageInternalName.substring(start));
+        if (terminal.values == null) {
+            terminal.values = new LinkedHashSet<>();
+            node.addTerminal(terminal);
+        }
+        if (terminal.values.add(value)) {
+            size++;
+        }
+    }
+
+    /**
+     * Applies the function to the values of every key that prefixes the name, shortest key first,
+     * and returns the first non-null result.
+     */
+    public <R> R find(final String name, final Function<V, R> function) {
+        Node<V> node = root;
+        int start = 0;
+        while (true) {
+            final List<Node<V>> terminals = node.terminals;
+            if (terminals != null) {
+                for (Node<V> terminal : terminals) {
+                    if (name.startsWith(terminal.name, start)) {
+                        for (V value : terminal.values) {
+                            final R result = function.apply(value);
+                            if (result != null) {
+                                return result;
+                            }
+                        }
+                    }
+                }
+            }
+
+            final int end = name.indexOf(SEPARATOR, start);
+            if (end == -1 || node.children == null) {
+                return null;
+            }
+            node = node.children.get(name.substring(start, end));
+            if (node == null) {
+                return null;
+            }
+            start = end + 1;
+        }
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static class Node<V> {
+        private final String name;
+        private Map<String, Node<V>> children;
+        // children that hold values, shortest name first
+        private List<Node<V>> terminals;
+        private Set<V> values;
+
+        private Node(String name) {
+            this.name = name;
+        }
+
+        private Node<V> getOrCreateChild(String childName) {
+            if (children == null) {
+                children = new HashMap<>();
+            }
+            Node<V> child = children.get(childName);
+            if (child == null) {
+                child = new Node<>(childName);
+                children.put(childName, child);
+            }
+            return child;
+        }
+
+        private void addTerminal(Node<V> terminal) {
+            if (terminals == null) {
+                terminals = new ArrayList<>(2);
+            }
+            terminals.add(terminal);
+            Collections.sort(terminals, NAME_LENGTH_ORDER);
+        }
+    }
+}
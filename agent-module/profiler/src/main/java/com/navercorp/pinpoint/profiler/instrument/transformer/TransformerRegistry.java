@@ -29,4 +29,10 @@ public interface TransformerRegistry {
 
     ClassFileTransformer findTransformer(ClassLoader classLoader, String classInternalName, byte[] classFileBuffer, InternalClassMetadata classMetadata);
 
+    /**
+     * @return true if the transformer lookup of the class may read other classes, such as its super types,
+     * so the result does not depend on the class file alone
+     */
+    boolean isHierarchyDependent(String classInternalName);
+
 }
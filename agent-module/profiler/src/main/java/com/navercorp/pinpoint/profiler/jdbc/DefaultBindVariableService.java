@@ -1,16 +1,23 @@
 package com.navercorp.pinpoint.profiler.jdbc;
 
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.BindVariableService;
+import com.navercorp.pinpoint.common.profiler.sql.BindValueCodec;
 
 import java.util.Map;
 import java.util.Objects;
 
 public class DefaultBindVariableService implements BindVariableService {
     private final BindValueConverter bindValueConverter;
+    private final boolean binaryBindValue;
 
 
     public DefaultBindVariableService(BindValueConverter bindValueConverter) {
+        this(bindValueConverter, false);
+    }
+
+    public DefaultBindVariableService(BindValueConverter bindValueConverter, boolean binaryBindValue) {
         this.bindValueConverter = Objects.requireNonNull(bindValueConverter, "bindValueConverter");
+        this.binaryBindValue = binaryBindValue;
     }
 
     @Override
@@ -28,6 +35,14 @@ public class DefaultBindVariableService implements BindVariableService {
         return BindValueUtils.bindValueToString(bindValueMap, limit);
     }
 
+    @Override
+    public byte[] bindVariableToBytes(Map<Integer, String> bindValueMap, int limit) {
+        if (!binaryBindValue) {
+            return null;
+        }
+        return BindValueCodec.encode(bindValueMap, limit);
+    }
+
     @Override
     public String bindNameVariableToString(Map<String, String> bindValueMap, int limit) {
         return BindValueUtils.bindNameValueToString(bindValueMap, limit);
@@ -7,6 +7,7 @@ import java.util.Objects;
 public class JdbcContextConfig {
     public static final String BYTES_FORMAT = "profiler.jdbc.preparedstatement.bytes.format";
     public static final String MAX_WIDTH = "profiler.jdbc.format.maxwidth";
+    public static final String BINARY_BIND_VALUE = "profiler.jdbc.bindvalue.binary";
 
     public enum ByteFormat {
         raw, hex
@@ -14,6 +15,7 @@ public class JdbcContextConfig {
 
     private final ByteFormat byteFormat;
     private final int maxWidth;
+    private final boolean binaryBindValue;
 
     public JdbcContextConfig(ProfilerConfig profilerConfig) {
         Objects.requireNonNull(profilerConfig, "profilerConfig");
@@ -21,6 +23,7 @@ public class JdbcContextConfig {
         final String byteFormat = profilerConfig.readString(BYTES_FORMAT, ByteFormat.raw.name());
         this.byteFormat = ByteFormat.valueOf(byteFormat);
         this.maxWidth = profilerConfig.readInt(MAX_WIDTH, 32);
+        this.binaryBindValue = profilerConfig.readBoolean(BINARY_BIND_VALUE, false);
     }
 
     public ByteFormat getByteFormat() {
@@ -30,4 +33,8 @@ public class JdbcContextConfig {
     public int getMaxWidth() {
         return maxWidth;
     }
+
+    public boolean isBinaryBindValue() {
+        return binaryBindValue;
+    }
 }
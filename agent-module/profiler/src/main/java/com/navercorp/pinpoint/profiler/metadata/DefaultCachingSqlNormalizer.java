@@ -1,22 +1,51 @@
 package com.navercorp.pinpoint.profiler.metadata;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.navercorp.pinpoint.common.profiler.sql.DefaultSqlNormalizer;
 import com.navercorp.pinpoint.common.profiler.sql.NormalizedSql;
 import com.navercorp.pinpoint.common.profiler.sql.SqlNormalizer;
 import com.navercorp.pinpoint.profiler.cache.Cache;
+import com.navercorp.pinpoint.profiler.cache.CaffeineBuilder;
 import com.navercorp.pinpoint.profiler.cache.Result;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
+
 public class DefaultCachingSqlNormalizer<ID> implements CachingSqlNormalizer<ParsingResultInternal<ID>> {
     private static final Logger logger = LogManager.getLogger(DefaultCachingSqlNormalizer.class);
 
     private final Cache<String, Result<ID>> sqlCache;
     private final SqlNormalizer sqlNormalizer;
 
+    // original sql -> normalized sql, null if disabled
+    private final ConcurrentMap<String, RawSqlResult<ID>> rawSqlCache;
+    private final int rawSqlLengthLimit;
+
     public DefaultCachingSqlNormalizer(Cache<String, Result<ID>> sqlCache, boolean removeComments) {
-        this.sqlCache = sqlCache;
+        this(sqlCache, removeComments, 0, -1);
+    }
+
+    /**
+     * @param rawSqlCacheSize   size of the original sql cache, 0 to disable
+     * @param rawSqlLengthLimit longer original sql is not cached, -1 for always
+     */
+    public DefaultCachingSqlNormalizer(Cache<String, Result<ID>> sqlCache, boolean removeComments, int rawSqlCacheSize, int rawSqlLengthLimit) {
+        this.sqlCache = Objects.requireNonNull(sqlCache, "sqlCache");
         this.sqlNormalizer = new DefaultSqlNormalizer(removeComments);
+        this.rawSqlCache = newRawSqlCache(rawSqlCacheSize);
+        this.rawSqlLengthLimit = rawSqlLengthLimit;
+    }
+
+    private static <ID> ConcurrentMap<String, RawSqlResult<ID>> newRawSqlCache(int rawSqlCacheSize) {
+        if (rawSqlCacheSize <= 0) {
+            return null;
+        }
+        final Caffeine<Object, Object> cacheBuilder = CaffeineBuilder.newBuilder();
+        cacheBuilder.maximumSize(rawSqlCacheSize);
+        com.github.benmanes.caffeine.cache.Cache<String, RawSqlResult<ID>> localCache = cacheBuilder.build();
+        return localCache.asMap();
     }
 
     @Override
@@ -31,14 +60,34 @@ public class DefaultCachingSqlNormalizer<ID> implements CachingSqlNormalizer<Par
 
         final String originalSql = parsingResult.getOriginalSql();
 
+        final boolean rawSqlCacheable = isRawSqlCacheable(originalSql);
+        if (rawSqlCacheable) {
+            final RawSqlResult<ID> rawSqlResult = this.rawSqlCache.get(originalSql);
+            if (rawSqlResult != null) {
+                // metadata was already sent by the first parsing result
+                setParsingResult(parsingResult, rawSqlResult.id, rawSqlResult.normalizedSql);
+                return false;
+            }
+        }
+
         final NormalizedSql normalizedSql = this.sqlNormalizer.normalizeSql(originalSql);
         final Result<ID> cachingResult = this.sqlCache.put(normalizedSql.getNormalizedSql());
 
         setParsingResult(parsingResult, cachingResult.getId(), normalizedSql);
+        if (rawSqlCacheable) {
+            this.rawSqlCache.put(originalSql, new RawSqlResult<>(cachingResult.getId(), normalizedSql));
+        }
 
         return cachingResult.isNewValue();
     }
 
+    private boolean isRawSqlCacheable(String originalSql) {
+        if (rawSqlCache == null || originalSql == null) {
+            return false;
+        }
+        return rawSqlLengthLimit == -1 || originalSql.length() < rawSqlLengthLimit;
+    }
+
     private void setParsingResult(ParsingResultInternal<ID> parsingResult, ID id, NormalizedSql normalizedSql) {
         boolean success = parsingResult.setId(id);
         if (!success) {
@@ -49,4 +98,14 @@ public class DefaultCachingSqlNormalizer<ID> implements CachingSqlNormalizer<Par
         parsingResult.setSql(normalizedSql.getNormalizedSql());
         parsingResult.setOutput(normalizedSql.getParseParameter());
     }
+
+    private static final class RawSqlResult<ID> {
+        private final ID id;
+        private final NormalizedSql normalizedSql;
+
+        private RawSqlResult(ID id, NormalizedSql normalizedSql) {
+            this.id = id;
+            this.normalizedSql = normalizedSql;
+        }
+    }
 }
@@ -6,6 +6,8 @@ import com.navercorp.pinpoint.profiler.cache.Result;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.Objects;
+
 public class SqlCacheService<ID> {
     protected final Logger logger = LogManager.getLogger(this.getClass());
     protected final boolean isDebug = logger.isDebugEnabled();
@@ -15,7 +17,11 @@ public class SqlCacheService<ID> {
     private final int trimSqlLength;
 
     public SqlCacheService(Cache<String, Result<ID>> sqlCache, int trimSqlLength, boolean removeComments) {
-        this.cachingSqlNormalizer = new DefaultCachingSqlNormalizer<>(sqlCache, removeComments);
+        this(new DefaultCachingSqlNormalizer<>(sqlCache, removeComments), trimSqlLength);
+    }
+
+    public SqlCacheService(CachingSqlNormalizer<ParsingResultInternal<ID>> cachingSqlNormalizer, int trimSqlLength) {
+        this.cachingSqlNormalizer = Objects.requireNonNull(cachingSqlNormalizer, "cachingSqlNormalizer");
         this.trimSqlLength = trimSqlLength;
     }
 
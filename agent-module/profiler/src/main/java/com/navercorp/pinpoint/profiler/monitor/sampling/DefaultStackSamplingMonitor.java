@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.monitor.sampling;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Objects;
+
+public class DefaultStackSamplingMonitor implements StackSamplingMonitor {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final StackSamplingTask stackSamplingTask;
+    private final Thread stackSamplingThread;
+
+    public DefaultStackSamplingMonitor(StackSamplingTask stackSamplingTask) {
+        this.stackSamplingTask = Objects.requireNonNull(stackSamplingTask, "stackSamplingTask");
+        this.stackSamplingThread = new Thread(stackSamplingTask, "Pinpoint-stack-sampling-monitor");
+        this.stackSamplingThread.setDaemon(true);
+    }
+
+    @Override
+    public void start() {
+        logger.info("DefaultStackSamplingMonitor started");
+        stackSamplingThread.start();
+    }
+
+    @Override
+    public void stop() {
+        logger.info("DefaultStackSamplingMonitor stopped");
+        stackSamplingTask.stop();
+        stackSamplingThread.interrupt();
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.monitor.sampling;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counts sampled stacks per entry point in the folded format (root frame first, separated by ';').
+ * The entry point is the url template of the trace, or its rpc name when no handler mapped a template.
+ * <p>
+ * Not thread safe, only the sampling thread uses it.
+ */
+public class FoldedStackAggregator {
+
+    static final String UNKNOWN_ENTRY_POINT = "unknown";
+
+    private final int maxStacks;
+
+    private Map<StackKey, long[]> stacks = new HashMap<>();
+    private Map<String, TransactionCount> transactions = new HashMap<>();
+    private long droppedSamples;
+
+    private final StringBuilder builder = new StringBuilder(1024);
+
+    public FoldedStackAggregator(int maxStacks) {
+        if (maxStacks <= 0) {
+            throw new IllegalArgumentException("maxStacks must be positive. maxStacks:" + maxStacks);
+        }
+        this.maxStacks = maxStacks;
+    }
+
+    public void add(String entryPoint, String transactionId, StackTraceElement[] frames) {
+        if (frames == null || frames.length == 0) {
+            return;
+        }
+        if (entryPoint == null) {
+            entryPoint = UNKNOWN_ENTRY_POINT;
+        }
+
+        final StackKey key = new StackKey(entryPoint, fold(frames));
+        final long[] count = stacks.get(key);
+        if (count != null) {
+            count[0]++;
+        } else if (stacks.size() < maxStacks) {
+            stacks.put(key, new long[]{1});
+        } else {
+            droppedSamples++;
+        }
+
+        if (transactionId != null) {
+            final TransactionCount transaction = transactions.get(transactionId);
+            if (transaction != null) {
+                transaction.samples++;
+            } else if (transactions.size() < maxStacks) {
+                transactions.put(transactionId, new TransactionCount(entryPoint));
+            }
+        }
+    }
+
+    String fold(StackTraceElement[] frames) {
+        final StringBuilder builder = this.builder;
+        builder.setLength(0);
+        for (int i = frames.length - 1; i >= 0; i--) {
+            final StackTraceElement frame = frames[i];
+            builder.append(frame.getClassName()).append('.').append(frame.getMethodName());
+            if (i != 0) {
+                builder.append(';');
+            }
+        }
+        return builder.toString();
+    }
+
+    public FoldedStackBatch drain(long startTime, long endTime) {
+        final Map<StackKey, long[]> stacks = this.stacks;
+        final Map<String, TransactionCount> transactions = this.transactions;
+        final long droppedSamples = this.droppedSamples;
+        this.stacks = new HashMap<>();
+        this.transactions = new HashMap<>();
+        this.droppedSamples = 0;
+
+        if (stacks.isEmpty() && droppedSamples == 0) {
+            return new FoldedStackBatch(startTime, endTime, Collections.emptyList(), Collections.emptyList(), 0);
+        }
+
+        final List<FoldedStackBatch.FoldedStack> stackList = new ArrayList<>(stacks.size());
+        for (Map.Entry<StackKey, long[]> entry : stacks.entrySet()) {
+            final StackKey key = entry.getKey();
+            stackList.add(new FoldedStackBatch.FoldedStack(key.entryPoint, key.stack, entry.getValue()[0]));
+        }
+        final List<FoldedStackBatch.TransactionSample> transactionList = new ArrayList<>(transactions.size());
+        for (Map.Entry<String, TransactionCount> entry : transactions.entrySet()) {
+            final TransactionCount count = entry.getValue();
+            transactionList.add(new FoldedStackBatch.TransactionSample(entry.getKey(), count.entryPoint, count.samples));
+        }
+        return new FoldedStackBatch(startTime, endTime, stackList, transactionList, droppedSamples);
+    }
+
+    private static final class StackKey {
+        private final String entryPoint;
+        private final String stack;
+        private final int hashCode;
+
+        private StackKey(String entryPoint, String stack) {
+            this.entryPoint = entryPoint;
+            this.stack = stack;
+            this.hashCode = 31 * entryPoint.hashCode() + stack.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            StackKey that = (StackKey) o;
+            return entryPoint.equals(that.entryPoint) && stack.equals(that.stack);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final class TransactionCount {
+        private final String entryPoint;
+        private long samples = 1;
+
+        private TransactionCount(String entryPoint) {
+            this.entryPoint = entryPoint;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.monitor.sampling;
+
+import java.util.List;
+import java.util.Objects;
+
+public class FoldedStackBatch {
+
+    private final long startTime;
+    private final long endTime;
+    private final List<FoldedStack> stacks;
+    private final List<TransactionSample> transactions;
+    private final long droppedSamples;
+
+    public FoldedStackBatch(long startTime, long endTime, List<FoldedStack> stacks, List<TransactionSample> transactions, long droppedSamples) {
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.stacks = Objects.requireNonNull(stacks, "stacks");
+        this.transactions = Objects.requireNonNull(transactions, "transactions");
+        this.droppedSamples = droppedSamples;
+    }
+
+    public long getStartTime() {
+        return startTime;
+    }
+
+    public long getEndTime() {
+        return endTime;
+    }
+
+    public List<FoldedStack> getStacks() {
+        return stacks;
+    }
+
+    public List<TransactionSample> getTransactions() {
+        return transactions;
+    }
+
+    public long getDroppedSamples() {
+        return droppedSamples;
+    }
+
+    public boolean isEmpty() {
+        return stacks.isEmpty() && droppedSamples == 0;
+    }
+
+    public static class FoldedStack {
+        private final String entryPoint;
+        private final String stack;
+        private final long count;
+
+        public FoldedStack(String entryPoint, String stack, long count) {
+            this.entryPoint = Objects.requireNonNull(entryPoint, "entryPoint");
+            this.stack = Objects.requireNonNull(stack, "stack");
+            this.count = count;
+        }
+
+        public String getEntryPoint() {
+            return entryPoint;
+        }
+
+        public String getStack() {
+            return stack;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        @Override
+        public String toString() {
+            return entryPoint + ';' + stack + ' ' + count;
+        }
+    }
+
+    public static class TransactionSample {
+        private final String transactionId;
+        private final String entryPoint;
+        private final long samples;
+
+        public TransactionSample(String transactionId, String entryPoint, long samples) {
+            this.transactionId = Objects.requireNonNull(transactionId, "transactionId");
+            this.entryPoint = Objects.requireNonNull(entryPoint, "entryPoint");
+            this.samples = samples;
+        }
+
+        public String getTransactionId() {
+            return transactionId;
+        }
+
+        public String getEntryPoint() {
+            return entryPoint;
+        }
+
+        public long getSamples() {
+            return samples;
+        }
+
+        @Override
+        public String toString() {
+            return "TransactionSample{" +
+                    "transactionId='" + transactionId + '\'' +
+                    ", entryPoint='" + entryPoint + '\'' +
+                    ", samples=" + samples +
+                    '}';
+        }
+    }
+}
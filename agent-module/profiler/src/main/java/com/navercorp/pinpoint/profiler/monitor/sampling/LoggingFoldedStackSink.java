@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.monitor.sampling;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Logs a one-line summary of each batch. With DEBUG enabled, the stacks are also written
+ * in the collapsed stack format ("entryPoint;frame;frame count"), which flame graph tools read directly.
+ * <p>
+ * This is the only sink. Stack sampling is agent side only: batches are not sent to the collector,
+ * so there is no storage or flame graph view in the web.
+ */
+public class LoggingFoldedStackSink implements FoldedStackSink {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    @Override
+    public void send(FoldedStackBatch batch) {
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
+        logger.info("stack sampling {}~{} stacks:{} transactions:{} dropped:{}", batch.getStartTime(), batch.getEndTime(),
+                batch.getStacks().size(), batch.getTransactions().size(), batch.getDroppedSamples());
+        if (!logger.isDebugEnabled()) {
+            return;
+        }
+        for (FoldedStackBatch.FoldedStack stack : batch.getStacks()) {
+            logger.debug("{};{} {}", stack.getEntryPoint(), stack.getStack(), stack.getCount());
+        }
+        for (FoldedStackBatch.TransactionSample transaction : batch.getTransactions()) {
+            logger.debug("transaction {} {} samples:{}", transaction.getTransactionId(), transaction.getEntryPoint(), transaction.getSamples());
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.monitor.sampling;
+
+import com.navercorp.pinpoint.common.util.StringUtils;
+import com.navercorp.pinpoint.common.util.ThreadMXBeanUtils;
+import com.navercorp.pinpoint.profiler.context.active.ActiveTraceRepository;
+import com.navercorp.pinpoint.profiler.context.active.ActiveTraceSnapshot;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.management.ThreadInfo;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Periodically samples the stacks of the threads running active traces that are older than the threshold.
+ * <p>
+ * The cost of every round is measured, and the next round is delayed so that the sampling thread stays
+ * within the configured budget (percent of one cpu).
+ */
+public class StackSamplingTask implements Runnable {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final ActiveTraceRepository activeTraceRepository;
+    private final FoldedStackAggregator aggregator;
+    private final FoldedStackSink sink;
+
+    private final long intervalMillis;
+    private final long thresholdMillis;
+    private final int maxDepth;
+    private final double budgetRatio;
+    private final long flushIntervalMillis;
+
+    private final AtomicBoolean stop = new AtomicBoolean(false);
+
+    private long batchStartTime;
+
+    public StackSamplingTask(ActiveTraceRepository activeTraceRepository, FoldedStackAggregator aggregator, FoldedStackSink sink,
+                             long intervalMillis, long thresholdMillis, int maxDepth, double budgetPercent, long flushIntervalMillis) {
+        this.activeTraceRepository = Objects.requireNonNull(activeTraceRepository, "activeTraceRepository");
+        this.aggregator = Objects.requireNonNull(aggregator, "aggregator");
+        this.sink = Objects.requireNonNull(sink, "sink");
+        if (intervalMillis <= 0) {
+            throw new IllegalArgumentException("intervalMillis must be positive. intervalMillis:" + intervalMillis);
+        }
+        if (budgetPercent <= 0 || budgetPercent > 100) {
+            throw new IllegalArgumentException("budgetPercent must be in (0, 100]. budgetPercent:" + budgetPercent);
+        }
+        this.intervalMillis = intervalMillis;
+        this.thresholdMillis = thresholdMillis;
+        this.maxDepth = maxDepth;
+        this.budgetRatio = budgetPercent / 100;
+        this.flushIntervalMillis = flushIntervalMillis;
+    }
+
+    @Override
+    public void run() {
+        this.batchStartTime = System.currentTimeMillis();
+        while (!stop.get()) {
+            final long startNanos = System.nanoTime();
+            try {
+                sample(System.currentTimeMillis());
+            } catch (Throwable th) {
+                logger.warn("stack sampling failed", th);
+            }
+            final long costNanos = System.nanoTime() - startNanos;
+
+            flushIfNecessary(System.currentTimeMillis());
+            waitNextTask(nextDelayMillis(costNanos));
+        }
+        flush(System.currentTimeMillis());
+        logger.info("StackSamplingTask stop completed");
+    }
+
+    void sample(long currentTime) {
+        final List<ActiveTraceSnapshot> snapshots = activeTraceRepository.snapshot();
+        if (snapshots.isEmpty()) {
+            return;
+        }
+        final List<ActiveTraceSnapshot> targets = new ArrayList<>();
+        for (ActiveTraceSnapshot snapshot : snapshots) {
+            if (currentTime - snapshot.getStartTime() >= thresholdMillis && snapshot.getThreadId() > 0) {
+                targets.add(snapshot);
+            }
+        }
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        final long[] threadIds = new long[targets.size()];
+        for (int i = 0; i < threadIds.length; i++) {
+            threadIds[i] = targets.get(i).getThreadId();
+        }
+        final ThreadInfo[] threadInfos = ThreadMXBeanUtils.findThread(threadIds, maxDepth);
+        for (int i = 0; i < threadInfos.length; i++) {
+            final ThreadInfo threadInfo = threadInfos[i];
+            // thread terminated
+            if (threadInfo == null) {
+                continue;
+            }
+            final ActiveTraceSnapshot snapshot = targets.get(i);
+            aggregator.add(entryPoint(snapshot), snapshot.getTransactionId(), threadInfo.getStackTrace());
+        }
+    }
+
+    // url template of the handler. non spring traces, and traces sampled before the handler mapping, fall back to the rpc name
+    private static String entryPoint(ActiveTraceSnapshot snapshot) {
+        final String uriTemplate = snapshot.getUriTemplate();
+        if (StringUtils.hasLength(uriTemplate)) {
+            return uriTemplate;
+        }
+        return snapshot.getEntryPoint();
+    }
+
+    long nextDelayMillis(long costNanos) {
+        final long budgetDelayMillis = (long) (costNanos / budgetRatio / TimeUnit.MILLISECONDS.toNanos(1));
+        return Math.max(intervalMillis, budgetDelayMillis);
+    }
+
+    private void flushIfNecessary(long currentTime) {
+        if (currentTime - batchStartTime >= flushIntervalMillis) {
+            flush(currentTime);
+        }
+    }
+
+    void flush(long currentTime) {
+        final FoldedStackBatch batch = aggregator.drain(batchStartTime, currentTime);
+        this.batchStartTime = currentTime;
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            sink.send(batch);
+        } catch (Throwable th) {
+            logger.warn("Failed to send stack sampling batch", th);
+        }
+    }
+
+    private void waitNextTask(long delayMillis) {
+        if (!Thread.interrupted()) {
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException ignored) {
+                // The end of the job is confirmed by using the stop field.
+            }
+        }
+    }
+
+    void stop() {
+        if (stop.compareAndSet(false, true)) {
+            logger.info("StackSamplingTask stop started");
+        } else {
+            logger.info("StackSamplingTask already stopped");
+        }
+    }
+}
@@ -40,12 +40,14 @@ public class DefaultClassFileTransformerDispatcher implements ClassFileTransform
     private final ClassFileFilter unmodifiableFilter;
 
     private final LambdaClassFileResolver lambdaClassFileResolver;
+    private final UntransformedClassCache untransformedClassCache;
 
     public DefaultClassFileTransformerDispatcher(ClassFileFilter pinpointClassFilter,
                                                  ClassFileFilter unmodifiableFilter,
                                                  TransformerRegistry transformerRegistry,
                                                  DynamicTransformerRegistry dynamicTransformerRegistry,
-                                                 LambdaClassFileResolver lambdaClassFileResolver) {
+                                                 LambdaClassFileResolver lambdaClassFileResolver,
+                                                 UntransformedClassCache untransformedClassCache) {
 
         this.baseClassFileTransformer = new BaseClassFileTransformer(this.getClass().getClassLoader());
 
@@ -56,6 +58,7 @@ public class DefaultClassFileTransformerDispatcher implements ClassFileTransform
         this.transformerRegistry = Objects.requireNonNull(transformerRegistry, "transformerRegistry");
         this.dynamicTransformerRegistry = Objects.requireNonNull(dynamicTransformerRegistry, "dynamicTransformerRegistry");
         this.lambdaClassFileResolver = Objects.requireNonNull(lambdaClassFileResolver, "lambdaClassFileResolver");
+        this.untransformedClassCache = Objects.requireNonNull(untransformedClassCache, "untransformedClassCache");
     }
 
     @Override
@@ -81,8 +84,17 @@ public class DefaultClassFileTransformerDispatcher implements ClassFileTransform
             return null;
         }
 
+        // a decision read from super types may change without any change of this class file
+        final boolean cacheable = classBeingRedefined == null && !transformerRegistry.isHierarchyDependent(internalName);
+        if (cacheable && untransformedClassCache.contains(protectionDomain, internalName, classFileBuffer)) {
+            return null;
+        }
+
         final ClassFileTransformer transformer = this.transformerRegistry.findTransformer(classLoader, internalName, classFileBuffer);
         if (transformer == null) {
+            if (cacheable) {
+                untransformedClassCache.add(protectionDomain, internalName, classFileBuffer);
+            }
             return null;
         }
 
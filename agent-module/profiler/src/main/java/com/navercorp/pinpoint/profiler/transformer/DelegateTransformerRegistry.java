@@ -44,4 +44,10 @@ public class DelegateTransformerRegistry implements TransformerRegistry {
         }
         return null;
     }
+
+    @Override
+    public boolean isHierarchyDependent(String classInternalName) {
+        return this.transformerRegistry.isHierarchyDependent(classInternalName)
+                || this.debugTransformerRegistry.isHierarchyDependent(classInternalName);
+    }
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.transformer;
+
+import java.security.ProtectionDomain;
+
+public class EmptyUntransformedClassCache implements UntransformedClassCache {
+
+    public static final UntransformedClassCache INSTANCE = new EmptyUntransformedClassCache();
+
+    @Override
+    public boolean contains(ProtectionDomain protectionDomain, String classInternalName, byte[] classFileBuffer) {
+        return false;
+    }
+
+    @Override
+    public void add(ProtectionDomain protectionDomain, String classInternalName, byte[] classFileBuffer) {
+    }
+
+    @Override
+    public void save() {
+    }
+}
@@ -0,0 +1,390 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.transformer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.CodeSource;
+import java.security.ProtectionDomain;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+
+/**
+ * {@link UntransformedClassCache} backed by a memory-mapped file.
+ * <p>
+ * Entries are keyed by the class name and the checksums of the class file, and are sorted so that a lookup is a
+ * binary search over the mapped region. The file is only trusted when it was written with the same fingerprint
+ * (agent version, plugins and configuration) and every jar that supplied a cached class is unchanged, otherwise
+ * it is ignored and classes go through the transformer registry as usual.
+ * Only classes loaded from jar files are cached, because a changed class in a directory can not be detected cheaply.
+ * Classes whose lookup reads other classes, such as super types or meta annotations, are never added by the
+ * dispatcher, so a cached decision depends only on the class file and the fingerprint.
+ */
+public class MappedUntransformedClassCache implements UntransformedClassCache {
+
+    static final int MAGIC = 0x50505543;
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_SIZE = 4 + 4 + 8 + 4 + 4 + 8;
+    static final int ENTRY_SIZE = 8 + 4 + 4;
+
+    private static final Archive NOT_ARCHIVE = new Archive("", -1, -1);
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final Path file;
+    private final long fingerprint;
+    private final int maxEntries;
+
+    private final ByteBuffer entries;
+    private final int entryCount;
+    private final Map<String, Archive> loadedArchives;
+
+    private final ConcurrentMap<String, Archive> archiveCache = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Long> addedEntries = new ConcurrentHashMap<>();
+
+    public MappedUntransformedClassCache(Path file, long fingerprint, int maxEntries) {
+        this.file = Objects.requireNonNull(file, "file");
+        this.fingerprint = fingerprint;
+        this.maxEntries = maxEntries;
+
+        final Map<String, Archive> archives = new HashMap<>();
+        final ByteBuffer entries = load(archives);
+        if (entries == null) {
+            this.entries = ByteBuffer.allocate(0);
+            this.entryCount = 0;
+            this.loadedArchives = new HashMap<>();
+        } else {
+            this.entries = entries;
+            this.entryCount = entries.capacity() / ENTRY_SIZE;
+            this.loadedArchives = archives;
+            logger.info("untransformed class cache loaded. file:{} entries:{} archives:{}", file, entryCount, archives.size());
+        }
+    }
+
+    private ByteBuffer load(Map<String, Archive> archives) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE || fileSize > Integer.MAX_VALUE) {
+                logger.info("invalid untransformed class cache size:{}", fileSize);
+                return null;
+            }
+            final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize).order(ByteOrder.BIG_ENDIAN);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                logger.info("unknown untransformed class cache format. file:{}", file);
+                return null;
+            }
+            if (buffer.getLong() != fingerprint) {
+                logger.info("untransformed class cache fingerprint changed. file:{}", file);
+                return null;
+            }
+            final int archiveCount = buffer.getInt();
+            final int entryCount = buffer.getInt();
+            final long checksum = buffer.getLong();
+            if (archiveCount < 0 || entryCount < 0 || entryCount > maxEntries) {
+                logger.info("invalid untransformed class cache header. archives:{} entries:{}", archiveCount, entryCount);
+                return null;
+            }
+            for (int i = 0; i < archiveCount; i++) {
+                final Archive archive = readArchive(buffer);
+                final Archive current = newArchive(Paths.get(archive.path));
+                if (!archive.equals(current)) {
+                    logger.info("untransformed class cache invalidated, archive changed:{}", archive.path);
+                    return null;
+                }
+                archives.put(archive.path, archive);
+            }
+            if (buffer.remaining() != entryCount * ENTRY_SIZE) {
+                logger.info("invalid untransformed class cache entries. expected:{} remaining:{}", entryCount, buffer.remaining());
+                return null;
+            }
+            final ByteBuffer entries = buffer.slice();
+            if (checksum(entries.duplicate()) != checksum) {
+                logger.info("untransformed class cache checksum mismatch. file:{}", file);
+                return null;
+            }
+            return entries.asReadOnlyBuffer();
+        } catch (Exception e) {
+            logger.warn("Failed to load untransformed class cache. file:{}", file, e);
+            return null;
+        }
+    }
+
+    private static Archive readArchive(ByteBuffer buffer) {
+        final int length = buffer.getShort() & 0xFFFF;
+        final byte[] path = new byte[length];
+        buffer.get(path);
+        final long size = buffer.getLong();
+        final long lastModified = buffer.getLong();
+        return new Archive(new String(path, StandardCharsets.UTF_8), size, lastModified);
+    }
+
+    @Override
+    public boolean contains(ProtectionDomain protectionDomain, String classInternalName, byte[] classFileBuffer) {
+        if (entryCount == 0 || !isCacheable(classInternalName, classFileBuffer)) {
+            return false;
+        }
+        final Archive archive = getArchive(protectionDomain);
+        if (archive == NOT_ARCHIVE || !loadedArchives.containsKey(archive.path)) {
+            return false;
+        }
+        final long key = key(classInternalName, classFileBuffer);
+        final int index = binarySearch(key);
+        if (index < 0) {
+            return false;
+        }
+        final int offset = index * ENTRY_SIZE;
+        return entries.getInt(offset + 8) == classFileBuffer.length
+                && entries.getInt(offset + 12) == adler32(classFileBuffer);
+    }
+
+    private int binarySearch(long key) {
+        int low = 0;
+        int high = entryCount - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final long midKey = entries.getLong(mid * ENTRY_SIZE);
+            if (midKey < key) {
+                low = mid + 1;
+            } else if (midKey > key) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void add(ProtectionDomain protectionDomain, String classInternalName, byte[] classFileBuffer) {
+        if (!isCacheable(classInternalName, classFileBuffer)) {
+            return;
+        }
+        if (entryCount + addedEntries.size() >= maxEntries) {
+            return;
+        }
+        final Archive archive = getArchive(protectionDomain);
+        if (archive == NOT_ARCHIVE) {
+            return;
+        }
+        final long value = ((long) classFileBuffer.length << 32) | (adler32(classFileBuffer) & 0xFFFFFFFFL);
+        addedEntries.putIfAbsent(key(classInternalName, classFileBuffer), value);
+    }
+
+    private boolean isCacheable(String classInternalName, byte[] classFileBuffer) {
+        // generated classes (lambda, proxy) get a new name on every start
+        return classInternalName != null && classFileBuffer != null && !classInternalName.contains("$$");
+    }
+
+    private Archive getArchive(ProtectionDomain protectionDomain) {
+        if (protectionDomain == null) {
+            return NOT_ARCHIVE;
+        }
+        final CodeSource codeSource = protectionDomain.getCodeSource();
+        if (codeSource == null || codeSource.getLocation() == null) {
+            return NOT_ARCHIVE;
+        }
+        final URL location = codeSource.getLocation();
+        return archiveCache.computeIfAbsent(location.toExternalForm(), key -> {
+            final Path path = resolveArchive(location);
+            if (path == null || !Files.isRegularFile(path)) {
+                return NOT_ARCHIVE;
+            }
+            return newArchive(path);
+        });
+    }
+
+    static Path resolveArchive(URL location) {
+        try {
+            final String protocol = location.getProtocol();
+            if ("file".equals(protocol)) {
+                return Paths.get(location.toURI());
+            }
+            if ("jar".equals(protocol)) {
+                // jar:file:/app.jar!/BOOT-INF/lib/lib.jar!/
+                final String path = location.getPath();
+                final int separator = path.indexOf("!/");
+                return Paths.get(new URI(separator == -1 ? path : path.substring(0, separator)));
+            }
+            if ("nested".equals(protocol)) {
+                // nested:/app.jar/!BOOT-INF/lib/lib.jar
+                final String path = location.getPath();
+                final int separator = path.indexOf("/!");
+                return Paths.get(new URI("file", null, separator == -1 ? path : path.substring(0, separator), null));
+            }
+        } catch (Exception ignore) {
+            // unknown location
+        }
+        return null;
+    }
+
+    private static Archive newArchive(Path path) {
+        try {
+            final String absolutePath = path.toAbsolutePath().toString();
+            return new Archive(absolutePath, Files.size(path), Files.getLastModifiedTime(path).toMillis());
+        } catch (IOException e) {
+            return NOT_ARCHIVE;
+        }
+    }
+
+    @Override
+    public synchronized void save() {
+        if (addedEntries.isEmpty()) {
+            return;
+        }
+
+        final TreeMap<Long, Long> merged = new TreeMap<>();
+        for (int i = 0; i < entryCount; i++) {
+            final int offset = i * ENTRY_SIZE;
+            final long value = ((long) entries.getInt(offset + 8) << 32) | (entries.getInt(offset + 12) & 0xFFFFFFFFL);
+            merged.put(entries.getLong(offset), value);
+        }
+        for (Map.Entry<Long, Long> entry : addedEntries.entrySet()) {
+            if (merged.size() >= maxEntries) {
+                break;
+            }
+            merged.putIfAbsent(entry.getKey(), entry.getValue());
+        }
+
+        final Map<String, Archive> archives = new HashMap<>(loadedArchives);
+        for (Archive archive : archiveCache.values()) {
+            if (archive != NOT_ARCHIVE) {
+                archives.put(archive.path, archive);
+            }
+        }
+
+        try {
+            write(merged, archives);
+            logger.info("untransformed class cache saved. file:{} entries:{} archives:{}", file, merged.size(), archives.size());
+        } catch (Exception e) {
+            logger.warn("Failed to save untransformed class cache. file:{}", file, e);
+        }
+    }
+
+    private void write(TreeMap<Long, Long> merged, Map<String, Archive> archives) throws IOException {
+        final ByteBuffer entryBuffer = ByteBuffer.allocate(merged.size() * ENTRY_SIZE);
+        for (Map.Entry<Long, Long> entry : merged.entrySet()) {
+            entryBuffer.putLong(entry.getKey());
+            entryBuffer.putLong(entry.getValue());
+        }
+        entryBuffer.flip();
+
+        int archiveSize = 0;
+        for (Archive archive : archives.values()) {
+            archiveSize += 2 + archive.path.getBytes(StandardCharsets.UTF_8).length + 8 + 8;
+        }
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE + archiveSize);
+        header.putInt(MAGIC);
+        header.putInt(FORMAT_VERSION);
+        header.putLong(fingerprint);
+        header.putInt(archives.size());
+        header.putInt(merged.size());
+        header.putLong(checksum(entryBuffer.duplicate()));
+        for (Archive archive : archives.values()) {
+            final byte[] path = archive.path.getBytes(StandardCharsets.UTF_8);
+            header.putShort((short) path.length);
+            header.put(path);
+            header.putLong(archive.size);
+            header.putLong(archive.lastModified);
+        }
+        header.flip();
+
+        final Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        final Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                out.write(header.array(), 0, header.limit());
+                out.write(entryBuffer.array(), 0, entryBuffer.limit());
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    static long key(String classInternalName, byte[] classFileBuffer) {
+        final CRC32 crc32 = new CRC32();
+        crc32.update(classFileBuffer, 0, classFileBuffer.length);
+        return ((long) classInternalName.hashCode() << 32) | crc32.getValue();
+    }
+
+    private static int adler32(byte[] classFileBuffer) {
+        final Adler32 adler32 = new Adler32();
+        adler32.update(classFileBuffer, 0, classFileBuffer.length);
+        return (int) adler32.getValue();
+    }
+
+    private static long checksum(ByteBuffer buffer) {
+        final CRC32 crc32 = new CRC32();
+        crc32.update(buffer);
+        return crc32.getValue();
+    }
+
+    private static final class Archive {
+        private final String path;
+        private final long size;
+        private final long lastModified;
+
+        private Archive(String path, long size, long lastModified) {
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Archive archive = (Archive) o;
+            return size == archive.size && lastModified == archive.lastModified && path.equals(archive.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, size, lastModified);
+        }
+    }
+}
@@ -29,4 +29,12 @@ public class CallStackFactoryV2Test {
         CallStackFactoryV2 factory = new CallStackFactoryV2(64, 5000, 100);
         assertNotNull(factory.newCallStack());
     }
+
+    @Test
+    public void threadBoundCallStack() {
+        CallStackFactoryV2 factory = new CallStackFactoryV2(64, 5000, 100, true);
+        CallStack<SpanEvent> callStack = factory.newThreadBoundCallStack();
+        callStack.close();
+        assertNotNull(factory.newThreadBoundCallStack());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ThreadLocalCallStackPoolTest {
+
+    private final CallStack.Factory<SpanEvent> factory = new SpanEventFactory();
+
+    @Test
+    public void reuseOnSameThread() {
+        ThreadLocalCallStackPool<SpanEvent> pool = new ThreadLocalCallStackPool<>(SpanEvent.class);
+
+        DefaultCallStack<SpanEvent> first = new DefaultCallStack<>(factory, -1, -1, pool);
+        SpanEvent[] stack = first.stack;
+        push(first, 3);
+        pop(first, 3);
+        first.close();
+
+        DefaultCallStack<SpanEvent> second = new DefaultCallStack<>(factory, -1, -1, pool);
+        assertThat(second.stack).isSameAs(stack);
+        assertThat(second.empty()).isTrue();
+    }
+
+    @Test
+    public void nestedCallStack() {
+        ThreadLocalCallStackPool<SpanEvent> pool = new ThreadLocalCallStackPool<>(SpanEvent.class);
+
+        DefaultCallStack<SpanEvent> outer = new DefaultCallStack<>(factory, -1, -1, pool);
+        DefaultCallStack<SpanEvent> inner = new DefaultCallStack<>(factory, -1, -1, pool);
+        assertThat(inner.stack).isNotSameAs(outer.stack);
+    }
+
+    @Test
+    public void closeNotEmpty() {
+        ThreadLocalCallStackPool<SpanEvent> pool = new ThreadLocalCallStackPool<>(SpanEvent.class);
+
+        DefaultCallStack<SpanEvent> callStack = new DefaultCallStack<>(factory, -1, -1, pool);
+        SpanEvent[] stack = callStack.stack;
+        push(callStack, 5);
+        callStack.close();
+
+        assertThat(stack).containsOnlyNulls();
+        assertThat(callStack.empty()).isTrue();
+    }
+
+    @Test
+    public void pushAfterClose() {
+        ThreadLocalCallStackPool<SpanEvent> pool = new ThreadLocalCallStackPool<>(SpanEvent.class);
+
+        DefaultCallStack<SpanEvent> stale = new DefaultCallStack<>(factory, -1, -1, pool);
+        stale.close();
+        DefaultCallStack<SpanEvent> next = new DefaultCallStack<>(factory, -1, -1, pool);
+
+        push(stale, 2);
+        assertThat(next.stack).containsOnlyNulls();
+        assertThat(stale.getIndex()).isEqualTo(2);
+    }
+
+    @Test
+    public void highWater() {
+        ThreadLocalCallStackPool<SpanEvent> pool = new ThreadLocalCallStackPool<>(SpanEvent.class);
+
+        DefaultCallStack<SpanEvent> deep = new DefaultCallStack<>(factory, -1, -1, pool);
+        push(deep, 100);
+        pop(deep, 100);
+        deep.close();
+        assertThat(pool.getHighWater()).isEqualTo(100);
+
+        DefaultCallStack<SpanEvent> callStack = new DefaultCallStack<>(factory, -1, -1, pool);
+        assertThat(callStack.stack).hasSize(128);
+        for (int i = 0; i < 10; i++) {
+            callStack.close();
+            callStack = new DefaultCallStack<>(factory, -1, -1, pool);
+        }
+        // the large array is dropped once the high-water mark decays
+        assertThat(pool.getHighWater()).isLessThan(8);
+        assertThat(callStack.stack.length).isLessThan(128);
+    }
+
+    @Test
+    public void otherThread() throws Exception {
+        ThreadLocalCallStackPool<SpanEvent> pool = new ThreadLocalCallStackPool<>(SpanEvent.class);
+
+        DefaultCallStack<SpanEvent> callStack = new DefaultCallStack<>(factory, -1, -1, pool);
+        SpanEvent[] stack = callStack.stack;
+        callStack.close();
+
+        AtomicReference<SpanEvent[]> other = new AtomicReference<>();
+        Thread thread = new Thread(() -> other.set(new DefaultCallStack<>(factory, -1, -1, pool).stack));
+        thread.start();
+        thread.join();
+
+        assertThat(other.get()).isNotSameAs(stack);
+    }
+
+    @Test
+    public void stackSize() {
+        assertThat(ThreadLocalCallStackPool.stackSize(0)).isEqualTo(8);
+        assertThat(ThreadLocalCallStackPool.stackSize(7)).isEqualTo(8);
+        assertThat(ThreadLocalCallStackPool.stackSize(8)).isEqualTo(16);
+        assertThat(ThreadLocalCallStackPool.stackSize(15)).isEqualTo(16);
+        assertThat(ThreadLocalCallStackPool.stackSize(16)).isEqualTo(32);
+    }
+
+    private void push(CallStack<SpanEvent> callStack, int count) {
+        for (int i = 0; i < count; i++) {
+            callStack.push(factory.newInstance());
+        }
+    }
+
+    private void pop(CallStack<SpanEvent> callStack, int count) {
+        for (int i = 0; i < count; i++) {
+            callStack.pop();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class VirtualThreadAwareBinderTest {
+
+    @Test
+    public void unbound() {
+        Binder<String> binder = new VirtualThreadAwareBinder<>();
+
+        Reference<String> first = binder.get();
+        assertThat(first.get()).isNull();
+        assertThat(first.clear()).isNull();
+        assertThat(binder.get()).isSameAs(first);
+    }
+
+    @Test
+    public void bind() {
+        Binder<String> binder = new VirtualThreadAwareBinder<>();
+
+        binder.get().set("trace");
+        assertThat(binder.get().get()).isEqualTo("trace");
+
+        assertThat(binder.get().clear()).isEqualTo("trace");
+        assertThat(binder.get().get()).isNull();
+    }
+
+    @Test
+    public void platformThreadKeepsReference() {
+        Binder<String> binder = new VirtualThreadAwareBinder<>();
+
+        binder.get().set("trace");
+        Reference<String> bound = binder.get();
+        bound.clear();
+
+        assertThat(binder.get()).isSameAs(bound);
+    }
+
+    @Test
+    public void otherThread() throws Exception {
+        Binder<String> binder = new VirtualThreadAwareBinder<>();
+        binder.get().set("trace");
+
+        AtomicReference<String> other = new AtomicReference<>("not null");
+        Thread thread = new Thread(() -> other.set(binder.get().get()));
+        thread.start();
+        thread.join();
+
+        assertThat(other.get()).isNull();
+    }
+
+    @Test
+    public void virtualThreadReleasesReference() throws Exception {
+        final Method startVirtualThread = findStartVirtualThread();
+        assumeTrue(startVirtualThread != null, "virtual thread not supported");
+
+        Binder<String> binder = new VirtualThreadAwareBinder<>();
+        AtomicReference<Reference<String>> unbound = new AtomicReference<>();
+        AtomicReference<Reference<String>> released = new AtomicReference<>();
+        Runnable task = () -> {
+            unbound.set(binder.get());
+            binder.get().set("trace");
+            binder.get().clear();
+            released.set(binder.get());
+        };
+
+        Thread thread = (Thread) startVirtualThread.invoke(null, task);
+        thread.join();
+
+        assertThat(released.get()).isSameAs(unbound.get());
+    }
+
+    @Test
+    public void virtualThreadRebind() throws Exception {
+        final Method startVirtualThread = findStartVirtualThread();
+        assumeTrue(startVirtualThread != null, "virtual thread not supported");
+
+        Binder<String> binder = new VirtualThreadAwareBinder<>();
+        AtomicReference<String> rebound = new AtomicReference<>();
+        AtomicReference<String> removed = new AtomicReference<>("not null");
+        Runnable task = () -> {
+            binder.get().set("trace");
+            Reference<String> held = binder.get();
+            held.clear();
+            held.set("next");
+            rebound.set(binder.get().get());
+            binder.remove();
+            removed.set(binder.get().get());
+        };
+
+        Thread thread = (Thread) startVirtualThread.invoke(null, task);
+        thread.join();
+
+        assertThat(rebound.get()).isEqualTo("next");
+        assertThat(removed.get()).isNull();
+    }
+
+    private Method findStartVirtualThread() {
+        try {
+            return Thread.class.getMethod("startVirtualThread", Runnable.class);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.context.active;
+
+import com.navercorp.pinpoint.profiler.context.id.LocalTraceRoot;
+import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
+import com.navercorp.pinpoint.profiler.monitor.metric.response.ResponseTimeCollector;
+import com.navercorp.pinpoint.profiler.monitor.metric.response.ReuseResponseTimeCollector;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DefaultActiveTraceRepositoryTest {
+
+    @Test
+    public void registerAndPurge() {
+        ResponseTimeCollector collector = new ReuseResponseTimeCollector();
+        ActiveTraceRepository repository = new DefaultActiveTraceRepository(collector, 4);
+
+        ActiveTraceHandle handle1 = repository.register(traceRoot(1, 100));
+        ActiveTraceHandle handle2 = repository.register(traceRoot(2, 200));
+        assertThat(repository.snapshot()).extracting(ActiveTraceSnapshot::getLocalTransactionId).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(repository.getThreadIdList()).hasSize(2);
+
+        handle1.purge(150);
+        handle1.purge(300);
+        assertThat(repository.snapshot()).extracting(ActiveTraceSnapshot::getLocalTransactionId).containsExactly(2L);
+
+        handle2.purge(250);
+        assertThat(repository.snapshot()).isEmpty();
+        assertThat(collector.resetAndGetValue().getTransactionCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void full_evictOldest() {
+        ResponseTimeCollector collector = new ReuseResponseTimeCollector();
+        ActiveTraceRepository repository = new DefaultActiveTraceRepository(collector, 2);
+
+        ActiveTraceHandle handle1 = repository.register(traceRoot(1, 200));
+        repository.register(traceRoot(2, 100));
+        ActiveTraceHandle handle3 = repository.register(traceRoot(3, 300));
+        assertThat(handle3).isNotSameAs(ActiveTraceHandle.EMPTY_HANDLE);
+        assertThat(repository.snapshot()).extracting(ActiveTraceSnapshot::getLocalTransactionId).containsExactlyInAnyOrder(1L, 3L);
+
+        handle1.purge(400);
+        ActiveTraceHandle handle4 = repository.register(traceRoot(4, 400));
+        assertThat(handle4).isNotSameAs(ActiveTraceHandle.EMPTY_HANDLE);
+        assertThat(repository.snapshot()).extracting(ActiveTraceSnapshot::getLocalTransactionId).containsExactlyInAnyOrder(3L, 4L);
+        assertThat(collector.resetAndGetValue().getTransactionCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void leakedHandles() {
+        ResponseTimeCollector collector = new ReuseResponseTimeCollector();
+        ActiveTraceRepository repository = new DefaultActiveTraceRepository(collector, 64);
+
+        for (int i = 0; i < 64; i++) {
+            repository.register(traceRoot(i, 1 + i));
+        }
+        for (int i = 64; i < 1000; i++) {
+            ActiveTraceHandle handle = repository.register(traceRoot(i, 1000 + i));
+            assertThat(handle).isNotSameAs(ActiveTraceHandle.EMPTY_HANDLE);
+            handle.purge(2000 + i);
+        }
+        assertThat(collector.resetAndGetValue().getTransactionCount()).isEqualTo(1000 - 64);
+    }
+
+    @Test
+    public void histogram() {
+        ActiveTraceRepository repository = new DefaultActiveTraceRepository(new ReuseResponseTimeCollector(), 4);
+        assertThat(repository.getActiveTraceHistogram(1000).getCounter()).containsOnly(0);
+
+        repository.register(traceRoot(1, 900));
+        repository.register(traceRoot(2, 0));
+        ActiveTraceHistogram histogram = repository.getActiveTraceHistogram(1000);
+        assertThat(histogram.getFastCount()).isEqualTo(1);
+        assertThat(histogram.getCounter()).containsExactly(1, 0, 0, 0);
+    }
+
+    @Test
+    public void concurrentRegisterAndPurge() throws Exception {
+        final int threads = 8;
+        final int iterations = 10000;
+        ResponseTimeCollector collector = new ReuseResponseTimeCollector();
+        ActiveTraceRepository repository = new DefaultActiveTraceRepository(collector, threads);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                final long base = (long) t * iterations;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < iterations; i++) {
+                        ActiveTraceHandle handle = repository.register(traceRoot(base + i, 1));
+                        assertThat(handle).isNotSameAs(ActiveTraceHandle.EMPTY_HANDLE);
+                        handle.purge(2);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(repository.snapshot()).isEmpty();
+        assertThat(collector.resetAndGetValue().getTransactionCount()).isEqualTo((long) threads * iterations);
+    }
+
+    private static LocalTraceRoot traceRoot(long id, long startTime) {
+        return TraceRoot.local("agentId", startTime, id);
+    }
+}
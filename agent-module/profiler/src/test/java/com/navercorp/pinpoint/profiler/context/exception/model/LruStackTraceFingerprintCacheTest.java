@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.exception.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LruStackTraceFingerprintCacheTest {
+
+    private final AtomicLong clock = new AtomicLong(1000);
+
+    @Test
+    void compactRepeatedStackTrace() {
+        LruStackTraceFingerprintCache cache = new LruStackTraceFingerprintCache(10, 1000, clock::get);
+        StackTraceElement[] frames = new RuntimeException().getStackTrace();
+
+        assertThat(cache.compact(frames)).isSameAs(frames);
+
+        StackTraceElement[] compacted = cache.compact(frames);
+        assertThat(compacted).hasSize(1);
+        assertThat(compacted[0].getClassName()).isEqualTo(StackTraceFingerprintCache.FINGERPRINT_CLASS_NAME);
+        assertThat(compacted[0].getMethodName()).isEqualTo(LruStackTraceFingerprintCache.hash(frames));
+    }
+
+    @Test
+    void resendAfterExpire() {
+        LruStackTraceFingerprintCache cache = new LruStackTraceFingerprintCache(10, 1000, clock::get);
+        StackTraceElement[] frames = new RuntimeException().getStackTrace();
+
+        cache.compact(frames);
+        clock.addAndGet(999);
+        assertThat(cache.compact(frames)).hasSize(1);
+
+        clock.addAndGet(1);
+        assertThat(cache.compact(frames)).isSameAs(frames);
+    }
+
+    @Test
+    void evictLeastRecentlyUsed() {
+        LruStackTraceFingerprintCache cache = new LruStackTraceFingerprintCache(2, 1000, clock::get);
+        StackTraceElement[] frames1 = {new StackTraceElement("a.A", "a", "A.java", 1)};
+        StackTraceElement[] frames2 = {new StackTraceElement("b.B", "b", "B.java", 2)};
+        StackTraceElement[] frames3 = {new StackTraceElement("c.C", "c", null, 3)};
+
+        cache.compact(frames1);
+        cache.compact(frames2);
+        cache.compact(frames1);
+        cache.compact(frames3);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.compact(frames1)).hasSize(1)
+                .extracting(StackTraceElement::getClassName)
+                .containsExactly(StackTraceFingerprintCache.FINGERPRINT_CLASS_NAME);
+        assertThat(cache.compact(frames2)).isSameAs(frames2);
+    }
+
+    @Test
+    void emptyStackTrace() {
+        LruStackTraceFingerprintCache cache = new LruStackTraceFingerprintCache(2, 1000, clock::get);
+        StackTraceElement[] empty = new StackTraceElement[0];
+
+        assertThat(cache.compact(empty)).isSameAs(empty);
+        assertThat(cache.compact(empty)).isSameAs(empty);
+    }
+}
@@ -18,6 +18,7 @@ package com.navercorp.pinpoint.profiler.instrument.transformer;
 
 import com.navercorp.pinpoint.bootstrap.instrument.matcher.Matcher;
 import com.navercorp.pinpoint.bootstrap.instrument.matcher.Matchers;
+import com.navercorp.pinpoint.bootstrap.instrument.matcher.operand.InterfaceInternalNameMatcherOperand;
 import com.navercorp.pinpoint.bootstrap.instrument.matcher.operand.MatcherOperand;
 import com.navercorp.pinpoint.profiler.instrument.config.DefaultInstrumentMatcherCacheConfig;
 import com.navercorp.pinpoint.profiler.plugin.Foo;
@@ -38,6 +39,8 @@ import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * @author jaehong.kim
@@ -97,6 +100,23 @@ public class MatchableTransformerRegistryTest {
         assertEquals("dddddddddddd", keys[8]);
     }
 
+    @Test
+    public void hierarchyDependent() {
+        List<MatchableClassFileTransformer> matchableClassFileTransformerList = new ArrayList<>();
+        matchableClassFileTransformerList.add(new MockMatchableClassFileTransformer(Matchers.newPackageBasedMatcher("com.navercorp.pinpoint.profiler.plugin",
+                new InterfaceInternalNameMatcherOperand("java.lang.Runnable", true))));
+        matchableClassFileTransformerList.add(new MockMatchableClassFileTransformer(Matchers.newPackageBasedMatcher("com.navercorp.pinpoint.profiler.sender",
+                new InterfaceInternalNameMatcherOperand("java.lang.Runnable", false))));
+        matchableClassFileTransformerList.add(new MockMatchableClassFileTransformer(Matchers.newClassNameMatcher("com.navercorp.pinpoint.profiler.Named")));
+
+        MatchableTransformerRegistry registry = new MatchableTransformerRegistry(new DefaultInstrumentMatcherCacheConfig(), matchableClassFileTransformerList);
+
+        assertTrue(registry.isHierarchyDependent("com/navercorp/pinpoint/profiler/plugin/Foo"));
+        assertFalse(registry.isHierarchyDependent("com/navercorp/pinpoint/profiler/sender/Bar"));
+        assertFalse(registry.isHierarchyDependent("com/navercorp/pinpoint/profiler/Named"));
+        assertFalse(registry.isHierarchyDependent("com/navercorp/other/Baz"));
+    }
+
     @Test
     public void accumulatorTime() throws Exception {
         IndexValue value = new IndexValue(null, null);
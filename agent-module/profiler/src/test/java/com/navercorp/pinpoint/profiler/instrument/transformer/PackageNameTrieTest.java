@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.instrument.transformer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PackageNameTrieTest {
+
+    private static final String[] PACKAGES = {
+            "com/navercorp/pinpoint/profiler/plugin",
+            "com/navercorp/pinpoint/profiler/plugin/",
+            "com/navercorp/pinpoint",
+            "com/navercorp/pinpoint/profiler/sender",
+            "com/navercorp/pin",
+            "org/springframework/web/servlet/",
+            "org/springframework/web/servlet/DispatcherServlet",
+            "org/spring",
+            "",
+    };
+
+    private static final String[] CLASSES = {
+            "com/navercorp/pinpoint/profiler/plugin/Foo",
+            "com/navercorp/pinpoint/profiler/pluginx/Foo",
+            "com/navercorp/pinpoint/profiler/sender/Bar",
+            "com/navercorp/pinpointx/Foo",
+            "com/navercorp/Foo",
+            "org/springframework/web/servlet/DispatcherServlet",
+            "org/springframework/web/servlet/DispatcherServletImpl",
+            "org/springframework/web/Servlet",
+            "java/lang/String",
+            "Foo",
+    };
+
+    @Test
+    void find_sameAsStartsWithInLexicalOrder() {
+        PackageNameTrie<String> trie = new PackageNameTrie<>();
+        Map<String, Set<String>> reference = new TreeMap<>();
+        for (String packageName : PACKAGES) {
+            for (int i = 0; i < 2; i++) {
+                String value = packageName + "#" + i;
+                trie.put(packageName, value);
+                reference.computeIfAbsent(packageName, k -> new LinkedHashSet<>()).add(value);
+            }
+        }
+
+        for (String className : CLASSES) {
+            List<String> expected = new ArrayList<>();
+            for (Map.Entry<String, Set<String>> entry : reference.entrySet()) {
+                if (className.startsWith(entry.getKey())) {
+                    expected.addAll(entry.getValue());
+                }
+            }
+
+            List<String> actual = new ArrayList<>();
+            trie.find(className, value -> {
+                actual.add(value);
+                return null;
+            });
+            assertThat(actual).as(className).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void find_returnsFirstResult() {
+        PackageNameTrie<String> trie = new PackageNameTrie<>();
+        trie.put("com/foo", "short");
+        trie.put("com/foo/bar", "long");
+
+        List<String> visited = new ArrayList<>();
+        String result = trie.find("com/foo/bar/Baz", value -> {
+            visited.add(value);
+            return value;
+        });
+
+        assertThat(result).isEqualTo("short");
+        assertThat(visited).containsExactly("short");
+    }
+
+    @Test
+    void find_unknownPackage() {
+        PackageNameTrie<String> trie = new PackageNameTrie<>();
+        Arrays.asList("com/foo", "org/bar/").forEach(packageName -> trie.put(packageName, packageName));
+
+        String javaLang = trie.find("java/lang/String", value -> value);
+        assertThat(javaLang).isNull();
+        String partialSegment = trie.find("org/barbaz/Foo", value -> value);
+        assertThat(partialSegment).isNull();
+        assertThat(trie.size()).isEqualTo(2);
+    }
+
+    @Test
+    void put_duplicate() {
+        PackageNameTrie<String> trie = new PackageNameTrie<>();
+        assertThat(trie.isEmpty()).isTrue();
+
+        trie.put("com/foo", "a");
+        trie.put("com/foo", "a");
+
+        assertThat(trie.size()).isEqualTo(1);
+    }
+}
@@ -64,4 +64,24 @@ public class DefaultCachingSqlNormalizerTest {
         boolean newCache_parsingResult1_recached = normalizer.normalizedSql(parsingResult1_recached);
         Assertions.assertTrue(newCache_parsingResult1_recached);
     }
+
+    @Test
+    public void testNormalizedSql_rawSqlCache() {
+        SimpleCache<String, Integer> sqlCache = SimpleCache.newIdCache(16);
+        DefaultCachingSqlNormalizer<Integer> rawCacheNormalizer = new DefaultCachingSqlNormalizer<>(sqlCache, false, 16, 64);
+
+        ParsingResultInternal<Integer> parsingResult = new DefaultParsingResult("select * from member where id = 10");
+        Assertions.assertTrue(rawCacheNormalizer.normalizedSql(parsingResult), "newCacheState");
+
+        ParsingResultInternal<Integer> sameSql = new DefaultParsingResult("select * from member where id = 10");
+        Assertions.assertFalse(rawCacheNormalizer.normalizedSql(sameSql), "rawSqlCached");
+        Assertions.assertEquals(parsingResult.getId(), sameSql.getId());
+        Assertions.assertEquals(parsingResult.getSql(), sameSql.getSql());
+        Assertions.assertEquals("10", sameSql.getOutput());
+
+        ParsingResultInternal<Integer> otherLiteral = new DefaultParsingResult("select * from member where id = 20");
+        Assertions.assertFalse(rawCacheNormalizer.normalizedSql(otherLiteral), "normalizedSqlCached");
+        Assertions.assertEquals(parsingResult.getId(), otherLiteral.getId());
+        Assertions.assertEquals("20", otherLiteral.getOutput());
+    }
 }
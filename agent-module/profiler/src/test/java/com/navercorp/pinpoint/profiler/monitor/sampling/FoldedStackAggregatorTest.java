@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.monitor.sampling;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FoldedStackAggregatorTest {
+
+    private static final StackTraceElement[] STACK = {
+            new StackTraceElement("com.test.Dao", "select", "Dao.java", 10),
+            new StackTraceElement("com.test.Controller", "get", "Controller.java", 20),
+    };
+
+    @Test
+    public void fold() {
+        FoldedStackAggregator aggregator = new FoldedStackAggregator(10);
+        assertThat(aggregator.fold(STACK)).isEqualTo("com.test.Controller.get;com.test.Dao.select");
+    }
+
+    @Test
+    public void aggregate() {
+        FoldedStackAggregator aggregator = new FoldedStackAggregator(10);
+        aggregator.add("/users", "tx-1", STACK);
+        aggregator.add("/users", "tx-1", STACK);
+        aggregator.add("/orders", "tx-2", STACK);
+        aggregator.add(null, null, STACK);
+
+        FoldedStackBatch batch = aggregator.drain(1, 2);
+        assertThat(batch.getStacks()).extracting(FoldedStackBatch.FoldedStack::toString)
+                .containsExactlyInAnyOrder(
+                        "/users;com.test.Controller.get;com.test.Dao.select 2",
+                        "/orders;com.test.Controller.get;com.test.Dao.select 1",
+                        "unknown;com.test.Controller.get;com.test.Dao.select 1");
+        assertThat(batch.getTransactions()).extracting(FoldedStackBatch.TransactionSample::getSamples)
+                .containsExactlyInAnyOrder(2L, 1L);
+
+        assertThat(aggregator.drain(2, 3).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void maxStacks() {
+        FoldedStackAggregator aggregator = new FoldedStackAggregator(1);
+        aggregator.add("/users", null, STACK);
+        aggregator.add("/orders", null, STACK);
+        aggregator.add("/users", null, STACK);
+
+        FoldedStackBatch batch = aggregator.drain(1, 2);
+        assertThat(batch.getStacks()).hasSize(1);
+        assertThat(batch.getStacks().get(0).getCount()).isEqualTo(2);
+        assertThat(batch.getDroppedSamples()).isEqualTo(1);
+    }
+}
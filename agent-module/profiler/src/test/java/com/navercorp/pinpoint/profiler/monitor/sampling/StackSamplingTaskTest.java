@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.monitor.sampling;
+
+import com.navercorp.pinpoint.profiler.context.active.ActiveTraceRepository;
+import com.navercorp.pinpoint.profiler.context.active.ActiveTraceSnapshot;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StackSamplingTaskTest {
+
+    @Test
+    public void sampleLongRunningTraceOnly() throws Exception {
+        final CountDownLatch running = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(1);
+        Thread thread = new Thread(() -> {
+            running.countDown();
+            awaitQuietly(done);
+        });
+        thread.start();
+        running.await();
+        try {
+            ActiveTraceSnapshot slow = snapshot(thread.getId(), 0, "/slow", "tx-1");
+            ActiveTraceSnapshot fast = snapshot(thread.getId(), 9500, "/fast", "tx-2");
+            ActiveTraceRepository repository = Mockito.mock(ActiveTraceRepository.class);
+            Mockito.when(repository.snapshot()).thenReturn(Arrays.asList(slow, fast));
+
+            List<FoldedStackBatch> batches = new ArrayList<>();
+            StackSamplingTask task = new StackSamplingTask(repository, new FoldedStackAggregator(100), batches::add,
+                    100, 1000, 64, 1.0, 60000);
+            task.sample(10000);
+            task.flush(10001);
+
+            assertThat(batches).hasSize(1);
+            List<FoldedStackBatch.FoldedStack> stacks = batches.get(0).getStacks();
+            assertThat(stacks).hasSize(1);
+            assertThat(stacks.get(0).getEntryPoint()).isEqualTo("/slow");
+            assertThat(stacks.get(0).getStack()).contains(StackSamplingTaskTest.class.getName() + ".awaitQuietly");
+        } finally {
+            done.countDown();
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    @Test
+    public void entryPointWithoutUriTemplate() throws Exception {
+        final CountDownLatch running = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(1);
+        Thread thread = new Thread(() -> {
+            running.countDown();
+            awaitQuietly(done);
+        });
+        thread.start();
+        running.await();
+        try {
+            ActiveTraceSnapshot rpc = snapshot(thread.getId(), 0, null, "tx-1");
+            Mockito.when(rpc.getEntryPoint()).thenReturn("/rpc");
+            ActiveTraceRepository repository = Mockito.mock(ActiveTraceRepository.class);
+            Mockito.when(repository.snapshot()).thenReturn(Arrays.asList(rpc));
+
+            List<FoldedStackBatch> batches = new ArrayList<>();
+            StackSamplingTask task = new StackSamplingTask(repository, new FoldedStackAggregator(100), batches::add,
+                    100, 1000, 64, 1.0, 60000);
+            task.sample(10000);
+            task.flush(10001);
+
+            assertThat(batches.get(0).getStacks()).extracting(FoldedStackBatch.FoldedStack::getEntryPoint).containsExactly("/rpc");
+        } finally {
+            done.countDown();
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    @Test
+    public void nextDelay() {
+        StackSamplingTask task = new StackSamplingTask(Mockito.mock(ActiveTraceRepository.class), new FoldedStackAggregator(1), batch -> {
+        }, 100, 1000, 64, 1.0, 60000);
+
+        assertThat(task.nextDelayMillis(TimeUnit.MICROSECONDS.toNanos(100))).isEqualTo(100);
+        // 5ms per round with a 1% budget
+        assertThat(task.nextDelayMillis(TimeUnit.MILLISECONDS.toNanos(5))).isEqualTo(500);
+    }
+
+    private static ActiveTraceSnapshot snapshot(long threadId, long startTime, String uriTemplate, String transactionId) {
+        ActiveTraceSnapshot snapshot = Mockito.mock(ActiveTraceSnapshot.class);
+        Mockito.when(snapshot.getThreadId()).thenReturn(threadId);
+        Mockito.when(snapshot.getStartTime()).thenReturn(startTime);
+        Mockito.when(snapshot.getUriTemplate()).thenReturn(uriTemplate);
+        Mockito.when(snapshot.getTransactionId()).thenReturn(transactionId);
+        return snapshot;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.transformer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.CodeSource;
+import java.security.ProtectionDomain;
+import java.security.cert.Certificate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MappedUntransformedClassCacheTest {
+
+    private static final long FINGERPRINT = 0x1234L;
+
+    @TempDir
+    Path tempDir;
+
+    private Path cacheFile;
+    private Path jar;
+    private ProtectionDomain jarDomain;
+
+    private final byte[] classFile = "class-file".getBytes(StandardCharsets.UTF_8);
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        cacheFile = tempDir.resolve("cache").resolve("untransformed.cache");
+        jar = Files.write(tempDir.resolve("app.jar"), new byte[]{1, 2, 3});
+        jarDomain = protectionDomain(jar.toUri().toURL());
+    }
+
+    @Test
+    public void saveAndLoad() {
+        MappedUntransformedClassCache cache = new MappedUntransformedClassCache(cacheFile, FINGERPRINT, 100);
+        assertThat(cache.contains(jarDomain, "test/Foo", classFile)).isFalse();
+        cache.add(jarDomain, "test/Foo", classFile);
+        cache.save();
+
+        MappedUntransformedClassCache loaded = new MappedUntransformedClassCache(cacheFile, FINGERPRINT, 100);
+        assertThat(loaded.contains(jarDomain, "test/Foo", classFile)).isTrue();
+        assertThat(loaded.contains(jarDomain, "test/Bar", classFile)).isFalse();
+        assertThat(loaded.contains(jarDomain, "test/Foo", "changed".getBytes(StandardCharsets.UTF_8))).isFalse();
+    }
+
+    @Test
+    public void mergeOnSave() {
+        MappedUntransformedClassCache cache = new MappedUntransformedClassCache(cacheFile, FINGERPRINT, 100);
+        cache.add(jarDomain, "test/Foo", classFile);
+        cache.save();
+
+        MappedUntransformedClassCache second = new MappedUntransformedClassCache(cacheFile, FINGERPRINT, 100);
+        second.add(jarDomain, "test/Bar", classFile);
+        second.save();
+
+        MappedUntransformedClassCache loaded = new MappedUntransformedClassCache(cacheFile, FINGERPRINT, 100);
+        assertThat(loaded.contains(jarDomain, "test/Foo", classFile)).isTrue();
+        assertThat(loaded.contains(jarDomain, "test/Bar", classFile)).isTrue();
+    }
+
+    @Test
+    public void fingerprintChanged() {
+        MappedUntransformedClassCache cache = new MappedUntransformedClassCache(cacheFile, FINGERPRINT, 100);
+        cache.add(jarDomain, "test/Foo", classFile);
+        cache.save();
+
+        MappedUntransformedClassCache loaded = new MappedUntransformedClassCache(cacheFile, FINGERPRINT + 1, 100);
+        assertThat(loaded.contains(jarDomain, "test/Foo", classFile)).isFalse();
+    }
+
+    @Test
+    public void archiveChanged() throws IOException {
+        MappedUntransformedClassCache cache = new MappedUntransformedClassCache(cacheFile, FINGERPRINT, 100);
+        cache.add(jarDomain, "test/Foo", classFile);
+        cache.save();
+
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(Files.getLastModifiedTime(jar).toMillis() - 10000));
+
+        MappedUntransformedClassCache loaded = new MappedUntransformedClassCache(cacheFile, FINGERPRINT, 100);
+        assertThat(loaded.contains(jarDomain, "test/Foo", classFile)).isFalse();
+    }
+
+    @Test
+    public void corruptedFile() throws IOException {
+        MappedUntransformedClassCache cache = new MappedUntransformedClassCache(cacheFile, FINGERPRINT, 100);
+        cache.add(jarDomain, "test/Foo", classFile);
+        cache.save();
+
+        byte[] bytes = Files.readAllBytes(cacheFile);
+        bytes[bytes.length - 1] ^= 0x1;
+        Files.write(cacheFile, bytes);
+
+        MappedUntransformedClassCache loaded = new MappedUntransformedClassCache(cacheFile, FINGERPRINT, 100);
+        assertThat(loaded.contains(jarDomain, "test/Foo", classFile)).isFalse();
+    }
+
+    @Test
+    public void skipNotArchiveAndGeneratedClass() throws IOException {
+        ProtectionDomain directoryDomain = protectionDomain(tempDir.toUri().toURL());
+
+        MappedUntransformedClassCache cache = new MappedUntransformedClassCache(cacheFile, FINGERPRINT, 100);
+        cache.add(directoryDomain, "test/Foo", classFile);
+        cache.add(null, "test/Bar", classFile);
+        cache.add(jarDomain, "test/Foo$$Lambda$1", classFile);
+        cache.save();
+
+        assertThat(Files.exists(cacheFile)).isFalse();
+    }
+
+    @Test
+    public void maxEntries() {
+        MappedUntransformedClassCache cache = new MappedUntransformedClassCache(cacheFile, FINGERPRINT, 1);
+        cache.add(jarDomain, "test/Foo", classFile);
+        cache.add(jarDomain, "test/Bar", classFile);
+        cache.save();
+
+        MappedUntransformedClassCache loaded = new MappedUntransformedClassCache(cacheFile, FINGERPRINT, 1);
+        assertThat(loaded.contains(jarDomain, "test/Foo", classFile)).isTrue();
+        assertThat(loaded.contains(jarDomain, "test/Bar", classFile)).isFalse();
+    }
+
+    @Test
+    public void resolveArchive() throws IOException {
+        URL nestedJar = new URL("jar:" + jar.toUri() + "!/BOOT-INF/lib/lib.jar!/");
+        assertThat(MappedUntransformedClassCache.resolveArchive(nestedJar)).isEqualTo(jar);
+        assertThat(MappedUntransformedClassCache.resolveArchive(jar.toUri().toURL())).isEqualTo(jar);
+    }
+
+    private static ProtectionDomain protectionDomain(URL location) {
+        return new ProtectionDomain(new CodeSource(location, (Certificate[]) null), null);
+    }
+}
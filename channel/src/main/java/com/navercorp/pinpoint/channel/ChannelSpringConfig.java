@@ -16,23 +16,53 @@
 package com.navercorp.pinpoint.channel;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.navercorp.pinpoint.channel.memory.InMemoryChannelProvider;
 import com.navercorp.pinpoint.channel.serde.JacksonSerdeFactory;
 import com.navercorp.pinpoint.channel.serde.JsonSerdeFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * @author youngjin.kim2
  */
 @Configuration(proxyBeanMethods = false)
-public class ChannelSpringConfig {
+public class ChannelSpringConfig implements DisposableBean {
 
+    /**
+     * Schemes served in-process instead of by their registered provider, e.g. {@code pubsub,stream}.
+     * Only for a single JVM running both the publisher and the subscriber side.
+     */
+    @Value("${pinpoint.channel.in-memory.schemes:}")
+    String[] inMemorySchemes;
+
+    @Value("${pinpoint.channel.in-memory.queue-capacity:" + InMemoryChannelProvider.DEFAULT_QUEUE_CAPACITY + "}")
+    int inMemoryQueueCapacity;
+
+    private final List<InMemoryChannelProvider> inMemoryProviders = new ArrayList<>();
 
     @Bean
     public ChannelProviderRepository channelProviderRepository(List<ChannelProviderRegistry> registries) {
-        return new ChannelProviderRepository(registries);
+        List<ChannelProviderRegistry> result = new ArrayList<>(registries);
+        for (String scheme : inMemorySchemes) {
+            InMemoryChannelProvider provider = InMemoryChannelProvider.shared(scheme, inMemoryQueueCapacity);
+            this.inMemoryProviders.add(provider);
+            // registered last to replace the provider of the same scheme
+            result.add(ChannelProviderRegistry.of(scheme, provider));
+        }
+        return new ChannelProviderRepository(result);
+    }
+
+    @Override
+    public void destroy() {
+        for (InMemoryChannelProvider provider : this.inMemoryProviders) {
+            provider.close();
+        }
+        this.inMemoryProviders.clear();
     }
 
     @Bean
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.channel.memory;
+
+import com.navercorp.pinpoint.channel.AbstractSubscription;
+import com.navercorp.pinpoint.channel.ChannelProvider;
+import com.navercorp.pinpoint.channel.PubChannel;
+import com.navercorp.pinpoint.channel.SubChannel;
+import com.navercorp.pinpoint.channel.SubConsumer;
+import com.navercorp.pinpoint.channel.Subscription;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process {@link ChannelProvider} for deployments where the publisher and the subscriber live in the same JVM.
+ * <br>
+ * Messages are handed over without any network round trip. Each channel keeps a bounded queue which is drained
+ * on the executor, so the publisher never runs the consumers, and the messages of a channel are consumed in order.
+ * Like Redis pub/sub, a message published while nobody subscribes is dropped, and so is a message published while
+ * the queue of the channel is full: the publisher is never blocked by a slow consumer.
+ *
+ * @see #shared(String, int)
+ */
+public class InMemoryChannelProvider implements ChannelProvider, AutoCloseable {
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    private static final Map<String, InMemoryChannelProvider> SHARED = new ConcurrentHashMap<>();
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final Executor executor;
+    private final int queueCapacity;
+    private final Map<String, InMemoryChannel> channels = new ConcurrentHashMap<>();
+    private final LongAdder droppedCount = new LongAdder();
+
+    // set only for the shared providers, which own their executor
+    private final String sharedScheme;
+    private int references;
+
+    public InMemoryChannelProvider(Executor executor) {
+        this(executor, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public InMemoryChannelProvider(Executor executor, int queueCapacity) {
+        this(executor, queueCapacity, null);
+    }
+
+    private InMemoryChannelProvider(Executor executor, int queueCapacity, String sharedScheme) {
+        this.executor = Objects.requireNonNull(executor, "executor");
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("queueCapacity must be positive. queueCapacity:" + queueCapacity);
+        }
+        this.queueCapacity = queueCapacity;
+        this.sharedScheme = sharedScheme;
+    }
+
+    /**
+     * Acquires the JVM-wide provider of the scheme, so that the application contexts in a JVM share their channels.
+     * The queue capacity of the first acquisition wins.
+     * Every acquisition must be {@link #close() closed}; the executor is shut down with the last one.
+     */
+    public static InMemoryChannelProvider shared(String scheme, int queueCapacity) {
+        Objects.requireNonNull(scheme, "scheme");
+        return SHARED.compute(scheme, (key, provider) -> {
+            if (provider == null) {
+                provider = newSharedProvider(key, queueCapacity);
+            }
+            provider.references++;
+            return provider;
+        });
+    }
+
+    private static InMemoryChannelProvider newSharedProvider(String scheme, int queueCapacity) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("InMemoryChannel-" + scheme + '-');
+        threadFactory.setDaemon(true);
+        int threads = Runtime.getRuntime().availableProcessors();
+        return new InMemoryChannelProvider(Executors.newFixedThreadPool(threads, threadFactory), queueCapacity, scheme);
+    }
+
+    /**
+     * Releases an acquisition of a {@link #shared(String, int) shared} provider.
+     * The executor of a provider built by its constructor belongs to the caller and is left untouched.
+     */
+    @Override
+    public void close() {
+        if (this.sharedScheme == null) {
+            return;
+        }
+        SHARED.computeIfPresent(this.sharedScheme, (key, provider) -> {
+            if (provider != this || --provider.references > 0) {
+                return provider;
+            }
+            if (provider.executor instanceof ExecutorService executorService) {
+                executorService.shutdown();
+            }
+            return null;
+        });
+    }
+
+    /**
+     * @return the number of messages dropped because the queue of their channel was full
+     */
+    public long getDroppedCount() {
+        return this.droppedCount.sum();
+    }
+
+    @Override
+    public PubChannel getPubChannel(String key) {
+        Objects.requireNonNull(key, "key");
+        // resolved on every publish: the channel is released when its last consumer unsubscribes
+        return content -> {
+            InMemoryChannel channel = this.channels.get(key);
+            if (channel != null) {
+                channel.publish(content);
+            }
+        };
+    }
+
+    @Override
+    public SubChannel getSubChannel(String key) {
+        return new InMemorySubChannel(Objects.requireNonNull(key, "key"));
+    }
+
+    int getChannelCount() {
+        return this.channels.size();
+    }
+
+    private class InMemorySubChannel implements SubChannel {
+
+        private final String key;
+
+        InMemorySubChannel(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public Subscription subscribe(SubConsumer consumer) {
+            Objects.requireNonNull(consumer, "consumer");
+            channels.compute(this.key, (k, channel) -> {
+                if (channel == null) {
+                    channel = new InMemoryChannel(k);
+                }
+                channel.consumers.add(consumer);
+                return channel;
+            });
+            return new InMemorySubscription(this, consumer);
+        }
+
+        @Override
+        public void unsubscribe(Subscription subscription) {
+            if (subscription instanceof InMemorySubscription memorySubscription) {
+                channels.computeIfPresent(this.key, (k, channel) -> {
+                    channel.consumers.remove(memorySubscription.consumer);
+                    return channel.consumers.isEmpty() ? null : channel;
+                });
+            }
+        }
+    }
+
+    private static class InMemorySubscription extends AbstractSubscription {
+
+        private final SubConsumer consumer;
+
+        InMemorySubscription(SubChannel subChannel, SubConsumer consumer) {
+            super(subChannel);
+            this.consumer = consumer;
+        }
+    }
+
+    private class InMemoryChannel {
+
+        private final String key;
+        private final List<SubConsumer> consumers = new CopyOnWriteArrayList<>();
+        private final BlockingQueue<byte[]> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+
+        InMemoryChannel(String key) {
+            this.key = key;
+        }
+
+        void publish(byte[] content) {
+            if (!this.queue.offer(content)) {
+                // drop the newest: the queued messages keep their order
+                droppedCount.increment();
+                logger.debug("Queue is full, message dropped. key:{} capacity:{}", this.key, queueCapacity);
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (this.draining.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                byte[] content;
+                while ((content = this.queue.poll()) != null) {
+                    for (SubConsumer consumer : this.consumers) {
+                        consume(consumer, content);
+                    }
+                }
+            } finally {
+                this.draining.set(false);
+                if (!this.queue.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+
+        private void consume(SubConsumer consumer, byte[] content) {
+            try {
+                consumer.consume(content);
+            } catch (Throwable th) {
+                logger.warn("Failed to consume message. key:{}", this.key, th);
+            }
+        }
+    }
+
+}
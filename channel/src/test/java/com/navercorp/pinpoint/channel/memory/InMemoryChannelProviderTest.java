@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.channel.memory;
+
+import com.navercorp.pinpoint.channel.PubChannel;
+import com.navercorp.pinpoint.channel.SubChannel;
+import com.navercorp.pinpoint.channel.Subscription;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryChannelProviderTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final InMemoryChannelProvider provider = new InMemoryChannelProvider(executor);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void publishInOrder() throws InterruptedException {
+        int count = 1000;
+        List<String> received = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(count);
+
+        SubChannel sub = provider.getSubChannel("key");
+        sub.subscribe(content -> {
+            received.add(new String(content));
+            latch.countDown();
+            return true;
+        });
+
+        PubChannel pub = provider.getPubChannel("key");
+        for (int i = 0; i < count; i++) {
+            pub.publish(String.valueOf(i).getBytes());
+        }
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(received).hasSize(count);
+        for (int i = 0; i < count; i++) {
+            assertThat(received.get(i)).isEqualTo(String.valueOf(i));
+        }
+    }
+
+    @Test
+    void keyIsolation() throws InterruptedException {
+        List<String> received = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        provider.getSubChannel("key-1").subscribe(content -> {
+            received.add(new String(content));
+            latch.countDown();
+            return true;
+        });
+
+        provider.getPubChannel("key-2").publish("other".getBytes());
+        provider.getPubChannel("key-1").publish("mine".getBytes());
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(received).containsExactly("mine");
+    }
+
+    @Test
+    void unsubscribe() {
+        SubChannel sub = provider.getSubChannel("key");
+        Subscription first = sub.subscribe(content -> true);
+        Subscription second = sub.subscribe(content -> true);
+        assertThat(provider.getChannelCount()).isEqualTo(1);
+
+        first.unsubscribe();
+        assertThat(provider.getChannelCount()).isEqualTo(1);
+
+        second.unsubscribe();
+        assertThat(provider.getChannelCount()).isZero();
+
+        // no subscriber: dropped
+        provider.getPubChannel("key").publish("dropped".getBytes());
+        assertThat(provider.getChannelCount()).isZero();
+    }
+
+    @Test
+    void dropNewestWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> received = new CopyOnWriteArrayList<>();
+        InMemoryChannelProvider bounded = new InMemoryChannelProvider(executor, 2);
+        bounded.getSubChannel("key").subscribe(content -> {
+            blocked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            received.add(new String(content));
+            return true;
+        });
+
+        PubChannel pub = bounded.getPubChannel("key");
+        pub.publish("0".getBytes());
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        // the consumer holds "0": "1" and "2" fill the queue
+        for (int i = 1; i < 5; i++) {
+            pub.publish(String.valueOf(i).getBytes());
+        }
+        assertThat(bounded.getDroppedCount()).isEqualTo(2);
+
+        release.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(received).containsExactly("0", "1", "2");
+    }
+
+    @Test
+    void shared() {
+        InMemoryChannelProvider pubsub = InMemoryChannelProvider.shared("pubsub", 16);
+        InMemoryChannelProvider stream = InMemoryChannelProvider.shared("stream", 16);
+        try {
+            assertThat(InMemoryChannelProvider.shared("pubsub", 16)).isSameAs(pubsub);
+            pubsub.close();
+            assertThat(stream).isNotSameAs(pubsub);
+        } finally {
+            pubsub.close();
+            stream.close();
+        }
+    }
+
+    @Test
+    void sharedShutdownWithLastRelease() {
+        InMemoryChannelProvider first = InMemoryChannelProvider.shared("lifecycle", 16);
+        InMemoryChannelProvider second = InMemoryChannelProvider.shared("lifecycle", 16);
+        assertThat(second).isSameAs(first);
+
+        first.close();
+        assertThat(InMemoryChannelProvider.shared("lifecycle", 16)).isSameAs(first);
+        first.close();
+        second.close();
+
+        InMemoryChannelProvider next = InMemoryChannelProvider.shared("lifecycle", 16);
+        try {
+            assertThat(next).isNotSameAs(first);
+        } finally {
+            next.close();
+        }
+    }
+}
@@ -221,6 +221,12 @@ public interface Buffer {
 
     ByteBuffer wrapByteBuffer();
 
+    /**
+     * Returns a buffer over the remaining bytes that shares this buffer's content.
+     * The offsets of the two buffers are independent.
+     */
+    Buffer slice();
+
     void setOffset(int offset);
 
     void skip(int offset);
@@ -0,0 +1,560 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.buffer;
+
+import com.navercorp.pinpoint.common.util.BytesUtils;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * {@link Buffer} over a {@link ByteBuffer}, heap or direct.
+ * <p>
+ * Offsets are absolute indices of the wrapped ByteBuffer, the same way {@link OffsetFixedBuffer}
+ * uses indices of its backing array. The ByteBuffer's position and limit are never modified.
+ * Primitive reads and writes go through ByteBuffer view {@link VarHandle}s, so no bytes are copied
+ * except for the String and byte[] values that are returned.
+ */
+public class ByteBufferFixedBuffer implements Buffer {
+
+    private static final VarHandle BYTE_BUFFER_SHORT = MethodHandles.byteBufferViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle BYTE_BUFFER_INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle BYTE_BUFFER_LONG = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    private final ByteBuffer buffer;
+    private final int startOffset;
+    private final int endOffset;
+    private final StringAllocator stringAllocator;
+    private int offset;
+
+    /**
+     * Wraps the bytes between the position and the limit of the given buffer.
+     */
+    public ByteBufferFixedBuffer(ByteBuffer buffer) {
+        this(buffer, buffer.position(), buffer.remaining(), StringAllocator.DEFAULT_ALLOCATOR);
+    }
+
+    public ByteBufferFixedBuffer(ByteBuffer buffer, int startOffset, int length) {
+        this(buffer, startOffset, length, StringAllocator.DEFAULT_ALLOCATOR);
+    }
+
+    public ByteBufferFixedBuffer(ByteBuffer buffer, int startOffset, int length, StringAllocator stringAllocator) {
+        this.buffer = Objects.requireNonNull(buffer, "buffer");
+        Objects.checkFromIndexSize(startOffset, length, buffer.limit());
+        this.startOffset = startOffset;
+        this.endOffset = startOffset + length;
+        this.offset = startOffset;
+        this.stringAllocator = Objects.requireNonNull(stringAllocator, "stringAllocator");
+    }
+
+    @Override
+    public void putPadBytes(byte[] bytes, int totalLength) {
+        if (bytes == null) {
+            bytes = EMPTY;
+        }
+        if (bytes.length > totalLength) {
+            throw new IndexOutOfBoundsException("bytes too big:" + bytes.length + " totalLength:" + totalLength);
+        }
+        putBytes(bytes);
+        for (int i = bytes.length; i < totalLength; i++) {
+            putByte((byte) 0);
+        }
+    }
+
+    @Override
+    public void putPrefixedBytes(byte[] bytes) {
+        if (bytes == null) {
+            putSVInt(NULL);
+        } else {
+            putSVInt(bytes.length);
+            putBytes(bytes);
+        }
+    }
+
+    @Override
+    public void putNullTerminatedString(String string) {
+        if (string == null) {
+            throw new NullPointerException("string");
+        }
+        final byte[] bytes = BytesUtils.toBytes(string);
+        final int nulIndex = ByteArrayUtils.indexOf(bytes, NUL_DELIMITER, 0, bytes.length);
+        if (nulIndex != -1) {
+            throw new IllegalArgumentException("embedded NUL(0x00) byte at index " + nulIndex + "; not allowed in null-terminated value");
+        }
+        putBytes(bytes);
+        putByte(NUL_DELIMITER);
+    }
+
+    @Override
+    public void putUnsignedBytePrefixedBytes(byte[] bytes) {
+        if (bytes == null) {
+            putByte(BYTE_NULL);
+        } else {
+            if (bytes.length > UNSIGNED_BYTE_MAX) {
+                throw new IndexOutOfBoundsException("too large bytes length:" + bytes.length);
+            }
+            putByte(BytesUtils.toUnsignedByte(bytes.length));
+            putBytes(bytes);
+        }
+    }
+
+    @Override
+    public void put2PrefixedBytes(byte[] bytes) {
+        if (bytes == null) {
+            putShort((short) NULL);
+        } else {
+            if (bytes.length > Short.MAX_VALUE) {
+                throw new IndexOutOfBoundsException("too large bytes length:" + bytes.length);
+            }
+            putShort((short) bytes.length);
+            putBytes(bytes);
+        }
+    }
+
+    @Override
+    public void put4PrefixedBytes(byte[] bytes) {
+        if (bytes == null) {
+            putInt(NULL);
+        } else {
+            putInt(bytes.length);
+            putBytes(bytes);
+        }
+    }
+
+    @Override
+    public void putPadString(String string, int totalLength) {
+        putPadBytes(BytesUtils.toBytes(string), totalLength);
+    }
+
+    @Override
+    public void putPrefixedString(String string) {
+        putPrefixedBytes(BytesUtils.toBytes(string));
+    }
+
+    @Override
+    public void putUnsignedBytePrefixedString(String string) {
+        putUnsignedBytePrefixedBytes(BytesUtils.toBytes(string));
+    }
+
+    @Override
+    public void put2PrefixedString(String string) {
+        put2PrefixedBytes(BytesUtils.toBytes(string));
+    }
+
+    @Override
+    public void put4PrefixedString(String string) {
+        put4PrefixedBytes(BytesUtils.toBytes(string));
+    }
+
+    @Override
+    public void putByte(byte v) {
+        checkAvailable(1);
+        this.buffer.put(this.offset++, v);
+    }
+
+    @Override
+    public void putBoolean(boolean v) {
+        putByte(v ? (byte) BOOLEAN_TRUE : (byte) BOOLEAN_FALSE);
+    }
+
+    @Override
+    public void putInt(int v) {
+        checkAvailable(ByteArrayUtils.INT_BYTE_LENGTH);
+        BYTE_BUFFER_INT.set(this.buffer, this.offset, v);
+        this.offset += ByteArrayUtils.INT_BYTE_LENGTH;
+    }
+
+    @Override
+    public void putVInt(int v) {
+        if (v >= 0) {
+            putVar32(v);
+        } else {
+            putVar64(v);
+        }
+    }
+
+    @Override
+    public void putSVInt(int v) {
+        putVar32(BytesUtils.intToZigZag(v));
+    }
+
+    private void putVar32(int v) {
+        while ((v & ~0x7F) != 0) {
+            putByte((byte) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        putByte((byte) v);
+    }
+
+    @Override
+    public void putShort(short v) {
+        checkAvailable(ByteArrayUtils.SHORT_BYTE_LENGTH);
+        BYTE_BUFFER_SHORT.set(this.buffer, this.offset, v);
+        this.offset += ByteArrayUtils.SHORT_BYTE_LENGTH;
+    }
+
+    @Override
+    public void putLong(long v) {
+        checkAvailable(ByteArrayUtils.LONG_BYTE_LENGTH);
+        BYTE_BUFFER_LONG.set(this.buffer, this.offset, v);
+        this.offset += ByteArrayUtils.LONG_BYTE_LENGTH;
+    }
+
+    @Override
+    public void putVLong(long v) {
+        putVar64(v);
+    }
+
+    @Override
+    public void putSVLong(long v) {
+        putVar64(BytesUtils.longToZigZag(v));
+    }
+
+    private void putVar64(long v) {
+        while ((v & ~0x7FL) != 0) {
+            putByte((byte) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        putByte((byte) v);
+    }
+
+    @Override
+    public void putDouble(double v) {
+        putLong(Double.doubleToRawLongBits(v));
+    }
+
+    @Override
+    public void putVDouble(double v) {
+        putVLong(Double.doubleToRawLongBits(v));
+    }
+
+    @Override
+    public void putSVDouble(double v) {
+        putSVLong(Double.doubleToRawLongBits(v));
+    }
+
+    @Override
+    public void putBytes(byte[] v) {
+        if (v == null) {
+            throw new NullPointerException("v");
+        }
+        checkAvailable(v.length);
+        this.buffer.put(this.offset, v);
+        this.offset += v.length;
+    }
+
+    @Override
+    public byte getByte(int index) {
+        return this.buffer.get(this.startOffset + index);
+    }
+
+    @Override
+    public byte readByte() {
+        checkAvailable(1);
+        return this.buffer.get(this.offset++);
+    }
+
+    @Override
+    public int readUnsignedByte() {
+        return readByte() & 0xff;
+    }
+
+    @Override
+    public boolean readBoolean() {
+        return readByte() == BOOLEAN_TRUE;
+    }
+
+    @Override
+    public int readInt() {
+        checkAvailable(ByteArrayUtils.INT_BYTE_LENGTH);
+        final int v = (int) BYTE_BUFFER_INT.get(this.buffer, this.offset);
+        this.offset += ByteArrayUtils.INT_BYTE_LENGTH;
+        return v;
+    }
+
+    @Override
+    public int readVInt() {
+        return (int) readVar64();
+    }
+
+    @Override
+    public int readSVInt() {
+        return BytesUtils.zigzagToInt(readVInt());
+    }
+
+    @Override
+    public short readShort() {
+        checkAvailable(ByteArrayUtils.SHORT_BYTE_LENGTH);
+        final short v = (short) BYTE_BUFFER_SHORT.get(this.buffer, this.offset);
+        this.offset += ByteArrayUtils.SHORT_BYTE_LENGTH;
+        return v;
+    }
+
+    @Override
+    public long readLong() {
+        checkAvailable(ByteArrayUtils.LONG_BYTE_LENGTH);
+        final long v = (long) BYTE_BUFFER_LONG.get(this.buffer, this.offset);
+        this.offset += ByteArrayUtils.LONG_BYTE_LENGTH;
+        return v;
+    }
+
+    @Override
+    public long readVLong() {
+        return readVar64();
+    }
+
+    private long readVar64() {
+        int pos = this.offset;
+        final int end = this.endOffset;
+        long result = 0;
+        for (int shift = 0; shift < 64 && pos < end; shift += 7) {
+            final byte b = this.buffer.get(pos++);
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                this.offset = pos;
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("invalid varLong. start offset:" + this.offset + " readOffset:" + pos);
+    }
+
+    @Override
+    public long readSVLong() {
+        return BytesUtils.zigzagToLong(readVLong());
+    }
+
+    @Override
+    public double readDouble() {
+        return Double.longBitsToDouble(readLong());
+    }
+
+    @Override
+    public double readVDouble() {
+        return Double.longBitsToDouble(readVLong());
+    }
+
+    @Override
+    public double readSVDouble() {
+        return Double.longBitsToDouble(readSVLong());
+    }
+
+    @Override
+    public byte[] readPadBytes(int totalLength) {
+        return readBytes(totalLength);
+    }
+
+    @Override
+    public String readPadString(int totalLength) {
+        return readString(totalLength);
+    }
+
+    @Override
+    public String readPadStringAndRightTrim(int totalLength) {
+        final byte[] bytes = readBytes(totalLength);
+        return BytesUtils.toStringAndRightTrim(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public byte[] readPrefixedBytes() {
+        return readBytesOrNull(readSVInt());
+    }
+
+    @Override
+    public byte[] readUnsignedBytePrefixedBytes() {
+        final int size = readUnsignedByte();
+        if (size == UNSIGNED_BYTE_NULL) {
+            return null;
+        }
+        return readBytesOrNull(size);
+    }
+
+    @Override
+    public byte[] read2PrefixedBytes() {
+        return readBytesOrNull(readShort());
+    }
+
+    @Override
+    public byte[] read4PrefixedBytes() {
+        return readBytesOrNull(readInt());
+    }
+
+    private byte[] readBytesOrNull(int size) {
+        if (size == NULL) {
+            return null;
+        }
+        if (size == 0) {
+            return EMPTY;
+        }
+        return readBytes(size);
+    }
+
+    private byte[] readBytes(int size) {
+        checkAvailable(size);
+        final byte[] bytes = new byte[size];
+        this.buffer.get(this.offset, bytes);
+        this.offset += size;
+        return bytes;
+    }
+
+    @Override
+    public String readPrefixedString() {
+        return readStringOrNull(readSVInt());
+    }
+
+    @Override
+    public String readUnsignedBytePrefixedString() {
+        final int size = readUnsignedByte();
+        if (size == UNSIGNED_BYTE_NULL) {
+            return null;
+        }
+        return readStringOrNull(size);
+    }
+
+    @Override
+    public String read2PrefixedString() {
+        return readStringOrNull(readShort());
+    }
+
+    @Override
+    public String read4PrefixedString() {
+        return readStringOrNull(readInt());
+    }
+
+    private String readStringOrNull(int size) {
+        if (size == NULL) {
+            return null;
+        }
+        if (size == 0) {
+            return "";
+        }
+        return readString(size);
+    }
+
+    @Override
+    public String readNullTerminatedString() {
+        final int start = this.offset;
+        for (int i = start; i < this.endOffset; i++) {
+            if (this.buffer.get(i) == NUL_DELIMITER) {
+                final String s = readString(i - start);
+                this.offset = i + 1;
+                return s;
+            }
+        }
+        throw new IllegalStateException("Delimiter not found");
+    }
+
+    private String readString(int size) {
+        checkAvailable(size);
+        final String s;
+        if (this.buffer.hasArray()) {
+            // heap buffer: decode in place
+            s = this.stringAllocator.allocate(this.buffer.array(), this.buffer.arrayOffset() + this.offset, size, UTF8_CHARSET);
+        } else {
+            final byte[] bytes = new byte[size];
+            this.buffer.get(this.offset, bytes);
+            s = this.stringAllocator.allocate(bytes, 0, size, UTF8_CHARSET);
+        }
+        this.offset += size;
+        return s;
+    }
+
+    @Override
+    public void setByte(int index, byte value) {
+        this.buffer.put(this.startOffset + index, value);
+    }
+
+    @Override
+    public byte[] getBuffer() {
+        return copyBuffer();
+    }
+
+    @Override
+    public byte[] copyBuffer() {
+        final byte[] copy = new byte[this.offset - this.startOffset];
+        this.buffer.get(this.startOffset, copy);
+        return copy;
+    }
+
+    /**
+     * Only available when the offsets of this buffer are also indices of the backing array.
+     */
+    @Override
+    public byte[] getInternalBuffer() {
+        if (this.buffer.hasArray() && this.buffer.arrayOffset() == 0) {
+            return this.buffer.array();
+        }
+        throw new UnsupportedOperationException("not backed by an accessible array");
+    }
+
+    @Override
+    public ByteBuffer wrapByteBuffer() {
+        return this.buffer.duplicate()
+                .limit(this.offset)
+                .position(this.startOffset);
+    }
+
+    @Override
+    public Buffer slice() {
+        return new ByteBufferFixedBuffer(this.buffer, this.offset, remaining(), this.stringAllocator);
+    }
+
+    @Override
+    public void setOffset(int offset) {
+        this.offset = offset;
+    }
+
+    @Override
+    public void skip(int skipLength) {
+        final int remaining = remaining();
+        if (skipLength > remaining) {
+            throw new IndexOutOfBoundsException("skipLength:" + skipLength + " remaining:" + remaining);
+        }
+        this.offset += skipLength;
+    }
+
+    @Override
+    public int getOffset() {
+        return this.offset;
+    }
+
+    @Override
+    public int remaining() {
+        return this.endOffset - this.offset;
+    }
+
+    @Override
+    public boolean hasRemaining() {
+        return this.offset < this.endOffset;
+    }
+
+    @Override
+    public int getStartOffset() {
+        return this.startOffset;
+    }
+
+    @Override
+    public int getEndOffset() {
+        return this.endOffset;
+    }
+
+    private void checkAvailable(int size) {
+        Objects.checkFromIndexSize(this.offset, size, this.endOffset);
+    }
+}
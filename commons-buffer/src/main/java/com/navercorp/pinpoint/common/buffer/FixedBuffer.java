@@ -661,6 +661,11 @@ public class FixedBuffer implements Buffer {
         return ByteBuffer.wrap(this.buffer, getStartOffset(), length);
     }
 
+    @Override
+    public Buffer slice() {
+        return new OffsetFixedBuffer(this.buffer, this.offset, remaining());
+    }
+
     protected int getBufferLength() {
         return offset - getStartOffset();
     }
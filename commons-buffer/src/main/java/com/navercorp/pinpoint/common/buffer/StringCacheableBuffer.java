@@ -43,4 +43,9 @@ public class StringCacheableBuffer extends OffsetFixedBuffer {
         return newValue;
     }
 
+    @Override
+    public Buffer slice() {
+        return new StringCacheableBuffer(buffer, offset, remaining(), stringAllocator);
+    }
+
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.buffer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ByteBufferFixedBufferTest {
+
+    private static byte[] encode() {
+        Buffer buffer = new AutomaticBuffer(64);
+        buffer.putByte((byte) 1);
+        buffer.putShort((short) -2);
+        buffer.putInt(Integer.MIN_VALUE);
+        buffer.putLong(Long.MAX_VALUE);
+        buffer.putVInt(-1);
+        buffer.putSVInt(Integer.MIN_VALUE);
+        buffer.putVLong(Long.MIN_VALUE);
+        buffer.putSVLong(-300);
+        buffer.putDouble(1.5);
+        buffer.putPrefixedString("endpoint");
+        buffer.putPrefixedString(null);
+        buffer.put2PrefixedString("");
+        buffer.putUnsignedBytePrefixedString("rpc");
+        buffer.putNullTerminatedString("nul");
+        buffer.put4PrefixedBytes(new byte[]{1, 2, 3});
+        return buffer.getBuffer();
+    }
+
+    private static void assertDecoded(Buffer buffer) {
+        assertThat(buffer.readByte()).isEqualTo((byte) 1);
+        assertThat(buffer.readShort()).isEqualTo((short) -2);
+        assertThat(buffer.readInt()).isEqualTo(Integer.MIN_VALUE);
+        assertThat(buffer.readLong()).isEqualTo(Long.MAX_VALUE);
+        assertThat(buffer.readVInt()).isEqualTo(-1);
+        assertThat(buffer.readSVInt()).isEqualTo(Integer.MIN_VALUE);
+        assertThat(buffer.readVLong()).isEqualTo(Long.MIN_VALUE);
+        assertThat(buffer.readSVLong()).isEqualTo(-300);
+        assertThat(buffer.readDouble()).isEqualTo(1.5);
+        assertThat(buffer.readPrefixedString()).isEqualTo("endpoint");
+        assertThat(buffer.readPrefixedString()).isNull();
+        assertThat(buffer.read2PrefixedString()).isEmpty();
+        assertThat(buffer.readUnsignedBytePrefixedString()).isEqualTo("rpc");
+        assertThat(buffer.readNullTerminatedString()).isEqualTo("nul");
+        assertThat(buffer.read4PrefixedBytes()).containsExactly(1, 2, 3);
+        assertThat(buffer.hasRemaining()).isFalse();
+    }
+
+    @Test
+    public void read_heap() {
+        byte[] bytes = encode();
+        byte[] padded = new byte[bytes.length + 10];
+        System.arraycopy(bytes, 0, padded, 5, bytes.length);
+
+        assertDecoded(new ByteBufferFixedBuffer(ByteBuffer.wrap(padded), 5, bytes.length));
+    }
+
+    @Test
+    public void read_direct() {
+        byte[] bytes = encode();
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length + 3);
+        direct.position(3);
+        direct.put(bytes);
+        direct.position(3);
+
+        Buffer buffer = new ByteBufferFixedBuffer(direct);
+        assertDecoded(buffer);
+        assertThat(direct.position()).isEqualTo(3);
+    }
+
+    @Test
+    public void write_readByFixedBuffer() {
+        Buffer buffer = new ByteBufferFixedBuffer(ByteBuffer.allocateDirect(128), 0, 128);
+        buffer.putByte((byte) 1);
+        buffer.putShort((short) -2);
+        buffer.putInt(Integer.MIN_VALUE);
+        buffer.putLong(Long.MAX_VALUE);
+        buffer.putVInt(-1);
+        buffer.putSVInt(Integer.MIN_VALUE);
+        buffer.putVLong(Long.MIN_VALUE);
+        buffer.putSVLong(-300);
+        buffer.putDouble(1.5);
+        buffer.putPrefixedString("endpoint");
+        buffer.putPrefixedString(null);
+        buffer.put2PrefixedString("");
+        buffer.putUnsignedBytePrefixedString("rpc");
+        buffer.putNullTerminatedString("nul");
+        buffer.put4PrefixedBytes(new byte[]{1, 2, 3});
+
+        byte[] copy = buffer.copyBuffer();
+        assertThat(copy).isEqualTo(encode());
+        assertDecoded(new FixedBuffer(copy));
+    }
+
+    @Test
+    public void slice() {
+        byte[] bytes = encode();
+        ByteBufferFixedBuffer buffer = new ByteBufferFixedBuffer(ByteBuffer.wrap(bytes));
+        buffer.readByte();
+
+        Buffer slice = buffer.slice();
+        assertThat(slice.getStartOffset()).isEqualTo(1);
+        assertThat(slice.remaining()).isEqualTo(bytes.length - 1);
+        assertThat(slice.readShort()).isEqualTo((short) -2);
+        assertThat(buffer.getOffset()).isEqualTo(1);
+    }
+
+    @Test
+    public void readOverEndOffset() {
+        Buffer buffer = new ByteBufferFixedBuffer(ByteBuffer.allocate(16), 0, 6);
+        buffer.readInt();
+
+        Assertions.assertThrows(IndexOutOfBoundsException.class, buffer::readInt);
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> buffer.putLong(1));
+        assertThat(buffer.getOffset()).isEqualTo(4);
+    }
+
+    @Test
+    public void getInternalBuffer_direct() {
+        Buffer buffer = new ByteBufferFixedBuffer(ByteBuffer.allocateDirect(8));
+
+        Assertions.assertThrows(UnsupportedOperationException.class, buffer::getInternalBuffer);
+    }
+}
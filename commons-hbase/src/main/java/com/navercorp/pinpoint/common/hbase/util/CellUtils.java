@@ -16,7 +16,11 @@
 
 package com.navercorp.pinpoint.common.hbase.util;
 
+import com.navercorp.pinpoint.common.buffer.Buffer;
+import com.navercorp.pinpoint.common.buffer.ByteBufferFixedBuffer;
+import com.navercorp.pinpoint.common.buffer.OffsetFixedBuffer;
 import com.navercorp.pinpoint.common.util.ArrayUtils;
+import org.apache.hadoop.hbase.ByteBufferExtendedCell;
 import org.apache.hadoop.hbase.Cell;
 import org.apache.hadoop.hbase.CellUtil;
 import org.apache.hadoop.hbase.client.Result;
@@ -59,6 +63,28 @@ public final class CellUtils {
         return Bytes.toString(cell.getQualifierArray(), cell.getQualifierOffset(), cell.getQualifierLength());
     }
 
+    /**
+     * Returns a read buffer over the qualifier without copying it, also for cells backed by (off-heap) ByteBuffers.
+     */
+    public static Buffer qualifierBuffer(Cell cell) {
+        Objects.requireNonNull(cell, "cell");
+        if (cell instanceof ByteBufferExtendedCell bbCell) {
+            return new ByteBufferFixedBuffer(bbCell.getQualifierByteBuffer(), bbCell.getQualifierPosition(), bbCell.getQualifierLength());
+        }
+        return new OffsetFixedBuffer(cell.getQualifierArray(), cell.getQualifierOffset(), cell.getQualifierLength());
+    }
+
+    /**
+     * Returns a read buffer over the value without copying it, also for cells backed by (off-heap) ByteBuffers.
+     */
+    public static Buffer valueBuffer(Cell cell) {
+        Objects.requireNonNull(cell, "cell");
+        if (cell instanceof ByteBufferExtendedCell bbCell) {
+            return new ByteBufferFixedBuffer(bbCell.getValueByteBuffer(), bbCell.getValuePosition(), bbCell.getValueLength());
+        }
+        return new OffsetFixedBuffer(cell.getValueArray(), cell.getValueOffset(), cell.getValueLength());
+    }
+
     public static short valueToShort(Cell cell) {
         Objects.requireNonNull(cell, "cell");
         return Bytes.toShort(cell.getValueArray(), cell.getValueOffset(), cell.getValueLength());
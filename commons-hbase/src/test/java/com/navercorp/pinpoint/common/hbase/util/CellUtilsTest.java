@@ -16,6 +16,11 @@
 
 package com.navercorp.pinpoint.common.hbase.util;
 
+import com.navercorp.pinpoint.common.buffer.AutomaticBuffer;
+import com.navercorp.pinpoint.common.buffer.Buffer;
+import com.navercorp.pinpoint.common.buffer.ByteBufferFixedBuffer;
+import com.navercorp.pinpoint.common.buffer.OffsetFixedBuffer;
+import org.apache.hadoop.hbase.ByteBufferKeyValue;
 import org.apache.hadoop.hbase.Cell;
 import org.apache.hadoop.hbase.KeyValue;
 import org.apache.hadoop.hbase.KeyValueTestUtil;
@@ -24,6 +29,7 @@ import org.apache.hadoop.hbase.util.Bytes;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 
 
@@ -180,4 +186,24 @@ public class CellUtilsTest {
 
         Assertions.assertTrue(result < 0, "Left row should be less than right row.");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void valueBuffer_byteBufferCell() {
+        Buffer value = new AutomaticBuffer();
+        value.putInt(7);
+        value.putPrefixedString("value");
+        KeyValue keyValue = new KeyValue(Bytes.toBytes("row"), Bytes.toBytes("cf"),
+                Bytes.toBytes("qf"), 1L, KeyValue.Type.Put, value.getBuffer());
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(keyValue.getLength());
+        direct.put(keyValue.getBuffer(), keyValue.getOffset(), keyValue.getLength());
+        Cell cell = new ByteBufferKeyValue(direct, 0, keyValue.getLength());
+
+        Buffer buffer = CellUtils.valueBuffer(cell);
+        Assertions.assertInstanceOf(ByteBufferFixedBuffer.class, buffer);
+        Assertions.assertEquals(7, buffer.readInt());
+        Assertions.assertEquals("value", buffer.readPrefixedString());
+        Assertions.assertEquals("qf", CellUtils.qualifierBuffer(cell).readPadString(2));
+        Assertions.assertInstanceOf(OffsetFixedBuffer.class, CellUtils.valueBuffer(keyValue));
+    }
+}
@@ -0,0 +1,367 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.profiler.sql;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Compact binary form of the sql bind values.
+ * <p>
+ * Decoding yields the same string as the comma separated form of {@code BindValueUtils},
+ * so the agent can skip building that string on the jdbc hot path.
+ * <pre>
+ * version(1) parameterCount(varint) { tag(1) value }*
+ *   NULL        : -
+ *   STRING      : utf8Length(varint) utf8
+ *   ABBREVIATED : originalLength(varint) utf8Length(varint) utf8
+ *   LONG        : zigzag(varlong)
+ * </pre>
+ * Parameters after the length limit are not written, and the decoder appends the omission postfix.
+ */
+public final class BindValueCodec {
+
+    private static final byte VERSION = 1;
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_STRING = 1;
+    private static final byte TAG_ABBREVIATED = 2;
+    private static final byte TAG_LONG = 3;
+
+    private static final String SEPARATOR = ", ";
+
+    private BindValueCodec() {
+    }
+
+    public static byte[] encode(final Map<Integer, String> bindValueMap, int limit) {
+        if (bindValueMap == null || bindValueMap.isEmpty()) {
+            return null;
+        }
+        int maxParameterIndex = 0;
+        for (Integer index : bindValueMap.keySet()) {
+            maxParameterIndex = Math.max(maxParameterIndex, index);
+        }
+        if (maxParameterIndex <= 0) {
+            return null;
+        }
+        // PreparedStatement first parameterIndex is 1
+        final String[] bindValues = new String[maxParameterIndex];
+        for (Map.Entry<Integer, String> entry : bindValueMap.entrySet()) {
+            final int parameterIndex = entry.getKey() - 1;
+            if (parameterIndex >= 0) {
+                bindValues[parameterIndex] = entry.getValue();
+            }
+        }
+        return encode(bindValues, limit);
+    }
+
+    public static byte[] encode(final String[] bindValues, final int limit) {
+        if (bindValues == null) {
+            return null;
+        }
+        final int count = bindValues.length;
+
+        // first pass sizes the buffer, so the encoding allocates a single array
+        int size = 1 + varIntSize(count);
+        int written = 0;
+        int chars = 0;
+        for (int i = 0; i < count; i++) {
+            if (chars >= limit) {
+                break;
+            }
+            final String value = bindValues[i];
+            size += 1 + valueSize(value, limit);
+            chars += displayLength(value, limit);
+            if (i < count - 1) {
+                chars += SEPARATOR.length();
+            }
+            written++;
+        }
+
+        final Buffer buffer = new Buffer(size);
+        buffer.put(VERSION);
+        buffer.putVarInt(count);
+        for (int i = 0; i < written; i++) {
+            putValue(buffer, bindValues[i], limit);
+        }
+        return buffer.array;
+    }
+
+    public static String decode(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return "";
+        }
+        final Buffer buffer = new Buffer(bytes);
+        final byte version = buffer.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("unsupported version:" + version);
+        }
+        final int count = buffer.getVarInt();
+        final StringBuilder sb = new StringBuilder(bytes.length + 16);
+        int decoded = 0;
+        while (buffer.hasRemaining()) {
+            final byte tag = buffer.get();
+            switch (tag) {
+                case TAG_NULL:
+                    break;
+                case TAG_STRING:
+                    sb.append(buffer.getString());
+                    break;
+                case TAG_ABBREVIATED:
+                    final int originalLength = buffer.getVarInt();
+                    sb.append(buffer.getString());
+                    appendLength(sb, originalLength);
+                    break;
+                case TAG_LONG:
+                    sb.append(unZigZag(buffer.getVarLong()));
+                    break;
+                default:
+                    throw new IllegalArgumentException("unknown tag:" + tag);
+            }
+            decoded++;
+            if (decoded < count) {
+                sb.append(SEPARATOR);
+            }
+        }
+        if (decoded < count) {
+            appendLength(sb, count);
+        }
+        return sb.toString();
+    }
+
+    private static void appendLength(StringBuilder sb, int length) {
+        sb.append("...(");
+        sb.append(length);
+        sb.append(')');
+    }
+
+    private static int displayLength(String value, int limit) {
+        if (value == null) {
+            return 0;
+        }
+        final int length = value.length();
+        if (length > limit) {
+            return abbreviateEndIndex(value, limit) + 5 + stringSize(length);
+        }
+        return length;
+    }
+
+    private static int valueSize(String value, int limit) {
+        if (value == null) {
+            return 0;
+        }
+        if (value.length() <= limit && isLong(value)) {
+            return varLongSize(zigZag(Long.parseLong(value)));
+        }
+        final int length = value.length();
+        if (length > limit) {
+            final int utf8Length = utf8Length(value, abbreviateEndIndex(value, limit));
+            return varIntSize(length) + varIntSize(utf8Length) + utf8Length;
+        }
+        final int utf8Length = utf8Length(value, length);
+        return varIntSize(utf8Length) + utf8Length;
+    }
+
+    private static void putValue(Buffer buffer, String value, int limit) {
+        if (value == null) {
+            buffer.put(TAG_NULL);
+            return;
+        }
+        if (value.length() <= limit && isLong(value)) {
+            buffer.put(TAG_LONG);
+            buffer.putVarLong(zigZag(Long.parseLong(value)));
+            return;
+        }
+        final int length = value.length();
+        if (length > limit) {
+            final int endIndex = abbreviateEndIndex(value, limit);
+            buffer.put(TAG_ABBREVIATED);
+            buffer.putVarInt(length);
+            buffer.putString(value, endIndex);
+            return;
+        }
+        buffer.put(TAG_STRING);
+        buffer.putString(value, length);
+    }
+
+    /**
+     * Only the canonical form round trips through {@link Long#toString(long)}.
+     */
+    static boolean isLong(String value) {
+        final int length = value.length();
+        if (length == 0) {
+            return false;
+        }
+        int i = 0;
+        if (value.charAt(0) == '-') {
+            i = 1;
+        }
+        // 18 digits never overflow
+        if (length == i || length - i > 18) {
+            return false;
+        }
+        if (value.charAt(i) == '0') {
+            return length == 1;
+        }
+        for (; i < length; i++) {
+            final char ch = value.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // same as StringUtils.abbreviate, do not split a surrogate pair
+    private static int abbreviateEndIndex(String str, int maxWidth) {
+        if (maxWidth > 0 && Character.isHighSurrogate(str.charAt(maxWidth - 1))) {
+            return maxWidth - 1;
+        }
+        return maxWidth;
+    }
+
+    private static int stringSize(int value) {
+        return Integer.toString(value).length();
+    }
+
+    private static int utf8Length(String value, int end) {
+        int utf8Length = 0;
+        for (int i = 0; i < end; i++) {
+            final char ch = value.charAt(i);
+            if (ch < 0x80) {
+                utf8Length++;
+            } else if (ch < 0x800) {
+                utf8Length += 2;
+            } else if (Character.isHighSurrogate(ch) && i + 1 < end && Character.isLowSurrogate(value.charAt(i + 1))) {
+                utf8Length += 4;
+                i++;
+            } else if (Character.isSurrogate(ch)) {
+                // unpaired surrogate is written as '?'
+                utf8Length++;
+            } else {
+                utf8Length += 3;
+            }
+        }
+        return utf8Length;
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static int varIntSize(int value) {
+        return varLongSize(value & 0xFFFFFFFFL);
+    }
+
+    private static int varLongSize(long value) {
+        int size = 1;
+        while ((value & ~0x7FL) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    private static final class Buffer {
+        private final byte[] array;
+        private int offset;
+
+        private Buffer(int size) {
+            this.array = new byte[size];
+        }
+
+        private Buffer(byte[] array) {
+            this.array = array;
+        }
+
+        private boolean hasRemaining() {
+            return offset < array.length;
+        }
+
+        private void put(byte value) {
+            array[offset++] = value;
+        }
+
+        private byte get() {
+            return array[offset++];
+        }
+
+        private void putVarInt(int value) {
+            putVarLong(value & 0xFFFFFFFFL);
+        }
+
+        private void putVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                array[offset++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            array[offset++] = (byte) value;
+        }
+
+        private int getVarInt() {
+            return (int) getVarLong();
+        }
+
+        private long getVarLong() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                final byte b = array[offset++];
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IllegalArgumentException("malformed varint");
+        }
+
+        private void putString(String value, int end) {
+            putVarInt(utf8Length(value, end));
+            for (int i = 0; i < end; i++) {
+                final char ch = value.charAt(i);
+                if (ch < 0x80) {
+                    array[offset++] = (byte) ch;
+                } else if (ch < 0x800) {
+                    array[offset++] = (byte) (0xC0 | (ch >> 6));
+                    array[offset++] = (byte) (0x80 | (ch & 0x3F));
+                } else if (Character.isHighSurrogate(ch) && i + 1 < end && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    final int codePoint = Character.toCodePoint(ch, value.charAt(++i));
+                    array[offset++] = (byte) (0xF0 | (codePoint >> 18));
+                    array[offset++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    array[offset++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    array[offset++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else if (Character.isSurrogate(ch)) {
+                    array[offset++] = '?';
+                } else {
+                    array[offset++] = (byte) (0xE0 | (ch >> 12));
+                    array[offset++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+                    array[offset++] = (byte) (0x80 | (ch & 0x3F));
+                }
+            }
+        }
+
+        private String getString() {
+            final int length = getVarInt();
+            final String value = new String(array, offset, length, StandardCharsets.UTF_8);
+            offset += length;
+            return value;
+        }
+    }
+}
@@ -52,6 +52,10 @@ public class DefaultSqlNormalizer implements SqlNormalizer {
         if (sql == null) {
             return NULL_OBJECT;
         }
+        if (!ParserContext.isNormalizeRequired(sql, removeComments)) {
+            // no literal to replace, skip the StringBuilder copies
+            return new DefaultNormalizedSql(sql, "");
+        }
         ParserContext parserContext = new ParserContext(sql, removeComments);
         return parserContext.parse();
     }
@@ -21,16 +21,46 @@ public class ParserContext {
     private int replaceIndex = 0;
 
     public ParserContext(String sql, boolean removeComments) {
+        this(sql, removeComments, new StringBuilder(sql.length() + NORMALIZED_SQL_BUFFER), new ParameterBuilder());
+    }
+
+    private ParserContext(String sql, boolean removeComments, StringBuilder normalized, ParameterBuilder parameter) {
         this.sql = Objects.requireNonNull(sql, "sql");
         this.length = sql.length();
         this.removeComments = removeComments;
 
-        this.normalized = new StringBuilder(length + NORMALIZED_SQL_BUFFER);
+        // both null for a scan which writes nothing
+        this.normalized = normalized;
         // this.parsedParameter = new StringBuilder(32);
-        this.parameter = new ParameterBuilder();
+        this.parameter = parameter;
     }
 
     public NormalizedSql parse() {
+        scan(false);
+        if (parameter.isChange()) {
+            String parsedParameterString = parameter.build();
+            return new DefaultNormalizedSql(normalized.toString(), parsedParameterString);
+        } else {
+            // Reuse if not modified.
+            // 1. new strings are not generated
+            // 2. reuse hashcodes
+            return new DefaultNormalizedSql(sql, "");
+        }
+    }
+
+    /**
+     * Runs the state machine of {@link #parse()} up to the first token it would rewrite, without copying the sql.
+     * @return {@code false} if {@link #parse()} would return the sql unchanged
+     */
+    public static boolean isNormalizeRequired(String sql, boolean removeComments) {
+        return new ParserContext(sql, removeComments, null, null).scan(true);
+    }
+
+    /**
+     * @param stopAtRewrite return at the first comment, symbol or number that would be rewritten, before writing it
+     * @return {@code true} if stopped at such a token
+     */
+    private boolean scan(boolean stopAtRewrite) {
 
         boolean numberTokenStartEnable = true;
         for (int i = 0; i < this.length; i++) {
@@ -42,14 +72,20 @@ public class ParserContext {
                     final int lookAhead1Char = lookAhead1(i);
                     // multi line comment and oracle hint /*+ */
                     if (lookAhead1Char == '*') {
+                        if (stopAtRewrite && removeComments) {
+                            return true;
+                        }
                         i = readComment("/*", i);
                     // single line comment
                     } else if (lookAhead1Char == '/') {
+                        if (stopAtRewrite && removeComments) {
+                            return true;
+                        }
                         i = readLine("//", i);
                     } else {
                         // unary operator
                         numberTokenStartEnable = true;
-                        normalized.append(ch);
+                        append(ch);
                     }
                     break;
                 // case '#'
@@ -57,16 +93,22 @@ public class ParserContext {
                 case '-':
                     // single line comment state
                     if (lookAhead1(i) == '-') {
+                        if (stopAtRewrite && removeComments) {
+                            return true;
+                        }
                         i = readLine("--", i);
                     } else {
                         // unary operator
                         numberTokenStartEnable = true;
-                        normalized.append(ch);
+                        append(ch);
                     }
                     break;
 
                 // SYMBOL start check
                 case '\'':
+                    if (stopAtRewrite && lookAhead1(i) != '\'') {
+                        return true;
+                    }
                     i = readSymbol(i);
                     break;
 
@@ -83,13 +125,16 @@ public class ParserContext {
                 case '9':
                     // http://www.h2database.com/html/grammar.html look at the state machine more
                     if (numberTokenStartEnable) {
+                        if (stopAtRewrite) {
+                            return true;
+                        }
                         appendNumberToken(normalized);
                         // number token start
                         parameter.separator();
                         i = readNumber(i);
                         break;
                     } else {
-                        normalized.append(ch);
+                        append(ch);
                         break;
                     }
 
@@ -99,7 +144,7 @@ public class ParserContext {
                 case '\n':
                 case '\r':
                     numberTokenStartEnable = true;
-                    normalized.append(ch);
+                    append(ch);
                     break;
                 // http://msdn.microsoft.com/en-us/library/ms174986.aspx
                 case '*':
@@ -114,7 +159,7 @@ public class ParserContext {
                 case '~':
                 case '!':
                     numberTokenStartEnable = true;
-                    normalized.append(ch);
+                    append(ch);
                     break;
 
                 case '(':
@@ -122,7 +167,7 @@ public class ParserContext {
                 case ',':
                 case ';':
                     numberTokenStartEnable = true;
-                    normalized.append(ch);
+                    append(ch);
                     break;
 
                 case '$':
@@ -130,7 +175,7 @@ public class ParserContext {
                     if (nextChar >= '0' && nextChar <= '9') {
                         numberTokenStartEnable = false;
                     }
-                    normalized.append(ch);
+                    append(ch);
                     break;
 
                 case '.':
@@ -138,24 +183,22 @@ public class ParserContext {
                 case '@': // Assignment Operator
                 case ':': // Oracle's bind variable is possible with :bindvalue
                     numberTokenStartEnable = false;
-                    normalized.append(ch);
+                    append(ch);
                     break;
 
                 default:
                     // what if it's in a different language??
                     numberTokenStartEnable = isNumberTokenStart(ch);
-                    normalized.append(ch);
+                    append(ch);
                     break;
             }
         }
-        if (parameter.isChange()) {
-            String parsedParameterString = parameter.build();
-            return new DefaultNormalizedSql(normalized.toString(), parsedParameterString);
-        } else {
-            // Reuse if not modified.
-            // 1. new strings are not generated
-            // 2. reuse hashcodes
-            return new DefaultNormalizedSql(sql, "");
+        return false;
+    }
+
+    private void append(char ch) {
+        if (normalized != null) {
+            normalized.append(ch);
         }
     }
 
@@ -180,7 +223,9 @@ public class ParserContext {
     private int readSymbol(int i) {
         // empty symbol
         if (lookAhead1(i) == '\'') {
-            normalized.append("''");
+            if (normalized != null) {
+                normalized.append("''");
+            }
             // no need to add parameter to output as $ is not converted
             i += 1;
             return i;
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.profiler.sql;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BindValueCodecTest {
+
+    private static String roundTrip(String[] bindValues, int limit) {
+        return BindValueCodec.decode(BindValueCodec.encode(bindValues, limit));
+    }
+
+    @Test
+    void encode() {
+        assertThat(roundTrip(new String[]{"a", "b"}, 1024)).isEqualTo("a, b");
+        assertThat(roundTrip(new String[]{"abc", null, "c"}, 1024)).isEqualTo("abc, , c");
+        assertThat(roundTrip(new String[]{"1", "-20", "9223372036", "007", "-0", "1.5"}, 1024))
+                .isEqualTo("1, -20, 9223372036, 007, -0, 1.5");
+        assertThat(roundTrip(new String[]{"한글", "😀", "é"}, 1024)).isEqualTo("한글, 😀, é");
+        assertThat(roundTrip(new String[0], 1024)).isEmpty();
+        assertThat(roundTrip(null, 1024)).isEmpty();
+    }
+
+    @Test
+    void encode_limit() {
+        assertThat(roundTrip(new String[]{"a", "b"}, 0)).isEqualTo("...(2)");
+        assertThat(roundTrip(new String[]{"a", "b"}, -1)).isEqualTo("...(2)");
+        assertThat(roundTrip(new String[]{"a", "b"}, 1)).isEqualTo("a, ...(2)");
+        assertThat(roundTrip(new String[]{"abc", "b", "c"}, 1)).isEqualTo("a...(3), ...(3)");
+        assertThat(roundTrip(new String[]{"a", "b", "1234567891012"}, 10)).isEqualTo("a, b, 1234567891...(13)");
+        assertThat(roundTrip(new String[]{"a", "12345678901", "c"}, 10)).isEqualTo("a, 1234567890...(11), ...(3)");
+        assertThat(roundTrip(new String[]{"123456", "123456"}, 5)).isEqualTo("12345...(6), ...(2)");
+        assertThat(roundTrip(new String[]{"a😀"}, 2)).isEqualTo("a...(3)");
+    }
+
+    @Test
+    void encode_map() {
+        Map<Integer, String> bindValue = new HashMap<>();
+        bindValue.put(1, "1");
+        bindValue.put(2, "2");
+        bindValue.put(4, "4");
+        assertThat(BindValueCodec.decode(BindValueCodec.encode(bindValue, 100))).isEqualTo("1, 2, , 4");
+
+        Map<Integer, String> invalid = new HashMap<>();
+        invalid.put(0, "0");
+        assertThat(BindValueCodec.encode(invalid, 100)).isNull();
+    }
+
+    @Test
+    void encode_compact() {
+        String[] bindValues = new String[100];
+        for (int i = 0; i < bindValues.length; i++) {
+            bindValues[i] = String.valueOf(i * 1000);
+        }
+        byte[] encoded = BindValueCodec.encode(bindValues, 4096);
+        assertThat(encoded.length).isLessThan(String.join(", ", bindValues).length() * 2 / 3);
+    }
+
+    @Test
+    void isLong() {
+        assertThat(BindValueCodec.isLong("0")).isTrue();
+        assertThat(BindValueCodec.isLong("-123")).isTrue();
+        assertThat(BindValueCodec.isLong("-")).isFalse();
+        assertThat(BindValueCodec.isLong("01")).isFalse();
+        assertThat(BindValueCodec.isLong("9999999999999999999")).isFalse();
+    }
+}
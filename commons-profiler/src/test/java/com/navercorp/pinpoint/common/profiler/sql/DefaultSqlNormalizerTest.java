@@ -21,6 +21,7 @@ import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -424,4 +425,35 @@ public class DefaultSqlNormalizerTest {
         assertEqual("$(123); 123", "$(0#); 1#");
         assertEqual("'$''123'", "'0$'");
     }
+
+    @Test
+    public void normalizeRequired() {
+        Assertions.assertFalse(ParserContext.isNormalizeRequired("select * from table1 where a = ? and b_2 = ?", false));
+        Assertions.assertFalse(ParserContext.isNormalizeRequired("select ''  /* 123 */ from dual -- 1", false));
+        Assertions.assertTrue(ParserContext.isNormalizeRequired("select ''  /* 123 */ from dual -- 1", true));
+        Assertions.assertTrue(ParserContext.isNormalizeRequired("select * from table where a = 1", false));
+        Assertions.assertTrue(ParserContext.isNormalizeRequired("select * from table where a = 'a'", false));
+    }
+
+    @Test
+    public void normalizeRequired_sameAsParse() {
+        final String alphabet = "ab1 9.$_@:'\"#?-/*\n(),=";
+        final Random random = new Random(0);
+        for (int n = 0; n < 20000; n++) {
+            final StringBuilder builder = new StringBuilder();
+            final int length = random.nextInt(16);
+            for (int i = 0; i < length; i++) {
+                builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            final String sql = builder.toString();
+            for (boolean removeComments : new boolean[]{false, true}) {
+                if (ParserContext.isNormalizeRequired(sql, removeComments)) {
+                    continue;
+                }
+                NormalizedSql parsed = new ParserContext(sql, removeComments).parse();
+                Assertions.assertEquals(sql, parsed.getNormalizedSql(), sql);
+                Assertions.assertEquals("", parsed.getParseParameter(), sql);
+            }
+        }
+    }
 }
@@ -27,6 +27,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * @author emeroad
@@ -35,6 +36,7 @@ public class SpanBo implements BasicSpan {
 
     private static final int UNDEFINED = ServiceType.UNDEFINED.getCode();
     public static final long DEFAULT_END_TIME = -1L;
+    private static final String DEFERRED = "(deferred)";
 
     // version 0 means that the type of prefix's size is int
     private byte version = 0;
@@ -82,6 +84,12 @@ public class SpanBo implements BasicSpan {
 
     private List<AttributeBo> attributeBoList = new ArrayList<>();
 
+    // annotations, attributes and span events not yet decoded from the column value
+    // cleared by a volatile write once the decode is complete, so a null read sees the whole body
+    private volatile Consumer<SpanBo> deferredBody;
+    // guarded by this, set while the decoder writes back through the adders
+    private boolean decodingDeferredBody;
+
     public SpanBo() {
         this(TraceSourceType.PINPOINT, new SpanOwner());
     }
@@ -294,6 +302,7 @@ public class SpanBo implements BasicSpan {
     }
 
     public List<AnnotationBo> getAnnotationBoList() {
+        loadDeferredBody();
         return annotationBoList;
     }
 
@@ -301,6 +310,7 @@ public class SpanBo implements BasicSpan {
         if (annotationBo == null) {
             return;
         }
+        loadDeferredBody();
         this.annotationBoList.add(annotationBo);
     }
 
@@ -308,6 +318,7 @@ public class SpanBo implements BasicSpan {
         if (anoList == null) {
             return;
         }
+        loadDeferredBody();
         this.annotationBoList = anoList;
     }
 
@@ -315,6 +326,7 @@ public class SpanBo implements BasicSpan {
         if (spanEventBoList == null) {
             return;
         }
+        loadDeferredBody();
         this.spanEventBoList.addAll(spanEventBoList);
     }
 
@@ -323,13 +335,49 @@ public class SpanBo implements BasicSpan {
         if (spanEventBo == null) {
             return;
         }
+        loadDeferredBody();
         spanEventBoList.add(spanEventBo);
     }
 
     public List<SpanEventBo> getSpanEventBoList() {
+        loadDeferredBody();
         return spanEventBoList;
     }
 
+    /**
+     * Defers decoding of annotations, attributes and span events until one of them is first accessed.
+     * The decode runs once, concurrent readers wait for it to complete.
+     */
+    public void setDeferredBody(Consumer<SpanBo> deferredBody) {
+        this.deferredBody = Objects.requireNonNull(deferredBody, "deferredBody");
+    }
+
+    public boolean hasDeferredBody() {
+        return deferredBody != null;
+    }
+
+    private void loadDeferredBody() {
+        if (this.deferredBody == null) {
+            return;
+        }
+        decodeDeferredBody();
+    }
+
+    private synchronized void decodeDeferredBody() {
+        final Consumer<SpanBo> deferredBody = this.deferredBody;
+        // decoded by another thread, or re-entered by the decoder through the adders
+        if (deferredBody == null || decodingDeferredBody) {
+            return;
+        }
+        decodingDeferredBody = true;
+        try {
+            deferredBody.accept(this);
+        } finally {
+            decodingDeferredBody = false;
+            this.deferredBody = null;
+        }
+    }
+
     public List<SpanChunkBo> getSpanChunkBoList() {
         if (spanChunkBoList == null) {
             spanChunkBoList = new ArrayList<>();
@@ -456,6 +504,7 @@ public class SpanBo implements BasicSpan {
     }
 
     public List<AttributeBo> getAttributeBoList() {
+        loadDeferredBody();
         return attributeBoList;
     }
 
@@ -463,6 +512,7 @@ public class SpanBo implements BasicSpan {
         if (attributeBoList == null) {
             return;
         }
+        loadDeferredBody();
         this.attributeBoList = attributeBoList;
     }
 
@@ -470,6 +520,7 @@ public class SpanBo implements BasicSpan {
         if (attributeBo == null) {
             return;
         }
+        loadDeferredBody();
         if (this.attributeBoList == null) {
             this.attributeBoList = new ArrayList<>();
         }
@@ -478,6 +529,8 @@ public class SpanBo implements BasicSpan {
 
     @Override
     public String toString() {
+        // never forces the decode, the body of a deferred span is left out
+        final boolean deferred = hasDeferredBody();
         return "SpanBo{" +
                 "version=" + version +
                 ", traceSourceType=" + traceSourceType +
@@ -493,10 +546,10 @@ public class SpanBo implements BasicSpan {
                 ", serviceType=" + serviceType +
                 ", endPoint='" + endPoint + '\'' +
                 ", apiId=" + apiId +
-                ", annotationBoList=" + annotationBoList +
+                ", annotationBoList=" + (deferred ? DEFERRED : annotationBoList) +
                 ", flag=" + flag +
                 ", errCode=" + errCode +
-                ", spanEventBoList=" + spanEventBoList +
+                ", spanEventBoList=" + (deferred ? DEFERRED : spanEventBoList) +
                 ", spanChunkBoList=" + spanChunkBoList +
                 ", collectorAcceptTime=" + collectorAcceptTime +
                 ", exceptionInfo=" + exceptionInfo +
@@ -505,7 +558,7 @@ public class SpanBo implements BasicSpan {
                 ", acceptorHost='" + acceptorHost + '\'' +
                 ", remoteAddr='" + remoteAddr + '\'' +
                 ", loggingTransactionInfo=" + loggingTransactionInfo +
-                ", attributeBoList=" + attributeBoList +
+                ", attributeBoList=" + (deferred ? DEFERRED : attributeBoList) +
                 '}';
     }
 
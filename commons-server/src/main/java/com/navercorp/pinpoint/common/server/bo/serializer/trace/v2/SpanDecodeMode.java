@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.common.server.bo.serializer.trace.v2;
+
+/**
+ * How much of a span column value {@link SpanDecoderV0} materializes.
+ * The span header (owner, timing, rpc, endpoint, error) is always decoded.
+ */
+public enum SpanDecodeMode {
+    /**
+     * annotations, attributes and span events are decoded up front
+     */
+    EAGER,
+    /**
+     * annotations, attributes and span events are decoded from the column value on first access
+     */
+    LAZY,
+    /**
+     * annotations, attributes, span events and span chunks are never decoded
+     */
+    HEADER_ONLY
+}
@@ -27,6 +27,7 @@ import com.navercorp.pinpoint.common.server.bo.LocalAsyncIdBo;
 import com.navercorp.pinpoint.common.server.bo.SpanBo;
 import com.navercorp.pinpoint.common.server.bo.SpanChunkBo;
 import com.navercorp.pinpoint.common.server.bo.SpanEventBo;
+import com.navercorp.pinpoint.common.server.bo.SpanEventComparator;
 import com.navercorp.pinpoint.common.server.bo.SpanOwner;
 import com.navercorp.pinpoint.common.server.bo.filter.SequenceSpanEventFilter;
 import com.navercorp.pinpoint.common.server.bo.filter.SpanEventFilter;
@@ -43,6 +44,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -57,6 +59,16 @@ public class SpanDecoderV0 implements SpanDecoder {
     private static final AnnotationDecoder annotationDecoder = new AnnotationDecoder();
     private static final AttributeTranscoder attributeTranscoder = new AttributeTranscoder();
 
+    private final SpanDecodeMode decodeMode;
+
+    public SpanDecoderV0() {
+        this(SpanDecodeMode.EAGER);
+    }
+
+    public SpanDecoderV0(SpanDecodeMode decodeMode) {
+        this.decodeMode = Objects.requireNonNull(decodeMode, "decodeMode");
+    }
+
     @Override
     public BasicSpan decode(Buffer qualifier, Buffer columnValue, SpanDecodingContext decodingContext) {
         final byte type = qualifier.readByte();
@@ -66,6 +78,9 @@ public class SpanDecoderV0 implements SpanDecoder {
             throw new IllegalStateException("Unknown span qualifier type: " + Byte.toUnsignedInt(type));
         }
         if (header.isSpanChunk()) {
+            if (decodeMode == SpanDecodeMode.HEADER_ONLY) {
+                return null;
+            }
             return readSpanChunk(qualifier, columnValue, decodingContext, header);
         }
         return readSpan(qualifier, columnValue, decodingContext, header);
@@ -186,7 +201,25 @@ public class SpanDecoderV0 implements SpanDecoder {
 
         span.setAcceptorHost(buffer.readPrefixedString());
 
+        switch (decodeMode) {
+            case EAGER:
+                readSpanBody(buffer, span, bitField, version, decodingContext);
+                break;
+            case LAZY:
+                final Buffer body = buffer.slice();
+                span.setDeferredBody(deferred -> {
+                    readSpanBody(body, deferred, bitField, version, decodingContext);
+                    deferred.getSpanEventBoList().sort(SpanEventComparator.INSTANCE);
+                });
+                break;
+            case HEADER_ONLY:
+                break;
+            default:
+                throw new IllegalStateException("unsupported decodeMode:" + decodeMode);
+        }
+    }
 
+    private void readSpanBody(Buffer buffer, SpanBo span, SpanBitField bitField, byte version, SpanDecodingContext decodingContext) {
         if (bitField.isSetAnnotation()) {
             annotationDecoder.readAnnotationList(span::addAnnotation, buffer, decodingContext);
         }
@@ -26,7 +26,10 @@ public class TraceIndexValue {
         }
 
         public static Index decode(byte[] bytes, int offset, int length) {
-            Buffer buffer = new OffsetFixedBuffer(bytes, offset, length);
+            return decode(new OffsetFixedBuffer(bytes, offset, length));
+        }
+
+        public static Index decode(Buffer buffer) {
             int elapsed = buffer.readInt();
             String agentId = buffer.readPrefixedString();
             int errorCode = buffer.readSVInt();
@@ -55,7 +58,10 @@ public class TraceIndexValue {
         }
 
         public static Meta decode(byte[] bytes, int offset, int length) {
-            Buffer buffer = new OffsetFixedBuffer(bytes, offset, length);
+            return decode(new OffsetFixedBuffer(bytes, offset, length));
+        }
+
+        public static Meta decode(Buffer buffer) {
             long startTime = buffer.readLong();
             ServerTraceId serverTraceId = ServerTraceId.decodeServerTraceId(buffer);
             String remoteAddr = buffer.readPrefixedString();
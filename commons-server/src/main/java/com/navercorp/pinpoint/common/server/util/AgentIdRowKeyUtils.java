@@ -34,7 +34,11 @@ import java.util.function.Predicate;
 public class AgentIdRowKeyUtils {
 
     private static final HashFunction hashFunction = Hashing.murmur3_32_fixed();
-    private static final int applicationNameOffset = 4 + 4 + 4 + PinpointConstants.AGENT_ID_MAX_LEN + 8;
+    /**
+     * offset of the inverted agentStartTime in the row key
+     */
+    public static final int AGENT_START_TIME_OFFSET = 4 + 4 + 4 + PinpointConstants.AGENT_ID_MAX_LEN;
+    private static final int applicationNameOffset = AGENT_START_TIME_OFFSET + 8;
 
     private AgentIdRowKeyUtils() {
     }
@@ -105,7 +109,7 @@ public class AgentIdRowKeyUtils {
 
     public static long extractAgentStartTime(byte[] row) {
         return LongInverter.restore(
-                ByteArrayUtils.bytesToLong(row, 4 + 4 + 4 + PinpointConstants.AGENT_ID_MAX_LEN)
+                ByteArrayUtils.bytesToLong(row, AGENT_START_TIME_OFFSET)
         );
     }
 
@@ -4,6 +4,11 @@ import com.navercorp.pinpoint.common.trace.ServiceType;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
 class SpanBoTest {
 
     @Test
@@ -38,4 +43,59 @@ class SpanBoTest {
         spanBo.setErrCode(1);
         Assertions.assertTrue(spanBo.hasError());
     }
-}
\ No newline at end of file
+
+    @Test
+    void deferredBody_toStringDoesNotDecode() {
+        AtomicInteger decodeCount = new AtomicInteger();
+        SpanBo spanBo = new SpanBo();
+        spanBo.setDeferredBody(span -> {
+            decodeCount.incrementAndGet();
+            span.addSpanEvent(newSpanEvent(1));
+        });
+
+        Assertions.assertTrue(spanBo.toString().contains("spanEventBoList=(deferred)"));
+        Assertions.assertTrue(spanBo.hasDeferredBody());
+        Assertions.assertEquals(0, decodeCount.get());
+
+        Assertions.assertEquals(1, spanBo.getSpanEventBoList().size());
+        Assertions.assertFalse(spanBo.toString().contains("(deferred)"));
+    }
+
+    @Test
+    void deferredBody_decodedOnce() throws Exception {
+        final int events = 1000;
+        AtomicInteger decodeCount = new AtomicInteger();
+        CountDownLatch decoding = new CountDownLatch(1);
+        SpanBo spanBo = new SpanBo();
+        spanBo.setDeferredBody(span -> {
+            decodeCount.incrementAndGet();
+            span.addSpanEvent(newSpanEvent(0));
+            decoding.countDown();
+            for (int i = 1; i < events; i++) {
+                span.addSpanEvent(newSpanEvent(i));
+            }
+        });
+
+        List<Integer> sizes = new CopyOnWriteArrayList<>();
+        Thread reader = new Thread(() -> {
+            try {
+                decoding.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            sizes.add(spanBo.getSpanEventBoList().size());
+        });
+        reader.start();
+        sizes.add(spanBo.getSpanEventBoList().size());
+        reader.join();
+
+        Assertions.assertEquals(1, decodeCount.get());
+        Assertions.assertEquals(List.of(events, events), sizes);
+    }
+
+    private static SpanEventBo newSpanEvent(int sequence) {
+        SpanEventBo spanEventBo = new SpanEventBo();
+        spanEventBo.setSequence((short) sequence);
+        return spanEventBo;
+    }
+}
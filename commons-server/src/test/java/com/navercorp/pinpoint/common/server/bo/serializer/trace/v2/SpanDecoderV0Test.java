@@ -21,6 +21,7 @@ import com.navercorp.pinpoint.common.buffer.FixedBuffer;
 import com.navercorp.pinpoint.common.server.bo.BasicSpan;
 import com.navercorp.pinpoint.common.server.bo.SpanBo;
 import com.navercorp.pinpoint.common.server.bo.SpanChunkBo;
+import com.navercorp.pinpoint.common.server.bo.SpanEventBo;
 import com.navercorp.pinpoint.common.server.bo.SpanOwner;
 import com.navercorp.pinpoint.common.server.bo.TraceSourceType;
 import com.navercorp.pinpoint.common.server.trace.PinpointServerTraceId;
@@ -212,6 +213,51 @@ class SpanDecoderV0Test {
         assertThat(decoded.getServiceName()).isEqualTo(ServiceUid.DEFAULT_SERVICE_UID_NAME);
     }
 
+    @Test
+    void decode_lazy_decodesSpanEventsOnFirstAccess() {
+        SpanDecoderV0 lazyDecoder = new SpanDecoderV0(SpanDecodeMode.LAZY);
+        SpanBo input = newSpanWithEvents();
+
+        SpanDecodingContext decCtx = new SpanDecodingContext(newTransactionId());
+        SpanBo decoded = (SpanBo) decodeWith(encoder, lazyDecoder, decCtx, input);
+
+        assertThat(decoded.hasDeferredBody()).isTrue();
+        assertThat(decoded.getRpc()).isEqualTo(input.getRpc());
+        assertThat(decoded.getEndPoint()).isEqualTo(input.getEndPoint());
+        assertThat(decoded.hasDeferredBody()).isTrue();
+
+        assertThat(decoded.getSpanEventBoList())
+                .extracting(SpanEventBo::getSequence)
+                .containsExactly((short) 1, (short) 2);
+        assertThat(decoded.hasDeferredBody()).isFalse();
+    }
+
+    @Test
+    void decode_headerOnly_skipsBody() {
+        SpanDecoderV0 headerDecoder = new SpanDecoderV0(SpanDecodeMode.HEADER_ONLY);
+        SpanBo input = newSpanWithEvents();
+
+        SpanDecodingContext decCtx = new SpanDecodingContext(newTransactionId());
+        SpanBo decoded = (SpanBo) decodeWith(encoder, headerDecoder, decCtx, input);
+
+        assertThat(decoded.hasDeferredBody()).isFalse();
+        assertThat(decoded.getRpc()).isEqualTo(input.getRpc());
+        assertThat(decoded.getElapsed()).isEqualTo(input.getElapsed());
+        assertThat(decoded.getSpanEventBoList()).isEmpty();
+    }
+
+    @Test
+    void decode_headerOnly_skipsSpanChunk() {
+        SpanDecoderV0 headerDecoder = new SpanDecoderV0(SpanDecodeMode.HEADER_ONLY);
+        SpanChunkBo input = newMinimalSpanChunk(TraceSourceType.PINPOINT);
+
+        SpanEncodingContext<SpanChunkBo> encCtx = new SpanEncodingContext<>(input);
+        Buffer qualifier = wrap(encoder.encodeSpanChunkQualifier(encCtx));
+        Buffer value = wrap(encoder.encodeSpanChunkColumnValue(encCtx));
+
+        assertThat(headerDecoder.decode(qualifier, value, new SpanDecodingContext(newTransactionId()))).isNull();
+    }
+
     @Test
     void decode_unknownType_throws() {
         Buffer qualifier = new FixedBuffer(1);
@@ -240,6 +286,26 @@ class SpanDecoderV0Test {
         return span;
     }
 
+    private SpanBo newSpanWithEvents() {
+        SpanBo span = newMinimalSpan(TraceSourceType.PINPOINT);
+        span.setRpc("/rpc");
+        span.setEndPoint("localhost:8080");
+        span.setElapsed(10);
+        // stored out of order, the decoder sorts by sequence
+        span.addSpanEvent(newSpanEvent((short) 2));
+        span.addSpanEvent(newSpanEvent((short) 1));
+        return span;
+    }
+
+    private SpanEventBo newSpanEvent(short sequence) {
+        SpanEventBo spanEvent = new SpanEventBo();
+        spanEvent.setSequence(sequence);
+        spanEvent.setDepth(1);
+        spanEvent.setServiceType((short) 1011);
+        spanEvent.setTraceTime(SpanVersion.TRACE_V2, sequence, 1);
+        return spanEvent;
+    }
+
     private SpanChunkBo newMinimalSpanChunk(TraceSourceType type) {
         SpanOwner spanOwner = new SpanOwner();
         spanOwner.setAgentId("agent");
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.timeseries.column;
+
+import com.google.common.primitives.Doubles;
+import com.navercorp.pinpoint.common.timeseries.point.DataPoint;
+import com.navercorp.pinpoint.common.timeseries.point.Points;
+import com.navercorp.pinpoint.common.timeseries.window.TimeWindow;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Columnar double time series: parallel {@code long[]} timestamps and {@code double[]} values,
+ * plus a validity bitmap marking the slots that hold a collected value.
+ * <p>
+ * Replaces {@code List<DataPoint<Double>>} on chart paths, so that filling a {@link TimeWindow}
+ * does not allocate a point per slot and values are not boxed until serialization.
+ */
+public final class TimeSeries {
+
+    private final long[] timestamps;
+    private final double[] values;
+    private final long[] validity;
+
+    private TimeSeries(long[] timestamps, double[] values, long[] validity) {
+        this.timestamps = timestamps;
+        this.values = values;
+        this.validity = validity;
+    }
+
+    /**
+     * All values are valid.
+     */
+    public static TimeSeries of(long[] timestamps, double[] values) {
+        Objects.requireNonNull(timestamps, "timestamps");
+        Objects.requireNonNull(values, "values");
+        if (timestamps.length != values.length) {
+            throw new IllegalArgumentException("length mismatch timestamps:" + timestamps.length + " values:" + values.length);
+        }
+        final long[] validity = newBitmap(timestamps.length);
+        for (int i = 0; i < timestamps.length; i++) {
+            setBit(validity, i);
+        }
+        return new TimeSeries(timestamps, values, validity);
+    }
+
+    public static <T> TimeSeries of(List<T> points, ToLongFunction<T> timestampFunction, ToDoubleFunction<T> valueFunction) {
+        Objects.requireNonNull(points, "points");
+        final int size = points.size();
+        final long[] timestamps = new long[size];
+        final double[] values = new double[size];
+        int i = 0;
+        for (T point : points) {
+            timestamps[i] = timestampFunction.applyAsLong(point);
+            values[i] = valueFunction.applyAsDouble(point);
+            i++;
+        }
+        return of(timestamps, values);
+    }
+
+    /**
+     * Maps the point list returned by the Pinot DAOs.
+     */
+    public static TimeSeries ofDataPoints(List<DataPoint<Double>> points) {
+        return of(points, DataPoint::getTimestamp, Points::asDouble);
+    }
+
+    public int size() {
+        return timestamps.length;
+    }
+
+    public long getTimestamp(int index) {
+        return timestamps[index];
+    }
+
+    public double getValue(int index) {
+        return values[index];
+    }
+
+    public boolean isValid(int index) {
+        Objects.checkIndex(index, timestamps.length);
+        return (validity[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public int validCount() {
+        int count = 0;
+        for (long word : validity) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Places every valid point into its slot of the window. When several points share a slot the last one wins,
+     * the same as {@code TimeSeriesBuilder}. Slots without a point are invalid.
+     */
+    public TimeSeries align(TimeWindow timeWindow) {
+        return downSample(timeWindow, Aggregation.LAST);
+    }
+
+    /**
+     * Reduces the valid points of each window slot with the given aggregation.
+     * Slots without a point are invalid.
+     */
+    public TimeSeries downSample(TimeWindow timeWindow, Aggregation aggregation) {
+        Objects.requireNonNull(timeWindow, "timeWindow");
+        Objects.requireNonNull(aggregation, "aggregation");
+
+        final int slotCount = timeWindow.getWindowRangeCount();
+        final long from = timeWindow.getWindowRange().getFrom();
+        final long slotSize = timeWindow.getWindowSlotSize();
+
+        final long[] slotTimestamps = new long[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            slotTimestamps[i] = from + i * slotSize;
+        }
+
+        // branch-free pass over the timestamp column, same arithmetic as TimeWindow.getWindowIndex()
+        final int size = size();
+        final long[] slotIndexes = new long[size];
+        for (int i = 0; i < size; i++) {
+            slotIndexes[i] = (timestamps[i] - from) / slotSize;
+        }
+
+        final double[] slotValues = new double[slotCount];
+        final int[] counts = new int[slotCount];
+        for (int i = 0; i < size; i++) {
+            final long slot = slotIndexes[i];
+            if (slot < 0 || slot >= slotCount || !isValid(i)) {
+                continue;
+            }
+            final int index = (int) slot;
+            slotValues[index] = aggregation.accumulate(slotValues[index], values[i], counts[index]);
+            counts[index]++;
+        }
+
+        final long[] slotValidity = newBitmap(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            final int count = counts[i];
+            if (count > 0) {
+                slotValues[i] = aggregation.finish(slotValues[i], count);
+                setBit(slotValidity, i);
+            }
+        }
+        return new TimeSeries(slotTimestamps, slotValues, slotValidity);
+    }
+
+    public long[] getTimestamps() {
+        return timestamps.clone();
+    }
+
+    /**
+     * @param defaultValue value for the invalid slots
+     */
+    public double[] getValues(double defaultValue) {
+        final double[] copy = values.clone();
+        for (int i = 0; i < copy.length; i++) {
+            if (!isValid(i)) {
+                copy[i] = defaultValue;
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * @param defaultValue value for the invalid slots
+     * @return a list view over a primitive array
+     */
+    public List<Double> asList(double defaultValue) {
+        return Doubles.asList(getValues(defaultValue));
+    }
+
+    private static long[] newBitmap(int size) {
+        return new long[(size + 63) >>> 6];
+    }
+
+    private static void setBit(long[] bitmap, int index) {
+        bitmap[index >>> 6] |= 1L << index;
+    }
+
+    public enum Aggregation {
+        SUM {
+            @Override
+            double accumulate(double acc, double value, int count) {
+                return acc + value;
+            }
+        },
+        AVG {
+            @Override
+            double accumulate(double acc, double value, int count) {
+                return acc + value;
+            }
+
+            @Override
+            double finish(double acc, int count) {
+                return acc / count;
+            }
+        },
+        MIN {
+            @Override
+            double accumulate(double acc, double value, int count) {
+                return count == 0 ? value : Math.min(acc, value);
+            }
+        },
+        MAX {
+            @Override
+            double accumulate(double acc, double value, int count) {
+                return count == 0 ? value : Math.max(acc, value);
+            }
+        },
+        LAST {
+            @Override
+            double accumulate(double acc, double value, int count) {
+                return value;
+            }
+        };
+
+        abstract double accumulate(double acc, double value, int count);
+
+        double finish(double acc, int count) {
+            return acc;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TimeSeries{" +
+                "timestamps=" + Arrays.toString(timestamps) +
+                ", values=" + Arrays.toString(values) +
+                ", validCount=" + validCount() +
+                '}';
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.timeseries.column;
+
+import com.navercorp.pinpoint.common.timeseries.point.DataPoint;
+import com.navercorp.pinpoint.common.timeseries.point.Points;
+import com.navercorp.pinpoint.common.timeseries.time.Range;
+import com.navercorp.pinpoint.common.timeseries.window.TimeWindow;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeSeriesTest {
+
+    private static final long MINUTE = TimeUnit.MINUTES.toMillis(1);
+
+    // 0 ~ 4 minutes, one minute slots
+    private final TimeWindow timeWindow = new TimeWindow(Range.between(0L, 4 * MINUTE));
+
+    @Test
+    void align() {
+        List<DataPoint<Double>> points = List.of(
+                Points.ofDouble(0, 1.0),
+                Points.ofDouble(2 * MINUTE, 2.0),
+                Points.ofDouble(2 * MINUTE + 10, 3.0),
+                Points.ofDouble(10 * MINUTE, 9.0));
+
+        TimeSeries aligned = TimeSeries.ofDataPoints(points).align(timeWindow);
+
+        assertThat(aligned.size()).isEqualTo(5);
+        assertThat(aligned.getTimestamps()).containsExactly(0, MINUTE, 2 * MINUTE, 3 * MINUTE, 4 * MINUTE);
+        assertThat(aligned.asList(-1)).containsExactly(1.0, -1.0, 3.0, -1.0, -1.0);
+        assertThat(aligned.isValid(0)).isTrue();
+        assertThat(aligned.isValid(1)).isFalse();
+        assertThat(aligned.validCount()).isEqualTo(2);
+    }
+
+    @Test
+    void downSample() {
+        TimeSeries series = TimeSeries.of(
+                new long[]{0, 10, 20, MINUTE, 3 * MINUTE},
+                new double[]{1, 5, 3, 4, 2});
+
+        assertThat(series.downSample(timeWindow, TimeSeries.Aggregation.SUM).getValues(0))
+                .containsExactly(9, 4, 0, 2, 0);
+        assertThat(series.downSample(timeWindow, TimeSeries.Aggregation.AVG).getValues(0))
+                .containsExactly(3, 4, 0, 2, 0);
+        assertThat(series.downSample(timeWindow, TimeSeries.Aggregation.MIN).getValues(0))
+                .containsExactly(1, 4, 0, 2, 0);
+        assertThat(series.downSample(timeWindow, TimeSeries.Aggregation.MAX).getValues(0))
+                .containsExactly(5, 4, 0, 2, 0);
+    }
+
+    @Test
+    void downSample_skipInvalid() {
+        TimeSeries aligned = TimeSeries.of(new long[]{0, 2 * MINUTE}, new double[]{1, 2})
+                .align(timeWindow);
+
+        TimeSeries twoMinutes = aligned.downSample(new TimeWindow(Range.between(0L, 4 * MINUTE), duration -> 2 * MINUTE),
+                TimeSeries.Aggregation.AVG);
+
+        assertThat(twoMinutes.size()).isEqualTo(3);
+        assertThat(twoMinutes.getValues(-1)).containsExactly(1, 2, -1);
+    }
+}
@@ -62,6 +62,7 @@ import static com.navercorp.pinpoint.common.trace.AnnotationKeyProperty.VIEW_IN_
  * <tr><td>22</td><td>SQL-METADATA</td></tr>
  * <tr><td>23</td><td>SQL-PARAM</td></tr>
  * <tr><td>24</td><td>SQL-BindValue</td></tr>
+ * <tr><td>26</td><td>SQL-BindValue-Binary</td></tr>
  * <tr><td>30</td><td>STRING_ID</td></tr>
  * <tr><td>40</td><td>http.url</td></tr>
  * <tr><td>41</td><td>http.param</td></tr>
@@ -198,6 +199,7 @@ public interface AnnotationKey {
     AnnotationKey SQL_PARAM = AnnotationKeyFactory.of(23, "SQL-PARAM");
     AnnotationKey SQL_BINDVALUE = AnnotationKeyFactory.of(24, "SQL-BindValue", VIEW_IN_RECORD_SET);
     AnnotationKey SQL_UID = AnnotationKeyFactory.of(25, "SQL-UID");
+    AnnotationKey SQL_BINDVALUE_BINARY = AnnotationKeyFactory.of(26, "SQL-BindValue-Binary");
 
     AnnotationKey STRING_ID = AnnotationKeyFactory.of(30, "STRING_ID");
 
@@ -24,12 +24,14 @@ import com.navercorp.pinpoint.common.trace.ServiceType;
 import com.navercorp.pinpoint.exceptiontrace.collector.dao.ExceptionTraceDao;
 import com.navercorp.pinpoint.exceptiontrace.common.model.ExceptionMetaData;
 import com.navercorp.pinpoint.exceptiontrace.common.model.StackTraceElementWrapper;
+import com.navercorp.pinpoint.exceptiontrace.common.model.StackTraceFingerprint;
 import com.navercorp.pinpoint.loader.service.ServiceTypeRegistryService;
 import com.navercorp.pinpoint.pinot.tenant.TenantProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -70,6 +72,30 @@ public class PinotExceptionMetaDataService implements ExceptionMetaDataService {
         final String tenantId = tenantProvider.getTenantId();
         for (ExceptionWrapperBo e : exceptionWrapperBos) {
             final List<StackTraceElementWrapper> wrappers = traceElementWrappers(e.getStackTraceElements());
+            final String fingerprint = StackTraceFingerprint.getFingerprint(wrappers);
+            if (fingerprint != null) {
+                // frames were shipped before, the web resolves them by hash
+                exceptionMetaData.add(
+                        new ExceptionMetaData(
+                                tenantId,
+                                e.getStartTime(),
+                                exceptionMetaDataBo.getTransactionId().toString(),
+                                exceptionMetaDataBo.getSpanId(),
+                                e.getExceptionId(),
+                                serviceType.getName(),
+                                exceptionMetaDataBo.getServiceName(),
+                                exceptionMetaDataBo.getApplicationName(),
+                                exceptionMetaDataBo.getAgentId(),
+                                exceptionMetaDataBo.getUriTemplate(),
+                                e.getExceptionClassName(),
+                                e.getExceptionMessage(),
+                                e.getExceptionDepth(),
+                                Collections.emptyList(),
+                                fingerprint
+                        )
+                );
+                continue;
+            }
             exceptionMetaData.add(
                     ExceptionMetaData.valueOf(
                             tenantId,
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.exceptiontrace.common.model;
+
+import java.util.List;
+
+/**
+ * Agents may send an already shipped stack trace as a single fingerprint frame
+ * whose method name is the stack trace hash.
+ */
+public final class StackTraceFingerprint {
+
+    public static final String FINGERPRINT_CLASS_NAME = "$PinpointStackTraceHash";
+
+    // pinot stores an empty multi-value column as its default null value
+    public static final String PINOT_DEFAULT_NULL = "null";
+
+    private StackTraceFingerprint() {
+    }
+
+    /**
+     * @return the referenced stack trace hash, or {@code null} if the frames are not a fingerprint
+     */
+    public static String getFingerprint(List<StackTraceElementWrapper> stackTrace) {
+        if (stackTrace == null || stackTrace.size() != 1) {
+            return null;
+        }
+        final StackTraceElementWrapper element = stackTrace.get(0);
+        if (FINGERPRINT_CLASS_NAME.equals(element.getClassName())) {
+            return element.getMethodName();
+        }
+        return null;
+    }
+
+    public static boolean isMissing(List<StackTraceElementWrapper> stackTrace) {
+        if (stackTrace == null || stackTrace.isEmpty()) {
+            return true;
+        }
+        return stackTrace.size() == 1 && PINOT_DEFAULT_NULL.equals(stackTrace.get(0).getClassName());
+    }
+}
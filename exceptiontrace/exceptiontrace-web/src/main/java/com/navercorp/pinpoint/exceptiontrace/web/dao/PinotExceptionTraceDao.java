@@ -16,11 +16,16 @@
 
 package com.navercorp.pinpoint.exceptiontrace.web.dao;
 
+import com.navercorp.pinpoint.common.timeseries.time.Range;
+import com.navercorp.pinpoint.common.util.StringUtils;
 import com.navercorp.pinpoint.exceptiontrace.common.model.ExceptionMetaData;
+import com.navercorp.pinpoint.exceptiontrace.common.model.StackTraceElementWrapper;
+import com.navercorp.pinpoint.exceptiontrace.common.model.StackTraceFingerprint;
 import com.navercorp.pinpoint.exceptiontrace.web.entity.ExceptionGroupSummaryEntity;
 import com.navercorp.pinpoint.exceptiontrace.web.entity.ExceptionMetaDataEntity;
 import com.navercorp.pinpoint.exceptiontrace.web.entity.ExceptionChartValueViewEntity;
 import com.navercorp.pinpoint.exceptiontrace.web.mapper.ExceptionEntityMapper;
+import com.navercorp.pinpoint.exceptiontrace.web.mapper.StackTraceMapper;
 import com.navercorp.pinpoint.exceptiontrace.web.model.ExceptionGroupSummary;
 import com.navercorp.pinpoint.exceptiontrace.web.util.ExceptionTraceQueryParameter;
 import com.navercorp.pinpoint.exceptiontrace.web.view.ExceptionChartValueView;
@@ -29,10 +34,16 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.mybatis.spring.SqlSessionTemplate;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -49,25 +60,94 @@ public class PinotExceptionTraceDao implements ExceptionTraceDao {
     private static final String SELECT_EXACT_QUERY = "selectExactException";
     private static final String SELECT_GROUP_SUMMARIES_QUERY = "selectGroupSummaries";
     private static final String SELECT_CHART_QUERY = "selectChartValueViews";
+    private static final String SELECT_STACK_TRACE_QUERY = "selectStackTraceByHash";
+
+    private static final int STACK_TRACE_LOOKUP_LIMIT = 10;
 
     private final SqlSessionTemplate sqlPinotSessionTemplate;
 
     private final ExceptionEntityMapper mapper;
+    private final StackTraceMapper stackTraceMapper;
+    private final long reshipIntervalMillis;
 
     public PinotExceptionTraceDao(
             @Qualifier("exceptionTracePinotSessionTemplate") SqlSessionTemplate sqlPinotSessionTemplate,
-            ExceptionEntityMapper mapper
+            ExceptionEntityMapper mapper,
+            StackTraceMapper stackTraceMapper,
+            @Value("${web.exceptiontrace.stacktrace.reship-interval:600000}") long reshipIntervalMillis
     ) {
         this.sqlPinotSessionTemplate = Objects.requireNonNull(sqlPinotSessionTemplate, "sqlPinotSessionTemplate");
         this.mapper = Objects.requireNonNull(mapper, "mapper");
+        this.stackTraceMapper = Objects.requireNonNull(stackTraceMapper, "stackTraceMapper");
+        this.reshipIntervalMillis = reshipIntervalMillis;
     }
 
     @Override
     public List<ExceptionDetailView> getExceptions(ExceptionTraceQueryParameter exceptionTraceQueryParameter) {
         List<ExceptionMetaDataEntity> dataEntities = this.sqlPinotSessionTemplate.selectList(NAMESPACE + SELECT_QUERY, exceptionTraceQueryParameter);
-        return dataEntities.stream()
+        List<ExceptionDetailView> views = dataEntities.stream()
                 .map(mapper::toDetailView)
                 .collect(Collectors.toList());
+        resolveStackTraces(views, exceptionTraceQueryParameter);
+        return views;
+    }
+
+    private void resolveStackTraces(List<ExceptionDetailView> views, ExceptionTraceQueryParameter exceptionTraceQueryParameter) {
+        final Set<String> pending = new HashSet<>();
+        for (ExceptionDetailView view : views) {
+            if (StringUtils.hasLength(view.getStackTraceHash()) && StackTraceFingerprint.isMissing(view.getStackTrace())) {
+                pending.add(view.getStackTraceHash());
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        final Map<String, List<StackTraceElementWrapper>> resolved = new HashMap<>();
+        while (!pending.isEmpty()) {
+            final int limit = pending.size() * STACK_TRACE_LOOKUP_LIMIT;
+            final List<ExceptionMetaDataEntity> entities = selectStackTraces(exceptionTraceQueryParameter, pending, limit);
+            for (ExceptionMetaDataEntity entity : entities) {
+                if (pending.remove(entity.getStackTraceHash())) {
+                    resolved.put(entity.getStackTraceHash(), stackTraceMapper.stackTrace(entity));
+                }
+            }
+            // a truncated result may have been filled by a few frequent hashes, look up the rest again
+            if (entities.size() < limit) {
+                break;
+            }
+        }
+        if (!pending.isEmpty()) {
+            logger.debug("stackTrace not found. stackTraceHashes:{}", pending);
+        }
+
+        for (ExceptionDetailView view : views) {
+            if (!StackTraceFingerprint.isMissing(view.getStackTrace())) {
+                continue;
+            }
+            final List<StackTraceElementWrapper> stackTrace = resolved.get(view.getStackTraceHash());
+            if (stackTrace != null) {
+                view.setStackTrace(stackTrace);
+            }
+        }
+    }
+
+    private List<ExceptionMetaDataEntity> selectStackTraces(ExceptionTraceQueryParameter exceptionTraceQueryParameter,
+                                                            Collection<String> stackTraceHashes, int limit) {
+        Map<String, Object> parameter = new HashMap<>();
+        parameter.put("tableName", exceptionTraceQueryParameter.getTableName());
+        parameter.put("tenantId", exceptionTraceQueryParameter.getTenantId());
+        parameter.put("serviceName", exceptionTraceQueryParameter.getServiceName());
+        parameter.put("applicationName", exceptionTraceQueryParameter.getApplicationName());
+        parameter.put("stackTraceHashes", stackTraceHashes);
+        parameter.put("missingClassNames", List.of(StackTraceFingerprint.PINOT_DEFAULT_NULL, StackTraceFingerprint.FINGERPRINT_CLASS_NAME));
+        final Range range = exceptionTraceQueryParameter.getRange();
+        if (range != null) {
+            // the frames of a fingerprint row were shipped at most one re-ship interval before it
+            parameter.put("range", Range.unchecked(Math.max(0, range.getFrom() - reshipIntervalMillis), range.getTo()));
+        }
+        parameter.put("limit", limit);
+        return this.sqlPinotSessionTemplate.selectList(NAMESPACE + SELECT_STACK_TRACE_QUERY, parameter);
     }
 
     @Override
@@ -74,6 +74,22 @@ public class ExceptionTraceQueryParameter extends QueryParameter {
         this.timeWindowRangeCount = builder.timeWindowRangeCount;
     }
 
+    public String getTableName() {
+        return tableName;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    public String getApplicationName() {
+        return applicationName;
+    }
+
     public List<GroupByAttributes> getGroupByAttributes() {
         return groupByAttributes;
     }
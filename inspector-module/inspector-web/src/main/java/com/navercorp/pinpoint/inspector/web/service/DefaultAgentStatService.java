@@ -16,10 +16,9 @@
 
 package com.navercorp.pinpoint.inspector.web.service;
 
-import com.navercorp.pinpoint.common.timeseries.array.DoubleArray;
+import com.navercorp.pinpoint.common.timeseries.column.TimeSeries;
 import com.navercorp.pinpoint.common.timeseries.point.DataPoint;
 import com.navercorp.pinpoint.common.timeseries.point.DoubleDataPoint;
-import com.navercorp.pinpoint.common.timeseries.point.Points;
 import com.navercorp.pinpoint.common.timeseries.window.TimeWindow;
 import com.navercorp.pinpoint.inspector.web.dao.model.AgentStatPoint;
 import com.navercorp.pinpoint.inspector.web.dao.AgentStatDao;
@@ -40,7 +39,6 @@ import com.navercorp.pinpoint.inspector.web.model.InspectorMetricValue;
 import com.navercorp.pinpoint.metric.common.model.Tag;
 import com.navercorp.pinpoint.metric.common.util.PointCreator;
 import com.navercorp.pinpoint.metric.common.util.TagUtils;
-import com.navercorp.pinpoint.metric.common.util.TimeSeriesBuilder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -172,10 +170,9 @@ public class DefaultAgentStatService implements AgentStatService {
 
         List<DataPoint<Double>> postProcessedDataList = postprocessFieldData(field, sampledSystemMetricDataList);
 
-        TimeSeriesBuilder builder = new TimeSeriesBuilder(timeWindow);
-        List<DataPoint<Double>> filledSystemMetricDataList = builder.buildDoubleMetric(PointCreator::doublePoint, postProcessedDataList);
-
-        List<Double> valueList = DoubleArray.asList(filledSystemMetricDataList, Points::asDouble);
+        List<Double> valueList = TimeSeries.ofDataPoints(postProcessedDataList)
+                .align(timeWindow)
+                .asList(PointCreator.UNCOLLECTED_DOUBLE);
 
         return new InspectorMetricValue(field.getFieldAlias(), field.getTags(), field.getChartType(), field.getUnit(), valueList);
     }
@@ -1,11 +1,10 @@
 package com.navercorp.pinpoint.inspector.web.service;
 
 import com.google.common.primitives.Doubles;
-import com.navercorp.pinpoint.common.timeseries.array.DoubleArray;
+import com.navercorp.pinpoint.common.timeseries.column.TimeSeries;
 import com.navercorp.pinpoint.common.timeseries.point.DataPoint;
 import com.navercorp.pinpoint.common.timeseries.point.DoubleDataPoint;
 import com.navercorp.pinpoint.common.timeseries.point.Point;
-import com.navercorp.pinpoint.common.timeseries.point.Points;
 import com.navercorp.pinpoint.common.timeseries.window.TimeWindow;
 import com.navercorp.pinpoint.inspector.web.dao.ApplicationStatDao;
 import com.navercorp.pinpoint.inspector.web.definition.AggregationFunction;
@@ -195,10 +194,9 @@ public class DefaultApplicationStatService implements ApplicationStatService {
 
     private InspectorMetricValue createInspectorMetricValue(TimeWindow timeWindow, Field field,
                                                             List<DataPoint<Double>> sampledSystemMetricDataList) {
-        TimeSeriesBuilder builder = new TimeSeriesBuilder(timeWindow);
-        List<DataPoint<Double>> filledSystemMetricDataList = builder.buildDoubleMetric(PointCreator::doublePoint, sampledSystemMetricDataList);
-
-        List<Double> valueList = DoubleArray.asList(filledSystemMetricDataList, Points::asDouble);
+        List<Double> valueList = TimeSeries.ofDataPoints(sampledSystemMetricDataList)
+                .align(timeWindow)
+                .asList(PointCreator.UNCOLLECTED_DOUBLE);
 
         return newInspectorMetric(field.getFieldAlias(), field, valueList);
     }
@@ -28,7 +28,10 @@ import reactor.core.scheduler.Scheduler;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 /**
@@ -36,11 +39,16 @@ import java.util.function.Consumer;
  */
 class LogConsumerServiceImpl implements LogConsumerService {
 
+    // demands extending the outstanding one by less than this are not forwarded to the agents
+    private static final long DEMAND_COALESCE_MILLIS = 1000;
+
     private final Scheduler scheduler;
 
     private final LogAcceptorRepository acceptorRepository;
     private final LogConsumerRepository consumerRepository;
 
+    private final Map<FileKey, Long> demandDeadlines = new ConcurrentHashMap<>();
+
     LogConsumerServiceImpl(
             Scheduler scheduler,
             LogAcceptorRepository acceptorRepository,
@@ -57,7 +65,10 @@ class LogConsumerServiceImpl implements LogConsumerService {
             LogConsumerImpl consumer = new LogConsumerImpl(key, sink::next);
             this.consumerRepository.addConsumer(consumer);
             request(key, duration);
-            sink.onDispose(() -> this.consumerRepository.removeConsumer(consumer));
+            sink.onDispose(() -> {
+                this.consumerRepository.removeConsumer(consumer);
+                expireDemand(key);
+            });
         }).take(duration, this.scheduler);
     }
 
@@ -67,12 +78,35 @@ class LogConsumerServiceImpl implements LogConsumerService {
     }
 
     private void request(FileKey key, Duration duration) {
+        Set<LogDemandAcceptor> acceptors = this.acceptorRepository.getAcceptors(key);
+        if (acceptors.isEmpty()) {
+            return;
+        }
+
+        long deadline = System.currentTimeMillis() + duration.toMillis();
+        boolean[] forward = new boolean[1];
+        this.demandDeadlines.compute(key, (k, outstanding) -> {
+            if (outstanding != null && deadline - outstanding < DEMAND_COALESCE_MILLIS) {
+                return outstanding;
+            }
+            forward[0] = true;
+            return deadline;
+        });
+        if (!forward[0]) {
+            return;
+        }
+
         LogDemand demand = new LogDemand(key, duration.toMillis());
-        for (LogDemandAcceptor acceptor: this.acceptorRepository.getAcceptors(key)) {
+        for (LogDemandAcceptor acceptor: acceptors) {
             acceptor.accept(demand);
         }
     }
 
+    private void expireDemand(FileKey key) {
+        long now = System.currentTimeMillis();
+        this.demandDeadlines.computeIfPresent(key, (k, deadline) -> deadline <= now ? null : deadline);
+    }
+
     private static class LogConsumerImpl implements LogConsumer {
 
         private final FileKey fileKey;
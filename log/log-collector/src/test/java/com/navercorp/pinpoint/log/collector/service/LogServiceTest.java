@@ -26,6 +26,7 @@ import reactor.core.scheduler.Schedulers;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -68,4 +69,32 @@ public class LogServiceTest {
         ).isNotNull().isEmpty();
     }
 
+    @Test
+    public void testCoalesceDemands() throws Exception {
+        LogAcceptorRepository acceptorRepository = new LogAcceptorRepository();
+        LogConsumerRepository consumerRepository = new LogConsumerRepository();
+
+        LogConsumerService consumerService =
+                new LogConsumerServiceImpl(Schedulers.boundedElastic(), acceptorRepository, consumerRepository);
+        LogProviderService providerService =
+                new LogProviderServiceImpl(acceptorRepository, consumerRepository);
+
+        FileKey fileKey = FileKey.parse("hostGroup-1:host-1:file-1");
+        AtomicInteger demandCount = new AtomicInteger();
+        Disposable providerDisposable = providerService.getDemands(fileKey)
+                .subscribe(demand -> demandCount.incrementAndGet());
+
+        Disposable tail1 = consumerService.tail(fileKey, Duration.ofSeconds(10)).subscribe();
+        Disposable tail2 = consumerService.tail(fileKey, Duration.ofSeconds(10)).subscribe();
+        assertThat(demandCount.get()).isEqualTo(1);
+
+        Disposable tail3 = consumerService.tail(fileKey, Duration.ofSeconds(20)).subscribe();
+        assertThat(demandCount.get()).isEqualTo(2);
+
+        tail1.dispose();
+        tail2.dispose();
+        tail3.dispose();
+        providerDisposable.dispose();
+    }
+
 }
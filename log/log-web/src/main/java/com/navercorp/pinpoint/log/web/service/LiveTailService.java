@@ -36,4 +36,6 @@ public interface LiveTailService {
 
     List<FileKey> getFileKeys(String hostGroupName, @Nullable List<String> hostNames, @Nullable List<String> fileNames);
 
+    long getDroppedLineCount();
+
 }
@@ -22,6 +22,7 @@ import com.navercorp.pinpoint.log.web.vo.LiveTailBatch;
 import com.navercorp.pinpoint.web.util.ListListUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import reactor.core.publisher.BufferOverflowStrategy;
 import reactor.core.publisher.Flux;
 
 import java.time.Duration;
@@ -30,6 +31,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
 /**
@@ -37,18 +41,38 @@ import java.util.function.Supplier;
  */
 public class LiveTailServiceImpl implements LiveTailService {
 
+    public static final int DEFAULT_MAX_PENDING_BATCHES = 64;
+
     private final Logger logger = LogManager.getLogger(LiveTailServiceImpl.class);
 
     private final LiveTailDao dao;
 
     private final Supplier<Map<String, List<FileKey>>> fileKeyMapSupplier;
 
+    private final int maxPendingBatches;
+
+    // one upstream subscription per file, shared by every viewer tailing it
+    private final Map<FileKey, Flux<LogPile>> sharedTails = new ConcurrentHashMap<>();
+    private final LongAdder droppedLines = new LongAdder();
+
 
     public LiveTailServiceImpl(LiveTailDao dao) {
+        this(dao, DEFAULT_MAX_PENDING_BATCHES);
+    }
+
+    public LiveTailServiceImpl(LiveTailDao dao, int maxPendingBatches) {
         this.dao = Objects.requireNonNull(dao, "dao");
         this.fileKeyMapSupplier = new LogFileKeyMapSupplier(this.dao);
+        if (maxPendingBatches <= 0) {
+            throw new IllegalArgumentException("maxPendingBatches must be positive");
+        }
+        this.maxPendingBatches = maxPendingBatches;
     }
 
+    /**
+     * Batches are buffered per subscriber up to {@code maxPendingBatches}. A subscriber that requests
+     * slower than batches are produced loses the oldest pending ones instead of stalling the shared file streams.
+     */
     @Override
     public Flux<List<LiveTailBatch>> tail(List<FileKey> fileKeys) {
         return this.tail0(fileKeys)
@@ -62,7 +86,22 @@ public class LiveTailServiceImpl implements LiveTailService {
                         )
                         .collectList()
                 )
-                .filter(el -> !el.isEmpty());
+                .filter(el -> !el.isEmpty())
+                .onBackpressureBuffer(this.maxPendingBatches, this::onDropped, BufferOverflowStrategy.DROP_OLDEST);
+    }
+
+    private void onDropped(List<LiveTailBatch> batches) {
+        long lines = 0;
+        for (LiveTailBatch batch: batches) {
+            lines += batch.logs().size();
+        }
+        this.droppedLines.add(lines);
+        logger.debug("Dropped {} lines for a slow live-tail viewer", lines);
+    }
+
+    @Override
+    public long getDroppedLineCount() {
+        return this.droppedLines.sum();
     }
 
     private Flux<LogPileWithSource> tail0(List<FileKey> fileKeys) {
@@ -79,13 +118,27 @@ public class LiveTailServiceImpl implements LiveTailService {
     private Flux<LogPileWithSource> tail0(FileKey fileKey) {
         try {
             logger.debug("Requesting tail of {}", fileKey);
-            return this.dao.tail(fileKey).map(pile -> new LogPileWithSource(fileKey, pile));
+            return sharedTail(fileKey).map(pile -> new LogPileWithSource(fileKey, pile));
         } catch (Exception e) {
             logger.error("Failed to tail {}", fileKey, e);
             return null;
         }
     }
 
+    private Flux<LogPile> sharedTail(FileKey fileKey) {
+        return this.sharedTails.computeIfAbsent(fileKey, this::newSharedTail);
+    }
+
+    private Flux<LogPile> newSharedTail(FileKey key) {
+        // a finished tail must not evict a newer one registered for the same key
+        AtomicReference<Flux<LogPile>> self = new AtomicReference<>();
+        Flux<LogPile> shared = this.dao.tail(key)
+                .doFinally(signal -> this.sharedTails.remove(key, self.get()))
+                .share();
+        self.set(shared);
+        return shared;
+    }
+
     @Override
     public Set<String> getHostGroupNames() {
         return this.getFileKeyMap().keySet();
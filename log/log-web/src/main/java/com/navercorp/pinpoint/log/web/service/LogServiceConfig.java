@@ -18,6 +18,10 @@ package com.navercorp.pinpoint.log.web.service;
 import com.navercorp.pinpoint.channel.redis.pubsub.RedisPubSubConfig;
 import com.navercorp.pinpoint.log.web.dao.LiveTailDao;
 import com.navercorp.pinpoint.log.web.dao.LogWebDaoConfig;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -30,8 +34,17 @@ import org.springframework.context.annotation.Import;
 public class LogServiceConfig {
 
     @Bean
-    LiveTailService liveTailService(LiveTailDao dao) {
-        return new LiveTailServiceImpl(dao);
+    LiveTailService liveTailService(
+            LiveTailDao dao,
+            @Value("${pinpoint.log.web.live-tail.max-pending-batches:64}") int maxPendingBatches,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        LiveTailService liveTailService = new LiveTailServiceImpl(dao, maxPendingBatches);
+        meterRegistry.ifAvailable(registry ->
+                FunctionCounter.builder("pinpoint.log.live-tail.dropped.lines", liveTailService, LiveTailService::getDroppedLineCount)
+                        .description("log lines dropped for slow live-tail viewers")
+                        .register(registry));
+        return liveTailService;
     }
 
 }
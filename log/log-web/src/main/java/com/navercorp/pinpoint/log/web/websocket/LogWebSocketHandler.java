@@ -29,6 +29,7 @@ import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.adapter.standard.StandardWebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
 
 import javax.annotation.Nonnull;
 import java.util.List;
@@ -87,7 +88,9 @@ class LogWebSocketHandler extends TextWebSocketHandler implements PinpointWebSoc
         List<String> fileNames = split(getUniParam(params, "fileNames"));
 
         List<FileKey> fileKeys = this.liveTailService.getFileKeys(hostGroupName, hostNames, fileNames);
+        // request one batch at a time so a slow session falls back on the service's drop policy
         Disposable disposable = this.liveTailService.tail(fileKeys)
+                .publishOn(Schedulers.boundedElastic(), 1)
                 .subscribe(supply -> sendSupply(session, supply));
         session.getAttributes().put(LIVE_TAIL_DISPOSABLE_ATTR, disposable);
     }
@@ -24,14 +24,24 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.util.function.Tuple2;
 
 import java.time.Duration;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -63,6 +73,65 @@ public class LiveTailServiceTest {
         assertThat(tail.get(0).get(0).logs().get(0)).isEqualTo(log);
     }
 
+    @Test
+    public void testTailSharedAcrossViewers() {
+        FileKey fileKey = FileKey.of("hostGroupName", "hostName", "fileName");
+        LogPile pile = new LogPile(0, List.of(new Log(0, 0, "hello")));
+
+        when(dao.tail(eq(fileKey))).thenReturn(Flux.just(pile).delaySubscription(Duration.ofMillis(50)));
+
+        LiveTailServiceImpl service = new LiveTailServiceImpl(dao);
+        Tuple2<List<List<LiveTailBatch>>, List<List<LiveTailBatch>>> tails = Mono.zip(
+                service.tail(List.of(fileKey)).take(Duration.ofMillis(400)).collectList(),
+                service.tail(List.of(fileKey)).take(Duration.ofMillis(400)).collectList()
+        ).block(Duration.ofSeconds(1));
+
+        assertThat(tails).isNotNull();
+        assertThat(tails.getT1()).hasSize(1);
+        assertThat(tails.getT2()).hasSize(1);
+        assertThat(tails.getT1().get(0).get(0).logs()).isEqualTo(pile.getLogs());
+        assertThat(tails.getT2().get(0).get(0).logs()).isEqualTo(pile.getLogs());
+        verify(dao, times(1)).tail(eq(fileKey));
+        assertThat(service.getDroppedLineCount()).isZero();
+    }
+
+    @Test
+    public void testTailDropsOldestForSlowSubscriber() throws Exception {
+        FileKey fileKey = FileKey.of("hostGroupName", "hostName", "fileName");
+
+        when(dao.tail(eq(fileKey))).thenReturn(Flux.interval(Duration.ofMillis(250))
+                .take(4)
+                .map(i -> new LogPile(i, List.of(new Log(i, 0, "log" + i)))));
+
+        LiveTailServiceImpl service = new LiveTailServiceImpl(dao, 1);
+        List<List<LiveTailBatch>> received = new CopyOnWriteArrayList<>();
+        CountDownLatch completed = new CountDownLatch(1);
+        BaseSubscriber<List<LiveTailBatch>> slowSubscriber = new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+            }
+
+            @Override
+            protected void hookOnNext(List<LiveTailBatch> value) {
+                received.add(value);
+            }
+
+            @Override
+            protected void hookFinally(SignalType type) {
+                completed.countDown();
+            }
+        };
+        service.tail(List.of(fileKey)).subscribe(slowSubscriber);
+
+        Thread.sleep(1500);
+        slowSubscriber.requestUnbounded();
+
+        assertThat(completed.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(received).hasSize(1);
+        assertThat(received.get(0).get(0).logs()).extracting(Log::getLog).containsExactly("log3");
+        assertThat(service.getDroppedLineCount()).isEqualTo(3);
+    }
+
     @Test
     public void testGetHostGroupNames() {
         mockDao();
@@ -4,6 +4,7 @@ import com.navercorp.pinpoint.common.server.metric.dao.TopicNameManager;
 import com.navercorp.pinpoint.metric.collector.cache.MetricCacheConfiguration;
 import com.navercorp.pinpoint.metric.collector.config.MetricCollectorProperties;
 import com.navercorp.pinpoint.metric.collector.config.MetricKafkaConfiguration;
+import com.navercorp.pinpoint.metric.collector.model.serialize.InfluxLineProtocolParser;
 import com.navercorp.pinpoint.metric.common.config.MetricCollectorPinotDaoConfiguration;
 import com.navercorp.pinpoint.pinot.config.PinotConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -35,6 +36,11 @@ import java.util.List;
 @ConditionalOnProperty(value = "pinpoint.modules.collector.systemmetric.enabled", havingValue = "true")
 public class MetricCollectorConfig {
 
+    @Bean
+    public InfluxLineProtocolParser influxLineProtocolParser() {
+        return new InfluxLineProtocolParser();
+    }
+
     @Bean("systemMetricTopicNameManagers")
     List<TopicNameManager> systemMetricTopicNameManagers(MetricCollectorProperties properties) {
         List<TopicNameManager> topicNameManagers = new ArrayList<>();
@@ -20,6 +20,7 @@ import com.navercorp.pinpoint.common.util.CollectionUtils;
 import com.navercorp.pinpoint.common.util.StringUtils;
 import com.navercorp.pinpoint.metric.collector.model.TelegrafMetric;
 import com.navercorp.pinpoint.metric.collector.model.TelegrafMetrics;
+import com.navercorp.pinpoint.metric.collector.model.serialize.InfluxLineProtocolParser;
 import com.navercorp.pinpoint.metric.collector.service.SystemMetricDataTypeService;
 import com.navercorp.pinpoint.metric.collector.service.SystemMetricService;
 import com.navercorp.pinpoint.metric.collector.service.SystemMetricTagService;
@@ -38,8 +39,11 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -58,6 +62,7 @@ public class TelegrafMetricController {
     private final SystemMetricDataTypeService systemMetricMetadataService;
     private final SystemMetricTagService systemMetricTagService;
     private final TenantProvider tenantProvider;
+    private final InfluxLineProtocolParser lineProtocolParser;
 
     private static final String[] ignoreTags = {"host"};
     private static final Pattern VALID_HOST_NAME = Pattern.compile("[a-z]([a-z0-9\\-._]{0,254}[a-z0-9])?");
@@ -66,11 +71,13 @@ public class TelegrafMetricController {
     public TelegrafMetricController(SystemMetricService systemMetricService,
                                     SystemMetricDataTypeService systemMetricMetadataService,
                                     SystemMetricTagService systemMetricTagService,
-                                    TenantProvider tenantProvider) {
+                                    TenantProvider tenantProvider,
+                                    InfluxLineProtocolParser lineProtocolParser) {
         this.systemMetricService = Objects.requireNonNull(systemMetricService, "systemMetricService");
         this.systemMetricMetadataService = Objects.requireNonNull(systemMetricMetadataService, "systemMetricMetadataService");
         this.systemMetricTagService = Objects.requireNonNull(systemMetricTagService, "systemMetricTagService");
         this.tenantProvider = Objects.requireNonNull(tenantProvider, "tenantProvider");
+        this.lineProtocolParser = Objects.requireNonNull(lineProtocolParser, "lineProtocolParser");
     }
 
 
@@ -105,14 +112,73 @@ public class TelegrafMetricController {
             logger.debug("hostGroupName:{} host:{} size:{}", hostGroupName, hostName, telegrafMetrics.size());
         }
 
+        List<DoubleMetric> metricList = toDoubleMetric(telegrafMetrics.getMetrics());
+        save(hostGroupName, hostName, metricList);
+
+        return ResponseEntity.ok(null);
+    }
+
+    /**
+     * telegraf influx output ({@code data_format = "influx"}).
+     * The body is parsed as a stream without binding it to {@link TelegrafMetrics}.
+     * Malformed lines are skipped and their count is returned in the body of the 200 response.
+     */
+    @PostMapping(value = "/telegraf/influx")
+    public ResponseEntity<String> saveSystemMetricLineProtocol(
+            @RequestHeader(value = "hostGroupName") String hostGroupName,
+            @RequestParam(value = "precision", defaultValue = "ns") String precision,
+            InputStream body
+    ) throws IOException {
+        if (!isValidGroupName(hostGroupName)) {
+            logger.warn("invalid hostGroupName='{}'", hostGroupName);
+            return ResponseEntity.badRequest().body("invalid hostGroupName='" + hostGroupName + "'");
+        }
+
+        final TimeUnit timeUnit;
+        try {
+            timeUnit = InfluxLineProtocolParser.toTimeUnit(precision);
+        } catch (IllegalArgumentException e) {
+            logger.warn("invalid precision. hostGroupName='{}' {}", hostGroupName, e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+
+        final InfluxLineProtocolParser.Result result = lineProtocolParser.parse(body, timeUnit);
+        // malformed lines are dropped, the rest of the batch is still saved
+        final String skipped = result.hasSkippedLines() ? skippedMessage(result) : null;
+        if (skipped != null) {
+            logger.warn("line protocol parse error. hostGroupName='{}' {}", hostGroupName, skipped);
+        }
+
+        final List<DoubleMetric> metricList = result.metrics();
+        if (metricList.isEmpty()) {
+            return ResponseEntity.ok(skipped);
+        }
+
+        String hostName = metricList.get(0).getHostName();
+        if (!isValidHostName(hostName)) {
+            logger.warn("invalid hostName='{}', hostGroupName='{}'", hostName, hostGroupName);
+        }
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("hostGroupName:{} host:{} size:{}", hostGroupName, hostName, metricList.size());
+        }
+
+        save(hostGroupName, hostName, metricList);
+
+        return ResponseEntity.ok(skipped);
+    }
+
+    private static String skippedMessage(InfluxLineProtocolParser.Result result) {
+        return "skipped invalid lines:" + result.skippedLines() + " first error:" + result.firstError();
+    }
+
+    private void save(String hostGroupName, String hostName, List<DoubleMetric> metricList) {
         String tenantId = tenantProvider.getTenantId();
 
-        Metrics systemMetric = toMetrics(tenantId, hostGroupName, hostName, telegrafMetrics);
+        Metrics systemMetric = new Metrics(tenantId, hostGroupName, hostName, metricList);
 
         updateMetadata(systemMetric);
         systemMetricService.insert(systemMetric);
-
-        return ResponseEntity.ok(null);
     }
 
     private String getHost(TelegrafMetrics metrics) {
@@ -128,14 +194,6 @@ public class TelegrafMetricController {
         return host.getValue();
     }
 
-    private Metrics toMetrics(String tenantId, String hostGroupName, String hostName, TelegrafMetrics telegrafMetrics) {
-        List<TelegrafMetric> metrics = telegrafMetrics.getMetrics();
-
-        List<DoubleMetric> metricList = toDoubleMetric(metrics);
-
-        return new Metrics(tenantId, hostGroupName, hostName, metricList);
-    }
-
     @NonNull
     private List<DoubleMetric> toDoubleMetric(List<TelegrafMetric> metrics) {
         List<DoubleMetric> result = new ArrayList<>();
@@ -0,0 +1,320 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.metric.collector.model.serialize;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.navercorp.pinpoint.metric.common.model.DoubleMetric;
+import com.navercorp.pinpoint.metric.common.model.Tag;
+import org.jspecify.annotations.Nullable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streaming parser for the InfluxDB line protocol written by telegraf
+ * ({@code data_format = "influx"}).
+ * <pre>
+ * measurement[,tag=value...] field=value[,field=value...] [timestamp]
+ * </pre>
+ * The request is read line by line and converted straight into {@link DoubleMetric}s.
+ * A telegraf agent repeats the same series keys ({@code measurement,tags}) on every flush,
+ * so parsed series keys are cached and their host, tag and field strings are shared
+ * between requests instead of being allocated per line.
+ * Integer and float fields are kept; string and boolean fields are skipped.
+ * A malformed line is skipped and counted, the remaining lines of the request are still parsed.
+ */
+public class InfluxLineProtocolParser {
+
+    private static final String HOST_TAG = "host";
+    private static final int DEFAULT_CACHE_SIZE = 100_000;
+
+    private final Cache<String, Series> seriesCache;
+    private final Cache<String, String> fieldNameCache;
+
+    public InfluxLineProtocolParser() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    InfluxLineProtocolParser(long maximumSize) {
+        this.seriesCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+        this.fieldNameCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    public Result parse(InputStream inputStream, TimeUnit precision) throws IOException {
+        return parse(new InputStreamReader(inputStream, StandardCharsets.UTF_8), precision);
+    }
+
+    public Result parse(Reader reader, TimeUnit precision) throws IOException {
+        final long receiveTime = System.currentTimeMillis();
+        final BufferedReader lineReader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+
+        List<DoubleMetric> result = new ArrayList<>();
+        int skippedLines = 0;
+        String firstError = null;
+        int lineNumber = 0;
+        String line;
+        while ((line = lineReader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || line.charAt(0) == '#') {
+                continue;
+            }
+            final int mark = result.size();
+            try {
+                parseLine(line, precision, receiveTime, result);
+            } catch (IllegalArgumentException e) {
+                // drop the fields already parsed from the malformed line
+                result.subList(mark, result.size()).clear();
+                if (skippedLines++ == 0) {
+                    firstError = "line:" + lineNumber + " " + e.getMessage();
+                }
+            }
+        }
+        return new Result(result, skippedLines, firstError);
+    }
+
+    private void parseLine(String line, TimeUnit precision, long receiveTime, List<DoubleMetric> result) {
+        final int seriesEnd = indexOfUnescaped(line, 0, ' ');
+        if (seriesEnd <= 0) {
+            throw new IllegalArgumentException("fields not found");
+        }
+        final Series series = getSeries(line.substring(0, seriesEnd));
+
+        final int fieldsStart = seriesEnd + 1;
+        final int fieldsEnd = fieldsEnd(line, fieldsStart);
+        final long eventTime = parseTimestamp(line, fieldsEnd, precision, receiveTime);
+
+        int index = fieldsStart;
+        while (index < fieldsEnd) {
+            final int equals = indexOfUnescaped(line, index, '=');
+            if (equals == -1 || equals >= fieldsEnd) {
+                throw new IllegalArgumentException("invalid field");
+            }
+            final String fieldName = getFieldName(line.substring(index, equals));
+
+            final int valueStart = equals + 1;
+            final int valueEnd = fieldValueEnd(line, valueStart, fieldsEnd);
+            if (valueStart == valueEnd) {
+                throw new IllegalArgumentException("empty field value. field:" + fieldName);
+            }
+            final char first = line.charAt(valueStart);
+            if (first != '"' && !isBoolean(first)) {
+                final double value = parseNumber(line, valueStart, valueEnd);
+                result.add(new DoubleMetric(series.metricName(), series.hostName(), fieldName, value, series.tags(), eventTime));
+            }
+            index = valueEnd + 1;
+        }
+    }
+
+    private Series getSeries(String seriesKey) {
+        Series series = seriesCache.getIfPresent(seriesKey);
+        if (series == null) {
+            series = parseSeries(seriesKey);
+            seriesCache.put(seriesKey, series);
+        }
+        return series;
+    }
+
+    private String getFieldName(String fieldKey) {
+        String fieldName = fieldNameCache.getIfPresent(fieldKey);
+        if (fieldName == null) {
+            fieldName = unescape(fieldKey);
+            fieldNameCache.put(fieldKey, fieldName);
+        }
+        return fieldName;
+    }
+
+    static Series parseSeries(String seriesKey) {
+        int measurementEnd = indexOfUnescaped(seriesKey, 0, ',');
+        if (measurementEnd == -1) {
+            measurementEnd = seriesKey.length();
+        }
+        final String metricName = unescape(seriesKey.substring(0, measurementEnd));
+        if (metricName.isEmpty()) {
+            throw new IllegalArgumentException("empty measurement");
+        }
+
+        String hostName = null;
+        List<Tag> tags = new ArrayList<>();
+        int index = measurementEnd + 1;
+        while (index < seriesKey.length()) {
+            int tagEnd = indexOfUnescaped(seriesKey, index, ',');
+            if (tagEnd == -1) {
+                tagEnd = seriesKey.length();
+            }
+            final int equals = indexOfUnescaped(seriesKey, index, '=');
+            if (equals == -1 || equals >= tagEnd) {
+                throw new IllegalArgumentException("invalid tag");
+            }
+            final String name = unescape(seriesKey.substring(index, equals));
+            final String value = unescape(seriesKey.substring(equals + 1, tagEnd));
+            if (HOST_TAG.equals(name)) {
+                hostName = value;
+            } else {
+                tags.add(new Tag(name, value));
+            }
+            index = tagEnd + 1;
+        }
+        if (hostName == null) {
+            throw new IllegalArgumentException("host tag not found");
+        }
+        return new Series(metricName, hostName, Collections.unmodifiableList(tags));
+    }
+
+    private static int fieldsEnd(String line, int fromIndex) {
+        boolean quoted = false;
+        for (int i = fromIndex; i < line.length(); i++) {
+            final char c = line.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ' ' && !quoted) {
+                return i;
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated string field");
+        }
+        return line.length();
+    }
+
+    private static int fieldValueEnd(String line, int fromIndex, int fieldsEnd) {
+        boolean quoted = false;
+        for (int i = fromIndex; i < fieldsEnd; i++) {
+            final char c = line.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ',' && !quoted) {
+                return i;
+            }
+        }
+        return fieldsEnd;
+    }
+
+    private static long parseTimestamp(String line, int fieldsEnd, TimeUnit precision, long receiveTime) {
+        final String timestamp = line.substring(fieldsEnd).trim();
+        if (timestamp.isEmpty()) {
+            return receiveTime;
+        }
+        try {
+            return precision.toMillis(Long.parseLong(timestamp));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid timestamp:" + timestamp);
+        }
+    }
+
+    private static boolean isBoolean(char c) {
+        return c == 't' || c == 'T' || c == 'f' || c == 'F';
+    }
+
+    private static double parseNumber(String line, int start, int end) {
+        final char last = line.charAt(end - 1);
+        try {
+            if (last == 'i') {
+                return Long.parseLong(line, start, end - 1, 10);
+            }
+            if (last == 'u') {
+                return parseUnsigned(line, start, end - 1);
+            }
+            return Double.parseDouble(line.substring(start, end));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid number:" + line.substring(start, end));
+        }
+    }
+
+    private static long parseUnsigned(String line, int start, int end) {
+        final long value = Long.parseUnsignedLong(line, start, end, 10);
+        if (value < 0) {
+            throw new IllegalArgumentException("unsigned value out of range:" + line.substring(start, end));
+        }
+        return value;
+    }
+
+    private static int indexOfUnescaped(String str, int fromIndex, char ch) {
+        for (int i = fromIndex; i < str.length(); i++) {
+            final char c = str.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == ch) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static String unescape(String str) {
+        if (str.indexOf('\\') == -1) {
+            return str;
+        }
+        StringBuilder builder = new StringBuilder(str.length());
+        for (int i = 0; i < str.length(); i++) {
+            final char c = str.charAt(i);
+            if (c == '\\' && i + 1 < str.length() && isEscapable(str.charAt(i + 1))) {
+                builder.append(str.charAt(++i));
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static boolean isEscapable(char c) {
+        return c == ',' || c == '=' || c == ' ' || c == '"' || c == '\\';
+    }
+
+    /**
+     * InfluxDB write API precision: n, ns, u, us, ms, s
+     */
+    public static TimeUnit toTimeUnit(String precision) {
+        return switch (precision) {
+            case "n", "ns" -> TimeUnit.NANOSECONDS;
+            case "u", "us" -> TimeUnit.MICROSECONDS;
+            case "ms" -> TimeUnit.MILLISECONDS;
+            case "s" -> TimeUnit.SECONDS;
+            default -> throw new IllegalArgumentException("unsupported precision:" + precision);
+        };
+    }
+
+    record Series(String metricName, String hostName, List<Tag> tags) {
+    }
+
+    /**
+     * @param metrics      metrics of the well-formed lines
+     * @param skippedLines number of malformed lines left out of {@code metrics}
+     * @param firstError   cause of the first skipped line, null if none was skipped
+     */
+    public record Result(List<DoubleMetric> metrics, int skippedLines, @Nullable String firstError) {
+        public boolean hasSkippedLines() {
+            return skippedLines > 0;
+        }
+    }
+}
@@ -17,11 +17,10 @@
 package com.navercorp.pinpoint.metric.web.service;
 
 
-import com.navercorp.pinpoint.common.timeseries.array.DoubleArray;
 import com.navercorp.pinpoint.common.timeseries.array.LongArray;
+import com.navercorp.pinpoint.common.timeseries.column.TimeSeries;
 import com.navercorp.pinpoint.common.timeseries.point.DataPoint;
 import com.navercorp.pinpoint.common.timeseries.point.LongDataPoint;
-import com.navercorp.pinpoint.common.timeseries.point.Points;
 import com.navercorp.pinpoint.common.timeseries.window.TimeWindow;
 import com.navercorp.pinpoint.metric.common.model.MetricDataName;
 import com.navercorp.pinpoint.metric.common.model.MetricDataType;
@@ -239,10 +238,9 @@ public class SystemMetricDataServiceImpl implements SystemMetricDataService {
     private MetricValue<Double> createSystemDoubleMetricValue(
                                                       TimeWindow timeWindow, MetricTag metricTag,
                                                       List<DataPoint<Double>> sampledSystemMetricDataList) {
-        TimeSeriesBuilder builder = new TimeSeriesBuilder(timeWindow);
-        List<DataPoint<Double>> filledSystemMetricDataList = builder.buildDoubleMetric(PointCreator::doublePoint, sampledSystemMetricDataList);
-
-        List<Double> list = DoubleArray.asList(filledSystemMetricDataList, Points::asDouble);
+        List<Double> list = TimeSeries.ofDataPoints(sampledSystemMetricDataList)
+                .align(timeWindow)
+                .asList(PointCreator.UNCOLLECTED_DOUBLE);
         return new MetricValue<>(metricTag.getFieldName(), metricTag.getTags(), list);
     }
 
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.metric.collector.model.serialize;
+
+import com.navercorp.pinpoint.metric.common.model.DoubleMetric;
+import com.navercorp.pinpoint.metric.common.model.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InfluxLineProtocolParserTest {
+
+    private final InfluxLineProtocolParser parser = new InfluxLineProtocolParser();
+
+    @Test
+    void parse() throws IOException {
+        String lines = """
+                cpu,cpu=cpu-total,host=host-1 usage_user=1.5,usage_system=2 1700000000000000000
+                mem,host=host-1 used=1024i,available=2048u 1700000000000000000
+                """;
+        List<DoubleMetric> metrics = parser.parse(new StringReader(lines), TimeUnit.NANOSECONDS).metrics();
+
+        assertThat(metrics).hasSize(4);
+        DoubleMetric first = metrics.get(0);
+        assertThat(first.getMetricName()).isEqualTo("cpu");
+        assertThat(first.getHostName()).isEqualTo("host-1");
+        assertThat(first.getFieldName()).isEqualTo("usage_user");
+        assertThat(first.getFieldValue()).isEqualTo(1.5);
+        assertThat(first.getTags()).containsExactly(new Tag("cpu", "cpu-total"));
+        assertThat(first.getEventTime()).isEqualTo(1700000000000L);
+
+        assertThat(metrics.get(2).getFieldValue()).isEqualTo(1024);
+        assertThat(metrics.get(3).getFieldValue()).isEqualTo(2048);
+        assertThat(metrics.get(2).getTags()).isEmpty();
+    }
+
+    @Test
+    void parse_seriesShared() throws IOException {
+        String line = "cpu,host=host-1,cpu=cpu0 usage_user=1 1700000000\n";
+        DoubleMetric first = parser.parse(new StringReader(line), TimeUnit.SECONDS).metrics().get(0);
+        DoubleMetric second = parser.parse(new StringReader(line), TimeUnit.SECONDS).metrics().get(0);
+
+        assertThat(second.getTags()).isSameAs(first.getTags());
+        assertThat(second.getHostName()).isSameAs(first.getHostName());
+        assertThat(second.getFieldName()).isSameAs(first.getFieldName());
+    }
+
+    @Test
+    void parse_skipNonNumeric() throws IOException {
+        String line = "system,host=host-1 uptime_format=\"1 day, 2:03\",healthy=true,load1=0.5 1700000000\n";
+        List<DoubleMetric> metrics = parser.parse(new StringReader(line), TimeUnit.SECONDS).metrics();
+
+        assertThat(metrics).hasSize(1);
+        assertThat(metrics.get(0).getFieldName()).isEqualTo("load1");
+        assertThat(metrics.get(0).getFieldValue()).isEqualTo(0.5);
+    }
+
+    @Test
+    void parse_escape() throws IOException {
+        String line = "disk,host=host-1,path=C:\\data,label=my\\ disk\\,1 used\\ percent=10 1700000000\n";
+        DoubleMetric metric = parser.parse(new StringReader(line), TimeUnit.SECONDS).metrics().get(0);
+
+        assertThat(metric.getTags()).containsExactly(new Tag("path", "C:\\data"), new Tag("label", "my disk,1"));
+        assertThat(metric.getFieldName()).isEqualTo("used percent");
+    }
+
+    @Test
+    void parse_noTimestamp() throws IOException {
+        long before = System.currentTimeMillis();
+        DoubleMetric metric = parser.parse(new StringReader("mem,host=host-1 used=1"), TimeUnit.NANOSECONDS).metrics().get(0);
+
+        assertThat(metric.getEventTime()).isGreaterThanOrEqualTo(before);
+    }
+
+    @Test
+    void parse_invalid() throws IOException {
+        assertThat(parser.parse(new StringReader("cpu,host=host-1"), TimeUnit.SECONDS).firstError())
+                .contains("line:1");
+        assertThat(parser.parse(new StringReader("cpu,cpu=cpu0 usage=1"), TimeUnit.SECONDS).firstError())
+                .contains("host tag not found");
+        assertThat(parser.parse(new StringReader("cpu,host=host-1 usage=abc"), TimeUnit.SECONDS).skippedLines())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void parse_skipInvalidLines() throws IOException {
+        String lines = """
+                cpu,host=host-1 usage_user=1.5 1700000000
+                cpu,host=host-1 usage_user=2,usage_system=abc 1700000000
+                cpu,cpu=cpu0 usage_user=3 1700000000
+                mem,host=host-1 used=1024i 1700000000
+                """;
+        InfluxLineProtocolParser.Result result = parser.parse(new StringReader(lines), TimeUnit.SECONDS);
+
+        assertThat(result.metrics()).extracting(DoubleMetric::getFieldValue)
+                .containsExactly(1.5, 1024.0);
+        assertThat(result.skippedLines()).isEqualTo(2);
+        assertThat(result.hasSkippedLines()).isTrue();
+        assertThat(result.firstError()).startsWith("line:2 ");
+    }
+
+    @Test
+    void parse_unsigned() throws IOException {
+        String lines = """
+                mem,host=host-1 max=9223372036854775807u 1700000000
+                mem,host=host-1 max=9223372036854775808u 1700000000
+                mem,host=host-1 max=-1u 1700000000
+                """;
+        InfluxLineProtocolParser.Result result = parser.parse(new StringReader(lines), TimeUnit.SECONDS);
+
+        assertThat(result.metrics()).extracting(DoubleMetric::getFieldValue)
+                .containsExactly((double) Long.MAX_VALUE);
+        assertThat(result.skippedLines()).isEqualTo(2);
+        assertThat(result.firstError()).contains("out of range");
+    }
+
+    @Test
+    void toTimeUnit() {
+        assertThat(InfluxLineProtocolParser.toTimeUnit("ns")).isEqualTo(TimeUnit.NANOSECONDS);
+        assertThat(InfluxLineProtocolParser.toTimeUnit("s")).isEqualTo(TimeUnit.SECONDS);
+        assertThatThrownBy(() -> InfluxLineProtocolParser.toTimeUnit("h"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
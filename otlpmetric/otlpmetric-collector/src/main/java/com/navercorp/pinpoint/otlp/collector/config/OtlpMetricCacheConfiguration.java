@@ -0,0 +1,36 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.otlp.collector.config;
+
+import com.navercorp.pinpoint.collector.util.CaffeineDedupCache;
+import com.navercorp.pinpoint.collector.util.DedupCache;
+import com.navercorp.pinpoint.otlp.collector.service.PinotOtlpMetricCollectorService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class OtlpMetricCacheConfiguration {
+
+    @Bean
+    public DedupCache<PinotOtlpMetricCollectorService.MetadataKey> otlpMetricMetadataDedupCache(OtlpMetricCollectorProperties properties) {
+        // expiry re-sends unchanged metadata periodically, refreshing startTime and saveTime
+        Duration expireAfterWrite = Duration.ofSeconds(properties.getMetadataCacheExpireSeconds());
+        return new CaffeineDedupCache<>(expireAfterWrite, properties.getMetadataCacheSize());
+    }
+}
@@ -40,6 +40,11 @@ public class OtlpMetricCollectorProperties {
     @Value("${kafka.otlpmetric.topic.long.padding.length}")
     private int longTopicPaddingLength;
 
+    @Value("${collector.otlpmetric.metadata.cache.expire-seconds:600}")
+    private long metadataCacheExpireSeconds;
+    @Value("${collector.otlpmetric.metadata.cache.size:100000}")
+    private long metadataCacheSize;
+
     public String getMetadataTopicName() {
         return metadataTopicName;
     }
@@ -67,4 +72,12 @@ public class OtlpMetricCollectorProperties {
     public int getLongTopicPaddingLength() {
         return longTopicPaddingLength;
     }
+
+    public long getMetadataCacheExpireSeconds() {
+        return metadataCacheExpireSeconds;
+    }
+
+    public long getMetadataCacheSize() {
+        return metadataCacheSize;
+    }
 }
@@ -27,4 +27,6 @@ public interface OtlpMetricDao {
     void updateMetadata(PinotOtlpMetricMetadata metadata);
     void insertDouble(PinotOtlpMetricDoubleData data);
     void insertLong(PinotOtlpMetricLongData data);
+    void insertDouble(List<PinotOtlpMetricDoubleData> dataList);
+    void insertLong(List<PinotOtlpMetricLongData> dataList);
 }
@@ -31,6 +31,7 @@ import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
@@ -94,4 +95,35 @@ public class PinotOtlpMetricDao implements OtlpMetricDao {
         CompletableFuture<SendResult<String, PinotOtlpMetricLongData>> response = this.kafkaOtlpLongMetricTemplate.send(longTopic, data.getSortKey(), data);
         response.whenComplete(longResultCallback);
     }
+
+    @Override
+    public void insertDouble(List<PinotOtlpMetricDoubleData> dataList) {
+        Objects.requireNonNull(dataList, "dataList");
+        // rows of one export share the application, so the topic is resolved only when it changes
+        String applicationName = null;
+        String doubleTopic = null;
+        for (PinotOtlpMetricDoubleData data : dataList) {
+            if (!data.getApplicationName().equals(applicationName)) {
+                applicationName = data.getApplicationName();
+                doubleTopic = doubleTopicNameManager.getTopicName(applicationName);
+            }
+            CompletableFuture<SendResult<String, PinotOtlpMetricDoubleData>> response = this.kafkaOtlpDoubleMetricTemplate.send(doubleTopic, data.getSortKey(), data);
+            response.whenComplete(doubleResultCallback);
+        }
+    }
+
+    @Override
+    public void insertLong(List<PinotOtlpMetricLongData> dataList) {
+        Objects.requireNonNull(dataList, "dataList");
+        String applicationName = null;
+        String longTopic = null;
+        for (PinotOtlpMetricLongData data : dataList) {
+            if (!data.getApplicationName().equals(applicationName)) {
+                applicationName = data.getApplicationName();
+                longTopic = longTopicNameManager.getTopicName(applicationName);
+            }
+            CompletableFuture<SendResult<String, PinotOtlpMetricLongData>> response = this.kafkaOtlpLongMetricTemplate.send(longTopic, data.getSortKey(), data);
+            response.whenComplete(longResultCallback);
+        }
+    }
 }
@@ -16,10 +16,10 @@
 
 package com.navercorp.pinpoint.otlp.collector.service;
 
+import com.navercorp.pinpoint.collector.util.DedupCache;
 import com.navercorp.pinpoint.otlp.collector.dao.OtlpMetricDao;
 import com.navercorp.pinpoint.otlp.collector.model.OtlpMetricData;
 import com.navercorp.pinpoint.otlp.collector.model.OtlpMetricDataPoint;
-import com.navercorp.pinpoint.otlp.collector.model.OtlpResourceAttributes;
 import com.navercorp.pinpoint.otlp.collector.model.PinotOtlpMetricDoubleData;
 import com.navercorp.pinpoint.otlp.collector.model.PinotOtlpMetricLongData;
 import com.navercorp.pinpoint.otlp.collector.model.PinotOtlpMetricMetadata;
@@ -30,10 +30,11 @@ import org.apache.logging.log4j.Logger;
 import org.jspecify.annotations.NonNull;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 @Service
 public class PinotOtlpMetricCollectorService implements OtlpMetricCollectorService {
@@ -44,9 +45,12 @@ public class PinotOtlpMetricCollectorService implements OtlpMetricCollectorServi
 
     @NonNull
     private final OtlpMetricDao otlpMetricDao;
+    @NonNull
+    private final DedupCache<MetadataKey> metadataDedupCache;
 
-    public PinotOtlpMetricCollectorService(OtlpMetricDao otlpMetricDao) {
+    public PinotOtlpMetricCollectorService(OtlpMetricDao otlpMetricDao, DedupCache<MetadataKey> metadataDedupCache) {
         this.otlpMetricDao = Objects.requireNonNull(otlpMetricDao, "otlpMetricDao");
+        this.metadataDedupCache = Objects.requireNonNull(metadataDedupCache, "metadataDedupCache");
     }
     @Override
     public void save(OtlpMetricData otlpMetricData) {
@@ -66,37 +70,83 @@ public class PinotOtlpMetricCollectorService implements OtlpMetricCollectorServi
         String version = "";
 
         Long saveTime = System.currentTimeMillis();
+        String sortKey = SortKeyUtils.generateKey(applicationName, metricGroupName, metricName);
+
+        List<OtlpMetricDataPoint> dataPoints = otlpMetricData.getValues();
+        List<PinotOtlpMetricLongData> longRows = new ArrayList<>(dataPoints.size());
+        List<PinotOtlpMetricDoubleData> doubleRows = new ArrayList<>(dataPoints.size());
 
-        for(OtlpMetricDataPoint dataPoint : otlpMetricData.getValues()) {
+        // histogram and summary fields of one series share their tags, so the encoding is reused until the tags change
+        Map<String, String> lastTags = null;
+        TagEncoding tagEncoding = null;
+        for(OtlpMetricDataPoint dataPoint : dataPoints) {
             DataType dataType = dataPoint.getDataType();
 
             Map<String, String> tags = dataPoint.getTags();
+            if (tagEncoding == null || !tags.equals(lastTags)) {
+                tagEncoding = TagEncoding.of(tags);
+                lastTags = tags;
+            }
+            List<String> tagList = tagEncoding.tagList();
+
+            MetadataKey metadataKey = new MetadataKey(applicationName, agentId, metricGroupName, metricName, dataPoint.getFieldName(),
+                    unit, dataPoint.getDescription(), metricType, dataType.getNumber(), dataPoint.getAggreFunc(), aggreTemporality,
+                    tagEncoding.rawTags(), version);
+            if (metadataDedupCache.update(metadataKey)) {
+                PinotOtlpMetricMetadata metadata = new PinotOtlpMetricMetadata(DEFAULT_SERVICE_NAME, applicationName, agentId,
+                        metricGroupName, metricName, dataPoint.getFieldName(), unit, dataPoint.getDescription(), metricType,
+                        dataType.getNumber(), dataPoint.getAggreFunc(), aggreTemporality, tagEncoding.rawTags(), dataPoint.getStartTime(), saveTime, version);
+                otlpMetricDao.updateMetadata(metadata);
+            }
 
-            List<String> tagList = tags.entrySet().stream().map((e) -> {
-                                                                    return e.getKey() + ":" + e.getValue();
-                                                                }
-                                                               )
-                                                            .collect(Collectors.toList());
-
-            String rawTags = String.join(",", tagList);
-            PinotOtlpMetricMetadata metadata = new PinotOtlpMetricMetadata(DEFAULT_SERVICE_NAME, applicationName, agentId,
-                    metricGroupName, metricName, dataPoint.getFieldName(), unit, dataPoint.getDescription(), metricType,
-                    dataType.getNumber(), dataPoint.getAggreFunc(), aggreTemporality, rawTags, dataPoint.getStartTime(), saveTime, version);
-            otlpMetricDao.updateMetadata(metadata);
-
-            String sortKey = SortKeyUtils.generateKey(applicationName, metricGroupName, metricName);
             if (dataType == DataType.LONG) {
                 long longValue = dataPoint.getValue().longValue();
                 PinotOtlpMetricLongData row = new PinotOtlpMetricLongData(DEFAULT_SERVICE_NAME, sortKey, applicationName, agentId, metricGroupName, metricName, dataPoint.getFieldName(),
                         dataPoint.getFlag(), tagList, version, longValue, dataPoint.getEventTime(), dataPoint.getStartTime());
-                otlpMetricDao.insertLong(row);
+                longRows.add(row);
 
             } else {
                 double doubleValue = dataPoint.getValue().doubleValue();
                 PinotOtlpMetricDoubleData row = new PinotOtlpMetricDoubleData(DEFAULT_SERVICE_NAME, sortKey, applicationName, agentId, metricGroupName, metricName, dataPoint.getFieldName(),
                         dataPoint.getFlag(), tagList, version, doubleValue, dataPoint.getEventTime(), dataPoint.getStartTime());
-                otlpMetricDao.insertDouble(row);
+                doubleRows.add(row);
+            }
+        }
+
+        if (!longRows.isEmpty()) {
+            otlpMetricDao.insertLong(longRows);
+        }
+        if (!doubleRows.isEmpty()) {
+            otlpMetricDao.insertDouble(doubleRows);
+        }
+    }
+
+    /**
+     * Identity of a metadata row. startTime and saveTime are left out so that
+     * an unchanged series is not re-sent on every export.
+     */
+    public record MetadataKey(String applicationName, String agentId, String metricGroupName, String metricName,
+                              String fieldName, String unit, String description, int metricType, int dataType,
+                              int aggreFunc, int aggreTemporality, String rawTags, String version) {
+    }
+
+    record TagEncoding(List<String> tagList, String rawTags) {
+
+        static TagEncoding of(Map<String, String> tags) {
+            if (tags.isEmpty()) {
+                return new TagEncoding(Collections.emptyList(), "");
+            }
+            List<String> tagList = new ArrayList<>(tags.size());
+            StringBuilder rawTags = new StringBuilder();
+            for (Map.Entry<String, String> entry : tags.entrySet()) {
+                String tag = entry.getKey() + ":" + entry.getValue();
+                if (!tagList.isEmpty()) {
+                    rawTags.append(',');
+                }
+                rawTags.append(tag);
+                tagList.add(tag);
             }
+            return new TagEncoding(Collections.unmodifiableList(tagList), rawTags.toString());
         }
     }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.otlp.collector.service;
+
+import com.navercorp.pinpoint.collector.util.DedupCache;
+import com.navercorp.pinpoint.otlp.collector.dao.OtlpMetricDao;
+import com.navercorp.pinpoint.otlp.collector.model.OtlpMetricData;
+import com.navercorp.pinpoint.otlp.collector.model.OtlpMetricDataPoint;
+import com.navercorp.pinpoint.otlp.collector.model.PinotOtlpMetricLongData;
+import com.navercorp.pinpoint.otlp.collector.model.PinotOtlpMetricMetadata;
+import com.navercorp.pinpoint.otlp.common.model.DataType;
+import io.opentelemetry.proto.metrics.v1.DataPointFlags;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class PinotOtlpMetricCollectorServiceTest {
+
+    private final OtlpMetricDao dao = mock(OtlpMetricDao.class);
+    private final Set<PinotOtlpMetricCollectorService.MetadataKey> seen = new HashSet<>();
+    private final DedupCache<PinotOtlpMetricCollectorService.MetadataKey> dedupCache = seen::add;
+    private final PinotOtlpMetricCollectorService service = new PinotOtlpMetricCollectorService(dao, dedupCache);
+
+    @Test
+    void save_metadataOnlyOnce() {
+        service.save(newMetricData(Map.of("host", "a"), 1));
+        service.save(newMetricData(Map.of("host", "a"), 2));
+
+        // one metadata row per field
+        verify(dao, times(2)).updateMetadata(any(PinotOtlpMetricMetadata.class));
+        verify(dao, times(2)).insertLong(anyList());
+    }
+
+    @Test
+    void save_metadataOnChange() {
+        service.save(newMetricData(Map.of("host", "a"), 1));
+        service.save(newMetricData(Map.of("host", "b"), 2));
+
+        ArgumentCaptor<PinotOtlpMetricMetadata> captor = ArgumentCaptor.forClass(PinotOtlpMetricMetadata.class);
+        verify(dao, times(4)).updateMetadata(captor.capture());
+        assertThat(captor.getAllValues())
+                .extracting(PinotOtlpMetricMetadata::rawTags)
+                .containsExactly("host:a", "host:a", "host:b", "host:b");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void save_batchRows() {
+        service.save(newMetricData(Map.of("host", "a", "region", "kr"), 1));
+
+        ArgumentCaptor<List<PinotOtlpMetricLongData>> captor = ArgumentCaptor.forClass(List.class);
+        verify(dao).insertLong(captor.capture());
+        verify(dao, never()).insertDouble(anyList());
+
+        List<PinotOtlpMetricLongData> rows = captor.getValue();
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).getTags())
+                .containsExactlyInAnyOrder("host:a", "region:kr")
+                .isSameAs(rows.get(1).getTags());
+    }
+
+    private OtlpMetricData newMetricData(Map<String, String> tags, long value) {
+        OtlpMetricData.Builder builder = OtlpMetricData.newBuilder();
+        builder.setServiceName("applicationName");
+        builder.setAgentId("agentId");
+        builder.setMetricGroupName("metricGroup");
+        builder.setMetricName("metric");
+
+        OtlpMetricDataPoint.Builder dataPoint = new OtlpMetricDataPoint.Builder();
+        dataPoint.setDataType(DataType.LONG);
+        dataPoint.setFlags(DataPointFlags.DATA_POINT_FLAGS_DO_NOT_USE);
+        dataPoint.setEventTime(1000 * value);
+        dataPoint.setStartTime(1000);
+        dataPoint.addTags(tags);
+
+        dataPoint.setFieldName("count");
+        dataPoint.setValue(value);
+        builder.addValue(dataPoint.build());
+
+        dataPoint.setFieldName("sum");
+        dataPoint.setValue(value * 10);
+        builder.addValue(dataPoint.build());
+        return builder.build();
+    }
+}
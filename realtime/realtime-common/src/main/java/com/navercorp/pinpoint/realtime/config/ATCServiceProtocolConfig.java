@@ -24,6 +24,7 @@ import com.navercorp.pinpoint.channel.service.FluxChannelServiceProtocol;
 import com.navercorp.pinpoint.channel.service.client.ChannelState;
 import com.navercorp.pinpoint.realtime.dto.ATCDemand;
 import com.navercorp.pinpoint.realtime.dto.ATCSupply;
+import com.navercorp.pinpoint.realtime.serde.ATCSupplySerde;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -42,9 +43,9 @@ public class ATCServiceProtocolConfig {
     FluxChannelServiceProtocol<ATCDemand, ATCSupply> atcProtocol(JsonSerdeFactory factory) {
         return ChannelServiceProtocol.<ATCDemand, ATCSupply>builder()
                 .setDemandSerde(factory.byClass(ATCDemand.class))
-                .setDemandPubChannelURIProvider(demand -> URI.create(RedisPubSubConstants.SCHEME + ":demand:atc-2"))
-                .setDemandSubChannelURI(URI.create(RedisPubSubConstants.SCHEME + ":demand:atc-2"))
-                .setSupplySerde(factory.byClass(ATCSupply.class))
+                .setDemandPubChannelURIProvider(demand -> URI.create(RedisPubSubConstants.SCHEME + ":demand:atc-3"))
+                .setDemandSubChannelURI(URI.create(RedisPubSubConstants.SCHEME + ":demand:atc-3"))
+                .setSupplySerde(new ATCSupplySerde())
                 .setSupplyChannelURIProvider(ATCServiceProtocolConfig::getATCSupplyChannelURI)
                 .setDemandInterval(Duration.ofSeconds(5))
                 .setBufferSize(4)
@@ -54,7 +55,7 @@ public class ATCServiceProtocolConfig {
 
     private static URI getATCSupplyChannelURI(ATCDemand demand) {
         return URI.create(RedisPubSubConstants.SCHEME +
-                ":supply:atc-2:" +
+                ":supply:atc-3:" +
                 demand.getServiceName() + ':' +
                 demand.getApplicationName() + ':' +
                 demand.getAgentId() + ':' +
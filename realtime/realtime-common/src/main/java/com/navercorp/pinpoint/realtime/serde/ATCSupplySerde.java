@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.realtime.serde;
+
+import com.navercorp.pinpoint.channel.serde.Serde;
+import com.navercorp.pinpoint.common.buffer.AutomaticBuffer;
+import com.navercorp.pinpoint.common.buffer.Buffer;
+import com.navercorp.pinpoint.common.buffer.FixedBuffer;
+import com.navercorp.pinpoint.realtime.dto.ATCSupply;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary {@link ATCSupply} serde.
+ * Every agent publishes a supply per second while an active thread count view is open,
+ * so the supply is written with varints and length-prefixed strings instead of JSON.
+ */
+public class ATCSupplySerde implements Serde<ATCSupply> {
+
+    private static final byte VERSION = 1;
+    private static final int NULL = -1;
+
+
+    @Override
+    @Nonnull
+    public ATCSupply deserialize(@Nonnull InputStream inputStream) throws IOException {
+        final Buffer buffer = new FixedBuffer(inputStream.readAllBytes());
+        final byte version = buffer.readByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported ATCSupply version:" + version);
+        }
+
+        final ATCSupply supply = new ATCSupply();
+        supply.setServiceName(buffer.readPrefixedString());
+        supply.setApplicationName(buffer.readPrefixedString());
+        supply.setAgentId(buffer.readPrefixedString());
+        supply.setStartTimestamp(buffer.readVLong());
+        supply.setCollectorId(buffer.readPrefixedString());
+
+        final int message = buffer.readSVInt();
+        if (message != NULL) {
+            supply.setMessage(toMessage(message));
+        }
+
+        final int size = buffer.readSVInt();
+        if (size < NULL) {
+            throw new IOException("Invalid ATCSupply values size:" + size);
+        }
+        if (size != NULL) {
+            final List<Integer> values = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                values.add(buffer.readSVInt());
+            }
+            supply.setValues(values);
+        }
+        return supply;
+    }
+
+    @Override
+    public void serialize(@Nonnull ATCSupply supply, @Nonnull OutputStream outputStream) throws IOException {
+        final Buffer buffer = new AutomaticBuffer(64);
+        buffer.putByte(VERSION);
+        buffer.putPrefixedString(supply.getServiceName());
+        buffer.putPrefixedString(supply.getApplicationName());
+        buffer.putPrefixedString(supply.getAgentId());
+        buffer.putVLong(supply.getStartTimestamp());
+        buffer.putPrefixedString(supply.getCollectorId());
+
+        final ATCSupply.Message message = supply.getMessage();
+        buffer.putSVInt(message == null ? NULL : toCode(message));
+
+        final List<Integer> values = supply.getValues();
+        if (values == null) {
+            buffer.putSVInt(NULL);
+        } else {
+            buffer.putSVInt(values.size());
+            for (Integer value : values) {
+                buffer.putSVInt(value);
+            }
+        }
+
+        outputStream.write(buffer.getInternalBuffer(), 0, buffer.getOffset());
+        outputStream.flush();
+    }
+
+    // wire codes are fixed, never derive them from the enum order
+    static int toCode(ATCSupply.Message message) {
+        return switch (message) {
+            case OK -> 0;
+            case CONNECTED -> 1;
+            case NO_RESPONSE -> 2;
+            case WEB_ERROR -> 3;
+        };
+    }
+
+    static ATCSupply.Message toMessage(int code) throws IOException {
+        return switch (code) {
+            case 0 -> ATCSupply.Message.OK;
+            case 1 -> ATCSupply.Message.CONNECTED;
+            case 2 -> ATCSupply.Message.NO_RESPONSE;
+            case 3 -> ATCSupply.Message.WEB_ERROR;
+            default -> throw new IOException("Invalid ATCSupply message:" + code);
+        };
+    }
+
+}
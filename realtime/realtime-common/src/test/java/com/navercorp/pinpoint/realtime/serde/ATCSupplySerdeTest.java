@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.realtime.serde;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.navercorp.pinpoint.common.buffer.AutomaticBuffer;
+import com.navercorp.pinpoint.common.buffer.Buffer;
+import com.navercorp.pinpoint.realtime.dto.ATCSupply;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ATCSupplySerdeTest {
+
+    private final ATCSupplySerde serde = new ATCSupplySerde();
+
+    @Test
+    void serde() throws IOException {
+        ATCSupply supply = newSupply();
+        supply.setCollectorId("collector-1");
+        supply.setValues(List.of(1, 0, 3, 12));
+        supply.setMessage(ATCSupply.Message.OK);
+
+        ATCSupply result = serde.deserialize(new ByteArrayInputStream(serialize(supply)));
+
+        assertThat(result).isEqualTo(supply);
+        assertThat(result.getServiceName()).isEqualTo("service");
+    }
+
+    @Test
+    void serde_null() throws IOException {
+        ATCSupply supply = newSupply();
+
+        ATCSupply result = serde.deserialize(new ByteArrayInputStream(serialize(supply)));
+
+        assertThat(result).isEqualTo(supply);
+        assertThat(result.getValues()).isNull();
+        assertThat(result.getMessage()).isNull();
+        assertThat(result.getCollectorId()).isNull();
+    }
+
+    @Test
+    void smallerThanJson() throws IOException {
+        ATCSupply supply = newSupply();
+        supply.setCollectorId("collector-1");
+        supply.setValues(List.of(1, 0, 3, 12));
+        supply.setMessage(ATCSupply.Message.OK);
+
+        byte[] json = new ObjectMapper().writeValueAsBytes(supply);
+        assertThat(serialize(supply).length).isLessThan(json.length / 2);
+    }
+
+    @Test
+    void unsupportedVersion() {
+        assertThatThrownBy(() -> serde.deserialize(new ByteArrayInputStream(new byte[]{'{'})))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void messageCodes() throws IOException {
+        assertThat(ATCSupplySerde.toCode(ATCSupply.Message.OK)).isEqualTo(0);
+        assertThat(ATCSupplySerde.toCode(ATCSupply.Message.CONNECTED)).isEqualTo(1);
+        assertThat(ATCSupplySerde.toCode(ATCSupply.Message.NO_RESPONSE)).isEqualTo(2);
+        assertThat(ATCSupplySerde.toCode(ATCSupply.Message.WEB_ERROR)).isEqualTo(3);
+
+        for (ATCSupply.Message message : ATCSupply.Message.values()) {
+            assertThat(ATCSupplySerde.toMessage(ATCSupplySerde.toCode(message))).isEqualTo(message);
+        }
+        assertThatThrownBy(() -> ATCSupplySerde.toMessage(4)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void negativeValuesSize() {
+        Buffer buffer = new AutomaticBuffer(64);
+        buffer.putByte((byte) 1);
+        buffer.putPrefixedString("service");
+        buffer.putPrefixedString("application");
+        buffer.putPrefixedString("agent");
+        buffer.putVLong(1700000000000L);
+        buffer.putPrefixedString(null);
+        buffer.putSVInt(-1);
+        buffer.putSVInt(-2);
+        byte[] bytes = buffer.copyBuffer();
+
+        assertThatThrownBy(() -> serde.deserialize(new ByteArrayInputStream(bytes)))
+                .isInstanceOf(IOException.class);
+    }
+
+    private ATCSupply newSupply() {
+        ATCSupply supply = new ATCSupply();
+        supply.setServiceName("service");
+        supply.setApplicationName("application");
+        supply.setAgentId("agent");
+        supply.setStartTimestamp(1700000000000L);
+        return supply;
+    }
+
+    private byte[] serialize(ATCSupply supply) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        serde.serialize(supply, outputStream);
+        return outputStream.toByteArray();
+    }
+}
@@ -20,6 +20,7 @@ import com.navercorp.pinpoint.realtime.dto.ATCSupply;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * @author youngjin.kim2
@@ -142,6 +143,26 @@ public class ActiveThreadCountResponse {
             public String getAgentName() {
                 return metadata.agentName;
             }
+
+            @Override
+            public boolean equals(Object o) {
+                if (this == o) {
+                    return true;
+                }
+                if (o == null || getClass() != o.getClass()) {
+                    return false;
+                }
+                Count that = (Count) o;
+                return code == that.code
+                        && Objects.equals(message, that.message)
+                        && Objects.equals(status, that.status)
+                        && Objects.equals(metadata, that.metadata);
+            }
+
+            @Override
+            public int hashCode() {
+                return Objects.hash(code, message, status, metadata);
+            }
         }
     }
 
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.realtime.activethread.count.websocket;
+
+import com.navercorp.pinpoint.common.buffer.AutomaticBuffer;
+import com.navercorp.pinpoint.common.buffer.Buffer;
+import com.navercorp.pinpoint.web.realtime.activethread.count.dto.ActiveThreadCountResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Encodes the {@link ActiveThreadCountResponse}s of a single websocket session as delta frames.
+ * <p>
+ * A frame only carries the agents whose counts changed since the previous frame of the session.
+ * Agents are referred to by an index assigned on their first appearance, and the index table is
+ * reset by a key frame every {@code keyFrameInterval} frames.
+ * <pre>
+ * byte    version
+ * byte    frame type (0: key frame, 1: delta frame)
+ * vlong   timestamp
+ * string  applicationName (key frame only)
+ * vint    number of changed agents, each
+ *   vint    agent index; a new index is followed by (string agentId, string agentName)
+ *   svint   code; a non-zero code is followed by (string message)
+ *   vint    number of values, each (svint value)
+ * vint    number of removed agents, each (vint agent index)
+ * </pre>
+ * Strings are length-prefixed UTF-8. A code of 0 means "OK".
+ */
+class ActiveThreadCountFrameEncoder {
+
+    static final byte VERSION = 1;
+    static final byte KEY_FRAME = 0;
+    static final byte DELTA_FRAME = 1;
+
+    private static final int SUCCESS_CODE = 0;
+
+    private final int keyFrameInterval;
+
+    private final Map<String, Agent> agents = new HashMap<>();
+    private int nextIndex = 0;
+    private int frameCount = 0;
+
+    ActiveThreadCountFrameEncoder(int keyFrameInterval) {
+        if (keyFrameInterval <= 0) {
+            throw new IllegalArgumentException("keyFrameInterval must be positive:" + keyFrameInterval);
+        }
+        this.keyFrameInterval = keyFrameInterval;
+    }
+
+    byte[] encode(ActiveThreadCountResponse response) {
+        Objects.requireNonNull(response, "response");
+
+        final boolean keyFrame = frameCount++ % keyFrameInterval == 0;
+        if (keyFrame) {
+            agents.clear();
+            nextIndex = 0;
+        }
+
+        final ActiveThreadCountResponse.Result result = response.getResult();
+        final Map<String, ActiveThreadCountResponse.Result.Count> counts = result.getActiveThreadCounts();
+
+        final Buffer buffer = new AutomaticBuffer(32 + counts.size() * 16);
+        buffer.putByte(VERSION);
+        buffer.putByte(keyFrame ? KEY_FRAME : DELTA_FRAME);
+        buffer.putVLong(result.getTimeStamp());
+        if (keyFrame) {
+            buffer.putPrefixedString(result.getApplicationName());
+        }
+
+        final List<Integer> removed = new ArrayList<>();
+        final List<Change> changes = new ArrayList<>();
+        for (Map.Entry<String, ActiveThreadCountResponse.Result.Count> entry : counts.entrySet()) {
+            final String agentId = entry.getKey();
+            final ActiveThreadCountResponse.Result.Count count = entry.getValue();
+
+            Agent agent = agents.get(agentId);
+            if (agent != null && !Objects.equals(agent.count.getAgentName(), count.getAgentName())) {
+                // the index carries the agent name, so a renamed agent gets a new index
+                removed.add(agent.index);
+                agent = null;
+            }
+            if (agent == null) {
+                agent = new Agent(nextIndex++, count);
+                agents.put(agentId, agent);
+                changes.add(new Change(agent.index, agentId, count));
+            } else if (!count.equals(agent.count)) {
+                agent.count = count;
+                changes.add(new Change(agent.index, null, count));
+            }
+            agent.frame = frameCount;
+        }
+
+        for (Iterator<Agent> iterator = agents.values().iterator(); iterator.hasNext(); ) {
+            final Agent agent = iterator.next();
+            if (agent.frame != frameCount) {
+                removed.add(agent.index);
+                iterator.remove();
+            }
+        }
+
+        buffer.putVInt(changes.size());
+        for (Change change : changes) {
+            buffer.putVInt(change.index);
+            if (change.newAgentId != null) {
+                buffer.putPrefixedString(change.newAgentId);
+                buffer.putPrefixedString(change.count.getAgentName());
+            }
+            putCount(buffer, change.count);
+        }
+        buffer.putVInt(removed.size());
+        for (Integer index : removed) {
+            buffer.putVInt(index);
+        }
+        return Arrays.copyOf(buffer.getInternalBuffer(), buffer.getOffset());
+    }
+
+    private void putCount(Buffer buffer, ActiveThreadCountResponse.Result.Count count) {
+        buffer.putSVInt(count.getCode());
+        if (count.getCode() != SUCCESS_CODE) {
+            buffer.putPrefixedString(count.getMessage());
+        }
+        final List<Integer> status = count.getStatus();
+        buffer.putVInt(status.size());
+        for (Integer value : status) {
+            buffer.putSVInt(value);
+        }
+    }
+
+    private static class Agent {
+        private final int index;
+        private ActiveThreadCountResponse.Result.Count count;
+        private int frame;
+
+        private Agent(int index, ActiveThreadCountResponse.Result.Count count) {
+            this.index = index;
+            this.count = count;
+        }
+    }
+
+    private record Change(int index, String newAgentId, ActiveThreadCountResponse.Result.Count count) {
+    }
+}
@@ -21,6 +21,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.core.serializer.Serializer;
 import org.springframework.lang.NonNull;
+import org.springframework.web.socket.BinaryMessage;
 import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
@@ -28,6 +29,7 @@ import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -37,6 +39,13 @@ public class RedisActiveThreadCountWebSocketHandler {
 
     private static final Logger logger = LogManager.getLogger(RedisActiveThreadCountWebSocketHandler.class);
 
+    /**
+     * Sub-protocol of {@link ActiveThreadCountFrameEncoder} binary delta frames.
+     * Sessions without it receive JSON text frames.
+     */
+    public static final String DELTA_FRAME_PROTOCOL = "pinpoint-atc-delta.v1";
+    private static final int KEY_FRAME_INTERVAL = 60;
+
     private final ActiveThreadCountService atcService;
     private final Serializer<ActiveThreadCountResponse> responseSerializer;
 
@@ -48,6 +57,10 @@ public class RedisActiveThreadCountWebSocketHandler {
         this.responseSerializer = Objects.requireNonNull(responseSerializer, "responseSerializer");
     }
 
+    public List<String> getSubProtocols() {
+        return List.of(DELTA_FRAME_PROTOCOL);
+    }
+
     public void afterConnectionEstablished(@NonNull WebSocketSession session) {
         logger.info("ATC Connection Established. session: {}", session);
         HandlerSession.initialize(session, this.atcService, this.responseSerializer);
@@ -77,6 +90,8 @@ public class RedisActiveThreadCountWebSocketHandler {
         private final WebSocketSession wsSession;
         private final ActiveThreadCountService atcService;
         private final Serializer<ActiveThreadCountResponse> responseSerializer;
+        private final boolean deltaFrame;
+        private ActiveThreadCountFrameEncoder frameEncoder;
         private String applicationName;
         private Disposable disposable;
 
@@ -90,6 +105,7 @@ public class RedisActiveThreadCountWebSocketHandler {
             this.wsSession = wsSession;
             this.atcService = atcService;
             this.responseSerializer = responseSerializer;
+            this.deltaFrame = DELTA_FRAME_PROTOCOL.equals(wsSession.getAcceptedProtocol());
         }
 
         public static HandlerSession get(WebSocketSession wsSession) {
@@ -134,6 +150,9 @@ public class RedisActiveThreadCountWebSocketHandler {
         private void start0(String applicationName) {
             try {
                 this.applicationName = applicationName;
+                if (this.deltaFrame) {
+                    this.frameEncoder = new ActiveThreadCountFrameEncoder(KEY_FRAME_INTERVAL);
+                }
                 Flux<ActiveThreadCountResponse> responses = this.atcService.getResponses(applicationName);
                 this.disposable = responses.subscribe(this::sendMessage);
             } catch (Exception e) {
@@ -150,11 +169,16 @@ public class RedisActiveThreadCountWebSocketHandler {
                 }
                 this.applicationName = null;
                 this.disposable = null;
+                this.frameEncoder = null;
             }
         }
 
         private void sendMessage(ActiveThreadCountResponse response) {
             try {
+                if (this.deltaFrame) {
+                    sendDeltaFrame(response);
+                    return;
+                }
                 TextMessage message = new TextMessage(this.responseSerializer.serializeToByteArray(response));
                 synchronized (lock) {
                     this.wsSession.sendMessage(message);
@@ -164,6 +188,17 @@ public class RedisActiveThreadCountWebSocketHandler {
             }
         }
 
+        private void sendDeltaFrame(ActiveThreadCountResponse response) throws IOException {
+            synchronized (lock) {
+                // the encoder is replaced when the session switches applications
+                if (this.frameEncoder == null) {
+                    return;
+                }
+                BinaryMessage message = new BinaryMessage(this.frameEncoder.encode(response));
+                this.wsSession.sendMessage(message);
+            }
+        }
+
     }
 
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.realtime.activethread.count.websocket;
+
+import com.navercorp.pinpoint.common.buffer.Buffer;
+import com.navercorp.pinpoint.common.buffer.FixedBuffer;
+import com.navercorp.pinpoint.common.server.cluster.ClusterKey;
+import com.navercorp.pinpoint.web.realtime.activethread.count.dto.ActiveThreadCountResponse;
+import com.navercorp.pinpoint.web.realtime.activethread.count.dto.ClusterKeyAndMetadata;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ActiveThreadCountFrameEncoderTest {
+
+    private static final ClusterKeyAndMetadata AGENT1 = agent("agent1");
+    private static final ClusterKeyAndMetadata AGENT2 = agent("agent2");
+
+    private static ClusterKeyAndMetadata agent(String agentId) {
+        return new ClusterKeyAndMetadata(new ClusterKey("service", "app", agentId, 1000), agentId + "-name");
+    }
+
+    private static ActiveThreadCountResponse response(long timestamp, List<Integer> agent1, List<Integer> agent2) {
+        ActiveThreadCountResponse response = new ActiveThreadCountResponse("app", timestamp);
+        if (agent1 != null) {
+            response.putSuccessAgent(AGENT1, agent1);
+        }
+        if (agent2 != null) {
+            response.putSuccessAgent(AGENT2, agent2);
+        }
+        return response;
+    }
+
+    @Test
+    void keyFrame() {
+        ActiveThreadCountFrameEncoder encoder = new ActiveThreadCountFrameEncoder(60);
+        Buffer buffer = new FixedBuffer(encoder.encode(response(100, List.of(1, 2, 3, 4), null)));
+
+        assertThat(buffer.readByte()).isEqualTo(ActiveThreadCountFrameEncoder.VERSION);
+        assertThat(buffer.readByte()).isEqualTo(ActiveThreadCountFrameEncoder.KEY_FRAME);
+        assertThat(buffer.readVLong()).isEqualTo(100);
+        assertThat(buffer.readPrefixedString()).isEqualTo("app");
+
+        assertThat(buffer.readVInt()).isEqualTo(1);
+        assertThat(buffer.readVInt()).isEqualTo(0);
+        assertThat(buffer.readPrefixedString()).isEqualTo("agent1");
+        assertThat(buffer.readPrefixedString()).isEqualTo("agent1-name");
+        assertThat(buffer.readSVInt()).isEqualTo(0);
+        assertThat(buffer.readVInt()).isEqualTo(4);
+        assertThat(new int[]{buffer.readSVInt(), buffer.readSVInt(), buffer.readSVInt(), buffer.readSVInt()})
+                .containsExactly(1, 2, 3, 4);
+        assertThat(buffer.readVInt()).isZero();
+        assertThat(buffer.hasRemaining()).isFalse();
+    }
+
+    @Test
+    void deltaFrame_changedAgentsOnly() {
+        ActiveThreadCountFrameEncoder encoder = new ActiveThreadCountFrameEncoder(60);
+        encoder.encode(response(100, List.of(1, 2, 3, 4), List.of(0, 0, 0, 0)));
+        Buffer buffer = new FixedBuffer(encoder.encode(response(200, List.of(1, 2, 3, 4), List.of(0, 1, 0, 0))));
+
+        assertThat(buffer.readByte()).isEqualTo(ActiveThreadCountFrameEncoder.VERSION);
+        assertThat(buffer.readByte()).isEqualTo(ActiveThreadCountFrameEncoder.DELTA_FRAME);
+        assertThat(buffer.readVLong()).isEqualTo(200);
+
+        assertThat(buffer.readVInt()).isEqualTo(1);
+        int agent2Index = buffer.readVInt();
+        assertThat(buffer.readSVInt()).isEqualTo(0);
+        assertThat(buffer.readVInt()).isEqualTo(4);
+        assertThat(new int[]{buffer.readSVInt(), buffer.readSVInt(), buffer.readSVInt(), buffer.readSVInt()})
+                .containsExactly(0, 1, 0, 0);
+        assertThat(buffer.readVInt()).isZero();
+        assertThat(buffer.hasRemaining()).isFalse();
+
+        // agent1 leaves
+        buffer = new FixedBuffer(encoder.encode(response(300, null, List.of(0, 1, 0, 0))));
+        buffer.readByte();
+        buffer.readByte();
+        buffer.readVLong();
+        assertThat(buffer.readVInt()).isZero();
+        assertThat(buffer.readVInt()).isEqualTo(1);
+        assertThat(buffer.readVInt()).isEqualTo(1 - agent2Index);
+    }
+
+    @Test
+    void keyFrameInterval() {
+        ActiveThreadCountFrameEncoder encoder = new ActiveThreadCountFrameEncoder(2);
+
+        byte[] first = encoder.encode(response(100, List.of(1), null));
+        byte[] second = encoder.encode(response(200, List.of(1), null));
+        byte[] third = encoder.encode(response(300, List.of(1), null));
+
+        assertThat(first[1]).isEqualTo(ActiveThreadCountFrameEncoder.KEY_FRAME);
+        assertThat(second[1]).isEqualTo(ActiveThreadCountFrameEncoder.DELTA_FRAME);
+        assertThat(third[1]).isEqualTo(ActiveThreadCountFrameEncoder.KEY_FRAME);
+        assertThat(second).hasSizeLessThan(first.length);
+    }
+
+    @Test
+    void failureAgent() {
+        ActiveThreadCountFrameEncoder encoder = new ActiveThreadCountFrameEncoder(60);
+        ActiveThreadCountResponse response = new ActiveThreadCountResponse("app", 100);
+        response.putFailureAgent(AGENT1, "TIMEOUT");
+        Buffer buffer = new FixedBuffer(encoder.encode(response));
+
+        buffer.readByte();
+        buffer.readByte();
+        buffer.readVLong();
+        buffer.readPrefixedString();
+        assertThat(buffer.readVInt()).isEqualTo(1);
+        buffer.readVInt();
+        buffer.readPrefixedString();
+        buffer.readPrefixedString();
+        assertThat(buffer.readSVInt()).isEqualTo(-1);
+        assertThat(buffer.readPrefixedString()).isEqualTo("TIMEOUT");
+        assertThat(buffer.readVInt()).isZero();
+    }
+}
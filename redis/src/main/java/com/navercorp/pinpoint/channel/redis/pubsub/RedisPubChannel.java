@@ -19,6 +19,7 @@ import com.navercorp.pinpoint.channel.PubChannel;
 import com.navercorp.pinpoint.common.util.BytesUtils;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
 
+import java.nio.ByteBuffer;
 import java.util.Objects;
 
 /**
@@ -27,17 +28,19 @@ import java.util.Objects;
 class RedisPubChannel implements PubChannel {
 
     private final ReactiveRedisTemplate<String, String> redisTemplate;
-    private final String key;
+    private final byte[] channel;
 
     RedisPubChannel(ReactiveRedisTemplate<String, String> redisTemplate, String key) {
         this.redisTemplate = Objects.requireNonNull(redisTemplate, "redisTemplate");
-        this.key = Objects.requireNonNull(key, "key");
+        this.channel = BytesUtils.toBytes(Objects.requireNonNull(key, "key"));
     }
 
     @Override
     public void publish(byte[] bytes) {
-        final String content = BytesUtils.toString(bytes);
-        this.redisTemplate.convertAndSend(this.key, content).subscribe();
+        // publish the payload as is: binary serdes must not go through a String round trip
+        this.redisTemplate.execute(connection -> connection.pubSubCommands()
+                        .publish(ByteBuffer.wrap(this.channel), ByteBuffer.wrap(bytes)))
+                .subscribe();
     }
 
 }
@@ -17,6 +17,7 @@ package com.navercorp.pinpoint.channel.redis.stream;
 
 import com.navercorp.pinpoint.channel.PubChannel;
 import com.navercorp.pinpoint.common.util.BytesUtils;
+import org.springframework.data.redis.connection.RedisStreamCommands;
 import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.data.redis.core.ReactiveStreamOperations;
 
@@ -30,6 +31,7 @@ class RedisStreamPubChannel implements PubChannel {
 
     private static final int STREAM_MAX_LEN = 32;
     private static final String STREAM_RECORD_KEY = "content";
+    private static final RedisStreamCommands.XAddOptions ADD_OPTIONS = RedisStreamCommands.XAddOptions.maxlen(STREAM_MAX_LEN);
 
     private final ReactiveStreamOperations<String, String, String> streamOps;
     private final String key;
@@ -44,9 +46,8 @@ class RedisStreamPubChannel implements PubChannel {
         final String content = BytesUtils.toString(bytes);
         final MapRecord<String, String, String> record =
                 MapRecord.create(this.key, Map.of(STREAM_RECORD_KEY, content));
-        this.streamOps.add(record)
-                .flatMap(el -> this.streamOps.trim(this.key, STREAM_MAX_LEN, false))
-                .subscribe();
+        // XADD MAXLEN trims in the same command
+        this.streamOps.add(record, ADD_OPTIONS).subscribe();
     }
 
 }
@@ -31,4 +31,11 @@ public interface ApplicationMap {
 
     @Nullable
     Range getRange();
+
+    /**
+     * the link search timed out and the map holds only the links found until then
+     */
+    default boolean isPartial() {
+        return false;
+    }
 }
@@ -56,4 +56,11 @@ public class ApplicationMapFactory {
         return new SimpleApplicationMap(nodeList, links, range);
     }
 
+    public static ApplicationMap partial(ApplicationMap map) {
+        if (map.isPartial()) {
+            return map;
+        }
+        return new PartialApplicationMap(map);
+    }
+
 }
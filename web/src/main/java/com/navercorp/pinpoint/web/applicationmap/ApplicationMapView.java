@@ -51,6 +51,11 @@ public class ApplicationMapView implements MapView {
         return applicationMap.getRange();
     }
 
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    public boolean isPartial() {
+        return applicationMap.isPartial();
+    }
+
     @JsonProperty("nodeDataArray")
     public Iterator<NodeView> getNodes() {
         Collection<Node> nodes = applicationMap.getNodes().getNodeList();
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.applicationmap;
+
+import com.navercorp.pinpoint.common.timeseries.time.Range;
+import com.navercorp.pinpoint.web.applicationmap.link.LinkList;
+import com.navercorp.pinpoint.web.applicationmap.nodes.NodeList;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * map of a link search that timed out
+ */
+public class PartialApplicationMap implements ApplicationMap {
+
+    private final ApplicationMap applicationMap;
+
+    public PartialApplicationMap(ApplicationMap applicationMap) {
+        this.applicationMap = Objects.requireNonNull(applicationMap, "applicationMap");
+    }
+
+    @Override
+    public NodeList getNodes() {
+        return applicationMap.getNodes();
+    }
+
+    @Override
+    public LinkList getLinks() {
+        return applicationMap.getLinks();
+    }
+
+    @Nullable
+    @Override
+    public Range getRange() {
+        return applicationMap.getRange();
+    }
+
+    @Override
+    public boolean isPartial() {
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "PartialApplicationMap{" +
+                "applicationMap=" + applicationMap +
+                '}';
+    }
+}
@@ -90,8 +90,9 @@ public class ApplicationMapModule {
     }
 
     @Bean
-    public ApplicationsMapCreatorFactory applicationsMapCreatorFactory(@Qualifier("applicationsMapCreateExecutor") Executor executor) {
-        return new ApplicationsMapCreatorFactory(executor);
+    public ApplicationsMapCreatorFactory applicationsMapCreatorFactory(@Qualifier("applicationsMapCreateExecutor") Executor executor,
+                                                                       @Value("${web.servermap.creator.parallelism:16}") int parallelism) {
+        return new ApplicationsMapCreatorFactory(executor, parallelism);
     }
 
     @Bean
@@ -48,6 +48,8 @@ import java.util.concurrent.ExecutorService;
 @org.springframework.context.annotation.Configuration
 @Import({
         MapV3DaoConfiguration.class,
+        MapLinkCacheConfiguration.class,
+        MapResponseCacheConfiguration.class,
 })
 public class MapDaoConfiguration {
     private static final Logger logger = LogManager.getLogger(MapDaoConfiguration.class);
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.applicationmap.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.navercorp.pinpoint.common.server.uid.cache.CaffeineCacheProperties;
+import com.navercorp.pinpoint.common.timeseries.window.TimeSlot;
+import com.navercorp.pinpoint.web.applicationmap.dao.cache.LinkDataMapSlotCache;
+import com.navercorp.pinpoint.web.applicationmap.dao.cache.SlotCache;
+import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkDataMap;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Server map link cache. Completed minute slots of MapOutLink/MapInLink are kept in memory,
+ * so that the auto-refresh of the server map only reads the trailing open slots from hbase.
+ */
+@Configuration
+@ConditionalOnProperty(name = "web.servermap.link-cache.enable", havingValue = "true")
+public class MapLinkCacheConfiguration {
+    private static final Logger logger = LogManager.getLogger(MapLinkCacheConfiguration.class);
+
+    public static final String LINK_CACHE_NAME = "serverMapLinkCache";
+
+    public MapLinkCacheConfiguration() {
+        logger.info("Install {}", MapLinkCacheConfiguration.class.getSimpleName());
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "web.servermap.link-cache")
+    public CaffeineCacheProperties mapLinkCacheProperties() {
+        CaffeineCacheProperties properties = new CaffeineCacheProperties();
+        properties.setMaximumSize(100_000);
+        properties.setRecordStats(true);
+        properties.setExpireAfterAccess(Duration.ofHours(1));
+        return properties;
+    }
+
+    @Bean
+    public LinkDataMapSlotCache linkDataMapSlotCache(@Qualifier("mapLinkCacheProperties") CaffeineCacheProperties properties,
+                                                     TimeSlot timeSlot,
+                                                     @Value("${web.servermap.link-cache.settleTime:2m}") Duration settleTime,
+                                                     ObjectProvider<MeterRegistry> meterRegistry) {
+        Cache<SlotCache.SlotKey<LinkDataMapSlotCache.LinkKey>, LinkDataMap> cache = buildCaffeine(properties).build();
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, LINK_CACHE_NAME));
+        logger.info("{} maximumSize:{} settleTime:{}", LINK_CACHE_NAME, properties.getMaximumSize(), settleTime);
+        return new LinkDataMapSlotCache(cache, timeSlot, settleTime.toMillis());
+    }
+
+    static Caffeine<Object, Object> buildCaffeine(CaffeineCacheProperties properties) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder();
+        if (properties.getInitialCapacity() >= 0) {
+            builder.initialCapacity(properties.getInitialCapacity());
+        }
+        if (properties.getMaximumSize() >= 0) {
+            builder.maximumSize(properties.getMaximumSize());
+        }
+        if (properties.isRecordStats()) {
+            builder.recordStats();
+        }
+        if (properties.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(properties.getExpireAfterWrite());
+        }
+        if (properties.getExpireAfterAccess() != null) {
+            builder.expireAfterAccess(properties.getExpireAfterAccess());
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.applicationmap.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.navercorp.pinpoint.common.server.uid.cache.CaffeineCacheProperties;
+import com.navercorp.pinpoint.common.timeseries.window.TimeSlot;
+import com.navercorp.pinpoint.web.applicationmap.dao.ApplicationResponse;
+import com.navercorp.pinpoint.web.applicationmap.dao.cache.ApplicationResponseSlotCache;
+import com.navercorp.pinpoint.web.applicationmap.dao.cache.ResponseTimeSlotCache;
+import com.navercorp.pinpoint.web.applicationmap.dao.cache.SlotCache;
+import com.navercorp.pinpoint.web.vo.Application;
+import com.navercorp.pinpoint.web.vo.ResponseTime;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Response histogram rollup cache. Completed minute slots of MapAppSelf/MapAgentSelf are kept in memory,
+ * so that node histograms and apdex charts over long periods only read the missing and trailing open slots from hbase.
+ */
+@Configuration
+@ConditionalOnProperty(name = "web.servermap.response-cache.enable", havingValue = "true")
+public class MapResponseCacheConfiguration {
+    private static final Logger logger = LogManager.getLogger(MapResponseCacheConfiguration.class);
+
+    public static final String APPLICATION_RESPONSE_CACHE_NAME = "applicationResponseCache";
+    public static final String AGENT_RESPONSE_CACHE_NAME = "agentResponseCache";
+
+    public MapResponseCacheConfiguration() {
+        logger.info("Install {}", MapResponseCacheConfiguration.class.getSimpleName());
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "web.servermap.response-cache")
+    public CaffeineCacheProperties mapResponseCacheProperties() {
+        CaffeineCacheProperties properties = new CaffeineCacheProperties();
+        properties.setMaximumSize(100_000);
+        properties.setRecordStats(true);
+        properties.setExpireAfterAccess(Duration.ofHours(1));
+        return properties;
+    }
+
+    @Bean
+    public ApplicationResponseSlotCache applicationResponseSlotCache(@Qualifier("mapResponseCacheProperties") CaffeineCacheProperties properties,
+                                                                     TimeSlot timeSlot,
+                                                                     @Value("${web.servermap.response-cache.settleTime:2m}") Duration settleTime,
+                                                                     ObjectProvider<MeterRegistry> meterRegistry) {
+        Cache<SlotCache.SlotKey<Application>, ApplicationResponse> cache = MapLinkCacheConfiguration.buildCaffeine(properties).build();
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, APPLICATION_RESPONSE_CACHE_NAME));
+        logger.info("{} maximumSize:{} settleTime:{}", APPLICATION_RESPONSE_CACHE_NAME, properties.getMaximumSize(), settleTime);
+        return new ApplicationResponseSlotCache(cache, timeSlot, settleTime.toMillis());
+    }
+
+    @Bean
+    public ResponseTimeSlotCache responseTimeSlotCache(@Qualifier("mapResponseCacheProperties") CaffeineCacheProperties properties,
+                                                       TimeSlot timeSlot,
+                                                       @Value("${web.servermap.response-cache.settleTime:2m}") Duration settleTime,
+                                                       ObjectProvider<MeterRegistry> meterRegistry) {
+        Cache<SlotCache.SlotKey<Application>, ResponseTime> cache = MapLinkCacheConfiguration.buildCaffeine(properties).build();
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, AGENT_RESPONSE_CACHE_NAME));
+        logger.info("{} maximumSize:{} settleTime:{}", AGENT_RESPONSE_CACHE_NAME, properties.getMaximumSize(), settleTime);
+        return new ResponseTimeSlotCache(cache, timeSlot, settleTime.toMillis());
+    }
+}
@@ -38,6 +38,13 @@ import com.navercorp.pinpoint.web.applicationmap.dao.MapAgentResponseDao;
 import com.navercorp.pinpoint.web.applicationmap.dao.MapInLinkDao;
 import com.navercorp.pinpoint.web.applicationmap.dao.MapOutLinkDao;
 import com.navercorp.pinpoint.web.applicationmap.dao.MapResponseDao;
+import com.navercorp.pinpoint.web.applicationmap.dao.cache.ApplicationResponseSlotCache;
+import com.navercorp.pinpoint.web.applicationmap.dao.cache.CachedMapAgentResponseDao;
+import com.navercorp.pinpoint.web.applicationmap.dao.cache.CachedMapInLinkDao;
+import com.navercorp.pinpoint.web.applicationmap.dao.cache.CachedMapOutLinkDao;
+import com.navercorp.pinpoint.web.applicationmap.dao.cache.CachedMapResponseDao;
+import com.navercorp.pinpoint.web.applicationmap.dao.cache.LinkDataMapSlotCache;
+import com.navercorp.pinpoint.web.applicationmap.dao.cache.ResponseTimeSlotCache;
 import com.navercorp.pinpoint.web.applicationmap.dao.hbase.HbaseHostApplicationMapDao;
 import com.navercorp.pinpoint.web.applicationmap.dao.hbase.HbaseMapAgentResponseTimeDao;
 import com.navercorp.pinpoint.web.applicationmap.dao.hbase.HbaseMapInLinkDao;
@@ -75,6 +82,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -178,9 +186,14 @@ public class MapV3DaoConfiguration {
                                               @Qualifier("mapAgentScanFactory")
                                               MapScanFactory mapScanFactory,
                                               @Qualifier("uidRowKeyDistributor")
-                                              RowKeyDistributorByHashPrefix rowKeyDistributor) {
+                                              RowKeyDistributorByHashPrefix rowKeyDistributor,
+                                              Optional<ResponseTimeSlotCache> slotCache) {
         HbaseColumnFamily table = HbaseTables.MAP_AGENT_SELF;
-        return new HbaseMapAgentResponseTimeDao(table, hbaseTemplate, tableNameProvider, resultExtractFactory, mapScanFactory, rowKeyDistributor);
+        MapAgentResponseDao dao = new HbaseMapAgentResponseTimeDao(table, hbaseTemplate, tableNameProvider, resultExtractFactory, mapScanFactory, rowKeyDistributor);
+        if (slotCache.isPresent()) {
+            return new CachedMapAgentResponseDao(dao, slotCache.get());
+        }
+        return dao;
     }
 
 
@@ -193,9 +206,14 @@ public class MapV3DaoConfiguration {
                                                     @Qualifier("mapAppScanFactory")
                                                     MapScanFactory mapScanFactory,
                                                     @Qualifier("uidRowKeyDistributor")
-                                                    RowKeyDistributorByHashPrefix rowKeyDistributor) {
+                                                    RowKeyDistributorByHashPrefix rowKeyDistributor,
+                                                    Optional<ApplicationResponseSlotCache> slotCache) {
         HbaseColumnFamily table = HbaseTables.MAP_APP_SELF;
-        return new HbaseMapResponseDao(table, hbaseTemplate, tableNameProvider, resultExtractFactory, mapScanFactory, rowKeyDistributor);
+        MapResponseDao dao = new HbaseMapResponseDao(table, hbaseTemplate, tableNameProvider, resultExtractFactory, mapScanFactory, rowKeyDistributor);
+        if (slotCache.isPresent()) {
+            return new CachedMapResponseDao(dao, slotCache.get());
+        }
+        return dao;
     }
 
     @Bean
@@ -207,9 +225,14 @@ public class MapV3DaoConfiguration {
                                      @Qualifier("mapLinkScanFactory")
                                      MapScanFactory mapScanFactory,
                                      @Qualifier("uidRowKeyDistributor")
-                                     RowKeyDistributorByHashPrefix rowKeyDistributor) {
+                                     RowKeyDistributorByHashPrefix rowKeyDistributor,
+                                     Optional<LinkDataMapSlotCache> slotCache) {
         HbaseColumnFamily table = HbaseTables.MAP_APP_IN;
-        return new HbaseMapInLinkDao(table, hbaseTemplate, tableNameProvider, inLinkMapper, mapScanFactory, rowKeyDistributor);
+        MapInLinkDao dao = new HbaseMapInLinkDao(table, hbaseTemplate, tableNameProvider, inLinkMapper, mapScanFactory, rowKeyDistributor);
+        if (slotCache.isPresent()) {
+            return new CachedMapInLinkDao(dao, slotCache.get());
+        }
+        return dao;
     }
 
     @Bean
@@ -221,9 +244,14 @@ public class MapV3DaoConfiguration {
                                        @Qualifier("mapLinkScanFactory")
                                        MapScanFactory mapScanFactory,
                                        @Qualifier("uidRowKeyDistributor")
-                                       RowKeyDistributorByHashPrefix rowKeyDistributor) {
+                                       RowKeyDistributorByHashPrefix rowKeyDistributor,
+                                       Optional<LinkDataMapSlotCache> slotCache) {
         HbaseColumnFamily table = HbaseTables.MAP_APP_OUT;
-        return new HbaseMapOutLinkDao(table, hbaseTemplate, tableNameProvider, outLinkMapper, mapScanFactory, rowKeyDistributor);
+        MapOutLinkDao dao = new HbaseMapOutLinkDao(table, hbaseTemplate, tableNameProvider, outLinkMapper, mapScanFactory, rowKeyDistributor);
+        if (slotCache.isPresent()) {
+            return new CachedMapOutLinkDao(dao, slotCache.get());
+        }
+        return dao;
     }
 
     @Bean
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.applicationmap.dao.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.navercorp.pinpoint.common.timeseries.window.TimeSlot;
+import com.navercorp.pinpoint.common.timeseries.window.TimeWindow;
+import com.navercorp.pinpoint.web.applicationmap.dao.ApplicationResponse;
+import com.navercorp.pinpoint.web.applicationmap.histogram.TimeHistogram;
+import com.navercorp.pinpoint.web.vo.Application;
+
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Minute slot cache of the application response histogram (MapAppSelf).
+ * <p>
+ * Each slot keeps the agent ids which reported the histogram of that slot.
+ */
+public class ApplicationResponseSlotCache extends SlotCache<Application, ApplicationResponse, ApplicationResponse> {
+
+    public ApplicationResponseSlotCache(Cache<SlotKey<Application>, ApplicationResponse> cache, TimeSlot timeSlot, long settleTimeMillis) {
+        this(cache, timeSlot, settleTimeMillis, Clock.systemUTC());
+    }
+
+    ApplicationResponseSlotCache(Cache<SlotKey<Application>, ApplicationResponse> cache, TimeSlot timeSlot, long settleTimeMillis, Clock clock) {
+        super(cache, timeSlot, settleTimeMillis, clock);
+    }
+
+    @Override
+    protected Map<Long, ApplicationResponse> split(Application application, ApplicationResponse loaded) {
+        final Map<Long, ApplicationResponse.Builder> builders = new HashMap<>();
+        for (TimeHistogram timeHistogram : loaded.getApplicationHistograms()) {
+            final long slot = getTimeSlot(timeHistogram.getTimeStamp());
+            final ApplicationResponse.Builder builder = builders.computeIfAbsent(slot, k -> ApplicationResponse.newBuilder(application));
+            builder.addResponseTime(loaded.getAgentIds(timeHistogram.getTimeStamp()), slot, timeHistogram);
+        }
+
+        final Map<Long, ApplicationResponse> fragments = new HashMap<>(builders.size());
+        builders.forEach((slot, builder) -> fragments.put(slot, builder.build()));
+        return fragments;
+    }
+
+    @Override
+    protected ApplicationResponse emptyFragment(Application application, long slot) {
+        return ApplicationResponse.newBuilder(application).build();
+    }
+
+    @Override
+    protected Rollup<ApplicationResponse, ApplicationResponse> newRollup(Application application, TimeWindow timeWindow) {
+        final ApplicationResponse.Builder builder = ApplicationResponse.newBuilder(application);
+        return new Rollup<>() {
+            @Override
+            public void add(ApplicationResponse fragment) {
+                for (TimeHistogram timeHistogram : fragment.getApplicationHistograms()) {
+                    final long timestamp = timeWindow.refineTimestamp(timeHistogram.getTimeStamp());
+                    builder.addResponseTime(fragment.getAgentIds(timeHistogram.getTimeStamp()), timestamp, timeHistogram);
+                }
+            }
+
+            @Override
+            public void addLoaded(ApplicationResponse loaded) {
+                add(loaded);
+            }
+
+            @Override
+            public ApplicationResponse build() {
+                return builder.build();
+            }
+        };
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.applicationmap.dao.cache;
+
+import com.navercorp.pinpoint.common.timeseries.window.TimeWindow;
+import com.navercorp.pinpoint.web.applicationmap.dao.MapAgentResponseDao;
+import com.navercorp.pinpoint.web.applicationmap.histogram.AgentResponse;
+import com.navercorp.pinpoint.web.vo.Application;
+import com.navercorp.pinpoint.web.vo.ResponseTime;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+public class CachedMapAgentResponseDao implements MapAgentResponseDao {
+
+    private final MapAgentResponseDao delegate;
+    private final ResponseTimeSlotCache slotCache;
+
+    public CachedMapAgentResponseDao(MapAgentResponseDao delegate, ResponseTimeSlotCache slotCache) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.slotCache = Objects.requireNonNull(slotCache, "slotCache");
+    }
+
+    @Override
+    public List<ResponseTime> selectResponseTime(Application application, TimeWindow timeWindow) {
+        return slotCache.select(application, timeWindow, delegate::selectResponseTime);
+    }
+
+    @Override
+    public AgentResponse selectAgentResponse(Application application, TimeWindow timeWindow) {
+        List<ResponseTime> responseTimes = selectResponseTime(application, timeWindow);
+        AgentResponse.Builder builder = AgentResponse.newBuilder(application);
+        builder.addAgentResponse(responseTimes);
+        return builder.build();
+    }
+
+    @Override
+    public Set<String> selectAgentIds(Application application, TimeWindow timeWindow) {
+        List<ResponseTime> responseTimes = selectResponseTime(application, timeWindow);
+        Set<String> agentIds = new HashSet<>();
+        for (ResponseTime responseTime : responseTimes) {
+            agentIds.addAll(responseTime.getAgentIds());
+        }
+        return agentIds;
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.applicationmap.dao.cache;
+
+import com.navercorp.pinpoint.common.timeseries.window.TimeWindow;
+import com.navercorp.pinpoint.web.applicationmap.dao.ApplicationResponse;
+import com.navercorp.pinpoint.web.applicationmap.dao.MapResponseDao;
+import com.navercorp.pinpoint.web.vo.Application;
+
+import java.util.Objects;
+
+public class CachedMapResponseDao implements MapResponseDao {
+
+    private final MapResponseDao delegate;
+    private final ApplicationResponseSlotCache slotCache;
+
+    public CachedMapResponseDao(MapResponseDao delegate, ApplicationResponseSlotCache slotCache) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.slotCache = Objects.requireNonNull(slotCache, "slotCache");
+    }
+
+    @Override
+    public ApplicationResponse selectApplicationResponse(Application application, TimeWindow timeWindow) {
+        return slotCache.select(application, timeWindow, delegate::selectApplicationResponse);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.applicationmap.dao.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.navercorp.pinpoint.common.timeseries.window.TimeSlot;
+import com.navercorp.pinpoint.common.timeseries.window.TimeWindow;
+import com.navercorp.pinpoint.web.applicationmap.histogram.TimeHistogram;
+import com.navercorp.pinpoint.web.applicationmap.link.LinkDirection;
+import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkCallData;
+import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkData;
+import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkDataMap;
+import com.navercorp.pinpoint.web.vo.Application;
+
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+/**
+ * Caches per-application, per-minute {@link LinkDataMap} fragments.
+ */
+public class LinkDataMapSlotCache extends SlotCache<LinkDataMapSlotCache.LinkKey, LinkDataMap, LinkDataMap> {
+
+    private static final LinkDataMap EMPTY = new LinkDataMap();
+
+    public LinkDataMapSlotCache(Cache<SlotKey<LinkKey>, LinkDataMap> cache, TimeSlot timeSlot, long settleTimeMillis) {
+        this(cache, timeSlot, settleTimeMillis, Clock.systemUTC());
+    }
+
+    LinkDataMapSlotCache(Cache<SlotKey<LinkKey>, LinkDataMap> cache, TimeSlot timeSlot, long settleTimeMillis, Clock clock) {
+        super(cache, timeSlot, settleTimeMillis, clock);
+    }
+
+    public LinkDataMap select(LinkDirection direction, Application application, TimeWindow timeWindow,
+                              BiFunction<Application, TimeWindow, LinkDataMap> loader) {
+        Objects.requireNonNull(loader, "loader");
+        final LinkKey key = new LinkKey(direction, application);
+        return select(key, timeWindow, (linkKey, window) -> loader.apply(linkKey.application(), window));
+    }
+
+    @Override
+    protected Map<Long, LinkDataMap> split(LinkKey key, LinkDataMap linkDataMap) {
+        final Map<Long, LinkDataMap> fragments = new HashMap<>();
+        for (LinkData linkData : linkDataMap.getLinkDataList()) {
+            for (LinkCallData linkCallData : linkData.getLinkCallDataMap().getLinkDataList()) {
+                for (TimeHistogram timeHistogram : linkCallData.getTimeHistogram()) {
+                    final long slot = getTimeSlot(timeHistogram.getTimeStamp());
+                    final LinkDataMap fragment = fragments.computeIfAbsent(slot, k -> new LinkDataMap());
+
+                    final LinkData slotLinkData = new LinkData(linkData.getFromApplication(), linkData.getToApplication());
+                    slotLinkData.getLinkCallDataMap().addCallData(linkCallData.getSource(), linkCallData.getTarget(), List.of(timeHistogram));
+                    fragment.addLinkData(slotLinkData);
+                }
+            }
+        }
+        return fragments;
+    }
+
+    @Override
+    protected LinkDataMap emptyFragment(LinkKey key, long slot) {
+        return EMPTY;
+    }
+
+    @Override
+    protected Rollup<LinkDataMap, LinkDataMap> newRollup(LinkKey key, TimeWindow timeWindow) {
+        final LinkDataMap result = new LinkDataMap(timeWindow);
+        return new Rollup<>() {
+            @Override
+            public void add(LinkDataMap fragment) {
+                result.addLinkDataMap(fragment);
+            }
+
+            @Override
+            public void addLoaded(LinkDataMap loaded) {
+                result.addLinkDataMap(loaded);
+            }
+
+            @Override
+            public LinkDataMap build() {
+                return result;
+            }
+        };
+    }
+
+    public record LinkKey(LinkDirection direction, Application application) {
+        public LinkKey {
+            Objects.requireNonNull(direction, "direction");
+            Objects.requireNonNull(application, "application");
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.applicationmap.dao.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.navercorp.pinpoint.common.timeseries.window.TimeSlot;
+import com.navercorp.pinpoint.common.timeseries.window.TimeWindow;
+import com.navercorp.pinpoint.web.applicationmap.histogram.TimeHistogram;
+import com.navercorp.pinpoint.web.vo.Application;
+import com.navercorp.pinpoint.web.vo.ResponseTime;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Minute slot cache of the per-agent response histograms (MapAgentSelf).
+ */
+public class ResponseTimeSlotCache extends SlotCache<Application, ResponseTime, List<ResponseTime>> {
+
+    public ResponseTimeSlotCache(Cache<SlotKey<Application>, ResponseTime> cache, TimeSlot timeSlot, long settleTimeMillis) {
+        this(cache, timeSlot, settleTimeMillis, Clock.systemUTC());
+    }
+
+    ResponseTimeSlotCache(Cache<SlotKey<Application>, ResponseTime> cache, TimeSlot timeSlot, long settleTimeMillis, Clock clock) {
+        super(cache, timeSlot, settleTimeMillis, clock);
+    }
+
+    @Override
+    protected Map<Long, ResponseTime> split(Application application, List<ResponseTime> loaded) {
+        final Map<Long, ResponseTime.Builder> builders = new HashMap<>();
+        for (ResponseTime responseTime : loaded) {
+            final long slot = getTimeSlot(responseTime.getTimeStamp());
+            final ResponseTime.Builder builder = builders.computeIfAbsent(slot, k -> newBuilder(application, slot));
+            addAll(builder, responseTime);
+        }
+
+        final Map<Long, ResponseTime> fragments = new HashMap<>(builders.size());
+        builders.forEach((slot, builder) -> fragments.put(slot, builder.build()));
+        return fragments;
+    }
+
+    @Override
+    protected ResponseTime emptyFragment(Application application, long slot) {
+        return newBuilder(application, slot).build();
+    }
+
+    @Override
+    protected Rollup<ResponseTime, List<ResponseTime>> newRollup(Application application, TimeWindow timeWindow) {
+        final Map<Long, ResponseTime.Builder> builders = new TreeMap<>();
+        return new Rollup<>() {
+            @Override
+            public void add(ResponseTime fragment) {
+                if (fragment.getAgentIds().isEmpty()) {
+                    return;
+                }
+                final long timestamp = timeWindow.refineTimestamp(fragment.getTimeStamp());
+                final ResponseTime.Builder builder = builders.computeIfAbsent(timestamp, k -> newBuilder(application, timestamp));
+                addAll(builder, fragment);
+            }
+
+            @Override
+            public void addLoaded(List<ResponseTime> loaded) {
+                for (ResponseTime responseTime : loaded) {
+                    add(responseTime);
+                }
+            }
+
+            @Override
+            public List<ResponseTime> build() {
+                final List<ResponseTime> result = new ArrayList<>(builders.size());
+                for (ResponseTime.Builder builder : builders.values()) {
+                    result.add(builder.build());
+                }
+                return result;
+            }
+        };
+    }
+
+    private static ResponseTime.Builder newBuilder(Application application, long timestamp) {
+        return ResponseTime.newBuilder(application.getApplicationName(), application.getServiceType(), timestamp);
+    }
+
+    private static void addAll(ResponseTime.Builder builder, ResponseTime responseTime) {
+        for (Map.Entry<String, TimeHistogram> entry : responseTime.getAgentHistogram()) {
+            builder.addResponseTime(entry.getKey(), entry.getValue());
+        }
+    }
+}
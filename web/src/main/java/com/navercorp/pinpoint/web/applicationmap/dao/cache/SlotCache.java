@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.applicationmap.dao.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.navercorp.pinpoint.common.timeseries.time.Range;
+import com.navercorp.pinpoint.common.timeseries.window.FixedTimeWindowSampler;
+import com.navercorp.pinpoint.common.timeseries.window.TimeSlot;
+import com.navercorp.pinpoint.common.timeseries.window.TimeWindow;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+/**
+ * Caches per-minute fragments of the statistics of a key.
+ * <p>
+ * Statistics slots that are older than the settle time never change, so a window is assembled from
+ * cached fragments and only the missing or still-open slots are read from the underlying dao.
+ *
+ * @param <K> key of the statistics, e.g. the application
+ * @param <V> fragment of a single slot
+ * @param <R> dao result
+ */
+public abstract class SlotCache<K, V, R> {
+
+    protected final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final Cache<SlotKey<K>, V> cache;
+    private final TimeSlot timeSlot;
+    private final long settleTimeMillis;
+    private final Clock clock;
+
+    protected SlotCache(Cache<SlotKey<K>, V> cache, TimeSlot timeSlot, long settleTimeMillis, Clock clock) {
+        this.cache = Objects.requireNonNull(cache, "cache");
+        this.timeSlot = Objects.requireNonNull(timeSlot, "timeSlot");
+        if (settleTimeMillis < 0) {
+            throw new IllegalArgumentException("negative settleTimeMillis:" + settleTimeMillis);
+        }
+        this.settleTimeMillis = settleTimeMillis;
+        this.clock = Objects.requireNonNull(clock, "clock");
+    }
+
+    public R select(K key, TimeWindow timeWindow, BiFunction<K, TimeWindow, R> loader) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(timeWindow, "timeWindow");
+        Objects.requireNonNull(loader, "loader");
+
+        final long resolution = timeSlot.getResolution();
+        final Range windowRange = timeWindow.getWindowRange();
+        final long fromSlot = timeSlot.getTimeSlot(windowRange.getFrom());
+        final long toSlot = timeSlot.getTimeSlot(windowRange.getTo());
+        // slots after this one may still receive statistics
+        final long lastCompletedSlot = timeSlot.getTimeSlot(clock.millis() - settleTimeMillis) - resolution;
+
+        final Rollup<V, R> rollup = newRollup(key, timeWindow);
+
+        long missingFrom = -1;
+        int hit = 0;
+        for (long slot = fromSlot; slot <= toSlot; slot += resolution) {
+            final V fragment = slot <= lastCompletedSlot ? cache.getIfPresent(new SlotKey<>(key, slot)) : null;
+            if (fragment != null) {
+                hit++;
+                if (missingFrom != -1) {
+                    load(key, missingFrom, slot - resolution, lastCompletedSlot, loader, rollup);
+                    missingFrom = -1;
+                }
+                rollup.add(fragment);
+            } else if (missingFrom == -1) {
+                missingFrom = slot;
+            }
+        }
+        if (missingFrom != -1) {
+            load(key, missingFrom, toSlot, lastCompletedSlot, loader, rollup);
+        }
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("{} slot hit:{}/{}", key, hit, ((toSlot - fromSlot) / resolution) + 1);
+        }
+        return rollup.build();
+    }
+
+    private void load(K key, long from, long to, long lastCompletedSlot,
+                      BiFunction<K, TimeWindow, R> loader, Rollup<V, R> rollup) {
+        final long resolution = timeSlot.getResolution();
+        final TimeWindow slotWindow = new TimeWindow(Range.between(from, to), new FixedTimeWindowSampler(resolution));
+        final R loaded = loader.apply(key, slotWindow);
+        rollup.addLoaded(loaded);
+
+        if (from > lastCompletedSlot) {
+            return;
+        }
+        final Map<Long, V> fragments = split(key, loaded);
+        final long cacheTo = Math.min(to, lastCompletedSlot);
+        for (long slot = from; slot <= cacheTo; slot += resolution) {
+            V fragment = fragments.get(slot);
+            if (fragment == null) {
+                // empty slots are cached too, so idle applications do not hit hbase again
+                fragment = emptyFragment(key, slot);
+            }
+            cache.put(new SlotKey<>(key, slot), fragment);
+        }
+    }
+
+    protected long getTimeSlot(long timestamp) {
+        return timeSlot.getTimeSlot(timestamp);
+    }
+
+    /**
+     * Splits a result loaded with the slot resolution into per-slot fragments.
+     */
+    protected abstract Map<Long, V> split(K key, R loaded);
+
+    protected abstract V emptyFragment(K key, long slot);
+
+    protected abstract Rollup<V, R> newRollup(K key, TimeWindow timeWindow);
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Merges cached fragments and freshly loaded results into the slots of the requested window.
+     */
+    protected interface Rollup<V, R> {
+        void add(V fragment);
+
+        void addLoaded(R loaded);
+
+        R build();
+    }
+
+    public record SlotKey<K>(K key, long slot) {
+        public SlotKey {
+            Objects.requireNonNull(key, "key");
+        }
+    }
+}
@@ -17,8 +17,8 @@
 package com.navercorp.pinpoint.web.applicationmap.dao.mapper;
 
 import com.navercorp.pinpoint.common.buffer.Buffer;
-import com.navercorp.pinpoint.common.buffer.OffsetFixedBuffer;
 import com.navercorp.pinpoint.common.hbase.ResultsExtractor;
+import com.navercorp.pinpoint.common.hbase.util.CellUtils;
 import com.navercorp.pinpoint.web.applicationmap.map.AcceptApplication;
 import com.navercorp.pinpoint.web.component.ApplicationFactory;
 import com.navercorp.pinpoint.web.vo.Application;
@@ -81,7 +81,7 @@ public class HostApplicationMapper implements ResultsExtractor<Set<AcceptApplica
 //    }
 
     private AcceptApplication createAcceptedApplication(Cell cell) {
-        Buffer reader = new OffsetFixedBuffer(cell.getQualifierArray(), cell.getQualifierOffset(), cell.getQualifierLength());
+        Buffer reader = CellUtils.qualifierBuffer(cell);
         String host = reader.readPrefixedString();
         String bindApplicationName = reader.readPrefixedString();
         short bindServiceTypeCode = reader.readShort();
@@ -17,8 +17,8 @@
 package com.navercorp.pinpoint.web.applicationmap.dao.v3;
 
 import com.navercorp.pinpoint.common.buffer.Buffer;
-import com.navercorp.pinpoint.common.buffer.OffsetFixedBuffer;
 import com.navercorp.pinpoint.common.hbase.ResultsExtractor;
+import com.navercorp.pinpoint.common.hbase.util.CellUtils;
 import com.navercorp.pinpoint.common.hbase.wd.RowKeyDistributor;
 import com.navercorp.pinpoint.common.server.applicationmap.statistics.UidAppRowKey;
 import com.navercorp.pinpoint.web.applicationmap.map.AcceptApplication;
@@ -80,7 +80,7 @@ public class HostApplicationMapperV3 implements ResultsExtractor<Set<AcceptAppli
     }
 
     private AcceptApplication createAcceptedApplication(Cell cell) {
-        Buffer reader = new OffsetFixedBuffer(cell.getQualifierArray(), cell.getQualifierOffset(), cell.getQualifierLength());
+        Buffer reader = CellUtils.qualifierBuffer(cell);
         String host = reader.readPrefixedString();
         String bindApplicationName = reader.readPrefixedString();
         int bindServiceTypeCode = reader.readInt();
@@ -27,4 +27,14 @@ public interface ApplicationMapCreator {
 
     LinkDataDuplexMap createMap(Application application, LinkSelectContext linkSelectContext);
 
+    /**
+     * out-link lookup only. visit check must be done by the caller
+     */
+    LinkDataDuplexMap createOutLinkMap(Application application, LinkSelectContext linkSelectContext);
+
+    /**
+     * in-link lookup only. visit check must be done by the caller
+     */
+    LinkDataDuplexMap createInLinkMap(Application application, LinkSelectContext linkSelectContext);
+
 }
@@ -29,13 +29,22 @@ import java.util.concurrent.Executor;
 @Component
 public class ApplicationsMapCreatorFactory {
 
+    public static final int DEFAULT_PARALLELISM = 16;
+
     private final Executor executor;
 
+    private final int parallelism;
+
     public ApplicationsMapCreatorFactory(@Qualifier("applicationsMapCreateExecutor") Executor executor) {
+        this(executor, DEFAULT_PARALLELISM);
+    }
+
+    public ApplicationsMapCreatorFactory(Executor executor, int parallelism) {
         this.executor = Objects.requireNonNull(executor, "executor");
+        this.parallelism = parallelism;
     }
 
     public ApplicationsMapCreator create(ApplicationMapCreator applicationMapCreator) {
-        return new DefaultApplicationsMapCreator(applicationMapCreator, executor);
+        return new DefaultApplicationsMapCreator(applicationMapCreator, executor, parallelism);
     }
 }
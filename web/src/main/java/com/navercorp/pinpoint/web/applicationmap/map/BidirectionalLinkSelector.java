@@ -20,6 +20,7 @@ package com.navercorp.pinpoint.web.applicationmap.map;
 import com.navercorp.pinpoint.common.timeseries.window.TimeWindow;
 import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkDataDuplexMap;
 import com.navercorp.pinpoint.web.applicationmap.service.SearchDepth;
+import com.navercorp.pinpoint.web.applicationmap.util.TimeoutWatcher;
 import com.navercorp.pinpoint.web.security.ServerMapDataFilter;
 import com.navercorp.pinpoint.web.vo.Application;
 import org.apache.logging.log4j.LogManager;
@@ -59,16 +60,16 @@ public class BidirectionalLinkSelector implements LinkSelector {
     }
 
     @Override
-    public LinkDataDuplexMap select(List<Application> sourceApplications, TimeWindow timeWindow, int outSearchDepth, int inSearchDepth) {
+    public LinkDataDuplexMap select(List<Application> sourceApplications, TimeWindow timeWindow, int outSearchDepth, int inSearchDepth, TimeoutWatcher timeoutWatcher) {
         logger.debug("Creating link data map for {}", sourceApplications);
         final SearchDepth outDepth = new SearchDepth(outSearchDepth);
         final SearchDepth inDepth = new SearchDepth(inSearchDepth);
 
         LinkDataDuplexMap linkDataDuplexMap = new LinkDataDuplexMap();
         List<Application> applications = filterApplications(sourceApplications);
-        LinkSelectContext linkSelectContext = new LinkSelectContext(timeWindow, outDepth, inDepth, linkVisitChecker);
+        LinkSelectContext linkSelectContext = new LinkSelectContext(timeWindow, outDepth, inDepth, linkVisitChecker, timeoutWatcher);
 
-        while (!applications.isEmpty()) {
+        while (!applications.isEmpty() && !linkSelectContext.isTimeout()) {
 
             logger.info("depth search start. depth:{} -> {}, size:{}, nodes:{}", linkSelectContext.getOutDepth(), linkSelectContext.getInDepth(), applications.size(), applications);
             LinkDataDuplexMap levelData = applicationsMapCreator.createLinkDataDuplexMap(applications, linkSelectContext);
@@ -80,6 +81,9 @@ public class BidirectionalLinkSelector implements LinkSelector {
             applications = filterApplications(nextApplications);
             linkSelectContext = linkSelectContext.advance();
         }
+        if (linkSelectContext.isTimeout()) {
+            linkDataDuplexMap.markPartial();
+        }
         return virtualLinkHandler.processVirtualLinks(linkDataDuplexMap, linkVisitChecker, timeWindow);
     }
 
@@ -56,38 +56,53 @@ public class DefaultApplicationMapCreator implements ApplicationMapCreator {
     public LinkDataDuplexMap createMap(Application application, LinkSelectContext linkSelectContext) {
         logger.debug("Finding Out/In link data for {}", application);
 
-        TimeWindow timeWindow = linkSelectContext.getTimeWindow();
         LinkDataDuplexMap searchResult = new LinkDataDuplexMap();
-
         if (linkSelectContext.checkNextOut(application)) {
-            final LinkDataMap outLinkDataMap = linkDataMapService.selectOutLinkDataMap(application, timeWindow);
-            logger.debug("Found {}. node={}, depth={}, count={}", LinkDirection.OUT_LINK, application, linkSelectContext.getOutDepth(), outLinkDataMap.size());
-
-            final LinkDataMap processedOutLinkDataMap = outLinkDataMapProcessor.processLinkDataMap(LinkDirection.OUT_LINK, outLinkDataMap, timeWindow);
-            logger.debug("Processed {} node={} count:{} {}", LinkDirection.OUT_LINK, application, processedOutLinkDataMap.size(), processedOutLinkDataMap);
-            for (LinkData outLinkData : processedOutLinkDataMap.getLinkDataList()) {
-                searchResult.addSourceLinkData(outLinkData);
-                final Application toApplication = outLinkData.getToApplication();
-                // skip if nextApplication is a terminal or an unknown cloud
-                final ServiceType toServiceType = toApplication.getServiceType();
-                if (toServiceType.isTerminal() || toServiceType.isUnknown()) {
-                    continue;
-                }
-                linkSelectContext.addNextApplication(toApplication);
-            }
+            searchResult.addLinkDataDuplexMap(createOutLinkMap(application, linkSelectContext));
         }
-
         if (linkSelectContext.checkNextIn(application)) {
-            final LinkDataMap inLinkDataMap = linkDataMapService.selectInLinkDataMap(application, timeWindow);
-            logger.debug("Found {}. node={}, depth={}, count={}", LinkDirection.IN_LINK, application, linkSelectContext.getInDepth(), inLinkDataMap.size());
-
-            final LinkDataMap processedInLinkDataMap = inLinkDataMapProcessor.processLinkDataMap(LinkDirection.IN_LINK, inLinkDataMap, timeWindow);
-            logger.debug("Processed {} node={} count:{} {}", LinkDirection.IN_LINK, application, processedInLinkDataMap.size(), processedInLinkDataMap);
-            for (LinkData inLinkData : processedInLinkDataMap.getLinkDataList()) {
-                searchResult.addTargetLinkData(inLinkData);
-                final Application fromApplication = inLinkData.getFromApplication();
-                linkSelectContext.addNextApplication(fromApplication);
+            searchResult.addLinkDataDuplexMap(createInLinkMap(application, linkSelectContext));
+        }
+        return searchResult;
+    }
+
+    @Override
+    public LinkDataDuplexMap createOutLinkMap(Application application, LinkSelectContext linkSelectContext) {
+        final TimeWindow timeWindow = linkSelectContext.getTimeWindow();
+        final LinkDataDuplexMap searchResult = new LinkDataDuplexMap();
+
+        final LinkDataMap outLinkDataMap = linkDataMapService.selectOutLinkDataMap(application, timeWindow);
+        logger.debug("Found {}. node={}, depth={}, count={}", LinkDirection.OUT_LINK, application, linkSelectContext.getOutDepth(), outLinkDataMap.size());
+
+        final LinkDataMap processedOutLinkDataMap = outLinkDataMapProcessor.processLinkDataMap(LinkDirection.OUT_LINK, outLinkDataMap, timeWindow);
+        logger.debug("Processed {} node={} count:{} {}", LinkDirection.OUT_LINK, application, processedOutLinkDataMap.size(), processedOutLinkDataMap);
+        for (LinkData outLinkData : processedOutLinkDataMap.getLinkDataList()) {
+            searchResult.addSourceLinkData(outLinkData);
+            final Application toApplication = outLinkData.getToApplication();
+            // skip if nextApplication is a terminal or an unknown cloud
+            final ServiceType toServiceType = toApplication.getServiceType();
+            if (toServiceType.isTerminal() || toServiceType.isUnknown()) {
+                continue;
             }
+            linkSelectContext.addNextApplication(toApplication);
+        }
+        return searchResult;
+    }
+
+    @Override
+    public LinkDataDuplexMap createInLinkMap(Application application, LinkSelectContext linkSelectContext) {
+        final TimeWindow timeWindow = linkSelectContext.getTimeWindow();
+        final LinkDataDuplexMap searchResult = new LinkDataDuplexMap();
+
+        final LinkDataMap inLinkDataMap = linkDataMapService.selectInLinkDataMap(application, timeWindow);
+        logger.debug("Found {}. node={}, depth={}, count={}", LinkDirection.IN_LINK, application, linkSelectContext.getInDepth(), inLinkDataMap.size());
+
+        final LinkDataMap processedInLinkDataMap = inLinkDataMapProcessor.processLinkDataMap(LinkDirection.IN_LINK, inLinkDataMap, timeWindow);
+        logger.debug("Processed {} node={} count:{} {}", LinkDirection.IN_LINK, application, processedInLinkDataMap.size(), processedInLinkDataMap);
+        for (LinkData inLinkData : processedInLinkDataMap.getLinkDataList()) {
+            searchResult.addTargetLinkData(inLinkData);
+            final Application fromApplication = inLinkData.getFromApplication();
+            linkSelectContext.addNextApplication(fromApplication);
         }
         return searchResult;
     }
@@ -17,20 +17,28 @@
 
 package com.navercorp.pinpoint.web.applicationmap.map;
 
-import com.navercorp.pinpoint.common.util.concurrent.FutureUtils;
 import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkDataDuplexMap;
 import com.navercorp.pinpoint.web.vo.Application;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.util.CollectionUtils;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
 
 /**
+ * Issues the out-link and in-link lookups of a search depth concurrently.
+ * The number of in-flight lookups per search is limited by {@code parallelism}.
+ *
  * @author HyunGil Jeong
  */
 public class DefaultApplicationsMapCreator implements ApplicationsMapCreator {
@@ -41,9 +49,19 @@ public class DefaultApplicationsMapCreator implements ApplicationsMapCreator {
 
     private final Executor executor;
 
+    private final int parallelism;
+
     public DefaultApplicationsMapCreator(ApplicationMapCreator applicationMapCreator, Executor executor) {
+        this(applicationMapCreator, executor, Integer.MAX_VALUE);
+    }
+
+    public DefaultApplicationsMapCreator(ApplicationMapCreator applicationMapCreator, Executor executor, int parallelism) {
         this.applicationMapCreator = Objects.requireNonNull(applicationMapCreator, "applicationMapCreator");
         this.executor = Objects.requireNonNull(executor, "executor");
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be greater than 0. parallelism:" + parallelism);
+        }
+        this.parallelism = parallelism;
     }
 
     @Override
@@ -52,16 +70,40 @@ public class DefaultApplicationsMapCreator implements ApplicationsMapCreator {
             return new LinkDataDuplexMap();
         }
 
-        if (applications.size() > 1) {
-            return createParallel(applications, linkSelectContext);
+        final List<Supplier<LinkDataDuplexMap>> tasks = newTasks(applications, linkSelectContext);
+        if (tasks.size() > 1) {
+            return createParallel(tasks, linkSelectContext);
         }
-        return createSerial(applications, linkSelectContext);
+        return createSerial(tasks, linkSelectContext);
     }
 
-    private LinkDataDuplexMap createSerial(List<Application> applications, LinkSelectContext linkSelectContext) {
-        final LinkDataDuplexMap resultMap = new LinkDataDuplexMap();
+    private List<Supplier<LinkDataDuplexMap>> newTasks(List<Application> applications, LinkSelectContext linkSelectContext) {
+        final List<Supplier<LinkDataDuplexMap>> tasks = new ArrayList<>(applications.size() * 2);
         for (Application application : applications) {
-            LinkDataDuplexMap searchResult = applicationMapCreator.createMap(application, linkSelectContext);
+            if (linkSelectContext.checkNextOut(application)) {
+                tasks.add(lookup(linkSelectContext, () -> applicationMapCreator.createOutLinkMap(application, linkSelectContext)));
+            }
+            if (linkSelectContext.checkNextIn(application)) {
+                tasks.add(lookup(linkSelectContext, () -> applicationMapCreator.createInLinkMap(application, linkSelectContext)));
+            }
+        }
+        return tasks;
+    }
+
+    private Supplier<LinkDataDuplexMap> lookup(LinkSelectContext linkSelectContext, Supplier<LinkDataDuplexMap> lookup) {
+        return () -> {
+            // the caller stopped waiting, a late lookup neither queries nor adds next applications
+            if (linkSelectContext.isTimeout()) {
+                return new LinkDataDuplexMap();
+            }
+            return lookup.get();
+        };
+    }
+
+    private LinkDataDuplexMap createSerial(List<Supplier<LinkDataDuplexMap>> tasks, LinkSelectContext linkSelectContext) {
+        final LinkDataDuplexMap resultMap = new LinkDataDuplexMap();
+        for (Supplier<LinkDataDuplexMap> task : tasks) {
+            LinkDataDuplexMap searchResult = task.get();
             resultMap.addLinkDataDuplexMap(searchResult);
         }
         if (logger.isDebugEnabled()) {
@@ -70,36 +112,71 @@ public class DefaultApplicationsMapCreator implements ApplicationsMapCreator {
         return resultMap;
     }
 
-    private LinkDataDuplexMap createParallel(List<Application> applications, LinkSelectContext linkSelectContext) {
-        CompletableFuture<List<LinkDataDuplexMap>> futures = getLinkDataMapFutures(applications, linkSelectContext);
+    private LinkDataDuplexMap createParallel(List<Supplier<LinkDataDuplexMap>> tasks, LinkSelectContext linkSelectContext) {
+        final List<CompletableFuture<LinkDataDuplexMap>> futures = submit(tasks, linkSelectContext);
+        await(futures, linkSelectContext);
 
-        List<LinkDataDuplexMap> linkDataDuplexMaps = futures.join();
-        LinkDataDuplexMap resultMap = new LinkDataDuplexMap();
-        for (LinkDataDuplexMap linkDataDuplexMap : linkDataDuplexMaps) {
-            resultMap.addLinkDataDuplexMap(linkDataDuplexMap);
+        final LinkDataDuplexMap resultMap = new LinkDataDuplexMap();
+        for (CompletableFuture<LinkDataDuplexMap> future : futures) {
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                resultMap.addLinkDataDuplexMap(future.join());
+            } else {
+                // partial result. late lookups see the timeout, skip their query and are discarded
+                future.whenComplete((result, throwable) -> logFailure(throwable, linkSelectContext));
+            }
         }
 
         if (logger.isDebugEnabled()) {
-            logger.debug("depth search. inDepth:{}, inDepth:{}", linkSelectContext.getOutDepth(), linkSelectContext.getInDepth());
+            logger.debug("depth search. outDepth:{}, inDepth:{}, tasks:{}", linkSelectContext.getOutDepth(), linkSelectContext.getInDepth(), futures.size());
         }
         return resultMap;
     }
 
+    private void logFailure(Throwable throwable, LinkSelectContext linkSelectContext) {
+        if (throwable == null) {
+            return;
+        }
+        final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+        logger.warn("link lookup failed after the search timeout, its links are missing. outDepth:{}, inDepth:{}",
+                linkSelectContext.getOutDepth(), linkSelectContext.getInDepth(), cause);
+    }
+
+    private List<CompletableFuture<LinkDataDuplexMap>> submit(List<Supplier<LinkDataDuplexMap>> tasks, LinkSelectContext linkSelectContext) {
+        final Semaphore permits = new Semaphore(Math.min(parallelism, tasks.size()));
+        final List<CompletableFuture<LinkDataDuplexMap>> futures = new ArrayList<>(tasks.size());
+        for (Supplier<LinkDataDuplexMap> task : tasks) {
+            if (!acquire(permits, linkSelectContext)) {
+                linkSelectContext.timeout();
+                break;
+            }
+            final CompletableFuture<LinkDataDuplexMap> future = CompletableFuture.supplyAsync(task, executor);
+            future.whenComplete((result, throwable) -> permits.release());
+            futures.add(future);
+        }
+        return futures;
+    }
 
-    private CompletableFuture<List<LinkDataDuplexMap>> getLinkDataMapFutures(List<Application> targetApplicationList, LinkSelectContext linkSelectContext) {
-        @SuppressWarnings("unchecked")
-        CompletableFuture<LinkDataDuplexMap>[] linkDataDuplexMapFutures = new CompletableFuture[targetApplicationList.size()];
-        for (int i = 0; i < targetApplicationList.size(); i++) {
-            final Application targetApplication = targetApplicationList.get(i);
+    private boolean acquire(Semaphore permits, LinkSelectContext linkSelectContext) {
+        try {
+            return permits.tryAcquire(linkSelectContext.remainingTimeMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
 
-            CompletableFuture<LinkDataDuplexMap> future = CompletableFuture.supplyAsync(new Supplier<>() {
-                @Override
-                public LinkDataDuplexMap get() {
-                    return applicationMapCreator.createMap(targetApplication, linkSelectContext);
-                }
-            }, executor);
-            linkDataDuplexMapFutures[i] = future;
+    @SuppressWarnings("unchecked")
+    private void await(List<CompletableFuture<LinkDataDuplexMap>> futures, LinkSelectContext linkSelectContext) {
+        final CompletableFuture<Void> all = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+        try {
+            all.get(linkSelectContext.remainingTimeMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            linkSelectContext.timeout();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            linkSelectContext.timeout();
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
         }
-        return FutureUtils.allOfAsync(linkDataDuplexMapFutures);
     }
 }
@@ -57,6 +57,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiConsumer;
 
 /**
  * @author HyunGil Jeong
@@ -82,6 +83,10 @@ public class FilteredMapBuilder {
 
     private final Map<String, Application> applicationHashMap = new HashMap<>();
 
+    // appendTransaction() only
+    private final MultiValueMap<TraceSpanKey, SpanBo> otelLinkIndex = new LinkedMultiValueMap<>();
+    private final MultiValueMap<TraceSpanKey, SpanBo> otelUpstreamIndex = new LinkedMultiValueMap<>();
+
     public FilteredMapBuilder(ApplicationFactory applicationFactory, ServiceTypeRegistryService registry, TimeWindow timeWindow) {
         this.applicationFactory = Objects.requireNonNull(applicationFactory, "applicationFactory");
         this.registry = Objects.requireNonNull(registry, "registry");
@@ -106,6 +111,36 @@ public class FilteredMapBuilder {
         return this;
     }
 
+    /**
+     * Streaming counterpart of {@link #addTransactions(List)}.
+     * Only the OpenTelemetry spans are kept to resolve links against transactions added later.
+     */
+    public FilteredMapBuilder appendTransaction(List<SpanBo> transaction) {
+        addTransaction(transaction);
+
+        final MultiValueMap<TraceSpanKey, SpanBo> linkIndex = buildOtelLinkIndex(List.of(transaction));
+        this.otelLinkIndex.addAll(linkIndex);
+        // this transaction as upstream of every link seen so far
+        addOtelLinksByUpstream(transaction, this.otelLinkIndex);
+        // links of this transaction pointing at the upstream spans of earlier transactions
+        for (Map.Entry<TraceSpanKey, List<SpanBo>> entry : linkIndex.entrySet()) {
+            final List<SpanBo> upstreams = this.otelUpstreamIndex.get(entry.getKey());
+            if (upstreams == null) {
+                continue;
+            }
+            for (SpanBo upstream : upstreams) {
+                for (SpanBo downstream : entry.getValue()) {
+                    if (downstream != upstream) {
+                        addOtelLinkData(upstream, downstream);
+                    }
+                }
+            }
+        }
+        visitOtelSpanIds(transaction, (upstream, otelSpanId) ->
+                this.otelUpstreamIndex.add(new TraceSpanKey(upstream.getTransactionId(), otelSpanId), upstream));
+        return this;
+    }
+
     private MultiValueMap<TraceSpanKey, SpanBo> buildOtelLinkIndex(List<List<SpanBo>> transactionList) {
         final MultiValueMap<TraceSpanKey, SpanBo> index = new LinkedMultiValueMap<>();
         for (List<SpanBo> transaction : transactionList) {
@@ -117,7 +152,7 @@ public class FilteredMapBuilder {
                 indexOtelLinks(host, host.getAnnotationBoList(), index);
 
                 // 2) OTel sub-span(s) inside SpanEvents can carry links too — attribute them to
-                //    the owning SpanBo, mirroring the upstream-side matchSpanEvents.
+                //    the owning SpanBo, mirroring the upstream-side visitSpanEvents.
                 indexSpanEventLinks(host, host.getSpanEventBoList(), index);
                 for (SpanChunkBo chunk : host.getSpanChunkBoList()) {
                     indexSpanEventLinks(host, chunk.getSpanEventBoList(), index);
@@ -156,22 +191,26 @@ public class FilteredMapBuilder {
         if (otelLinkIndex.isEmpty()) {
             return;
         }
+        visitOtelSpanIds(transaction, (upstream, otelSpanId) -> matchAndAddLink(upstream, otelSpanId, otelLinkIndex));
+    }
+
+    private void visitOtelSpanIds(List<SpanBo> transaction, BiConsumer<SpanBo, Long> visitor) {
         for (SpanBo upstream : transaction) {
             if (upstream.getTraceSourceType() != TraceSourceType.OPENTELEMETRY) {
                 continue;
             }
             // 1) Top-level OTel span: compare SpanBo's spanId
-            matchAndAddLink(upstream, upstream.getSpanId(), otelLinkIndex);
+            visitor.accept(upstream, upstream.getSpanId());
 
             // 2) OTel sub-span(s) inside SpanEvents: compare each event's OPENTELEMETRY_SPAN_ID
-            matchSpanEvents(upstream, upstream.getSpanEventBoList(), otelLinkIndex);
+            visitSpanEvents(upstream, upstream.getSpanEventBoList(), visitor);
             for (SpanChunkBo chunk : upstream.getSpanChunkBoList()) {
-                matchSpanEvents(upstream, chunk.getSpanEventBoList(), otelLinkIndex);
+                visitSpanEvents(upstream, chunk.getSpanEventBoList(), visitor);
             }
         }
     }
 
-    private void matchSpanEvents(SpanBo host, List<SpanEventBo> events, MultiValueMap<TraceSpanKey, SpanBo> otelLinkIndex) {
+    private void visitSpanEvents(SpanBo host, List<SpanEventBo> events, BiConsumer<SpanBo, Long> visitor) {
         if (events == null || events.isEmpty()) {
             return;
         }
@@ -180,7 +219,7 @@ public class FilteredMapBuilder {
             if (otelSpanId == OpenTelemetryAnnotationValueUtils.DEFAULT_SPAN_ID) {
                 continue;
             }
-            matchAndAddLink(host, otelSpanId, otelLinkIndex);
+            visitor.accept(host, otelSpanId);
         }
     }
 
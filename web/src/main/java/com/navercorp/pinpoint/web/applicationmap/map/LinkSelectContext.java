@@ -20,6 +20,7 @@ package com.navercorp.pinpoint.web.applicationmap.map;
 import com.navercorp.pinpoint.common.timeseries.window.TimeWindow;
 import com.navercorp.pinpoint.web.applicationmap.link.LinkDirection;
 import com.navercorp.pinpoint.web.applicationmap.service.SearchDepth;
+import com.navercorp.pinpoint.web.applicationmap.util.TimeoutWatcher;
 import com.navercorp.pinpoint.web.vo.Application;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -29,6 +30,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 
 /**
@@ -44,14 +46,29 @@ public class LinkSelectContext {
 
     private final LinkVisitChecker linkVisitChecker;
 
+    private final TimeoutWatcher timeoutWatcher;
+    private final AtomicBoolean timeout;
+
     private final Set<Application> nextApplications = ConcurrentHashMap.newKeySet();
 
     public LinkSelectContext(TimeWindow timeWindow, SearchDepth outDepth, SearchDepth inDepth,
                              LinkVisitChecker linkVisitChecker) {
+        this(timeWindow, outDepth, inDepth, linkVisitChecker, new TimeoutWatcher(-1));
+    }
+
+    public LinkSelectContext(TimeWindow timeWindow, SearchDepth outDepth, SearchDepth inDepth,
+                             LinkVisitChecker linkVisitChecker, TimeoutWatcher timeoutWatcher) {
+        this(timeWindow, outDepth, inDepth, linkVisitChecker, timeoutWatcher, new AtomicBoolean(false));
+    }
+
+    private LinkSelectContext(TimeWindow timeWindow, SearchDepth outDepth, SearchDepth inDepth,
+                              LinkVisitChecker linkVisitChecker, TimeoutWatcher timeoutWatcher, AtomicBoolean timeout) {
         this.timeWindow = Objects.requireNonNull(timeWindow, "timeWindow");
         this.outDepth = Objects.requireNonNull(outDepth, "outDepth");
         this.inDepth = Objects.requireNonNull(inDepth, "inDepth");
         this.linkVisitChecker = Objects.requireNonNull(linkVisitChecker, "linkVisitChecker");
+        this.timeoutWatcher = Objects.requireNonNull(timeoutWatcher, "timeoutWatcher");
+        this.timeout = Objects.requireNonNull(timeout, "timeout");
     }
 
     public TimeWindow getTimeWindow() {
@@ -91,15 +108,37 @@ public class LinkSelectContext {
     }
 
     public void addNextApplication(Application application) {
+        if (isTimeout()) {
+            // the caller already consumed the next applications of this depth
+            logger.debug("link search timeout. skip nextNode:{}", application);
+            return;
+        }
         final boolean add = this.nextApplications.add(application);
         if (!add) {
             logger.debug("already added. nextNode:{}", application);
         }
     }
 
+    public long remainingTimeMillis() {
+        return timeoutWatcher.remainingTimeMillis();
+    }
+
+    /**
+     * marks the search as partial. the remaining depth is not searched
+     */
+    public void timeout() {
+        if (timeout.compareAndSet(false, true)) {
+            logger.warn("link search timeout. outDepth:{}, inDepth:{}", getOutDepth(), getInDepth());
+        }
+    }
+
+    public boolean isTimeout() {
+        return timeout.get();
+    }
+
     public LinkSelectContext advance() {
         SearchDepth nextOutDepth = outDepth.nextDepth();
         SearchDepth nextInDepth = inDepth.nextDepth();
-        return new LinkSelectContext(timeWindow, nextOutDepth, nextInDepth, linkVisitChecker);
+        return new LinkSelectContext(timeWindow, nextOutDepth, nextInDepth, linkVisitChecker, timeoutWatcher, timeout);
     }
 }
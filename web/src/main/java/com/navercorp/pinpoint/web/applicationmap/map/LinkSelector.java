@@ -19,6 +19,7 @@ package com.navercorp.pinpoint.web.applicationmap.map;
 
 import com.navercorp.pinpoint.common.timeseries.window.TimeWindow;
 import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkDataDuplexMap;
+import com.navercorp.pinpoint.web.applicationmap.util.TimeoutWatcher;
 import com.navercorp.pinpoint.web.vo.Application;
 
 import java.util.List;
@@ -27,5 +28,12 @@ import java.util.List;
  * @author emeroad
  */
 public interface LinkSelector {
-    LinkDataDuplexMap select(List<Application> sourceApplications, TimeWindow timeWindow, int outSearchDepth, int inSearchDepth);
+    default LinkDataDuplexMap select(List<Application> sourceApplications, TimeWindow timeWindow, int outSearchDepth, int inSearchDepth) {
+        return select(sourceApplications, timeWindow, outSearchDepth, inSearchDepth, new TimeoutWatcher(-1));
+    }
+
+    /**
+     * the search stops at the depth where {@code timeoutWatcher} runs out and returns the links found so far
+     */
+    LinkDataDuplexMap select(List<Application> sourceApplications, TimeWindow timeWindow, int outSearchDepth, int inSearchDepth, TimeoutWatcher timeoutWatcher);
 }
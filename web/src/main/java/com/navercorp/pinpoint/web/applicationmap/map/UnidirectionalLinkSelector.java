@@ -21,6 +21,7 @@ import com.navercorp.pinpoint.common.timeseries.window.TimeWindow;
 import com.navercorp.pinpoint.web.applicationmap.link.LinkDirection;
 import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkDataDuplexMap;
 import com.navercorp.pinpoint.web.applicationmap.service.SearchDepth;
+import com.navercorp.pinpoint.web.applicationmap.util.TimeoutWatcher;
 import com.navercorp.pinpoint.web.security.ServerMapDataFilter;
 import com.navercorp.pinpoint.web.vo.Application;
 import org.apache.logging.log4j.LogManager;
@@ -56,7 +57,7 @@ public class UnidirectionalLinkSelector implements LinkSelector {
     }
 
     @Override
-    public LinkDataDuplexMap select(List<Application> sourceApplications, TimeWindow timeWindow, int outSearchDepth, int inSearchDepth) {
+    public LinkDataDuplexMap select(List<Application> sourceApplications, TimeWindow timeWindow, int outSearchDepth, int inSearchDepth, TimeoutWatcher timeoutWatcher) {
         logger.debug("Creating link data map for {}", sourceApplications);
         final SearchDepth outDepth = new SearchDepth(outSearchDepth);
         final SearchDepth inDepth = new SearchDepth(inSearchDepth);
@@ -65,11 +66,14 @@ public class UnidirectionalLinkSelector implements LinkSelector {
         List<Application> applications = filterApplications(sourceApplications);
 
         List<Application> outboundApplications = Collections.unmodifiableList(applications);
-        LinkSelectContext outboundLinkSelectContext = new LinkSelectContext(timeWindow, outDepth, new SearchDepth(0), linkVisitChecker);
+        LinkSelectContext outboundLinkSelectContext = new LinkSelectContext(timeWindow, outDepth, new SearchDepth(0), linkVisitChecker, timeoutWatcher);
         List<Application> inboundApplications = Collections.unmodifiableList(applications);
-        LinkSelectContext inboundLinkSelectContext = new LinkSelectContext(timeWindow, new SearchDepth(0), inDepth, linkVisitChecker);
+        LinkSelectContext inboundLinkSelectContext = new LinkSelectContext(timeWindow, new SearchDepth(0), inDepth, linkVisitChecker, timeoutWatcher);
 
         while (!outboundApplications.isEmpty() || !inboundApplications.isEmpty()) {
+            if (outboundLinkSelectContext.isTimeout() || inboundLinkSelectContext.isTimeout()) {
+                break;
+            }
 
             logger.info("{} depth search start. outDepth:{}, inDepth:{}, size:{}, nodes:{}", LinkDirection.OUT_LINK, outboundLinkSelectContext.getOutDepth(), outboundLinkSelectContext.getInDepth(), outboundApplications.size(), outboundApplications);
             LinkDataDuplexMap outboundMap = applicationsMapCreator.createLinkDataDuplexMap(outboundApplications, outboundLinkSelectContext);
@@ -88,6 +92,9 @@ public class UnidirectionalLinkSelector implements LinkSelector {
             outboundLinkSelectContext = outboundLinkSelectContext.advance();
             inboundLinkSelectContext = inboundLinkSelectContext.advance();
         }
+        if (outboundLinkSelectContext.isTimeout() || inboundLinkSelectContext.isTimeout()) {
+            linkDataDuplexMap.markPartial();
+        }
         return virtualLinkHandler.processVirtualLinks(linkDataDuplexMap, linkVisitChecker, timeWindow);
     }
 
@@ -33,6 +33,8 @@ public class LinkDataDuplexMap {
 
     private final LinkDataMap targetLinkDataMap;
 
+    private boolean partial;
+
     public LinkDataDuplexMap() {
         this.sourceLinkDataMap = new LinkDataMap();
         this.targetLinkDataMap = new LinkDataMap();
@@ -83,6 +85,20 @@ public class LinkDataDuplexMap {
         for (LinkData copyLinkData : linkDataDuplexMap.targetLinkDataMap.getLinkDataList()) {
             addTargetLinkData(copyLinkData);
         }
+        if (linkDataDuplexMap.partial) {
+            this.partial = true;
+        }
+    }
+
+    /**
+     * marks the link search as timed out. the map holds only the links found until then
+     */
+    public void markPartial() {
+        this.partial = true;
+    }
+
+    public boolean isPartial() {
+        return partial;
     }
 
     public void addSourceLinkData(LinkData copyLinkData) {
@@ -124,6 +140,7 @@ public class LinkDataDuplexMap {
         return "LinkDataDuplexMap{" +
                 "sourceLinkDataMap=" + sourceLinkDataMap +
                 ", targetLinkDataMap=" + targetLinkDataMap +
+                ", partial=" + partial +
                 '}';
     }
 }
@@ -45,7 +45,6 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StopWatch;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -53,6 +52,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * @author netspider
@@ -97,36 +97,23 @@ public class FilteredMapServiceImpl implements FilteredMapService {
     }
 
 
-    private List<List<SpanBo>> filterList2(List<List<SpanBo>> transactionList, Filter<List<SpanBo>> filter) {
-        final List<List<SpanBo>> filteredResult = new ArrayList<>();
-        for (List<SpanBo> transaction : transactionList) {
-            if (filter.include(transaction)) {
-                filteredResult.add(transaction);
-            }
-        }
-        return filteredResult;
-    }
-
     public ApplicationMap selectApplicationMap(FilteredMapServiceOption option) {
-        final List<List<SpanBo>> filterList = selectFilteredSpan(option.getTransactionIdList(), option.getFilter(), option.getColumnGetCount());
-        TimeWindow timeWindow = newTimeWindow(filterList);
-        FilteredMapBuilder filteredMapBuilder = new FilteredMapBuilder(applicationFactory, registry, timeWindow);
-        filteredMapBuilder.serverMapDataFilter(serverMapDataFilter);
-        filteredMapBuilder.addTransactions(filterList);
-        FilteredMap filteredMap = filteredMapBuilder.build();
-
-        return createMap(timeWindow, option.isUseStatisticsAgentState(), filteredMap);
+        // the time window follows the first accepted transaction
+        final FilteredMapCollector collector = new FilteredMapCollector(option.getFilter(), null);
+        selectFilteredSpan(option.getTransactionIdList(), option.getColumnGetCount(), collector);
+        FilteredMap filteredMap = collector.build();
+
+        return createMap(collector.getTimeWindow(), option.isUseStatisticsAgentState(), filteredMap);
     }
 
-    private TimeWindow newTimeWindow(List<List<SpanBo>> allSpanList) {
+    private TimeWindow newTimeWindow(List<SpanBo> spanBoList) {
         long min = Long.MAX_VALUE;
         long max = Long.MIN_VALUE;
 
-        if (CollectionUtils.isEmpty(allSpanList)) {
+        if (CollectionUtils.isEmpty(spanBoList)) {
             return new TimeWindow(Range.between(min, max));
         }
 
-        final List<SpanBo> spanBoList = allSpanList.get(0);
         for (SpanBo spanBo : spanBoList) {
             final long startTimeMillis = spanBo.getStartTimeMillis();
             min = Math.min(min, startTimeMillis);
@@ -143,14 +130,12 @@ public class FilteredMapServiceImpl implements FilteredMapService {
         StopWatch watch = new StopWatch();
         watch.start();
 
-        final List<List<SpanBo>> filterList = selectFilteredSpan(option.getTransactionIdList(), option.getFilter(), option.getColumnGetCount());
         Range scanRange = option.getRange();
         TimeWindow timeWindow = new TimeWindow(scanRange);
 
-        FilteredMapBuilder filteredMapBuilder = new FilteredMapBuilder(applicationFactory, registry, timeWindow);
-        filteredMapBuilder.serverMapDataFilter(serverMapDataFilter);
-        filteredMapBuilder.addTransactions(filterList);
-        FilteredMap filteredMap = filteredMapBuilder.build();
+        final FilteredMapCollector collector = new FilteredMapCollector(option.getFilter(), timeWindow);
+        selectFilteredSpan(option.getTransactionIdList(), option.getColumnGetCount(), collector);
+        FilteredMap filteredMap = collector.build();
 
         ApplicationMap map = createMap(timeWindow, option.isUseStatisticsAgentState(), filteredMap);
 
@@ -167,15 +152,16 @@ public class FilteredMapServiceImpl implements FilteredMapService {
     }
 
 
-    private List<List<SpanBo>> selectFilteredSpan(List<ServerTraceId> transactionIdList, Filter<List<SpanBo>> filter, ColumnGetCount columnGetCount) {
+    private void selectFilteredSpan(List<ServerTraceId> transactionIdList, ColumnGetCount columnGetCount, FilteredMapCollector collector) {
         // filters out recursive calls by looking at each objects
         // do not filter here if we change to a tree-based collision check in the future.
         final Collection<ServerTraceId> recursiveFilterList = recursiveCallFilter(transactionIdList);
 
-        // FIXME might be better to simply traverse the List<Span> and create a process chain for execution
-        final List<List<SpanBo>> originalList = this.traceDao.selectAllSpans(recursiveFilterList, columnGetCount);
-
-        return filterList2(originalList, filter);
+        // transactions are filtered as they are fetched. rejected ones are never kept
+        this.traceDao.selectAllSpans(recursiveFilterList, columnGetCount, collector);
+        if (logger.isDebugEnabled()) {
+            logger.debug("selectFilteredSpan accepted:{} rejected:{}", collector.accepted, collector.rejected);
+        }
     }
 
     private ApplicationMap createMap(TimeWindow timeWindow, boolean isUseStatisticsAgentState, FilteredMap filteredMap) {
@@ -212,4 +198,49 @@ public class FilteredMapServiceImpl implements FilteredMapService {
         }
         return transactionIdList;
     }
+
+    private class FilteredMapCollector implements Consumer<List<SpanBo>> {
+        private final Filter<List<SpanBo>> filter;
+        // @Nullable
+        private TimeWindow timeWindow;
+        private FilteredMapBuilder builder;
+
+        private int accepted;
+        private int rejected;
+
+        private FilteredMapCollector(Filter<List<SpanBo>> filter, TimeWindow timeWindow) {
+            this.filter = Objects.requireNonNull(filter, "filter");
+            this.timeWindow = timeWindow;
+        }
+
+        @Override
+        public void accept(List<SpanBo> transaction) {
+            if (!filter.include(transaction)) {
+                rejected++;
+                return;
+            }
+            accepted++;
+            getBuilder(transaction).appendTransaction(transaction);
+        }
+
+        private FilteredMapBuilder getBuilder(List<SpanBo> firstTransaction) {
+            if (builder == null) {
+                if (timeWindow == null) {
+                    timeWindow = newTimeWindow(firstTransaction);
+                }
+                builder = new FilteredMapBuilder(applicationFactory, registry, timeWindow);
+                builder.serverMapDataFilter(serverMapDataFilter);
+            }
+            return builder;
+        }
+
+        public TimeWindow getTimeWindow() {
+            getBuilder(List.of());
+            return timeWindow;
+        }
+
+        public FilteredMap build() {
+            return getBuilder(List.of()).build();
+        }
+    }
 }
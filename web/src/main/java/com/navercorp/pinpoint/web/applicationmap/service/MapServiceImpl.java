@@ -20,6 +20,7 @@ import com.navercorp.pinpoint.common.timeseries.window.TimeWindow;
 import com.navercorp.pinpoint.web.applicationmap.ApplicationMap;
 import com.navercorp.pinpoint.web.applicationmap.ApplicationMapBuilder;
 import com.navercorp.pinpoint.web.applicationmap.ApplicationMapBuilderFactory;
+import com.navercorp.pinpoint.web.applicationmap.ApplicationMapFactory;
 import com.navercorp.pinpoint.web.applicationmap.appender.histogram.NodeHistogramFactory;
 import com.navercorp.pinpoint.web.applicationmap.appender.server.ServerGroupListFactory;
 import com.navercorp.pinpoint.web.applicationmap.map.LinkSelector;
@@ -27,6 +28,7 @@ import com.navercorp.pinpoint.web.applicationmap.map.LinkSelectorFactory;
 import com.navercorp.pinpoint.web.applicationmap.map.LinkSelectorType;
 import com.navercorp.pinpoint.web.applicationmap.map.processor.LinkDataMapProcessor;
 import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkDataDuplexMap;
+import com.navercorp.pinpoint.web.applicationmap.util.TimeoutWatcher;
 import com.navercorp.pinpoint.web.security.ServerMapDataFilter;
 import com.navercorp.pinpoint.web.service.ServerInstanceDatasourceService;
 import com.navercorp.pinpoint.web.vo.Application;
@@ -64,6 +66,9 @@ public class MapServiceImpl implements MapService {
     @Value("${web.servermap.build.timeout:600000}")
     private long buildTimeoutMillis;
 
+    @Value("${web.servermap.select.timeout:60000}")
+    private long selectTimeoutMillis;
+
     public MapServiceImpl(LinkSelectorFactory linkSelectorFactory,
                           NodeHistogramService nodeHistogramService,
                           Optional<ServerMapDataFilter> serverMapDataFilter,
@@ -98,7 +103,7 @@ public class MapServiceImpl implements MapService {
         LinkSelector linkSelector = linkSelectorFactory.createLinkSelector(linkSelectorType, outLinkProcessor, inLinkProcessor);
 
         TimeWindow timeWindow = option.getTimeWindow();
-        LinkDataDuplexMap linkDataDuplexMap = linkSelector.select(option.getSourceApplications(), timeWindow, outSearchDepth, inSearchDepth);
+        LinkDataDuplexMap linkDataDuplexMap = linkSelector.select(option.getSourceApplications(), timeWindow, outSearchDepth, inSearchDepth, new TimeoutWatcher(selectTimeoutMillis));
         watch.stop();
 
         if (linkDataLimiter.excess(linkDataDuplexMap.getTotalCount())) {
@@ -119,6 +124,9 @@ public class MapServiceImpl implements MapService {
         if (serverMapDataFilter != null) {
             map = serverMapDataFilter.dataFiltering(map);
         }
+        if (linkDataDuplexMap.isPartial()) {
+            map = ApplicationMapFactory.partial(map);
+        }
         return map;
     }
 
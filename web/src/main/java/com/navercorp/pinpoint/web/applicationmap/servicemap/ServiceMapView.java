@@ -46,6 +46,11 @@ public class ServiceMapView implements MapView {
         return applicationMap.getRange();
     }
 
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    public boolean isPartial() {
+        return applicationMap.isPartial();
+    }
+
     @JsonProperty("nodeDataArray")
     public Iterator<NodeViewEntry> getNodes() {
         return nodes.iterator();
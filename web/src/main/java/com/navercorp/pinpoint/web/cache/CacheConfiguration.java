@@ -35,6 +35,7 @@ public class CacheConfiguration implements CachingConfigurer {
 
     public static final String API_METADATA_CACHE_NAME = "apiMetaData";
     public static final String APPLICATION_LIST_CACHE_NAME = "applicationNameList";
+    public static final String AGENT_ID_LIST_CACHE_NAME = "agentIdList";
 
     @Bean
     public CacheManager apiMetaData() {
@@ -56,4 +57,15 @@ public class CacheConfiguration implements CachingConfigurer {
         return caffeineCacheManager;
     }
 
+    @Bean
+    public CacheManager agentIdList() {
+        // short-lived, absorbs the repeated agent list lookups of a page load and its refreshes
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager(AGENT_ID_LIST_CACHE_NAME);
+        caffeineCacheManager.setCaffeine(Caffeine.newBuilder()
+                .expireAfterWrite(10, TimeUnit.SECONDS)
+                .initialCapacity(10)
+                .maximumSize(1000));
+        return caffeineCacheManager;
+    }
+
 }
@@ -14,7 +14,11 @@ public interface AgentIdDao {
 
     List<AgentIdEntry> getAgentIdEntry(int serviceUid, String applicationName, int serviceTypeCode, String agentId);
 
-    List<AgentIdEntry> getAgentIdEntryByMinStateTimestamp(int serviceUid, String applicationName, int serviceTypeCode, long minStateTimestamp);
+    /**
+     * Returns the agents whose state changed at or after {@code minStateTimestamp} and that started at or before {@code maxAgentStartTime}.
+     * Both conditions are evaluated by the storage.
+     */
+    List<AgentIdEntry> getAgentIdEntryByMinStateTimestamp(int serviceUid, String applicationName, int serviceTypeCode, long minStateTimestamp, long maxAgentStartTime);
 
     void delete(int serviceUid, String applicationName, int serviceTypeCode, String agentId, long agentStartTime);
 
@@ -10,7 +10,9 @@ import com.navercorp.pinpoint.common.hbase.RowMapper;
 import com.navercorp.pinpoint.common.hbase.TableNameProvider;
 import com.navercorp.pinpoint.common.server.util.AgentIdRowKeyUtils;
 import com.navercorp.pinpoint.common.server.util.AgentLifeCycleState;
+import com.navercorp.pinpoint.common.timeseries.util.LongInverter;
 import com.navercorp.pinpoint.common.util.StringUtils;
+import com.navercorp.pinpoint.web.cache.CacheConfiguration;
 import com.navercorp.pinpoint.web.component.ApplicationFactory;
 import com.navercorp.pinpoint.web.dao.AgentIdDao;
 import com.navercorp.pinpoint.web.mapper.AgentIdEntryMapper;
@@ -23,13 +25,17 @@ import org.apache.hadoop.hbase.client.Delete;
 import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Result;
 import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.filter.BinaryComponentComparator;
 import org.apache.hadoop.hbase.filter.BinaryPrefixComparator;
 import org.apache.hadoop.hbase.filter.FilterList;
 import org.apache.hadoop.hbase.filter.FirstKeyOnlyFilter;
 import org.apache.hadoop.hbase.filter.KeyOnlyFilter;
+import org.apache.hadoop.hbase.filter.RowFilter;
 import org.apache.hadoop.hbase.filter.SingleColumnValueFilter;
 import org.apache.hadoop.hbase.util.Bytes;
 import org.jspecify.annotations.Nullable;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
@@ -55,12 +61,14 @@ public class HbaseAgentIdDao implements AgentIdDao {
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfiguration.AGENT_ID_LIST_CACHE_NAME, cacheManager = CacheConfiguration.AGENT_ID_LIST_CACHE_NAME)
     public List<AgentIdEntry> getAgentIdEntry(int serviceUid, String applicationName) {
         byte[] rowKeyPrefix = AgentIdRowKeyUtils.createPrefix(serviceUid, applicationName);
         return getAgentIdEntry(rowKeyPrefix, applicationName);
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfiguration.AGENT_ID_LIST_CACHE_NAME, cacheManager = CacheConfiguration.AGENT_ID_LIST_CACHE_NAME)
     public List<AgentIdEntry> getAgentIdEntry(int serviceUid, String applicationName, int serviceTypeCode) {
         byte[] rowKeyPrefix = AgentIdRowKeyUtils.createPrefix(serviceUid, applicationName, serviceTypeCode);
         return getAgentIdEntry(rowKeyPrefix, applicationName);
@@ -77,7 +85,8 @@ public class HbaseAgentIdDao implements AgentIdDao {
         final TableName applicationIndexTableName = tableNameProvider.getTableName(DESCRIPTOR.getTable());
         RowMapper<List<AgentIdEntry>> agentStartTimeInfoMapper = new AgentIdEntryMapper(applicationFactory, AgentIdRowKeyUtils.createApplicationNamePredicate(applicationName));
         List<List<AgentIdEntry>> results = hbaseTemplate.find(applicationIndexTableName, scan, agentStartTimeInfoMapper);
-        return ListListUtils.toList(results);
+        // may be shared through the cache
+        return List.copyOf(ListListUtils.toList(results));
     }
 
     private Scan createScan(byte[] rowKeyPrefix) {
@@ -90,13 +99,13 @@ public class HbaseAgentIdDao implements AgentIdDao {
     }
 
     @Override
-    public List<AgentIdEntry> getAgentIdEntryByMinStateTimestamp(int serviceUid, String applicationName, int serviceTypeCode, long minStateTimestamp) {
+    public List<AgentIdEntry> getAgentIdEntryByMinStateTimestamp(int serviceUid, String applicationName, int serviceTypeCode, long minStateTimestamp, long maxAgentStartTime) {
         byte[] rowKeyPrefix = AgentIdRowKeyUtils.createPrefix(serviceUid, applicationName, serviceTypeCode);
         Scan scan = createScan(rowKeyPrefix);
 
-        SingleColumnValueFilter filter = new SingleColumnValueFilter(DESCRIPTOR.getName(), HbaseTables.AGENT_ID_STATE_QUALIFIER, CompareOperator.GREATER_OR_EQUAL, new BinaryPrefixComparator(Bytes.toBytes(minStateTimestamp)));
-        filter.setFilterIfMissing(false);
-        scan.setFilter(filter);
+        SingleColumnValueFilter stateFilter = new SingleColumnValueFilter(DESCRIPTOR.getName(), HbaseTables.AGENT_ID_STATE_QUALIFIER, CompareOperator.GREATER_OR_EQUAL, new BinaryPrefixComparator(Bytes.toBytes(minStateTimestamp)));
+        stateFilter.setFilterIfMissing(false);
+        scan.setFilter(new FilterList(FilterList.Operator.MUST_PASS_ALL, createMaxAgentStartTimeFilter(maxAgentStartTime), stateFilter));
 
         final TableName applicationIndexTableName = tableNameProvider.getTableName(DESCRIPTOR.getTable());
         RowMapper<List<AgentIdEntry>> agentStartTimeInfoMapper = new AgentIdEntryMapper(applicationFactory, AgentIdRowKeyUtils.createApplicationNamePredicate(applicationName));
@@ -104,7 +113,18 @@ public class HbaseAgentIdDao implements AgentIdDao {
         return ListListUtils.toList(results);
     }
 
+    /**
+     * agentStartTime is stored inverted at a fixed offset of the row key,
+     * so agents started after {@code maxAgentStartTime} are skipped by the region server.
+     */
+    static RowFilter createMaxAgentStartTimeFilter(long maxAgentStartTime) {
+        byte[] invertedStartTime = Bytes.toBytes(LongInverter.invert(maxAgentStartTime));
+        BinaryComponentComparator comparator = new BinaryComponentComparator(invertedStartTime, AgentIdRowKeyUtils.AGENT_START_TIME_OFFSET);
+        return new RowFilter(CompareOperator.GREATER_OR_EQUAL, comparator);
+    }
+
     @Override
+    @CacheEvict(cacheNames = CacheConfiguration.AGENT_ID_LIST_CACHE_NAME, allEntries = true, cacheManager = CacheConfiguration.AGENT_ID_LIST_CACHE_NAME)
     public void delete(int serviceUid, String applicationName, int serviceTypeCode, String agentId, long agentStartTime) {
         byte[] rowKey = AgentIdRowKeyUtils.createRow(serviceUid, applicationName, serviceTypeCode, agentId, agentStartTime);
         Delete delete = new Delete(rowKey);
@@ -113,6 +133,7 @@ public class HbaseAgentIdDao implements AgentIdDao {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfiguration.AGENT_ID_LIST_CACHE_NAME, allEntries = true, cacheManager = CacheConfiguration.AGENT_ID_LIST_CACHE_NAME)
     public void delete(List<AgentIdEntry> agentIdEntryList) {
         List<Delete> deletes = new ArrayList<>(agentIdEntryList.size());
         for (AgentIdEntry agentIdEntry : agentIdEntryList) {
@@ -124,6 +145,7 @@ public class HbaseAgentIdDao implements AgentIdDao {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfiguration.AGENT_ID_LIST_CACHE_NAME, allEntries = true, cacheManager = CacheConfiguration.AGENT_ID_LIST_CACHE_NAME)
     public void insert(int serviceUid, String applicationName, int serviceTypeCode, String agentId, long agentStartTime,
                        String agentName, @Nullable AgentStatus agentStatus) {
         byte[] row = AgentIdRowKeyUtils.createRow(serviceUid, applicationName, serviceTypeCode, agentId, agentStartTime);
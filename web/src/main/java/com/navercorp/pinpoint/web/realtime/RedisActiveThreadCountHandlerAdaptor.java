@@ -22,15 +22,17 @@ import com.navercorp.pinpoint.web.websocket.message.PinpointWebSocketMessageConv
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.SubProtocolCapable;
 import org.springframework.web.socket.WebSocketSession;
 
 import javax.annotation.Nonnull;
+import java.util.List;
 import java.util.Objects;
 
 /**
  * @author youngjin.kim2
  */
-public class RedisActiveThreadCountHandlerAdaptor extends ActiveThreadCountHandler {
+public class RedisActiveThreadCountHandlerAdaptor extends ActiveThreadCountHandler implements SubProtocolCapable {
     private final Logger logger = LogManager.getLogger(this.getClass());
 
     private final RedisActiveThreadCountWebSocketHandler delegate;
@@ -55,6 +57,12 @@ public class RedisActiveThreadCountHandlerAdaptor extends ActiveThreadCountHandl
         logger.info("Stopped");
     }
 
+    @Override
+    @Nonnull
+    public List<String> getSubProtocols() {
+        return this.delegate.getSubProtocols();
+    }
+
     @Override
     public void afterConnectionEstablished(@Nonnull WebSocketSession session) {
         logger.debug("Connection established: {}", session);
@@ -20,6 +20,7 @@ import com.navercorp.pinpoint.common.hbase.HbaseColumnFamily;
 import com.navercorp.pinpoint.common.hbase.HbaseTables;
 import com.navercorp.pinpoint.common.hbase.RowMapper;
 import com.navercorp.pinpoint.common.hbase.RowTypeHint;
+import com.navercorp.pinpoint.common.hbase.util.CellUtils;
 import com.navercorp.pinpoint.common.server.scatter.TraceIndexRowKeyUtils;
 import com.navercorp.pinpoint.common.server.scatter.TraceIndexValue;
 import com.navercorp.pinpoint.common.server.trace.PinpointServerTraceId;
@@ -64,7 +65,7 @@ public class TraceIndexDotMapper implements RowMapper<List<Dot>>, RowTypeHint {
     }
 
     private Dot createDot(long acceptedTime, Cell cell) {
-        TraceIndexValue.Index index = TraceIndexValue.Index.decode(cell.getValueArray(), cell.getValueOffset(), cell.getValueLength());
+        TraceIndexValue.Index index = TraceIndexValue.Index.decode(CellUtils.valueBuffer(cell));
         return new Dot(EMPTY, acceptedTime, index.elapsed(), index.errorCode(), index.agentId());
     }
 
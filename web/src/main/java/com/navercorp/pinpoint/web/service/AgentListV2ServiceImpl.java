@@ -81,7 +81,7 @@ public class AgentListV2ServiceImpl implements AgentListV2Service {
      * For service types that send pings — filter by status timestamp.
      */
     private List<AgentIdEntry> getActiveAgentListByStatus(Service service, String applicationName, ServiceType serviceType, Range range) {
-        List<AgentIdEntry> agentIdEntryList = agentIdDao.getAgentIdEntryByMinStateTimestamp(service.getServiceUid().getUid(), applicationName, serviceType.getCode(), range.getFrom());
+        List<AgentIdEntry> agentIdEntryList = agentIdDao.getAgentIdEntryByMinStateTimestamp(service.getServiceUid().getUid(), applicationName, serviceType.getCode(), range.getFrom(), range.getTo());
         agentIdEntryList = filterByAgentStartTime(agentIdEntryList, range);
         agentIdEntryList = dedupeConsecutiveAgentId(agentIdEntryList);
         return agentIdEntryList;
@@ -17,6 +17,7 @@
 package com.navercorp.pinpoint.web.service;
 
 import com.navercorp.pinpoint.common.server.bo.SpanBo;
+import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.SpanDecodeMode;
 import com.navercorp.pinpoint.common.server.trace.ServerTraceId;
 import com.navercorp.pinpoint.common.util.CollectionUtils;
 import com.navercorp.pinpoint.web.scatter.DragAreaQuery;
@@ -108,7 +109,7 @@ public class HeatMapServiceImpl implements HeatMapService {
         }
 
         List<GetTraceInfo> query = buildQuery(applicationName, dots);
-        final List<List<SpanBo>> selectedSpans = traceDao.selectSpans(query);
+        final List<List<SpanBo>> selectedSpans = traceDao.selectSpans(query, SpanDecodeMode.HEADER_ONLY);
 
         List<SpanBo> spanList = pickFirst(selectedSpans);
         spanService.populateAgentName(spanList);
@@ -17,6 +17,7 @@
 package com.navercorp.pinpoint.web.service;
 
 import com.navercorp.pinpoint.common.server.bo.SpanBo;
+import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.SpanDecodeMode;
 import com.navercorp.pinpoint.common.server.trace.ServerTraceId;
 import com.navercorp.pinpoint.common.timeseries.time.Range;
 import com.navercorp.pinpoint.common.util.CollectionUtils;
@@ -68,7 +69,7 @@ public class ScatterChartServiceImpl implements ScatterChartService {
     public List<SpanBo> selectTransactionMetadata(final List<GetTraceInfo> getTraceInfoList) {
         Objects.requireNonNull(getTraceInfoList, "getTraceInfoList");
 
-        final List<List<SpanBo>> selectedSpans = traceDao.selectSpans(getTraceInfoList);
+        final List<List<SpanBo>> selectedSpans = traceDao.selectSpans(getTraceInfoList, SpanDecodeMode.HEADER_ONLY);
         populateAgentNameListOfList(selectedSpans);
 
         return ListListUtils.toList(selectedSpans, getTraceInfoList.size());
@@ -76,7 +77,7 @@ public class ScatterChartServiceImpl implements ScatterChartService {
 
     @Override
     public List<SpanBo> selectTransactionMetadata(ServerTraceId transactionId) {
-        final List<SpanBo> selectedSpans = traceDao.selectSpan(transactionId);
+        final List<SpanBo> selectedSpans = traceDao.selectSpan(transactionId, SpanDecodeMode.HEADER_ONLY);
         populateAgentName(selectedSpans);
         return selectedSpans;
     }
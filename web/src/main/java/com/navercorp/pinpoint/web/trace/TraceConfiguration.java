@@ -19,16 +19,23 @@ package com.navercorp.pinpoint.web.trace;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.navercorp.pinpoint.common.buffer.StringAllocatorFactory;
 import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.config.SpanSerializeConfiguration;
+import com.navercorp.pinpoint.common.server.executor.ExecutorProperties;
+import com.navercorp.pinpoint.common.server.util.CallerUtils;
 import com.navercorp.pinpoint.web.service.ProxyRequestTypeRegistryService;
 import com.navercorp.pinpoint.web.trace.callstacks.AnnotationRecordFormatter;
 import com.navercorp.pinpoint.web.trace.callstacks.AttributeBoWriter;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.validation.annotation.Validated;
 
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 @Configuration
 @Import(
@@ -82,5 +89,29 @@ public class TraceConfiguration {
         public AttributeBoWriter attributeBoWriter(ObjectMapper mapper) {
             return new AttributeBoWriter(mapper);
         }
+
+        @Bean
+        @Validated
+        @ConfigurationProperties("web.trace.select.worker")
+        public ExecutorProperties traceSelectExecutorProperties() {
+            return new ExecutorProperties();
+        }
+
+        /**
+         * Runs the batched multi-gets of HbaseTraceDaoV2 and the call tree metadata lookups of SpanServiceImpl.
+         */
+        @Bean
+        public Executor traceSelectExecutor(@Qualifier("traceSelectExecutorProperties") ExecutorProperties properties) {
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.setCorePoolSize(properties.getCorePoolSize());
+            executor.setMaxPoolSize(properties.getMaxPoolSize());
+            executor.setQueueCapacity(properties.getQueueCapacity());
+            executor.setKeepAliveSeconds(properties.getKeepAliveSeconds());
+            executor.setDaemon(true);
+
+            String beanName = CallerUtils.getCallerMethodName();
+            executor.setThreadNamePrefix(beanName);
+            return executor;
+        }
     }
 }
@@ -36,6 +36,7 @@ import com.navercorp.pinpoint.web.hyperlink.HyperLinkFactory;
 import com.navercorp.pinpoint.web.service.ScatterChartService;
 import com.navercorp.pinpoint.web.trace.callstacks.RecordSet;
 import com.navercorp.pinpoint.web.trace.model.TraceViewerData;
+import com.navercorp.pinpoint.web.trace.service.CallTreePageCache;
 import com.navercorp.pinpoint.web.trace.service.SpanResult;
 import com.navercorp.pinpoint.web.trace.service.SpanService;
 import com.navercorp.pinpoint.web.trace.service.TransactionInfoService;
@@ -53,12 +54,15 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.PositiveOrZero;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.jspecify.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -86,6 +90,7 @@ public class TransactionController {
     private final LogLinkBuilder logLinkBuilder;
     private final ScatterChartService scatterChartService;
     private final ServiceTypeRegistryService serviceTypeRegistryService;
+    private final CallTreePageCache callTreePageCache;
 
     @Value("${web.callstack.selectSpans.limit:-1}")
     private int callstackSelectSpansLimit;
@@ -98,7 +103,8 @@ public class TransactionController {
                                  HyperLinkFactory hyperLinkFactory,
                                  LogLinkBuilder logLinkBuilder,
                                  ScatterChartService scatterChartService,
-                                 ServiceTypeRegistryService serviceTypeRegistryService) {
+                                 ServiceTypeRegistryService serviceTypeRegistryService,
+                                 CallTreePageCache callTreePageCache) {
         this.mapProperties = Objects.requireNonNull(mapProperties, "mapProperties");
         this.spanService = Objects.requireNonNull(spanService, "spanService");
         this.transactionInfoService = Objects.requireNonNull(transactionInfoService, "transactionInfoService");
@@ -107,6 +113,7 @@ public class TransactionController {
         this.logLinkBuilder = Objects.requireNonNull(logLinkBuilder, "logLinkBuilder");
         this.scatterChartService = Objects.requireNonNull(scatterChartService, "scatterChartService");
         this.serviceTypeRegistryService = Objects.requireNonNull(serviceTypeRegistryService, "serviceTypeRegistryService");
+        this.callTreePageCache = Objects.requireNonNull(callTreePageCache, "callTreePageCache");
     }
 
     @GetMapping(value = "/trace")
@@ -122,14 +129,19 @@ public class TransactionController {
             @RequestParam(value = "linkTraceId", required = false) @NullOrNotBlank
             String linkTraceId,
             @RequestParam(value = "linkSpanId", required = false, defaultValue = SpanId.NULL_STRING)
-            long linkSpanId
+            long linkSpanId,
+            @RequestParam(value = "callStackOffset", required = false, defaultValue = "0")
+            int callStackOffset,
+            @RequestParam(value = "callStackLimit", required = false)
+            @Nullable Integer callStackLimit
     ) {
         logger.debug("GET /trace params {traceId={}, focusTimestamp={}, agentId={}, spanId={}, linkTraceId={}, linkSpanId={}}",
                 traceId, focusTimestamp, agentId, spanId, linkTraceId, linkSpanId);
         ServerTraceId serverTraceId = ServerTraceId.of(traceId);
         final long focusSpanId = focusSpanId(spanId, linkTraceId, linkSpanId);
         final Predicate<SpanBo> spanMatchFilter = SpanFilters.spanFilter(focusSpanId, agentId, focusTimestamp);
-        return getTransactionCallTree(serverTraceId, spanMatchFilter, spanId, linkTraceId, linkSpanId);
+        final CallTreePageCache.Key key = new CallTreePageCache.Key(traceId, focusTimestamp, agentId, spanId, linkTraceId, linkSpanId);
+        return getTransactionCallTree(key, serverTraceId, spanMatchFilter, spanId, linkTraceId, linkSpanId, callStackOffset, callStackLimit);
     }
 
     @GetMapping(value = "/trace/link")
@@ -143,17 +155,55 @@ public class TransactionController {
             @RequestParam(value = "linkTraceId", required = false) @NullOrNotBlank
             String linkTraceId,
             @RequestParam(value = "linkSpanId", required = false, defaultValue = SpanId.NULL_STRING)
-            long linkSpanId
+            long linkSpanId,
+            @RequestParam(value = "callStackOffset", required = false, defaultValue = "0")
+            int callStackOffset,
+            @RequestParam(value = "callStackLimit", required = false)
+            @Nullable Integer callStackLimit
     ) {
         logger.debug("GET /trace/link params {traceId={}, focusTimestamp={}, spanId={}, linkTraceId={}, linkSpanId={}}",
                 traceId, focusTimestamp, spanId, linkTraceId, linkSpanId);
         ServerTraceId serverTraceId = ServerTraceId.of(traceId);
         final long focusSpanId = focusSpanId(spanId, linkTraceId, linkSpanId);
         final Predicate<SpanBo> spanMatchFilter = SpanFilters.spanFilter(focusSpanId, null, focusTimestamp);
-        return getTransactionCallTree(serverTraceId, spanMatchFilter, spanId, linkTraceId, linkSpanId);
+        final CallTreePageCache.Key key = new CallTreePageCache.Key(traceId, focusTimestamp, null, spanId, linkTraceId, linkSpanId);
+        return getTransactionCallTree(key, serverTraceId, spanMatchFilter, spanId, linkTraceId, linkSpanId, callStackOffset, callStackLimit);
     }
 
     private TransactionCallTreeViewModel getTransactionCallTree(
+            CallTreePageCache.Key key,
+            ServerTraceId serverTraceId,
+            Predicate<SpanBo> spanMatchFilter,
+            long spanId,
+            String linkTraceId,
+            long linkSpanId,
+            int callStackOffset,
+            @Nullable Integer callStackLimit
+    ) {
+        if (callStackOffset < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "callStackOffset must be zero or positive. callStackOffset:" + callStackOffset);
+        }
+        if (callStackLimit != null && callStackLimit < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "callStackLimit must be positive. callStackLimit:" + callStackLimit);
+        }
+        final int limit = callStackLimit == null ? TransactionCallTreeViewModel.UNPAGED : callStackLimit;
+
+        final CallTreePageCache.CallTree callTree;
+        if (callStackOffset > 0 || callStackLimit != null) {
+            // a paged request: the following pages reuse the aligned call tree
+            callTree = callTreePageCache.get(key, () -> selectCallTree(serverTraceId, spanMatchFilter, spanId, linkTraceId, linkSpanId));
+        } else {
+            callTree = selectCallTree(serverTraceId, spanMatchFilter, spanId, linkTraceId, linkSpanId);
+        }
+        final RecordSet recordSet = callTree.recordSet();
+
+        final String traceIdStr = serverTraceId.toString();
+        final LogLinkView logLinkView = logLinkBuilder.build(traceIdStr, spanId, recordSet.getApplicationName(), recordSet.getStartTime());
+        return new TransactionCallTreeViewModel(traceIdStr, spanId, recordSet, callTree.traceState(), logLinkView,
+                callStackOffset, limit);
+    }
+
+    private CallTreePageCache.CallTree selectCallTree(
             ServerTraceId serverTraceId,
             Predicate<SpanBo> spanMatchFilter,
             long spanId,
@@ -170,10 +220,7 @@ public class TransactionController {
         }
         final CallTreeIterator callTreeIterator = spanResult.callTree();
         final RecordSet recordSet = this.transactionInfoService.createRecordSet(callTreeIterator, spanMatchFilter);
-
-        final String traceIdStr = serverTraceId.toString();
-        final LogLinkView logLinkView = logLinkBuilder.build(traceIdStr, spanId, recordSet.getApplicationName(), recordSet.getStartTime());
-        return new TransactionCallTreeViewModel(traceIdStr, spanId, recordSet, spanResult.traceState(), logLinkView);
+        return new CallTreePageCache.CallTree(recordSet, spanResult.traceState());
     }
 
 
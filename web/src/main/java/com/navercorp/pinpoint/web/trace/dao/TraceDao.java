@@ -19,12 +19,14 @@ package com.navercorp.pinpoint.web.trace.dao;
 
 import com.navercorp.pinpoint.common.hbase.bo.ColumnGetCount;
 import com.navercorp.pinpoint.common.server.bo.SpanBo;
+import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.SpanDecodeMode;
 import com.navercorp.pinpoint.common.server.trace.ServerTraceId;
 import com.navercorp.pinpoint.web.service.FetchResult;
 import com.navercorp.pinpoint.web.vo.GetTraceInfo;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * @author emeroad
@@ -33,13 +35,33 @@ public interface TraceDao {
 
     List<SpanBo> selectSpan(ServerTraceId transactionId);
 
+    /**
+     * {@link SpanDecodeMode#HEADER_ONLY} also leaves span chunks out of the read.
+     */
+    default List<SpanBo> selectSpan(ServerTraceId transactionId, SpanDecodeMode decodeMode) {
+        return selectSpan(transactionId);
+    }
+
     FetchResult<List<SpanBo>> selectSpan(ServerTraceId transactionId, ColumnGetCount columnGetCount);
 
     List<List<SpanBo>> selectSpans(List<GetTraceInfo> getTraceInfoList);
+
+    default List<List<SpanBo>> selectSpans(List<GetTraceInfo> getTraceInfoList, SpanDecodeMode decodeMode) {
+        return selectSpans(getTraceInfoList);
+    }
     
     List<List<SpanBo>> selectAllSpans(Collection<ServerTraceId> transactionIdList);
 
     List<List<SpanBo>> selectAllSpans(Collection<ServerTraceId> transactionIdList, ColumnGetCount columnGetCount);
 
+    /**
+     * Streams each transaction to the consumer instead of collecting all of them.
+     * The consumer is always called from the caller thread.
+     */
+    default void selectAllSpans(Collection<ServerTraceId> transactionIdList, ColumnGetCount columnGetCount, Consumer<List<SpanBo>> consumer) {
+        for (List<SpanBo> transaction : selectAllSpans(transactionIdList, columnGetCount)) {
+            consumer.accept(transaction);
+        }
+    }
 
 }
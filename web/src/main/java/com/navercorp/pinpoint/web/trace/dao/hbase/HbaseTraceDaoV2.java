@@ -29,6 +29,7 @@ import com.navercorp.pinpoint.common.hbase.rowmapper.ResultSizeMapper;
 import com.navercorp.pinpoint.common.hbase.rowmapper.RowMapperResultAdaptor;
 import com.navercorp.pinpoint.common.server.bo.SpanBo;
 import com.navercorp.pinpoint.common.server.bo.serializer.RowKeyEncoder;
+import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.SpanDecodeMode;
 import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.SpanHeader;
 import com.navercorp.pinpoint.common.server.trace.ServerTraceId;
 import com.navercorp.pinpoint.web.dao.hbase.HBaseUtils;
@@ -47,15 +48,22 @@ import org.apache.hadoop.hbase.filter.FilterList;
 import org.apache.hadoop.hbase.filter.QualifierFilter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -76,12 +84,17 @@ public class HbaseTraceDaoV2 implements TraceDao {
 
     private final SpanMapperFactory spanMapperFactory;
 
+    private final Executor executor;
+
     @Value("${web.hbase.selectSpans.limit:500}")
     private int selectSpansLimit;
 
     @Value("${web.hbase.selectAllSpans.limit:500}")
     private int selectAllSpansLimit;
 
+    @Value("${web.hbase.selectAllSpans.parallelism:4}")
+    private int selectAllSpansParallelism;
+
     @Value("${web.hbase.trace.max.results.limit:50000}")
     private int traceMaxResultsPerColumnFamily;
 
@@ -89,36 +102,51 @@ public class HbaseTraceDaoV2 implements TraceDao {
 
     public HbaseTraceDaoV2(HbaseOperations template2,
                            TableNameProvider tableNameProvider,
-                           @Qualifier("traceRowKeyEncoderV2") RowKeyEncoder<ServerTraceId> rowKeyEncoder,
+                           RowKeyEncoder<ServerTraceId> rowKeyEncoder,
                            SpanMapperFactory spanMapperFactory) {
+        this(template2, tableNameProvider, rowKeyEncoder, spanMapperFactory, Runnable::run);
+    }
+
+    @Autowired
+    public HbaseTraceDaoV2(HbaseOperations template2,
+                           TableNameProvider tableNameProvider,
+                           @Qualifier("traceRowKeyEncoderV2") RowKeyEncoder<ServerTraceId> rowKeyEncoder,
+                           SpanMapperFactory spanMapperFactory,
+                           @Qualifier("traceSelectExecutor") Executor executor) {
         this.template2 = Objects.requireNonNull(template2, "template2");
         this.tableNameProvider = Objects.requireNonNull(tableNameProvider, "tableNameProvider");
         this.rowKeyEncoder = Objects.requireNonNull(rowKeyEncoder, "rowKeyEncoder");
         this.spanMapperFactory = Objects.requireNonNull(spanMapperFactory, "spanMapperFactory");
+        this.executor = Objects.requireNonNull(executor, "executor");
     }
 
     @Override
     public List<SpanBo> selectSpan(ServerTraceId transactionId) {
-        return selectSpan(transactionId, null).data();
+        return selectSpan(transactionId, null, SpanDecodeMode.EAGER).data();
+    }
+
+    @Override
+    public List<SpanBo> selectSpan(ServerTraceId transactionId, SpanDecodeMode decodeMode) {
+        Objects.requireNonNull(decodeMode, "decodeMode");
+        // span chunks only carry span events, so they are not read at all
+        final Filter filter = decodeMode == SpanDecodeMode.HEADER_ONLY ? spanFilter : null;
+        return selectSpan(transactionId, filter, decodeMode).data();
     }
 
     @Override
     public FetchResult<List<SpanBo>> selectSpan(ServerTraceId transactionId, ColumnGetCount columnGetCount) {
-        Objects.requireNonNull(transactionId, "transactionId");
+        final Filter filter = ColumnGetCount.toFilter(columnGetCount);
+        return selectSpan(transactionId, filter, SpanDecodeMode.EAGER);
+    }
 
-        byte[] transactionIdRowKey = rowKeyEncoder.encodeRowKey(transactionId);
+    private FetchResult<List<SpanBo>> selectSpan(ServerTraceId transactionId, Filter filter, SpanDecodeMode decodeMode) {
+        Objects.requireNonNull(transactionId, "transactionId");
 
-        final Get get = new Get(transactionIdRowKey);
-        get.setMaxResultsPerColumnFamily(traceMaxResultsPerColumnFamily);
-        get.addFamily(DESCRIPTOR.getName());
-        final Filter filter = ColumnGetCount.toFilter(columnGetCount);
-        if (filter != null) {
-            get.setFilter(filter);
-        }
+        final Get get = createGet(transactionId, DESCRIPTOR.getName(), filter);
 
         TableName traceTableName = tableNameProvider.getTableName(DESCRIPTOR.getTable());
         ResultSizeMapper<List<SpanBo>> resultSizeMapper = new ResultSizeMapper<>();
-        RowMapper<List<SpanBo>> rowMapper = new RowMapperResultAdaptor<>(spanMapperFactory.getSpanMapper(), resultSizeMapper);
+        RowMapper<List<SpanBo>> rowMapper = new RowMapperResultAdaptor<>(spanMapperFactory.getSpanMapper(null, decodeMode), resultSizeMapper);
 
         List<SpanBo> spanBos = template2.get(traceTableName, get, rowMapper);
 
@@ -127,10 +155,20 @@ public class HbaseTraceDaoV2 implements TraceDao {
 
     @Override
     public List<List<SpanBo>> selectSpans(List<GetTraceInfo> getTraceInfoList) {
-        return selectSpans(getTraceInfoList, selectSpansLimit);
+        return selectSpans(getTraceInfoList, selectSpansLimit, SpanDecodeMode.EAGER);
+    }
+
+    @Override
+    public List<List<SpanBo>> selectSpans(List<GetTraceInfo> getTraceInfoList, SpanDecodeMode decodeMode) {
+        Objects.requireNonNull(decodeMode, "decodeMode");
+        return selectSpans(getTraceInfoList, selectSpansLimit, decodeMode);
     }
 
     List<List<SpanBo>> selectSpans(List<GetTraceInfo> getTraceInfoList, int eachPartitionSize) {
+        return selectSpans(getTraceInfoList, eachPartitionSize, SpanDecodeMode.EAGER);
+    }
+
+    private List<List<SpanBo>> selectSpans(List<GetTraceInfo> getTraceInfoList, int eachPartitionSize, SpanDecodeMode decodeMode) {
         if (CollectionUtils.isEmpty(getTraceInfoList)) {
             return Collections.emptyList();
         }
@@ -138,7 +176,7 @@ public class HbaseTraceDaoV2 implements TraceDao {
                 .map(this::toSpanQuery)
                 .collect(Collectors.toList());
         List<List<SpanQuery>> partitionGetTraceInfoList = partition(spanQuery, eachPartitionSize);
-        return partitionSelect(partitionGetTraceInfoList, DESCRIPTOR.getName(), spanFilter);
+        return partitionSelect(partitionGetTraceInfoList, DESCRIPTOR.getName(), spanFilter, decodeMode);
     }
 
     private SpanQuery toSpanQuery(GetTraceInfo getTraceInfo) {
@@ -162,19 +200,69 @@ public class HbaseTraceDaoV2 implements TraceDao {
             return Collections.emptyList();
         }
 
+        List<List<SpanQuery>> partitionGetTraceInfoList = partitionAll(transactionIdList, eachPartitionSize);
+        return partitionSelect(partitionGetTraceInfoList, DESCRIPTOR.getName(), filter, SpanDecodeMode.EAGER);
+    }
+
+    @Override
+    public void selectAllSpans(Collection<ServerTraceId> transactionIdList, ColumnGetCount columnGetCount, Consumer<List<SpanBo>> consumer) {
+        Filter filter = ColumnGetCount.toFilter(columnGetCount);
+        selectAllSpans(transactionIdList, selectAllSpansLimit, selectAllSpansParallelism, filter, consumer);
+    }
+
+    void selectAllSpans(Collection<ServerTraceId> transactionIdList, int eachPartitionSize, int parallelism,
+                        Filter filter, Consumer<List<SpanBo>> consumer) {
+        Objects.requireNonNull(consumer, "consumer");
+        if (CollectionUtils.isEmpty(transactionIdList)) {
+            return;
+        }
+
+        List<List<SpanQuery>> partitionGetTraceInfoList = partitionAll(transactionIdList, eachPartitionSize);
+        streamSelect(partitionGetTraceInfoList, DESCRIPTOR.getName(), filter, Math.max(1, parallelism), consumer);
+    }
+
+    private List<List<SpanQuery>> partitionAll(Collection<ServerTraceId> transactionIdList, int eachPartitionSize) {
         List<SpanQuery> getTraceInfoList = transactionIdList.stream()
                 .map(SpanQuery::new)
                 .collect(Collectors.toList());
 
-        List<List<SpanQuery>> partitionGetTraceInfoList = partition(getTraceInfoList, eachPartitionSize);
-        return partitionSelect(partitionGetTraceInfoList, DESCRIPTOR.getName(), filter);
+        return partition(getTraceInfoList, eachPartitionSize);
+    }
+
+    /**
+     * Keeps at most {@code parallelism} multi-gets in flight and hands each batch over to the consumer
+     * in request order, so only the in-flight batches are held in memory.
+     * The hbase client already groups the Gets of a batch by region server.
+     * Span bodies are decoded lazily, transactions rejected by the consumer never decode their span events.
+     */
+    private void streamSelect(List<List<SpanQuery>> partitionGetTraceInfoList, byte[] columnFamily, Filter filter,
+                              int parallelism, Consumer<List<SpanBo>> consumer) {
+        final Deque<CompletableFuture<List<List<SpanBo>>>> inFlight = new ArrayDeque<>(parallelism);
+        final Iterator<List<SpanQuery>> iterator = partitionGetTraceInfoList.iterator();
+        try {
+            while (iterator.hasNext() || !inFlight.isEmpty()) {
+                while (iterator.hasNext() && inFlight.size() < parallelism) {
+                    final List<SpanQuery> getTraceInfoList = iterator.next();
+                    inFlight.add(CompletableFuture.supplyAsync(() -> bulkSelect(getTraceInfoList, columnFamily, filter, SpanDecodeMode.LAZY), executor));
+                }
+                final List<List<SpanBo>> result = inFlight.poll().join();
+                for (List<SpanBo> transaction : result) {
+                    consumer.accept(transaction);
+                }
+            }
+        } finally {
+            for (CompletableFuture<List<List<SpanBo>>> future : inFlight) {
+                future.cancel(false);
+            }
+        }
     }
 
     private List<List<SpanQuery>> partition(List<SpanQuery> getTraceInfoList, int maxTransactionIdListSize) {
         return ListUtils.partition(getTraceInfoList, maxTransactionIdListSize);
     }
 
-    private List<List<SpanBo>> partitionSelect(List<List<SpanQuery>> partitionGetTraceInfoList, byte[] columnFamily, Filter filter) {
+    private List<List<SpanBo>> partitionSelect(List<List<SpanQuery>> partitionGetTraceInfoList, byte[] columnFamily, Filter filter,
+                                               SpanDecodeMode decodeMode) {
         if (CollectionUtils.isEmpty(partitionGetTraceInfoList)) {
             return Collections.emptyList();
         }
@@ -182,13 +270,13 @@ public class HbaseTraceDaoV2 implements TraceDao {
 
         List<List<SpanBo>> spanBoList = new ArrayList<>();
         for (List<SpanQuery> getTraceInfoList : partitionGetTraceInfoList) {
-            List<List<SpanBo>> result = bulkSelect(getTraceInfoList, columnFamily, filter);
+            List<List<SpanBo>> result = bulkSelect(getTraceInfoList, columnFamily, filter, decodeMode);
             spanBoList.addAll(result);
         }
         return spanBoList;
     }
 
-    private List<List<SpanBo>> bulkSelect(List<SpanQuery> getTraceInfoList, byte[] columnFamily, Filter filter) {
+    private List<List<SpanBo>> bulkSelect(List<SpanQuery> getTraceInfoList, byte[] columnFamily, Filter filter, SpanDecodeMode decodeMode) {
         if (CollectionUtils.isEmpty(getTraceInfoList)) {
             return Collections.emptyList();
         }
@@ -196,20 +284,16 @@ public class HbaseTraceDaoV2 implements TraceDao {
 
         List<Get> getList = createGetList(getTraceInfoList, columnFamily, filter);
 
-        RowMapper<List<SpanBo>> spanMapperAdaptor = newRowMapper(getTraceInfoList);
+        RowMapper<List<SpanBo>> spanMapperAdaptor = newRowMapper(getTraceInfoList, decodeMode);
         return bulkSelect0(getList, spanMapperAdaptor);
     }
 
-    private RowMapper<List<SpanBo>> newRowMapper(List<SpanQuery> spanQueryList) {
-        RequestAwareRowMapper<List<SpanBo>, SpanQuery> getTraceInfoRowMapper = new RequestAwareDynamicRowMapper<>(this::getSpanMapper);
+    private RowMapper<List<SpanBo>> newRowMapper(List<SpanQuery> spanQueryList, SpanDecodeMode decodeMode) {
+        RequestAwareRowMapper<List<SpanBo>, SpanQuery> getTraceInfoRowMapper =
+                new RequestAwareDynamicRowMapper<>(spanQuery -> spanMapperFactory.getSpanMapper(spanQuery.getSpanFilter(), decodeMode));
         return new RequestAwareRowMapperAdaptor<>(spanQueryList, getTraceInfoRowMapper);
     }
 
-
-    private RowMapper<List<SpanBo>> getSpanMapper(SpanQuery spanQuery) {
-        return spanMapperFactory.getSpanMapper(spanQuery.getSpanFilter());
-    }
-
     private List<Get> createGetList(List<SpanQuery> spanQueryList, byte[] columnFamily, Filter defaultFilter) {
         if (CollectionUtils.isEmpty(spanQueryList)) {
             return Collections.emptyList();
@@ -21,6 +21,7 @@ import com.navercorp.pinpoint.common.hbase.RowMapper;
 import com.navercorp.pinpoint.common.server.bo.SpanBo;
 import com.navercorp.pinpoint.common.server.bo.serializer.RowKeyDecoder;
 import com.navercorp.pinpoint.common.server.uid.ServiceNameFactory;
+import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.SpanDecodeMode;
 import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.SpanDecoder;
 import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.SpanDecoderV0;
 import com.navercorp.pinpoint.common.server.trace.ServerTraceId;
@@ -29,7 +30,9 @@ import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Predicate;
 
@@ -43,7 +46,7 @@ public class SpanMapperFactory {
 
     private final RowMapper<List<SpanBo>> mapper;
 
-    private final SpanDecoder spanDecoder = new SpanDecoderV0();
+    private final Map<SpanDecodeMode, SpanDecoder> spanDecoders = new EnumMap<>(SpanDecodeMode.class);
 
     private final ServiceNameFactory serviceNameFactory;
 
@@ -54,7 +57,10 @@ public class SpanMapperFactory {
         this.stringAllocatorFactory = Objects.requireNonNull(stringAllocatorFactory, "stringAllocatorFactory");
         this.serviceNameFactory = Objects.requireNonNull(serviceNameFactory, "serviceNameFactory");
 
-        this.mapper = wrap(new SpanMapperV2(rowKeyDecoder, spanDecoder, stringAllocatorFactory, serviceNameFactory));
+        for (SpanDecodeMode decodeMode : SpanDecodeMode.values()) {
+            this.spanDecoders.put(decodeMode, new SpanDecoderV0(decodeMode));
+        }
+        this.mapper = wrap(newSpanMapper(getSpanDecoder(SpanDecodeMode.EAGER)));
     }
 
     public RowMapper<List<SpanBo>> getSpanMapper() {
@@ -71,11 +77,27 @@ public class SpanMapperFactory {
     }
 
     public RowMapper<List<SpanBo>> getSpanMapper(Predicate<SpanBo> spanFilter) {
+        return getSpanMapper(spanFilter, SpanDecodeMode.EAGER);
+    }
+
+    public RowMapper<List<SpanBo>> getSpanMapper(Predicate<SpanBo> spanFilter, SpanDecodeMode decodeMode) {
+        Objects.requireNonNull(decodeMode, "decodeMode");
         if (spanFilter == null) {
-            return getSpanMapper();
+            if (decodeMode == SpanDecodeMode.EAGER) {
+                return getSpanMapper();
+            }
+            return newSpanMapper(getSpanDecoder(decodeMode));
         }
 
-        final SpanDecoder targetSpanDecoder = new FilteringSpanDecoder(spanDecoder, spanFilter);
-        return new SpanMapperV2(rowKeyDecoder, targetSpanDecoder, stringAllocatorFactory, serviceNameFactory);
+        final SpanDecoder targetSpanDecoder = new FilteringSpanDecoder(getSpanDecoder(decodeMode), spanFilter);
+        return newSpanMapper(targetSpanDecoder);
+    }
+
+    private SpanDecoder getSpanDecoder(SpanDecodeMode decodeMode) {
+        return spanDecoders.get(decodeMode);
+    }
+
+    private RowMapper<List<SpanBo>> newSpanMapper(SpanDecoder spanDecoder) {
+        return new SpanMapperV2(rowKeyDecoder, spanDecoder, stringAllocatorFactory, serviceNameFactory);
     }
 }
@@ -19,10 +19,10 @@ package com.navercorp.pinpoint.web.trace.dao.mapper;
 import com.google.common.collect.LinkedListMultimap;
 import com.google.common.collect.ListMultimap;
 import com.navercorp.pinpoint.common.buffer.Buffer;
-import com.navercorp.pinpoint.common.buffer.OffsetFixedBuffer;
 import com.navercorp.pinpoint.common.buffer.StringAllocatorFactory;
 import com.navercorp.pinpoint.common.hbase.HbaseTables;
 import com.navercorp.pinpoint.common.hbase.RowMapper;
+import com.navercorp.pinpoint.common.hbase.util.CellUtils;
 import com.navercorp.pinpoint.common.server.bo.BasicSpan;
 import com.navercorp.pinpoint.common.server.bo.SpanBo;
 import com.navercorp.pinpoint.common.server.bo.SpanChunkBo;
@@ -121,8 +121,8 @@ public class SpanMapperV2 implements RowMapper<List<SpanBo>> {
 
                 decodingContext.setCollectorAcceptedTime(cell.getTimestamp());
 
-                final Buffer qualifier = new OffsetFixedBuffer(cell.getQualifierArray(), cell.getQualifierOffset(), cell.getQualifierLength());
-                final Buffer columnValue = new OffsetFixedBuffer(cell.getValueArray(), cell.getValueOffset(), cell.getValueLength());
+                final Buffer qualifier = CellUtils.qualifierBuffer(cell);
+                final Buffer columnValue = CellUtils.valueBuffer(cell);
 
                 spanDecoder = resolveDecoder(columnValue);
                 final BasicSpan decodeObject = spanDecoder.decode(qualifier, columnValue, decodingContext);
@@ -181,6 +181,10 @@ public class SpanMapperV2 implements RowMapper<List<SpanBo>> {
 
     private void sortSpanEvent(List<SpanBo> spanBoList) {
         for (SpanBo spanBo : spanBoList) {
+            if (spanBo.hasDeferredBody()) {
+                // sorted by the decoder once the body is loaded
+                continue;
+            }
             List<SpanEventBo> spanEventBoList = spanBo.getSpanEventBoList();
             spanEventBoList.sort(SpanEventComparator.INSTANCE);
         }
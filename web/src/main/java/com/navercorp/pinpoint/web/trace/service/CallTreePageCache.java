@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.trace.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.navercorp.pinpoint.web.trace.callstacks.RecordSet;
+import com.navercorp.pinpoint.web.trace.span.TraceState;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the aligned call tree of a transaction while its call stack is fetched page by page,
+ * so that every page does not select, align and resolve the whole trace again.
+ * <p>
+ * Weighed by the number of call stack records, and concurrent requests for the same trace share one load.
+ */
+@Component
+public class CallTreePageCache {
+
+    private final Cache<Key, CallTree> cache;
+
+    public CallTreePageCache(@Value("${web.callstack.page-cache.expire-after-access:60s}") Duration expireAfterAccess,
+                             @Value("${web.callstack.page-cache.max-records:500000}") long maxRecords) {
+        Objects.requireNonNull(expireAfterAccess, "expireAfterAccess");
+        this.cache = Caffeine.newBuilder()
+                .expireAfterAccess(expireAfterAccess)
+                .maximumWeight(maxRecords)
+                .<Key, CallTree>weigher((key, callTree) -> callTree.recordSet().getRecordList().size() + 1)
+                .build();
+    }
+
+    public CallTree get(Key key, Supplier<CallTree> loader) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(loader, "loader");
+        return cache.get(key, k -> loader.get());
+    }
+
+    long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Request parameters which select and align the call tree.
+     */
+    public record Key(String traceId, long focusTimestamp, @Nullable String agentId, long spanId,
+                      @Nullable String linkTraceId, long linkSpanId) {
+        public Key {
+            Objects.requireNonNull(traceId, "traceId");
+        }
+    }
+
+    public record CallTree(RecordSet recordSet, TraceState.State traceState) {
+        public CallTree {
+            Objects.requireNonNull(recordSet, "recordSet");
+            Objects.requireNonNull(traceState, "traceState");
+        }
+    }
+}
@@ -17,6 +17,7 @@
 package com.navercorp.pinpoint.web.trace.service;
 
 import com.navercorp.pinpoint.common.hbase.bo.ColumnGetCount;
+import com.navercorp.pinpoint.common.profiler.sql.BindValueCodec;
 import com.navercorp.pinpoint.common.profiler.sql.DefaultSqlNormalizer;
 import com.navercorp.pinpoint.common.profiler.sql.OutputParameterParser;
 import com.navercorp.pinpoint.common.profiler.sql.SqlNormalizer;
@@ -59,10 +60,13 @@ import com.navercorp.pinpoint.web.trace.span.SpanCallTree;
 import com.navercorp.pinpoint.web.trace.span.TraceState;
 import com.navercorp.pinpoint.web.vo.agent.AgentInfo;
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.nio.ByteBuffer;
@@ -75,6 +79,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -109,6 +117,11 @@ public class SpanServiceImpl implements SpanService {
 
     private final AnnotationCallbackExecutor annotationCallback;
 
+    private final Executor executor;
+
+    @Value("${web.trace.metadata.batch.size:1000}")
+    private int metaDataBatchSize;
+
     public SpanServiceImpl(TraceDao traceDao,
                            SqlMetaDataDao sqlMetaDataDao,
                            SqlUidMetaDataDao sqlUidMetaDataDao,
@@ -116,7 +129,8 @@ public class SpanServiceImpl implements SpanService {
                            ApiMetaDataDao apiMetaDataDao,
                            StringMetaDataDao stringMetaDataDao,
                            ServiceTypeRegistryService serviceTypeRegistryService,
-                           AgentInfoService agentInfoService) {
+                           AgentInfoService agentInfoService,
+                           @Qualifier("traceSelectExecutor") Executor executor) {
         this.traceDao = Objects.requireNonNull(traceDao, "traceDao");
         this.sqlMetaDataDao = Objects.requireNonNull(sqlMetaDataDao, "sqlMetaDataDao");
         this.sqlUidMetaDataDao = Objects.requireNonNull(sqlUidMetaDataDao, "sqlUidMetaDataDao");
@@ -125,6 +139,7 @@ public class SpanServiceImpl implements SpanService {
         this.stringMetaDataDao = Objects.requireNonNull(stringMetaDataDao, "stringMetaDataDao");
         this.serviceTypeRegistryService = Objects.requireNonNull(serviceTypeRegistryService, "serviceTypeRegistryService");
         this.agentInfoService = Objects.requireNonNull(agentInfoService, "agentInfoService");
+        this.executor = Objects.requireNonNull(executor, "executor");
 
         this.annotationCallback = newAnnotationCallback();
     }
@@ -400,7 +415,7 @@ public class SpanServiceImpl implements SpanService {
 
                 final int sqlId = sqlValue.getIntValue();
                 final String sqlParam = sqlValue.getStringValue1();
-                final String bindValue = sqlValue.getStringValue2();
+                final String bindValue = resolveBindValue(annotationBoList, sqlValue.getStringValue2());
 
                 List<SqlMetaDataBo> sqlMetaDataList = metadataAccessor.getSqlMetaData(align.getServiceUid(), align.getAgentId(), align.getAgentStartTime(), sqlId);
 
@@ -449,6 +464,22 @@ public class SpanServiceImpl implements SpanService {
         };
     }
 
+    private String resolveBindValue(List<AnnotationBo> annotationBoList, String bindValue) {
+        if (StringUtils.isNotEmpty(bindValue)) {
+            return bindValue;
+        }
+        final AnnotationBo binaryBindValue = AnnotationUtils.findAnnotation(annotationBoList, AnnotationKey.SQL_BINDVALUE_BINARY.getCode());
+        if (binaryBindValue == null || !(binaryBindValue.getValue() instanceof byte[] bytes)) {
+            return bindValue;
+        }
+        try {
+            return BindValueCodec.decode(bytes);
+        } catch (RuntimeException e) {
+            logger.info("invalid binary bind value. {}", e.getMessage());
+            return bindValue;
+        }
+    }
+
     private AnnotationReplacementCallback transitionSqlUid() {
         return new AnnotationReplacementCallback() {
             @Override
@@ -467,7 +498,7 @@ public class SpanServiceImpl implements SpanService {
 
                 final byte[] sqlUid = sqlValue.getBytesValue();
                 final String sqlParam = sqlValue.getStringValue1();
-                final String bindValue = sqlValue.getStringValue2();
+                final String bindValue = resolveBindValue(annotationBoList, sqlValue.getStringValue2());
 
                 List<SqlUidMetaDataBo> sqlUidMetaDataList = metadataAccessor.getSqlUidMetaData(align.getServiceUid(), align.getAgentId(), align.getAgentStartTime(), sqlUid);
 
@@ -771,6 +802,8 @@ public class SpanServiceImpl implements SpanService {
      * loads them in a single batch per metadata type, instead of issuing one HBase Get per align.
      * The {@link AnnotationReplacementCallback}s then read the resolved metadata from the returned
      * {@link MetadataAccessor} rather than calling the DAOs one row at a time (N+1).
+     * Each metadata type is split into batches of {@code web.trace.metadata.batch.size} keys
+     * and all batches are looked up concurrently.
      */
     private MetadataAccessor prefetchMetaData(List<Align> aligns) {
         // insertion-ordered so the DAO input list stays index-aligned with the lookup keys
@@ -827,11 +860,20 @@ public class SpanServiceImpl implements SpanService {
             }
         }
 
+        final CompletableFuture<Map<UidLookupKey, List<SqlUidMetaDataBo>>> sqlUidMetaData =
+                batchSelect(sqlUidQueries, sqlUidMetaDataDao::getSqlUidMetaData);
+        final CompletableFuture<Map<IntLookupKey, List<SqlMetaDataBo>>> sqlMetaData =
+                batchSelect(sqlQueries, sqlMetaDataDao::getSqlMetaData);
+        final CompletableFuture<Map<IntLookupKey, List<StringMetaDataBo>>> stringMetaData =
+                batchSelect(stringQueries, stringMetaDataDao::getStringMetaData);
+        final CompletableFuture<Map<IntLookupKey, List<ApiMetaDataBo>>> apiMetaData =
+                batchSelect(apiQueries, apiMetaDataDao::getApiMetaData);
+
         return new MetadataAccessor(
-                batchSqlUidMetaData(sqlUidQueries),
-                batchSqlMetaData(sqlQueries),
-                batchStringMetaData(stringQueries),
-                batchApiMetaData(apiQueries));
+                join(sqlUidMetaData),
+                join(sqlMetaData),
+                join(stringMetaData),
+                join(apiMetaData));
     }
 
     private boolean isSqlMetaDataFiltered(Align align) {
@@ -845,40 +887,37 @@ public class SpanServiceImpl implements SpanService {
                 new StringMetaDataDao.StringMetaDataKey(serviceUid, agentId, agentStartTime, stringId));
     }
 
-    private Map<UidLookupKey, List<SqlUidMetaDataBo>> batchSqlUidMetaData(Map<UidLookupKey, SqlUidMetaDataDao.SqlUidMetaDataKey> queries) {
+    private <K, Q, V> CompletableFuture<Map<K, List<V>>> batchSelect(Map<K, Q> queries, Function<List<Q>, List<List<V>>> dao) {
         if (queries.isEmpty()) {
-            return Collections.emptyMap();
+            return CompletableFuture.completedFuture(Collections.emptyMap());
         }
-        List<UidLookupKey> lookupKeys = new ArrayList<>(queries.keySet());
-        List<List<SqlUidMetaDataBo>> results = sqlUidMetaDataDao.getSqlUidMetaData(new ArrayList<>(queries.values()));
-        return zip(lookupKeys, results);
-    }
+        final List<K> lookupKeys = new ArrayList<>(queries.keySet());
+        final List<Q> queryList = new ArrayList<>(queries.values());
+        final List<List<Q>> partitions = metaDataBatchSize > 0 ? ListUtils.partition(queryList, metaDataBatchSize) : List.of(queryList);
 
-    private Map<IntLookupKey, List<SqlMetaDataBo>> batchSqlMetaData(Map<IntLookupKey, SqlMetaDataDao.SqlMetaDataKey> queries) {
-        if (queries.isEmpty()) {
-            return Collections.emptyMap();
-        }
-        List<IntLookupKey> lookupKeys = new ArrayList<>(queries.keySet());
-        List<List<SqlMetaDataBo>> results = sqlMetaDataDao.getSqlMetaData(new ArrayList<>(queries.values()));
-        return zip(lookupKeys, results);
-    }
-
-    private Map<IntLookupKey, List<StringMetaDataBo>> batchStringMetaData(Map<IntLookupKey, StringMetaDataDao.StringMetaDataKey> queries) {
-        if (queries.isEmpty()) {
-            return Collections.emptyMap();
+        final List<CompletableFuture<List<List<V>>>> futures = new ArrayList<>(partitions.size());
+        for (List<Q> partition : partitions) {
+            futures.add(CompletableFuture.supplyAsync(() -> dao.apply(partition), executor));
         }
-        List<IntLookupKey> lookupKeys = new ArrayList<>(queries.keySet());
-        List<List<StringMetaDataBo>> results = stringMetaDataDao.getStringMetaData(new ArrayList<>(queries.values()));
-        return zip(lookupKeys, results);
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(ignore -> {
+                    final List<List<V>> results = new ArrayList<>(lookupKeys.size());
+                    for (CompletableFuture<List<List<V>>> future : futures) {
+                        results.addAll(future.join());
+                    }
+                    return zip(lookupKeys, results);
+                });
     }
 
-    private Map<IntLookupKey, List<ApiMetaDataBo>> batchApiMetaData(Map<IntLookupKey, ApiMetaDataDao.ApiMetaDataKey> queries) {
-        if (queries.isEmpty()) {
-            return Collections.emptyMap();
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
         }
-        List<IntLookupKey> lookupKeys = new ArrayList<>(queries.keySet());
-        List<List<ApiMetaDataBo>> results = apiMetaDataDao.getApiMetaData(new ArrayList<>(queries.values()));
-        return zip(lookupKeys, results);
     }
 
     private static <K, V> Map<K, List<V>> zip(List<K> keys, List<List<V>> values) {
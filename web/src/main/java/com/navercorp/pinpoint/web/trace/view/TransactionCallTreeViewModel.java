@@ -34,6 +34,11 @@ import java.util.List;
 import java.util.Objects;
 
 public class TransactionCallTreeViewModel {
+    /**
+     * callStackLimit that serializes every call stack record from the offset on
+     */
+    public static final int UNPAGED = Integer.MAX_VALUE;
+
     private final String traceId;
     private final long spanId;
     private final RecordSet recordSet;
@@ -41,13 +46,33 @@ public class TransactionCallTreeViewModel {
 
     private final LogLinkView logLinkView;
 
+    private final int callStackOffset;
+    private final int callStackLimit;
+
     public TransactionCallTreeViewModel(String traceId, long spanId, RecordSet recordSet, TraceState.State state, LogLinkView logLinkView) {
+        this(traceId, spanId, recordSet, state, logLinkView, 0, UNPAGED);
+    }
+
+    /**
+     * @param callStackOffset index of the first call stack record to serialize
+     * @param callStackLimit  max number of call stack records to serialize, {@link #UNPAGED} for all of them
+     */
+    public TransactionCallTreeViewModel(String traceId, long spanId, RecordSet recordSet, TraceState.State state, LogLinkView logLinkView,
+                                        int callStackOffset, int callStackLimit) {
         this.traceId = traceId;
         this.spanId = spanId;
 
         this.recordSet = recordSet;
         this.completeState = state;
         this.logLinkView = Objects.requireNonNull(logLinkView, "logLinkView");
+        if (callStackOffset < 0) {
+            throw new IllegalArgumentException("negative callStackOffset:" + callStackOffset);
+        }
+        if (callStackLimit < 1) {
+            throw new IllegalArgumentException("non-positive callStackLimit:" + callStackLimit);
+        }
+        this.callStackOffset = callStackOffset;
+        this.callStackLimit = callStackLimit;
     }
 
     @JsonProperty("uri")
@@ -135,22 +160,35 @@ public class TransactionCallTreeViewModel {
         return Field.getCallStackMeta();
     }
 
+    @JsonProperty("callStackOffset")
+    public int getCallStackOffset() {
+        return callStackOffset;
+    }
+
+    @JsonProperty("callStackTotal")
+    public int getCallStackTotal() {
+        return recordSet.getRecordList().size();
+    }
+
     @JsonProperty("callStack")
     public List<CallStack> getCallStack() {
 
         List<Record> recordList = recordSet.getRecordList();
+        if (recordList.isEmpty()) {
+            return List.of();
+        }
 
-        List<CallStack> list = new ArrayList<>(recordList.size());
-        boolean first = true;
         long barRatio = 0;
-        for (Record record : recordList) {
-            if (first) {
-                if (record.isMethod()) {
-                    barRatio = getBarRatio(record, barRatio);
-                }
-                first = false;
-            }
+        // the bar ratio comes from the root record, so every page shares the same scale
+        final Record root = recordList.get(0);
+        if (root.isMethod()) {
+            barRatio = getBarRatio(root, barRatio);
+        }
 
+        final int from = Math.min(callStackOffset, recordList.size());
+        final int to = (int) Math.min((long) from + callStackLimit, recordList.size());
+        List<CallStack> list = new ArrayList<>(to - from);
+        for (Record record : recordList.subList(from, to)) {
             list.add(new CallStack(record, barRatio, recordSet.getCallTreeTimelineStartNanos()));
         }
 
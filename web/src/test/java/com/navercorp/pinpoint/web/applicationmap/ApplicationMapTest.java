@@ -21,12 +21,16 @@ import com.navercorp.pinpoint.common.server.util.json.Jackson;
 import com.navercorp.pinpoint.common.timeseries.time.Range;
 import com.navercorp.pinpoint.web.applicationmap.link.LinkList;
 import com.navercorp.pinpoint.web.applicationmap.nodes.NodeList;
+import com.navercorp.pinpoint.web.applicationmap.view.LinkRender;
+import com.navercorp.pinpoint.web.applicationmap.view.NodeRender;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 /**
  * @author emeroad
  */
@@ -41,4 +45,15 @@ public class ApplicationMapTest {
         String s = mapper.writeValueAsString(app);
         logger.debug(s);
     }
+
+    @Test
+    public void partial() throws IOException {
+        ApplicationMap app = ApplicationMapFactory.build(NodeList.of(), LinkList.of(), Range.between(0, 1));
+        String complete = mapper.writeValueAsString(new ApplicationMapView(app, NodeRender.forServerMap(), LinkRender.forServerMap()));
+        assertThat(complete).doesNotContain("partial");
+
+        ApplicationMap partial = ApplicationMapFactory.partial(app);
+        String s = mapper.writeValueAsString(new ApplicationMapView(partial, NodeRender.forServerMap(), LinkRender.forServerMap()));
+        assertThat(s).contains("\"partial\":true");
+    }
 }
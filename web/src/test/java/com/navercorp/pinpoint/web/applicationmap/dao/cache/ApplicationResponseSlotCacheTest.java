@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.applicationmap.dao.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.navercorp.pinpoint.common.timeseries.time.Range;
+import com.navercorp.pinpoint.common.timeseries.window.DefaultTimeSlot;
+import com.navercorp.pinpoint.common.timeseries.window.FixedTimeWindowSampler;
+import com.navercorp.pinpoint.common.timeseries.window.TimeWindow;
+import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.web.applicationmap.dao.ApplicationResponse;
+import com.navercorp.pinpoint.web.applicationmap.histogram.TimeHistogram;
+import com.navercorp.pinpoint.web.vo.Application;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApplicationResponseSlotCacheTest {
+
+    private static final long ONE_MINUTE = TimeUnit.MINUTES.toMillis(1);
+    private static final long NOW = 1_700_000_000_000L / (10 * ONE_MINUTE) * (10 * ONE_MINUTE);
+
+    private final Application application = new Application("app", ServiceType.STAND_ALONE);
+
+    private final List<Range> loadedRanges = new ArrayList<>();
+
+    private ApplicationResponse load(Application application, TimeWindow timeWindow) {
+        Range range = timeWindow.getWindowRange();
+        loadedRanges.add(range);
+
+        ApplicationResponse.Builder builder = ApplicationResponse.newBuilder(application);
+        for (long time = range.getFrom(); time <= range.getTo(); time += ONE_MINUTE) {
+            builder.addResponseTime("agent", timeWindow.refineTimestamp(time), 100, false);
+        }
+        return builder.build();
+    }
+
+    private ApplicationResponseSlotCache newSlotCache() {
+        Clock clock = Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC);
+        return new ApplicationResponseSlotCache(Caffeine.newBuilder().recordStats().build(), new DefaultTimeSlot(), ONE_MINUTE, clock);
+    }
+
+    @Test
+    void select_completedSlots() {
+        ApplicationResponseSlotCache slotCache = newSlotCache();
+        TimeWindow timeWindow = new TimeWindow(Range.between(NOW - 10 * ONE_MINUTE, NOW - 5 * ONE_MINUTE));
+
+        ApplicationResponse first = slotCache.select(application, timeWindow, this::load);
+        ApplicationResponse second = slotCache.select(application, timeWindow, this::load);
+
+        assertThat(first.getApplicationTotalHistogram().getTotalCount()).isEqualTo(6);
+        assertThat(second.getApplicationTotalHistogram().getTotalCount()).isEqualTo(6);
+        assertThat(second.getAgentIds()).containsExactly("agent");
+        assertThat(loadedRanges).hasSize(1);
+        assertThat(slotCache.stats().hitCount()).isEqualTo(6);
+    }
+
+    @Test
+    void select_rollup() {
+        ApplicationResponseSlotCache slotCache = newSlotCache();
+        TimeWindow minuteWindow = new TimeWindow(Range.between(NOW - 10 * ONE_MINUTE, NOW - ONE_MINUTE));
+        slotCache.select(application, minuteWindow, this::load);
+
+        TimeWindow fiveMinuteWindow = new TimeWindow(Range.between(NOW - 10 * ONE_MINUTE, NOW - ONE_MINUTE),
+                new FixedTimeWindowSampler(5 * ONE_MINUTE));
+        ApplicationResponse response = slotCache.select(application, fiveMinuteWindow, this::load);
+
+        assertThat(loadedRanges).hasSize(1);
+        // the window range ends at the first minute of its last slot, as the hbase scan does
+        assertThat(response.getApplicationHistograms())
+                .extracting(TimeHistogram::getTimeStamp, TimeHistogram::getTotalCount)
+                .containsExactly(
+                        Tuple.tuple(NOW - 10 * ONE_MINUTE, 5L),
+                        Tuple.tuple(NOW - 5 * ONE_MINUTE, 1L));
+    }
+
+    @Test
+    void select_agentIdsPerSlot() {
+        ApplicationResponseSlotCache slotCache = newSlotCache();
+        BiFunction<Application, TimeWindow, ApplicationResponse> loader = (application, timeWindow) -> {
+            ApplicationResponse.Builder builder = ApplicationResponse.newBuilder(application);
+            builder.addResponseTime("old-agent", NOW - 10 * ONE_MINUTE, 100, false);
+            builder.addResponseTime("new-agent", NOW - 6 * ONE_MINUTE, 100, false);
+            return builder.build();
+        };
+        slotCache.select(application, new TimeWindow(Range.between(NOW - 10 * ONE_MINUTE, NOW - 6 * ONE_MINUTE)), loader);
+
+        TimeWindow lastMinute = new TimeWindow(Range.between(NOW - 6 * ONE_MINUTE, NOW - 6 * ONE_MINUTE));
+        ApplicationResponse response = slotCache.select(application, lastMinute, this::load);
+
+        assertThat(loadedRanges).isEmpty();
+        assertThat(response.getAgentIds()).containsExactly("new-agent");
+    }
+
+    @Test
+    void select_openSlots() {
+        ApplicationResponseSlotCache slotCache = newSlotCache();
+        TimeWindow timeWindow = new TimeWindow(Range.between(NOW - 5 * ONE_MINUTE, NOW));
+
+        slotCache.select(application, timeWindow, this::load);
+        ApplicationResponse response = slotCache.select(application, timeWindow, this::load);
+
+        assertThat(response.getApplicationTotalHistogram().getTotalCount()).isEqualTo(6);
+        assertThat(loadedRanges).hasSize(2);
+        // slots within the settle time are always reloaded
+        assertThat(loadedRanges.get(1)).isEqualTo(Range.between(NOW - 1 * ONE_MINUTE, NOW));
+    }
+}
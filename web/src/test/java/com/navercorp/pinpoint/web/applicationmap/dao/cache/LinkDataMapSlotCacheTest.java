@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.applicationmap.dao.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.navercorp.pinpoint.common.timeseries.time.Range;
+import com.navercorp.pinpoint.common.timeseries.window.DefaultTimeSlot;
+import com.navercorp.pinpoint.common.timeseries.window.TimeWindow;
+import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.web.applicationmap.link.LinkDirection;
+import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkDataMap;
+import com.navercorp.pinpoint.web.vo.Application;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LinkDataMapSlotCacheTest {
+
+    private static final long ONE_MINUTE = TimeUnit.MINUTES.toMillis(1);
+    private static final long NOW = 1_700_000_000_000L / ONE_MINUTE * ONE_MINUTE;
+
+    private final Application from = new Application("from", ServiceType.STAND_ALONE);
+    private final Application to = new Application("to", ServiceType.STAND_ALONE);
+
+    private final List<Range> loadedRanges = new ArrayList<>();
+
+    private LinkDataMap load(Application application, TimeWindow timeWindow) {
+        Range range = timeWindow.getWindowRange();
+        loadedRanges.add(range);
+
+        LinkDataMap linkDataMap = new LinkDataMap(timeWindow);
+        for (long time = range.getFrom(); time <= range.getTo(); time += ONE_MINUTE) {
+            linkDataMap.addLinkData(from, "fromAgent", to, "toAgent", time, (short) 100, 1);
+        }
+        return linkDataMap;
+    }
+
+    private LinkDataMapSlotCache newSlotCache() {
+        Clock clock = Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC);
+        return new LinkDataMapSlotCache(Caffeine.newBuilder().recordStats().build(), new DefaultTimeSlot(), ONE_MINUTE, clock);
+    }
+
+    @Test
+    void select_completedSlots() {
+        LinkDataMapSlotCache slotCache = newSlotCache();
+        TimeWindow timeWindow = new TimeWindow(Range.between(NOW - 10 * ONE_MINUTE, NOW - 5 * ONE_MINUTE));
+
+        LinkDataMap first = slotCache.select(LinkDirection.OUT_LINK, from, timeWindow, this::load);
+        LinkDataMap second = slotCache.select(LinkDirection.OUT_LINK, from, timeWindow, this::load);
+
+        assertThat(first.getTotalCount()).isEqualTo(6);
+        assertThat(second.getTotalCount()).isEqualTo(6);
+        assertThat(loadedRanges).hasSize(1);
+        assertThat(slotCache.stats().hitCount()).isEqualTo(6);
+    }
+
+    @Test
+    void select_openSlots() {
+        LinkDataMapSlotCache slotCache = newSlotCache();
+        TimeWindow timeWindow = new TimeWindow(Range.between(NOW - 5 * ONE_MINUTE, NOW));
+
+        slotCache.select(LinkDirection.OUT_LINK, from, timeWindow, this::load);
+        LinkDataMap linkDataMap = slotCache.select(LinkDirection.OUT_LINK, from, timeWindow, this::load);
+
+        assertThat(linkDataMap.getTotalCount()).isEqualTo(6);
+        assertThat(loadedRanges).hasSize(2);
+        // slots within the settle time are always reloaded
+        assertThat(loadedRanges.get(1)).isEqualTo(Range.between(NOW - 1 * ONE_MINUTE, NOW));
+    }
+
+    @Test
+    void select_direction() {
+        LinkDataMapSlotCache slotCache = newSlotCache();
+        TimeWindow timeWindow = new TimeWindow(Range.between(NOW - 10 * ONE_MINUTE, NOW - 5 * ONE_MINUTE));
+
+        slotCache.select(LinkDirection.OUT_LINK, from, timeWindow, this::load);
+        slotCache.select(LinkDirection.IN_LINK, from, timeWindow, this::load);
+
+        assertThat(loadedRanges).hasSize(2);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.applicationmap.dao.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.navercorp.pinpoint.common.timeseries.time.Range;
+import com.navercorp.pinpoint.common.timeseries.window.DefaultTimeSlot;
+import com.navercorp.pinpoint.common.timeseries.window.FixedTimeWindowSampler;
+import com.navercorp.pinpoint.common.timeseries.window.TimeWindow;
+import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.web.vo.Application;
+import com.navercorp.pinpoint.web.vo.ResponseTime;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseTimeSlotCacheTest {
+
+    private static final long ONE_MINUTE = TimeUnit.MINUTES.toMillis(1);
+    private static final long NOW = 1_700_000_000_000L / (10 * ONE_MINUTE) * (10 * ONE_MINUTE);
+
+    private final Application application = new Application("app", ServiceType.STAND_ALONE);
+
+    private final List<Range> loadedRanges = new ArrayList<>();
+
+    private List<ResponseTime> load(Application application, TimeWindow timeWindow) {
+        Range range = timeWindow.getWindowRange();
+        loadedRanges.add(range);
+
+        List<ResponseTime> responseTimes = new ArrayList<>();
+        for (long time = range.getFrom(); time <= range.getTo(); time += ONE_MINUTE) {
+            ResponseTime.Builder builder = ResponseTime.newBuilder(application.getApplicationName(), application.getServiceType(), time);
+            builder.addResponseTime("agent1", 100, false);
+            if (time % (2 * ONE_MINUTE) == 0) {
+                builder.addResponseTime("agent2", 100, false);
+            }
+            responseTimes.add(builder.build());
+        }
+        return responseTimes;
+    }
+
+    private ResponseTimeSlotCache newSlotCache() {
+        Clock clock = Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC);
+        return new ResponseTimeSlotCache(Caffeine.newBuilder().recordStats().build(), new DefaultTimeSlot(), ONE_MINUTE, clock);
+    }
+
+    @Test
+    void select_rollup() {
+        ResponseTimeSlotCache slotCache = newSlotCache();
+        Range range = Range.between(NOW - 10 * ONE_MINUTE, NOW - ONE_MINUTE);
+        slotCache.select(application, new TimeWindow(range), this::load);
+
+        TimeWindow fiveMinuteWindow = new TimeWindow(range, new FixedTimeWindowSampler(5 * ONE_MINUTE));
+        List<ResponseTime> responseTimes = slotCache.select(application, fiveMinuteWindow, this::load);
+
+        assertThat(loadedRanges).hasSize(1);
+        assertThat(responseTimes).extracting(ResponseTime::getTimeStamp)
+                .containsExactly(NOW - 10 * ONE_MINUTE, NOW - 5 * ONE_MINUTE);
+        ResponseTime first = responseTimes.get(0);
+        assertThat(first.findHistogram("agent1").getTotalCount()).isEqualTo(5);
+        assertThat(first.findHistogram("agent2").getTotalCount()).isEqualTo(3);
+    }
+
+    @Test
+    void select_emptySlots() {
+        ResponseTimeSlotCache slotCache = newSlotCache();
+        TimeWindow timeWindow = new TimeWindow(Range.between(NOW - 10 * ONE_MINUTE, NOW - 5 * ONE_MINUTE));
+
+        List<ResponseTime> first = slotCache.select(application, timeWindow, (application, window) -> List.of());
+        List<ResponseTime> second = slotCache.select(application, timeWindow, this::load);
+
+        assertThat(first).isEmpty();
+        // empty slots are cached as well
+        assertThat(second).isEmpty();
+        assertThat(loadedRanges).isEmpty();
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.web.applicationmap.map;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import com.navercorp.pinpoint.common.timeseries.time.Range;
+import com.navercorp.pinpoint.common.timeseries.window.TimeWindow;
+import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkData;
+import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkDataDuplexMap;
+import com.navercorp.pinpoint.web.applicationmap.service.SearchDepth;
+import com.navercorp.pinpoint.web.applicationmap.util.TimeoutWatcher;
+import com.navercorp.pinpoint.web.vo.Application;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DefaultApplicationsMapCreatorTest {
+
+    private static final Application APP_A = new Application("APP_A", ServiceType.TEST_STAND_ALONE);
+    private static final Application APP_B = new Application("APP_B", ServiceType.TEST_STAND_ALONE);
+    private static final Application APP_C = new Application("APP_C", ServiceType.TEST_STAND_ALONE);
+    private static final Application NEXT = new Application("NEXT", ServiceType.TEST_STAND_ALONE);
+    private static final Application LATE = new Application("LATE", ServiceType.TEST_STAND_ALONE);
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    private final TimeWindow timeWindow = new TimeWindow(Range.between(0, 100));
+
+    @AfterEach
+    void cleanUp() {
+        MoreExecutors.shutdownAndAwaitTermination(executor, Duration.ofSeconds(3));
+    }
+
+    @Test
+    void createLinkDataDuplexMap_parallelism() {
+        StubApplicationMapCreator creator = new StubApplicationMapCreator(null);
+        ApplicationsMapCreator applicationsMapCreator = new DefaultApplicationsMapCreator(creator, executor, 2);
+
+        LinkSelectContext context = newContext(new TimeoutWatcher(-1));
+        LinkDataDuplexMap result = applicationsMapCreator.createLinkDataDuplexMap(List.of(APP_A, APP_B, APP_C), context);
+
+        assertThat(result.getSourceLinkDataList()).hasSize(3);
+        assertThat(result.getTargetLinkDataList()).hasSize(3);
+        assertThat(creator.maxConcurrency.get()).isLessThanOrEqualTo(2);
+        assertThat(context.isTimeout()).isFalse();
+        assertThat(context.getNextApplications()).containsExactly(NEXT);
+    }
+
+    @Test
+    void createLinkDataDuplexMap_timeout() {
+        CountDownLatch blocked = new CountDownLatch(1);
+        StubApplicationMapCreator creator = new StubApplicationMapCreator(blocked);
+        ApplicationsMapCreator applicationsMapCreator = new DefaultApplicationsMapCreator(creator, executor, 8);
+
+        LinkSelectContext context = newContext(new TimeoutWatcher(200));
+        try {
+            LinkDataDuplexMap result = applicationsMapCreator.createLinkDataDuplexMap(List.of(APP_A, APP_B), context);
+
+            // out link lookup of APP_A never ends
+            assertThat(result.getSourceLinkDataList()).hasSize(1);
+            assertThat(result.getTargetLinkDataList()).hasSize(2);
+            assertThat(context.isTimeout()).isTrue();
+            assertThat(context.advance().isTimeout()).isTrue();
+        } finally {
+            blocked.countDown();
+        }
+    }
+
+    @Test
+    void createLinkDataDuplexMap_lateLookup() throws InterruptedException {
+        CountDownLatch blocked = new CountDownLatch(1);
+        StubApplicationMapCreator creator = new StubApplicationMapCreator(blocked);
+        ApplicationsMapCreator applicationsMapCreator = new DefaultApplicationsMapCreator(creator, executor, 8);
+
+        LinkSelectContext context = newContext(new TimeoutWatcher(200));
+        applicationsMapCreator.createLinkDataDuplexMap(List.of(APP_A, APP_B), context);
+        assertThat(context.isTimeout()).isTrue();
+
+        blocked.countDown();
+        assertThat(creator.lateDone.await(3, TimeUnit.SECONDS)).isTrue();
+        assertThat(context.getNextApplications()).containsExactly(NEXT);
+    }
+
+    private LinkSelectContext newContext(TimeoutWatcher timeoutWatcher) {
+        return new LinkSelectContext(timeWindow, new SearchDepth(1), new SearchDepth(1), new LinkVisitChecker(), timeoutWatcher);
+    }
+
+    private static class StubApplicationMapCreator implements ApplicationMapCreator {
+        private final CountDownLatch blocked;
+        private final AtomicInteger concurrency = new AtomicInteger();
+        private final AtomicInteger maxConcurrency = new AtomicInteger();
+        private final CountDownLatch lateDone = new CountDownLatch(1);
+
+        StubApplicationMapCreator(CountDownLatch blocked) {
+            this.blocked = blocked;
+        }
+
+        @Override
+        public LinkDataDuplexMap createMap(Application application, LinkSelectContext linkSelectContext) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public LinkDataDuplexMap createOutLinkMap(Application application, LinkSelectContext linkSelectContext) {
+            if (blocked != null && application.equals(APP_A)) {
+                await(blocked);
+                linkSelectContext.addNextApplication(LATE);
+                lateDone.countDown();
+                return new LinkDataDuplexMap();
+            }
+            LinkDataDuplexMap map = new LinkDataDuplexMap();
+            map.addSourceLinkData(lookup(application, NEXT));
+            linkSelectContext.addNextApplication(NEXT);
+            return map;
+        }
+
+        @Override
+        public LinkDataDuplexMap createInLinkMap(Application application, LinkSelectContext linkSelectContext) {
+            LinkDataDuplexMap map = new LinkDataDuplexMap();
+            map.addTargetLinkData(lookup(NEXT, application));
+            return map;
+        }
+
+        private LinkData lookup(Application from, Application to) {
+            int current = concurrency.incrementAndGet();
+            maxConcurrency.accumulateAndGet(current, Math::max);
+            try {
+                TimeUnit.MILLISECONDS.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                concurrency.decrementAndGet();
+            }
+            return new LinkData(from, to);
+        }
+
+        private void await(CountDownLatch latch) {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
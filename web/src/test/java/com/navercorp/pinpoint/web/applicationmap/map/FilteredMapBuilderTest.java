@@ -225,12 +225,41 @@ public class FilteredMapBuilderTest {
     }
 
     private FilteredMap buildOtelLinkMap(SpanBo upstream, SpanBo downstream) {
+        FilteredMapBuilder builder = newOtelBuilder();
+        builder.addTransactions(List.of(List.of(upstream), List.of(downstream)));
+        return builder.build();
+    }
+
+    private FilteredMapBuilder newOtelBuilder() {
         TimeWindow timeWindow = new TimeWindow(Range.between(1, 200000));
         ServiceTypeRegistryService otelRegistry = otelRegistry();
         ApplicationFactory otelApplicationFactory = new DefaultApplicationFactory(otelRegistry, mock(ServiceModelResolver.class));
-        FilteredMapBuilder builder = new FilteredMapBuilder(otelApplicationFactory, otelRegistry, timeWindow);
-        builder.addTransactions(List.of(List.of(upstream), List.of(downstream)));
-        return builder.build();
+        return new FilteredMapBuilder(otelApplicationFactory, otelRegistry, timeWindow);
+    }
+
+    @Test
+    public void otelLink_appendTransaction() {
+        SpanBo upstream = otelRootSpan("APP_UP", "agent-up", UPSTREAM_TRACE_ID, UPSTREAM_SPAN_ID);
+        SpanBo downstream = otelRootSpan("APP_DOWN", "agent-down", DOWNSTREAM_TRACE_ID, 200L);
+        downstream.addAnnotation(linkAnnotation(UPSTREAM_TRACE_ID, UPSTREAM_SPAN_ID));
+
+        LinkKey linkKey = LinkKey.of("APP_UP", ServiceType.OPENTELEMETRY_SERVER, "APP_DOWN", ServiceType.OPENTELEMETRY_SERVER);
+        long expected = buildOtelLinkMap(upstream, downstream).getLinkDataDuplexMap().getSourceLinkDataMap().getLinkData(linkKey).getTotalCount();
+
+        // the link is resolved whichever transaction arrives first
+        FilteredMap upstreamFirst = newOtelBuilder()
+                .appendTransaction(List.of(upstream))
+                .appendTransaction(List.of(downstream))
+                .build();
+        assertOtelLinkData(upstreamFirst);
+        Assertions.assertEquals(expected, upstreamFirst.getLinkDataDuplexMap().getSourceLinkDataMap().getLinkData(linkKey).getTotalCount());
+
+        FilteredMap downstreamFirst = newOtelBuilder()
+                .appendTransaction(List.of(downstream))
+                .appendTransaction(List.of(upstream))
+                .build();
+        assertOtelLinkData(downstreamFirst);
+        Assertions.assertEquals(expected, downstreamFirst.getLinkDataDuplexMap().getSourceLinkDataMap().getLinkData(linkKey).getTotalCount());
     }
 
     @Test
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.dao.hbase;
+
+import com.navercorp.pinpoint.common.server.util.AgentIdRowKeyUtils;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.filter.RowFilter;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HbaseAgentIdDaoTest {
+
+    private static final long MAX_AGENT_START_TIME = 1_700_000_000_000L;
+
+    @Test
+    void maxAgentStartTimeFilter() throws Exception {
+        RowFilter filter = HbaseAgentIdDao.createMaxAgentStartTimeFilter(MAX_AGENT_START_TIME);
+
+        assertThat(filterRowKey(filter, "agent", MAX_AGENT_START_TIME - 1)).isFalse();
+        assertThat(filterRowKey(filter, "agent", MAX_AGENT_START_TIME)).isFalse();
+        assertThat(filterRowKey(filter, "agent", MAX_AGENT_START_TIME + 1)).isTrue();
+        assertThat(filterRowKey(filter, "a-much-longer-agent-id", MAX_AGENT_START_TIME + 1)).isTrue();
+        assertThat(filterRowKey(filter, "a-much-longer-agent-id", 0)).isFalse();
+    }
+
+    private boolean filterRowKey(RowFilter filter, String agentId, long agentStartTime) throws Exception {
+        byte[] row = AgentIdRowKeyUtils.createRow(1, "app", 1000, agentId, agentStartTime);
+        filter.reset();
+        return filter.filterRowKey(new KeyValue(row, new byte[0], new byte[0], new byte[0]));
+    }
+}
@@ -75,14 +75,14 @@ public class AgentListV2ServiceImplTest {
         String agentId = "testAgent";
         String agentId2 = "otherAgent";
         long agentStartTime = currentTime - Duration.ofHours(1).toMillis();
-        when(agentIdDao.getAgentIdEntryByMinStateTimestamp(anyInt(), any(), anyInt(), anyLong())).thenReturn(List.of(
+        when(agentIdDao.getAgentIdEntryByMinStateTimestamp(anyInt(), any(), anyInt(), anyLong(), anyLong())).thenReturn(List.of(
                 new AgentIdEntry(testApplication, agentId, agentStartTime, null, RUNNING, currentTime),
                 new AgentIdEntry(testApplication, agentId2, agentStartTime, null, RUNNING, currentTime)
         ));
 
         List<AgentIdEntry> agentList = agentListV2Service.getActiveAgentList(Service.DEFAULT, testApplication.getApplicationName(), testApplication.getServiceType(), range);
 
-        verify(agentIdDao, times(1)).getAgentIdEntryByMinStateTimestamp(anyInt(), any(), anyInt(), anyLong());
+        verify(agentIdDao, times(1)).getAgentIdEntryByMinStateTimestamp(anyInt(), any(), anyInt(), anyLong(), anyLong());
         Assertions.assertThat(agentList).hasSize(2);
     }
 
@@ -98,7 +98,7 @@ public class AgentListV2ServiceImplTest {
         String agentId2 = "toBeFiltered";
         long agentStartTime = currentTime - Duration.ofHours(1).toMillis();
         long newAgentStartTime = to + Duration.ofMinutes(5).toMillis(); // starts after the 'to' time
-        when(agentIdDao.getAgentIdEntryByMinStateTimestamp(anyInt(), any(), anyInt(), anyLong())).thenReturn(List.of(
+        when(agentIdDao.getAgentIdEntryByMinStateTimestamp(anyInt(), any(), anyInt(), anyLong(), anyLong())).thenReturn(List.of(
                 new AgentIdEntry(testApplication, agentId, agentStartTime, null, RUNNING, currentTime),
                 new AgentIdEntry(testApplication, agentId2, newAgentStartTime, null, RUNNING, currentTime)
         ));
@@ -120,7 +120,7 @@ public class AgentListV2ServiceImplTest {
         String agentId = "testAgent";
         long agentStartTime = currentTime - Duration.ofHours(1).toMillis();
         long previousAgentStartTime = currentTime - Duration.ofHours(4).toMillis(); // 4 hours ago
-        when(agentIdDao.getAgentIdEntryByMinStateTimestamp(anyInt(), any(), anyInt(), anyLong())).thenReturn(List.of(
+        when(agentIdDao.getAgentIdEntryByMinStateTimestamp(anyInt(), any(), anyInt(), anyLong(), anyLong())).thenReturn(List.of(
                 new AgentIdEntry(testApplication, agentId, agentStartTime, null, RUNNING, currentTime),
                 new AgentIdEntry(testApplication, agentId, previousAgentStartTime, null, RUNNING, currentTime)
         ));
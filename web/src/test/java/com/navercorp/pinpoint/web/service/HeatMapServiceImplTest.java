@@ -17,6 +17,7 @@
 package com.navercorp.pinpoint.web.service;
 
 import com.navercorp.pinpoint.common.server.bo.SpanBo;
+import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.SpanDecodeMode;
 import com.navercorp.pinpoint.common.server.trace.PinpointServerTraceId;
 import com.navercorp.pinpoint.common.server.trace.ServerTraceId;
 import com.navercorp.pinpoint.common.trace.ServiceType;
@@ -78,7 +79,7 @@ public class HeatMapServiceImplTest {
         LimitedScanResult<List<DotMetaData>> scanResult = new LimitedScanResult<>(1, legacyDotMataData());
         when(traceIndexDao.scanScatterDataV2(eq(SERVICE), eq(APPLICATION_NAME), eq(SERVICE_TYPE_CODE), eq(dragAreaQuery), isNull(), eq(LIMIT)))
                 .thenReturn(scanResult);
-        when(traceDao.selectSpans(any())).thenReturn(matchingSpanData());
+        when(traceDao.selectSpans(any(), eq(SpanDecodeMode.HEADER_ONLY))).thenReturn(matchingSpanData());
 
         HeatMapService heatMapService = new HeatMapServiceImpl(traceIndexDao, spanService, traceDao);
         heatMapService.dragTraceIndex(SERVICE, APPLICATION_NAME, SERVICE_TYPE_CODE, dragAreaQuery, LIMIT);
@@ -93,7 +94,7 @@ public class HeatMapServiceImplTest {
         LimitedScanResult<List<DotMetaData>> scanResult = new LimitedScanResult<>(1, legacyDotMataData());
         when(traceIndexDao.scanScatterDataV2(eq(SERVICE), eq(APPLICATION_NAME), eq(SERVICE_TYPE_CODE), eq(dragAreaQuery), isNull(), eq(LIMIT)))
                 .thenReturn(scanResult);
-        when(traceDao.selectSpans(any())).thenReturn(moreSpanData());
+        when(traceDao.selectSpans(any(), eq(SpanDecodeMode.HEADER_ONLY))).thenReturn(moreSpanData());
 
         HeatMapService heatMapService = new HeatMapServiceImpl(traceIndexDao, spanService, traceDao);
         heatMapService.dragTraceIndex(SERVICE, APPLICATION_NAME, SERVICE_TYPE_CODE, dragAreaQuery, LIMIT);
@@ -108,7 +109,7 @@ public class HeatMapServiceImplTest {
         LimitedScanResult<List<DotMetaData>> scanResult = new LimitedScanResult<>(1, legacyDotMataData());
         when(traceIndexDao.scanScatterDataV2(eq(SERVICE), eq(APPLICATION_NAME), eq(SERVICE_TYPE_CODE), eq(dragAreaQuery), isNull(), eq(LIMIT)))
                 .thenReturn(scanResult);
-        when(traceDao.selectSpans(any())).thenReturn(lessSpanData());
+        when(traceDao.selectSpans(any(), eq(SpanDecodeMode.HEADER_ONLY))).thenReturn(lessSpanData());
 
         HeatMapService heatMapService = new HeatMapServiceImpl(traceIndexDao, spanService, traceDao);
         Assertions.assertThrows(IllegalStateException.class, () -> heatMapService.dragTraceIndex(SERVICE, APPLICATION_NAME, SERVICE_TYPE_CODE, dragAreaQuery, LIMIT));
@@ -16,22 +16,38 @@
 
 package com.navercorp.pinpoint.web.trace.dao.hbase;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import com.navercorp.pinpoint.common.hbase.HbaseOperations;
+import com.navercorp.pinpoint.common.hbase.RowMapper;
 import com.navercorp.pinpoint.common.hbase.TableNameProvider;
+import com.navercorp.pinpoint.common.server.bo.SpanBo;
 import com.navercorp.pinpoint.common.server.bo.serializer.RowKeyEncoder;
 import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.SpanHeader;
+import com.navercorp.pinpoint.common.server.trace.PinpointServerTraceId;
 import com.navercorp.pinpoint.common.server.trace.ServerTraceId;
 import com.navercorp.pinpoint.web.trace.dao.mapper.SpanMapperFactory;
+import org.apache.hadoop.hbase.client.Get;
 import org.apache.hadoop.hbase.filter.Filter;
 import org.apache.hadoop.hbase.filter.FilterList;
 import org.apache.hadoop.hbase.filter.QualifierFilter;
+import org.apache.hadoop.hbase.util.Bytes;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class HbaseTraceDaoV2Test {
 
@@ -67,4 +83,43 @@ class HbaseTraceDaoV2Test {
         assertThat(matchedCodes).doesNotContain(
                 SpanHeader.SPAN_CHUNK.getCode(), SpanHeader.OTEL_SPAN_CHUNK_UID.getCode());
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void selectAllSpans_stream() {
+        List<ServerTraceId> transactionIdList = IntStream.range(0, 7)
+                .mapToObj(i -> PinpointServerTraceId.of("agent^1^" + i))
+                .toList();
+
+        RowKeyEncoder<ServerTraceId> rowKeyEncoder = mock(RowKeyEncoder.class);
+        when(rowKeyEncoder.encodeRowKey(any())).thenAnswer(invocation -> Bytes.toBytes((long) transactionIdList.indexOf(invocation.getArgument(0))));
+
+        AtomicInteger multiGetCount = new AtomicInteger();
+        HbaseOperations template = mock(HbaseOperations.class);
+        when(template.get(any(), anyList(), any(RowMapper.class))).thenAnswer(invocation -> {
+            multiGetCount.incrementAndGet();
+            List<Get> getList = invocation.getArgument(1);
+            List<List<SpanBo>> result = new ArrayList<>();
+            for (Get get : getList) {
+                SpanBo spanBo = new SpanBo();
+                spanBo.setSpanId(Bytes.toLong(get.getRow()));
+                result.add(List.of(spanBo));
+            }
+            return result;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            HbaseTraceDaoV2 streamDao = new HbaseTraceDaoV2(template, mock(TableNameProvider.class), rowKeyEncoder, mock(SpanMapperFactory.class), executor);
+
+            List<Long> consumed = new ArrayList<>();
+            streamDao.selectAllSpans(transactionIdList, 3, 2, null, transaction -> consumed.add(transaction.get(0).getSpanId()));
+
+            // consumed in request order
+            assertThat(consumed).containsExactly(0L, 1L, 2L, 3L, 4L, 5L, 6L);
+            assertThat(multiGetCount).hasValue(3);
+        } finally {
+            MoreExecutors.shutdownAndAwaitTermination(executor, Duration.ofSeconds(3));
+        }
+    }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.trace.service;
+
+import com.navercorp.pinpoint.web.trace.callstacks.RecordSet;
+import com.navercorp.pinpoint.web.trace.span.TraceState;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CallTreePageCacheTest {
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    private CallTreePageCache.CallTree load() {
+        loadCount.incrementAndGet();
+        RecordSet recordSet = new RecordSet();
+        recordSet.setRecordList(List.of());
+        return new CallTreePageCache.CallTree(recordSet, TraceState.State.COMPLETE);
+    }
+
+    @Test
+    void pagesShareOneLoad() {
+        CallTreePageCache cache = new CallTreePageCache(Duration.ofMinutes(1), 1000);
+        CallTreePageCache.Key key = new CallTreePageCache.Key("agent^1^1", 0, null, -1, null, -1);
+
+        CallTreePageCache.CallTree first = cache.get(key, this::load);
+        CallTreePageCache.CallTree second = cache.get(new CallTreePageCache.Key("agent^1^1", 0, null, -1, null, -1), this::load);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    void focusIsPartOfTheKey() {
+        CallTreePageCache cache = new CallTreePageCache(Duration.ofMinutes(1), 1000);
+
+        cache.get(new CallTreePageCache.Key("agent^1^1", 0, null, -1, null, -1), this::load);
+        cache.get(new CallTreePageCache.Key("agent^1^1", 100, "agent", 7, null, -1), this::load);
+
+        assertThat(loadCount).hasValue(2);
+        assertThat(cache.estimatedSize()).isEqualTo(2);
+    }
+}
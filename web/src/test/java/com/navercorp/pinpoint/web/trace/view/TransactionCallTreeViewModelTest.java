@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.web.trace.view;
+
+import com.navercorp.pinpoint.common.server.bo.MethodTypeEnum;
+import com.navercorp.pinpoint.web.trace.callstacks.Record;
+import com.navercorp.pinpoint.web.trace.callstacks.RecordSet;
+import com.navercorp.pinpoint.web.trace.span.TraceState;
+import com.navercorp.pinpoint.web.view.LogLinkView;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TransactionCallTreeViewModelTest {
+
+    private final LogLinkView logLinkView = new LogLinkView(false, "", "", "");
+
+    @Test
+    void callStack_all() {
+        TransactionCallTreeViewModel viewModel = newViewModel(newRecordSet(5), 0, TransactionCallTreeViewModel.UNPAGED);
+
+        assertThat(viewModel.getCallStack()).hasSize(5);
+        assertThat(viewModel.getCallStackTotal()).isEqualTo(5);
+    }
+
+    @Test
+    void callStack_page() {
+        RecordSet recordSet = newRecordSet(5);
+
+        TransactionCallTreeViewModel firstPage = newViewModel(recordSet, 0, 2);
+        assertThat(firstPage.getCallStack()).extracting(TransactionCallTreeViewModel.CallStack::getId)
+                .containsExactly(0, 1);
+
+        TransactionCallTreeViewModel lastPage = newViewModel(recordSet, 4, 2);
+        assertThat(lastPage.getCallStack()).extracting(TransactionCallTreeViewModel.CallStack::getId)
+                .containsExactly(4);
+        assertThat(lastPage.getCallStackOffset()).isEqualTo(4);
+        assertThat(lastPage.getCallStackTotal()).isEqualTo(5);
+    }
+
+    @Test
+    void callStack_offsetOutOfRange() {
+        TransactionCallTreeViewModel viewModel = newViewModel(newRecordSet(3), 10, 2);
+
+        assertThat(viewModel.getCallStack()).isEmpty();
+    }
+
+    @Test
+    void callStack_offsetWithoutLimit() {
+        TransactionCallTreeViewModel viewModel = newViewModel(newRecordSet(5), 3, TransactionCallTreeViewModel.UNPAGED);
+
+        assertThat(viewModel.getCallStack()).extracting(TransactionCallTreeViewModel.CallStack::getId)
+                .containsExactly(3, 4);
+    }
+
+    @Test
+    void callStack_invalidPage() {
+        RecordSet recordSet = newRecordSet(3);
+
+        assertThatThrownBy(() -> newViewModel(recordSet, -1, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> newViewModel(recordSet, 0, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> newViewModel(recordSet, 0, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private TransactionCallTreeViewModel newViewModel(RecordSet recordSet, int offset, int limit) {
+        return new TransactionCallTreeViewModel("traceId", 1, recordSet, TraceState.State.COMPLETE, logLinkView, offset, limit);
+    }
+
+    private RecordSet newRecordSet(int size) {
+        List<Record> records = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Record record = mock(Record.class);
+            when(record.getId()).thenReturn(i);
+            when(record.getMethodTypeEnum()).thenReturn(MethodTypeEnum.DEFAULT);
+            records.add(record);
+        }
+        RecordSet recordSet = new RecordSet();
+        recordSet.setRecordList(records);
+        return recordSet;
+    }
+}